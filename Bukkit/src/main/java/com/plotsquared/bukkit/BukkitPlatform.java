@@ -32,6 +32,7 @@ import com.plotsquared.bukkit.inject.WorldManagerModule;
 import com.plotsquared.bukkit.listener.BlockEventListener;
 import com.plotsquared.bukkit.listener.BlockEventListener117;
 import com.plotsquared.bukkit.listener.ChunkListener;
+import com.plotsquared.bukkit.listener.EntityCounterListener;
 import com.plotsquared.bukkit.listener.EntityEventListener;
 import com.plotsquared.bukkit.listener.EntitySpawnListener;
 import com.plotsquared.bukkit.listener.HighFreqBlockEventListener;
@@ -48,6 +49,7 @@ import com.plotsquared.bukkit.placeholder.PlaceholderFormatter;
 import com.plotsquared.bukkit.player.BukkitPlayerManager;
 import com.plotsquared.bukkit.util.BukkitUtil;
 import com.plotsquared.bukkit.util.BukkitWorld;
+import com.plotsquared.bukkit.util.RoadEntitySweeper;
 import com.plotsquared.bukkit.util.SetGenCB;
 import com.plotsquared.bukkit.util.TranslationUpdateManager;
 import com.plotsquared.bukkit.util.UpdateUtility;
@@ -72,8 +74,6 @@ import com.plotsquared.core.configuration.Storage;
 import com.plotsquared.core.configuration.caption.ChatFormatter;
 import com.plotsquared.core.configuration.file.YamlConfiguration;
 import com.plotsquared.core.database.DBFunc;
-import com.plotsquared.core.events.RemoveRoadEntityEvent;
-import com.plotsquared.core.events.Result;
 import com.plotsquared.core.generator.GeneratorWrapper;
 import com.plotsquared.core.generator.IndependentPlotGenerator;
 import com.plotsquared.core.generator.SingleWorldGenerator;
@@ -98,7 +98,6 @@ import com.plotsquared.core.plot.world.SinglePlotArea;
 import com.plotsquared.core.plot.world.SinglePlotAreaManager;
 import com.plotsquared.core.setup.PlotAreaBuilder;
 import com.plotsquared.core.setup.SettingsNodesWrapper;
-import com.plotsquared.core.util.EventDispatcher;
 import com.plotsquared.core.util.FileUtils;
 import com.plotsquared.core.util.PlatformWorldManager;
 import com.plotsquared.core.util.PlayerManager;
@@ -112,7 +111,6 @@ import com.plotsquared.core.uuid.CacheUUIDService;
 import com.plotsquared.core.uuid.UUIDPipeline;
 import com.plotsquared.core.uuid.offline.OfflineModeUUIDService;
 import com.sk89q.worldedit.WorldEdit;
-import com.sk89q.worldedit.bukkit.BukkitAdapter;
 import io.papermc.lib.PaperLib;
 import net.kyori.adventure.audience.Audience;
 import net.kyori.adventure.text.Component;
@@ -124,16 +122,11 @@ import org.bstats.charts.DrilldownPie;
 import org.bstats.charts.SimplePie;
 import org.bukkit.Bukkit;
 import org.bukkit.Chunk;
-import org.bukkit.Location;
 import org.bukkit.World;
 import org.bukkit.command.PluginCommand;
-import org.bukkit.entity.Entity;
-import org.bukkit.entity.LivingEntity;
 import org.bukkit.entity.Player;
 import org.bukkit.event.Listener;
 import org.bukkit.generator.ChunkGenerator;
-import org.bukkit.metadata.FixedMetadataValue;
-import org.bukkit.metadata.MetadataValue;
 import org.bukkit.plugin.Plugin;
 import org.bukkit.plugin.RegisteredServiceProvider;
 import org.bukkit.plugin.java.JavaPlugin;
@@ -150,7 +143,6 @@ import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
-import java.util.Iterator;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
@@ -194,8 +186,6 @@ public final class BukkitPlatform extends JavaPlugin implements Listener, PlotPl
     @Inject
     private PlotAreaManager plotAreaManager;
     @Inject
-    private EventDispatcher eventDispatcher;
-    @Inject
     private PlotListener plotListener;
     @Inject
     @WorldConfig
@@ -348,7 +338,7 @@ public final class BukkitPlatform extends JavaPlugin implements Listener, PlotPl
         // Do stuff that was previously done in PlotSquared
         // Kill entities
         if (Settings.Enabled_Components.KILL_ROAD_MOBS || Settings.Enabled_Components.KILL_ROAD_VEHICLES) {
-            this.runEntityTask();
+            injector().getInstance(RoadEntitySweeper.class).start();
         }
 
         // WorldEdit
@@ -380,6 +370,11 @@ public final class BukkitPlatform extends JavaPlugin implements Listener, PlotPl
             getServer().getPluginManager().registerEvents(injector().getInstance(EntitySpawnListener.class), this);
             if (PaperLib.isPaper() && Settings.Paper_Components.PAPER_LISTENERS) {
                 getServer().getPluginManager().registerEvents(injector().getInstance(PaperListener.class), this);
+                if (Settings.Paper_Components.ENTITY_COUNTERS) {
+                    final EntityCounterListener entityCounterListener = injector().getInstance(EntityCounterListener.class);
+                    getServer().getPluginManager().registerEvents(entityCounterListener, this);
+                    entityCounterListener.start();
+                }
             } else {
                 getServer().getPluginManager().registerEvents(injector().getInstance(SpigotListener.class), this);
             }
@@ -630,7 +625,7 @@ public final class BukkitPlatform extends JavaPlugin implements Listener, PlotPl
                 }
                 final Plot plot = area.getOwnedPlot(id);
                 if (plot != null) {
-                    if (!plot.getFlag(ServerPlotFlag.class) || PlotSquared
+                    if (!plot.getBooleanFlag(ServerPlotFlag.class) || PlotSquared
                             .platform()
                             .playerManager()
                             .getPlayerIfExists(plot.getOwner()) == null) {
@@ -774,284 +769,6 @@ public final class BukkitPlatform extends JavaPlugin implements Listener, PlotPl
         return Bukkit.getWorldContainer();
     }
 
-    @SuppressWarnings("deprecation")
-    private void runEntityTask() {
-        TaskManager.runTaskRepeat(() -> this.plotAreaManager.forEachPlotArea(plotArea -> {
-            final World world = Bukkit.getWorld(plotArea.getWorldName());
-            try {
-                if (world == null) {
-                    return;
-                }
-                List<Entity> entities = world.getEntities();
-                Iterator<Entity> iterator = entities.iterator();
-                while (iterator.hasNext()) {
-                    Entity entity = iterator.next();
-                    //noinspection ConstantValue - getEntitySpawnReason annotated as NotNull, but is not NotNull. lol.
-                    if (PaperLib.isPaper() && entity.getEntitySpawnReason() != null && "CUSTOM".equals(entity.getEntitySpawnReason().name())) {
-                        continue;
-                    }
-                    // Fallback for Spigot not having Entity#getEntitySpawnReason
-                    if (entity.getMetadata("ps_custom_spawned").stream().anyMatch(MetadataValue::asBoolean)) {
-                        continue;
-                    }
-                    // TODO: use (type) pattern matching when targeting java 21
-                    switch (entity.getType().toString()) {
-                        case "EGG":
-                        case "FISHING_HOOK", "FISHING_BOBBER":
-                        case "ENDER_SIGNAL", "EYE_OF_ENDER":
-                        case "AREA_EFFECT_CLOUD":
-                        case "EXPERIENCE_ORB":
-                        case "LEASH_HITCH", "LEASH_KNOT":
-                        case "FIREWORK", "FIREWORK_ROCKET":
-                        case "LIGHTNING", "LIGHTNING_BOLT":
-                        case "WITHER_SKULL":
-                        case "UNKNOWN":
-                        case "PLAYER":
-                            // non moving / unmovable
-                            continue;
-                        case "THROWN_EXP_BOTTLE", "EXPERIENCE_BOTTLE":
-                        case "SPLASH_POTION", "POTION":
-                        case "SNOWBALL":
-                        case "SHULKER_BULLET":
-                        case "SPECTRAL_ARROW":
-                        case "ENDER_PEARL":
-                        case "ARROW":
-                        case "LLAMA_SPIT":
-                        case "TRIDENT":
-                            // managed elsewhere | projectile
-                            continue;
-                        case "ITEM_FRAME":
-                        case "PAINTING":
-                            // Not vehicles
-                            continue;
-                        case "ARMOR_STAND":
-                            // Temporarily classify as vehicle
-                        case "MINECART":
-                        case "MINECART_CHEST":
-                        case "CHEST_MINECART":
-                        case "MINECART_COMMAND":
-                        case "COMMAND_BLOCK_MINECART":
-                        case "MINECART_FURNACE":
-                        case "FURNACE_MINECART":
-                        case "MINECART_HOPPER":
-                        case "HOPPER_MINECART":
-                        case "MINECART_MOB_SPAWNER":
-                        case "SPAWNER_MINECART":
-                        case "END_CRYSTAL":
-                        case "ENDER_CRYSTAL": // Backwards compatibility for 1.20.4
-                        case "MINECART_TNT":
-                        case "TNT_MINECART":
-                        case "CHEST_BOAT":
-                        case "BOAT":
-                        case "ACACIA_BOAT", "BIRCH_BOAT", "CHERRY_BOAT", "DARK_OAK_BOAT", "JUNGLE_BOAT", "MANGROVE_BOAT",
-                             "OAK_BOAT", "PALE_OAK_BOAT", "SPRUCE_BOAT", "BAMBOO_RAFT":
-                        case "ACACIA_CHEST_BOAT", "BIRCH_CHEST_BOAT", "CHERRY_CHEST_BOAT", "DARK_OAK_CHEST_BOAT",
-                             "JUNGLE_CHEST_BOAT", "MANGROVE_CHEST_BOAT", "OAK_CHEST_BOAT", "PALE_OAK_CHEST_BOAT",
-                             "SPRUCE_CHEST_BOAT", "BAMBOO_CHEST_RAFT":
-                            if (Settings.Enabled_Components.KILL_ROAD_VEHICLES) {
-                                com.plotsquared.core.location.Location location = BukkitUtil.adapt(entity.getLocation());
-                                Plot plot = location.getPlot();
-                                if (plot == null) {
-                                    if (location.isPlotArea()) {
-                                        if (entity.hasMetadata("ps-tmp-teleport")) {
-                                            continue;
-                                        }
-                                        this.removeRoadEntity(entity, iterator);
-                                    }
-                                    continue;
-                                }
-                                List<MetadataValue> meta = entity.getMetadata("plot");
-                                if (meta.isEmpty()) {
-                                    continue;
-                                }
-                                Plot origin = (Plot) meta.get(0).value();
-                                if (!plot.equals(origin.getBasePlot(false))) {
-                                    if (entity.hasMetadata("ps-tmp-teleport")) {
-                                        continue;
-                                    }
-                                    this.removeRoadEntity(entity, iterator);
-                                }
-                            }
-                            continue;
-                        case "SMALL_FIREBALL":
-                        case "FIREBALL":
-                        case "DRAGON_FIREBALL":
-                        case "DROPPED_ITEM", "ITEM":
-                            if (Settings.Enabled_Components.KILL_ROAD_ITEMS
-                                    && plotArea.getOwnedPlotAbs(BukkitUtil.adapt(entity.getLocation())) == null) {
-                                this.removeRoadEntity(entity, iterator);
-                            }
-                            // dropped item
-                            continue;
-                        case "PRIMED_TNT", "TNT":
-                        case "FALLING_BLOCK":
-                            // managed elsewhere
-                            continue;
-                        case "SHULKER":
-                            if (Settings.Enabled_Components.KILL_ROAD_MOBS && (Settings.Enabled_Components.KILL_NAMED_ROAD_MOBS || entity.getCustomName() == null)) {
-                                LivingEntity livingEntity = (LivingEntity) entity;
-                                List<MetadataValue> meta = entity.getMetadata("shulkerPlot");
-                                if (!meta.isEmpty()) {
-                                    if (livingEntity.isLeashed() && !Settings.Enabled_Components.KILL_OWNED_ROAD_MOBS) {
-                                        continue;
-                                    }
-                                    if (entity.hasMetadata("keep")) {
-                                        continue;
-                                    }
-
-                                    PlotId originalPlotId = (PlotId) meta.get(0).value();
-                                    if (originalPlotId != null) {
-                                        com.plotsquared.core.location.Location pLoc = BukkitUtil.adapt(entity.getLocation());
-                                        PlotArea area = pLoc.getPlotArea();
-                                        if (area != null) {
-                                            Plot currentPlot = area.getPlotAbs(pLoc);
-                                            if (currentPlot == null || !originalPlotId.equals(currentPlot.getId())) {
-                                                if (entity.hasMetadata("ps-tmp-teleport")) {
-                                                    continue;
-                                                }
-                                                this.removeRoadEntity(entity, iterator);
-                                            }
-                                        }
-                                    }
-                                } else {
-                                    //This is to apply the metadata to already spawned shulkers (see EntitySpawnListener.java)
-                                    com.plotsquared.core.location.Location pLoc = BukkitUtil.adapt(entity.getLocation());
-                                    PlotArea area = pLoc.getPlotArea();
-                                    if (area != null) {
-                                        Plot currentPlot = area.getPlotAbs(pLoc);
-                                        if (currentPlot != null) {
-                                            entity.setMetadata(
-                                                    "shulkerPlot",
-                                                    new FixedMetadataValue((Plugin) PlotSquared.platform(), currentPlot.getId())
-                                            );
-                                        }
-                                    }
-                                }
-                            }
-                            continue;
-                        case "ZOMBIFIED_PIGLIN":
-                        case "PIGLIN_BRUTE":
-                        case "LLAMA":
-                        case "DONKEY":
-                        case "MULE":
-                        case "ZOMBIE_HORSE":
-                        case "SKELETON_HORSE":
-                        case "HUSK":
-                        case "ELDER_GUARDIAN":
-                        case "WITHER_SKELETON":
-                        case "STRAY":
-                        case "ZOMBIE_VILLAGER":
-                        case "EVOKER":
-                        case "EVOKER_FANGS":
-                        case "VEX":
-                        case "VINDICATOR":
-                        case "POLAR_BEAR":
-                        case "BAT":
-                        case "BLAZE":
-                        case "CAVE_SPIDER":
-                        case "CHICKEN":
-                        case "COW":
-                        case "CREEPER":
-                        case "ENDERMAN":
-                        case "ENDERMITE":
-                        case "ENDER_DRAGON":
-                        case "GHAST":
-                        case "HAPPY_GHAST": // 1.21.6+
-                        case "GHASTLING": // 1.21.6+
-                        case "GIANT":
-                        case "GUARDIAN":
-                        case "HORSE":
-                        case "IRON_GOLEM":
-                        case "MAGMA_CUBE":
-                        case "MUSHROOM_COW", "MOOSHROOM":
-                        case "OCELOT":
-                        case "PIG":
-                        case "PIG_ZOMBIE":
-                        case "RABBIT":
-                        case "SHEEP":
-                        case "SILVERFISH":
-                        case "SKELETON":
-                        case "SLIME":
-                        case "SNOWMAN", "SNOW_GOLEM":
-                        case "SPIDER":
-                        case "SQUID":
-                        case "VILLAGER":
-                        case "WITCH":
-                        case "WITHER":
-                        case "WOLF":
-                        case "ZOMBIE":
-                        case "PARROT":
-                        case "SALMON":
-                        case "DOLPHIN":
-                        case "TROPICAL_FISH":
-                        case "DROWNED":
-                        case "COD":
-                        case "TURTLE":
-                        case "PUFFERFISH":
-                        case "PHANTOM":
-                        case "ILLUSIONER":
-                        case "CAT":
-                        case "PANDA":
-                        case "FOX":
-                        case "PILLAGER":
-                        case "TRADER_LLAMA":
-                        case "WANDERING_TRADER":
-                        case "RAVAGER":
-                        case "BEE":
-                        case "HOGLIN":
-                        case "PIGLIN":
-                        case "ZOGLIN":
-                        default: {
-                            if (Settings.Enabled_Components.KILL_ROAD_MOBS) {
-                                Location location = entity.getLocation();
-                                if (BukkitUtil.adapt(location).isPlotRoad()) {
-                                    if (entity instanceof LivingEntity livingEntity) {
-                                        if ((Settings.Enabled_Components.KILL_OWNED_ROAD_MOBS || !livingEntity.isLeashed())
-                                                || !entity.hasMetadata("keep")) {
-                                            Entity passenger = entity.getPassenger();
-                                            if ((Settings.Enabled_Components.KILL_OWNED_ROAD_MOBS
-                                                    || !((passenger instanceof Player) || livingEntity.isLeashed()))
-                                                    && (Settings.Enabled_Components.KILL_NAMED_ROAD_MOBS || entity.getCustomName() == null)
-                                                    && entity.getMetadata("keep").isEmpty()) {
-                                                if (entity.hasMetadata("ps-tmp-teleport")) {
-                                                    continue;
-                                                }
-                                                this.removeRoadEntity(entity, iterator);
-                                            }
-                                        }
-                                    } else {
-                                        Entity passenger = entity.getPassenger();
-                                        if ((Settings.Enabled_Components.KILL_OWNED_ROAD_MOBS || !(passenger instanceof Player))
-                                                && (Settings.Enabled_Components.KILL_NAMED_ROAD_MOBS && entity.getCustomName() != null)
-                                                && entity.getMetadata("keep").isEmpty()) {
-                                            if (entity.hasMetadata("ps-tmp-teleport")) {
-                                                continue;
-                                            }
-                                            this.removeRoadEntity(entity, iterator);
-                                        }
-                                    }
-                                }
-                            }
-                        }
-                    }
-                }
-            } catch (Throwable e) {
-                e.printStackTrace();
-            }
-        }), TaskTime.seconds(1L));
-    }
-
-    private void removeRoadEntity(Entity entity, Iterator<Entity> entityIterator) {
-        RemoveRoadEntityEvent event = eventDispatcher.callRemoveRoadEntity(BukkitAdapter.adapt(entity));
-
-        if (event.getEventResult() == Result.DENY) {
-            return;
-        }
-
-        entityIterator.remove();
-        entity.remove();
-    }
-
     @Override
     public @Nullable
     final ChunkGenerator getDefaultWorldGenerator(
@@ -115,6 +115,8 @@ import static org.bukkit.Tag.WALL_CORALS;
 public class BlockEventListener implements Listener {
     private final PlotAreaManager plotAreaManager;
     private final WorldEdit worldEdit;
+    private final FlowNeighbourhoodMemo flowNeighbourhoodMemo = new FlowNeighbourhoodMemo();
+    private final ExplosionBlockFilter explosionBlockFilter = new ExplosionBlockFilter();
 
     @Inject
     public BlockEventListener(final @NonNull PlotAreaManager plotAreaManager, final @NonNull WorldEdit worldEdit) {
@@ -199,7 +201,7 @@ public class BlockEventListener implements Listener {
                     return;
                 }
             }
-            if (plot.getFlag(DisablePhysicsFlag.class)) {
+            if (plot.getBooleanFlag(DisablePhysicsFlag.class)) {
                 Block block = event.getBlockPlaced();
                 if (block.getType().hasGravity()) {
                     sendBlockChange(block.getLocation(), block.getBlockData());
@@ -322,13 +324,13 @@ public class BlockEventListener implements Listener {
         }
         switch (event.getSource().getType().toString()) {
             case "GRASS_BLOCK":
-                if (!plot.getFlag(GrassGrowFlag.class)) {
+                if (!plot.getBooleanFlag(GrassGrowFlag.class)) {
                     plot.debug("Grass could not grow because grass-grow = false");
                     event.setCancelled(true);
                 }
                 break;
             case "MYCELIUM":
-                if (!plot.getFlag(MycelGrowFlag.class)) {
+                if (!plot.getBooleanFlag(MycelGrowFlag.class)) {
                     plot.debug("Mycelium could not grow because mycel-grow = false");
                     event.setCancelled(true);
                 }
@@ -338,18 +340,18 @@ public class BlockEventListener implements Listener {
             case "CAVE_VINES":
             case "VINE":
             case "GLOW_BERRIES":
-                if (!plot.getFlag(VineGrowFlag.class)) {
+                if (!plot.getBooleanFlag(VineGrowFlag.class)) {
                     plot.debug("Vine could not grow because vine-grow = false");
                     event.setCancelled(true);
                 }
                 break;
             case "KELP":
-                if (!plot.getFlag(KelpGrowFlag.class)) {
+                if (!plot.getBooleanFlag(KelpGrowFlag.class)) {
                     plot.debug("Kelp could not grow because kelp-grow = false");
                     event.setCancelled(true);
                 }
             case "BUDDING_AMETHYST":
-                if (!plot.getFlag(CropGrowFlag.class)) {
+                if (!plot.getBooleanFlag(CropGrowFlag.class)) {
                     plot.debug("Amethyst clusters could not grow because crop-grow = false");
                     event.setCancelled(true);
                 }
@@ -433,20 +435,20 @@ public class BlockEventListener implements Listener {
             return;
         }
         if (org.bukkit.Tag.SNOW.isTagged(event.getNewState().getType())) {
-            if (!plot.getFlag(SnowFormFlag.class)) {
+            if (!plot.getBooleanFlag(SnowFormFlag.class)) {
                 plot.debug("Snow could not form because snow-form = false");
                 event.setCancelled(true);
             }
             return;
         }
         if (org.bukkit.Tag.ICE.isTagged(event.getNewState().getType())) {
-            if (!plot.getFlag(IceFormFlag.class)) {
+            if (!plot.getBooleanFlag(IceFormFlag.class)) {
                 plot.debug("Ice could not form because ice-form = false");
                 event.setCancelled(true);
             }
         }
         if (event.getNewState().getType().toString().endsWith("CONCRETE")) {
-            if (!plot.getFlag(ConcreteHardenFlag.class)) {
+            if (!plot.getBooleanFlag(ConcreteHardenFlag.class)) {
                 plot.debug("Concrete powder could not harden because concrete-harden = false");
                 event.setCancelled(true);
             }
@@ -520,7 +522,7 @@ public class BlockEventListener implements Listener {
         }
         Plot plot = area.getPlot(location);
         if (plot != null) {
-            if (plot.getFlag(InstabreakFlag.class)) {
+            if (plot.getBooleanFlag(InstabreakFlag.class)) {
                 Block block = event.getBlock();
                 BlockBreakEvent call = new BlockBreakEvent(block, player);
                 Bukkit.getServer().getPluginManager().callEvent(call);
@@ -583,28 +585,28 @@ public class BlockEventListener implements Listener {
         }
         Material blockType = block.getType();
         if (org.bukkit.Tag.ICE.isTagged(blockType)) {
-            if (!plot.getFlag(IceMeltFlag.class)) {
+            if (!plot.getBooleanFlag(IceMeltFlag.class)) {
                 plot.debug("Ice could not melt because ice-melt = false");
                 event.setCancelled(true);
             }
             return;
         }
         if (org.bukkit.Tag.SNOW.isTagged(blockType)) {
-            if (!plot.getFlag(SnowMeltFlag.class)) {
+            if (!plot.getBooleanFlag(SnowMeltFlag.class)) {
                 plot.debug("Snow could not melt because snow-melt = false");
                 event.setCancelled(true);
             }
             return;
         }
         if (blockType == Material.FARMLAND) {
-            if (!plot.getFlag(SoilDryFlag.class)) {
+            if (!plot.getBooleanFlag(SoilDryFlag.class)) {
                 plot.debug("Soil could not dry because soil-dry = false");
                 event.setCancelled(true);
             }
             return;
         }
         if (CORAL_BLOCKS.isTagged(blockType) || CORALS.isTagged(blockType) || WALL_CORALS.isTagged(blockType)) {
-            if (!plot.getFlag(CoralDryFlag.class)) {
+            if (!plot.getBooleanFlag(CoralDryFlag.class)) {
                 plot.debug("Coral could not dry because coral-dry = false");
                 event.setCancelled(true);
             }
@@ -639,7 +641,7 @@ public class BlockEventListener implements Listener {
                 return;
             }
 
-            if (plot.getFlag(SoilDryFlag.class)) {
+            if (plot.getBooleanFlag(SoilDryFlag.class)) {
                 return;
             }
 
@@ -651,19 +653,18 @@ public class BlockEventListener implements Listener {
     @EventHandler(priority = EventPriority.HIGHEST, ignoreCancelled = true)
     public void onChange(BlockFromToEvent event) {
         Block fromBlock = event.getBlock();
+        boolean liquid = fromBlock.isLiquid();
 
-        // Check liquid flow flag inside of origin plot too
+        // Resolve the origin once, all checks below share it
         final Location fromLocation = BukkitUtil.adapt(fromBlock.getLocation());
         final PlotArea fromArea = fromLocation.getPlotArea();
-        if (fromArea != null) {
-            final Plot fromPlot = fromArea.getOwnedPlot(fromLocation);
-            if (fromPlot != null && fromPlot.getFlag(LiquidFlowFlag.class) == LiquidFlowFlag.FlowStatus.DISABLED && event
-                    .getBlock()
-                    .isLiquid()) {
-                fromPlot.debug("Liquid could not flow because liquid-flow = disabled");
-                event.setCancelled(true);
-                return;
-            }
+        final Plot fromPlot = fromArea == null ? null : fromArea.getOwnedPlot(fromLocation);
+
+        // Check liquid flow flag inside of origin plot too
+        if (fromPlot != null && liquid && fromPlot.getFlag(LiquidFlowFlag.class) == LiquidFlowFlag.FlowStatus.DISABLED) {
+            fromPlot.debug("Liquid could not flow because liquid-flow = disabled");
+            event.setCancelled(true);
+            return;
         }
 
         Block toBlock = event.getToBlock();
@@ -682,8 +683,6 @@ public class BlockEventListener implements Listener {
         Plot toPlot = toArea.getOwnedPlot(toLocation);
 
         if (fromBlock.getType() == Material.DRAGON_EGG && fromArea != null) {
-            final Plot fromPlot = fromArea.getOwnedPlot(fromLocation);
-
             if (fromPlot != null || toPlot != null) {
                 if ((fromPlot == null || !fromPlot.equals(toPlot)) && (toPlot == null || !toPlot.equals(fromPlot))) {
                     event.setCancelled(true);
@@ -692,55 +691,35 @@ public class BlockEventListener implements Listener {
             }
         }
 
+        if (!toArea.contains(fromLocation.getX(), fromLocation.getZ())) {
+            event.setCancelled(true);
+            return;
+        }
+        // The plot of the origin within the target area, usually the same area
+        final Plot fromPlotInToArea = toArea == fromArea ? fromPlot : toArea.getOwnedPlot(fromLocation);
         if (toPlot != null) {
-            if (!toArea.contains(fromLocation.getX(), fromLocation.getZ()) || !Objects.equals(
-                    toPlot,
-                    toArea.getOwnedPlot(fromLocation)
-            )) {
+            if (!toPlot.equals(fromPlotInToArea)) {
                 event.setCancelled(true);
                 return;
             }
-            if (toPlot.getFlag(LiquidFlowFlag.class) == LiquidFlowFlag.FlowStatus.ENABLED && event.getBlock().isLiquid()) {
+            final LiquidFlowFlag.FlowStatus flowStatus = toPlot.getFlag(LiquidFlowFlag.class);
+            if (flowStatus == LiquidFlowFlag.FlowStatus.ENABLED && liquid) {
                 return;
             }
-            if (toPlot.getFlag(DisablePhysicsFlag.class)) {
-                toPlot.debug(event.getBlock().getType() + " could not update because disable-physics = true");
+            if (toPlot.getBooleanFlag(DisablePhysicsFlag.class)) {
+                toPlot.debug(fromBlock.getType() + " could not update because disable-physics = true");
                 event.setCancelled(true);
                 return;
             }
-            if (toPlot.getFlag(LiquidFlowFlag.class) == LiquidFlowFlag.FlowStatus.DISABLED && event.getBlock().isLiquid()) {
+            if (flowStatus == LiquidFlowFlag.FlowStatus.DISABLED && liquid) {
                 toPlot.debug("Liquid could not flow because liquid-flow = disabled");
                 event.setCancelled(true);
             }
-        } else if (!toArea.contains(fromLocation.getX(), fromLocation.getZ()) || !Objects.equals(
-                null,
-                toArea.getOwnedPlot(fromLocation)
-        )) {
+        } else if (fromPlotInToArea != null) {
+            event.setCancelled(true);
+        } else if (liquid && this.flowNeighbourhoodMemo.isPlotAround(toArea, fromLocation.getX(), fromLocation.getZ())) {
+            // Liquids on the road may not flow next to plots, claimed or not
             event.setCancelled(true);
-        } else if (event.getBlock().isLiquid()) {
-            final org.bukkit.Location location = event.getBlock().getLocation();
-
-            /*
-                X = block location
-                A-H = potential plot locations
-               Z
-               ^
-               |    A B C
-               o    D X E
-               |    F G H
-               v
-                <-----O-----> x
-             */
-            if (BukkitUtil.adapt(location.clone().add(-1, 0, 1)  /* A */).getPlot() != null
-                    || BukkitUtil.adapt(location.clone().add(1, 0, 0)   /* B */).getPlot() != null
-                    || BukkitUtil.adapt(location.clone().add(1, 0, 1)   /* C */).getPlot() != null
-                    || BukkitUtil.adapt(location.clone().add(-1, 0, 0)  /* D */).getPlot() != null
-                    || BukkitUtil.adapt(location.clone().add(1, 0, 0)   /* E */).getPlot() != null
-                    || BukkitUtil.adapt(location.clone().add(-1, 0, -1) /* F */).getPlot() != null
-                    || BukkitUtil.adapt(location.clone().add(0, 0, -1)  /* G */).getPlot() != null
-                    || BukkitUtil.adapt(location.clone().add(1, 0, 1)   /* H */).getPlot() != null) {
-                event.setCancelled(true);
-            }
         }
     }
 
@@ -761,7 +740,7 @@ public class BlockEventListener implements Listener {
         }
 
         Plot plot = location.getOwnedPlot();
-        if (plot == null || !plot.getFlag(CropGrowFlag.class)) {
+        if (plot == null || !plot.getBooleanFlag(CropGrowFlag.class)) {
             if (plot != null) {
                 plot.debug("Crop grow event was cancelled because crop-grow = false");
             }
@@ -980,14 +959,14 @@ public class BlockEventListener implements Listener {
             return;
         }
         Plot plot = area.getOwnedPlot(location);
-        if (plot == null || !plot.getFlag(ExplosionFlag.class)) {
+        if (plot == null || !plot.getBooleanFlag(ExplosionFlag.class)) {
             event.setCancelled(true);
             if (plot != null) {
                 plot.debug("Explosion was cancelled because explosion = false");
             }
             return;
         }
-        event.blockList().removeIf(blox -> !plot.equals(area.getOwnedPlot(BukkitUtil.adapt(blox.getLocation()))));
+        this.explosionBlockFilter.retainPlotBlocks(area, plot, event.blockList());
     }
 
     @EventHandler(priority = EventPriority.HIGHEST, ignoreCancelled = true)
@@ -1001,7 +980,7 @@ public class BlockEventListener implements Listener {
         }
 
         Plot plot = location.getOwnedPlot();
-        if (plot == null || !plot.getFlag(BlockBurnFlag.class)) {
+        if (plot == null || !plot.getBooleanFlag(BlockBurnFlag.class)) {
             if (plot != null) {
                 plot.debug("Block burning was cancelled because block-burn = false");
             }
@@ -1070,7 +1049,7 @@ public class BlockEventListener implements Listener {
                     );
                     event.setCancelled(true);
                 }
-            } else if (!plot.getFlag(BlockIgnitionFlag.class)) {
+            } else if (!plot.getBooleanFlag(BlockIgnitionFlag.class)) {
                 event.setCancelled(true);
                 plot.debug("Block ignition was cancelled because block-ignition = false");
             }
@@ -1080,7 +1059,7 @@ public class BlockEventListener implements Listener {
                 return;
             }
             if (ignitingEntity != null) {
-                if (!plot.getFlag(BlockIgnitionFlag.class)) {
+                if (!plot.getBooleanFlag(BlockIgnitionFlag.class)) {
                     event.setCancelled(true);
                     plot.debug("Block ignition was cancelled because block-ignition = false");
                     return;
@@ -1106,10 +1085,10 @@ public class BlockEventListener implements Listener {
                 Block ignitingBlock = event.getIgnitingBlock();
                 Plot plotIgnited = BukkitUtil.adapt(ignitingBlock.getLocation()).getPlot();
                 if (igniteCause == BlockIgniteEvent.IgniteCause.FLINT_AND_STEEL && (
-                        !plot.getFlag(BlockIgnitionFlag.class) || plotIgnited == null || !plotIgnited
+                        !plot.getBooleanFlag(BlockIgnitionFlag.class) || plotIgnited == null || !plotIgnited
                                 .equals(plot)) || (igniteCause == BlockIgniteEvent.IgniteCause.SPREAD
                         || igniteCause == BlockIgniteEvent.IgniteCause.LAVA) && (
-                        !plot.getFlag(BlockIgnitionFlag.class) || plotIgnited == null || !plotIgnited
+                        !plot.getBooleanFlag(BlockIgnitionFlag.class) || plotIgnited == null || !plotIgnited
                                 .equals(plot))) {
                     event.setCancelled(true);
                 }
@@ -1128,7 +1107,7 @@ public class BlockEventListener implements Listener {
         }
 
         Plot plot = location.getOwnedPlot();
-        if (plot == null || !plot.getFlag(LeafDecayFlag.class)) {
+        if (plot == null || !plot.getBooleanFlag(LeafDecayFlag.class)) {
             if (plot != null) {
                 plot.debug("Leaf decaying was cancelled because leaf-decay = false");
             }
@@ -76,7 +76,7 @@ public class BlockEventListener117 implements Listener {
                 area,
                 MiscInteractFlag.class,
                 true
-        ) || plot != null && (!plot.getFlag(MiscInteractFlag.class) || !plot.getFlag(SculkSensorInteractFlag.class))) {
+        ) || plot != null && (!plot.getBooleanFlag(MiscInteractFlag.class) || !plot.getBooleanFlag(SculkSensorInteractFlag.class))) {
             if (plotPlayer != null) {
                 if (plot != null) {
                     if (!plot.isAdded(plotPlayer.getUUID())) {
@@ -164,7 +164,7 @@ public class BlockEventListener117 implements Listener {
             return;
         }
         if (event.getNewState().getType().name().contains("COPPER")) {
-            if (!plot.getFlag(CopperOxideFlag.class)) {
+            if (!plot.getBooleanFlag(CopperOxideFlag.class)) {
                 plot.debug("Copper could not oxide because copper-oxide = false");
                 event.setCancelled(true);
             }
@@ -0,0 +1,216 @@
+/*
+ * PlotSquared, a land and world management plugin for Minecraft.
+ * Copyright (C) IntellectualSites <https://intellectualsites.com>
+ * Copyright (C) IntellectualSites team and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.plotsquared.bukkit.listener;
+
+import com.destroystokyo.paper.event.entity.EntityAddToWorldEvent;
+import com.destroystokyo.paper.event.entity.EntityRemoveFromWorldEvent;
+import com.google.inject.Inject;
+import com.google.inject.Singleton;
+import com.plotsquared.core.location.Location;
+import com.plotsquared.core.plot.PlotArea;
+import com.plotsquared.core.plot.PlotId;
+import com.plotsquared.core.plot.world.PlotAreaManager;
+import com.plotsquared.core.util.entity.EntityCategories;
+import com.plotsquared.core.util.entity.EntityCounterService;
+import com.plotsquared.core.util.task.TaskManager;
+import com.plotsquared.core.util.task.TaskTime;
+import com.sk89q.worldedit.bukkit.BukkitAdapter;
+import org.bukkit.Bukkit;
+import org.bukkit.World;
+import org.bukkit.entity.Entity;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Maintains the {@link com.plotsquared.core.plot.PlotEntityCounter entity counters} of the plot areas from Paper's
+ * entity add and remove events, which also fire for entities in chunks that are loaded or unloaded.
+ * <p>
+ * Entities are attributed to the plot they were added in. As entities move, and plots are merged or unlinked,
+ * a periodic sweep moves the entities that have changed plots to the counts of their current plot. The sweep only
+ * looks up the plot of entities whose block column, or the layout of whose area, changed since the previous sweep,
+ * unless plot areas were added, removed or replaced. Entities in worlds without plot areas are not tracked.
+ * Until {@link #start()} has been called, entity caps fall back to scanning the chunks of the plot.
+ * <p>
+ * This listener uses Paper-only events, so it must only be constructed on Paper.
+ */
+@Singleton
+public class EntityCounterListener implements Listener {
+
+    private static final long SWEEP_INTERVAL = 100L;
+
+    private final PlotAreaManager plotAreaManager;
+    private final EntityCounterService entityCounterService;
+    private final Map<UUID, TrackedEntity> entities = new HashMap<>();
+    // Compared by identity, as a reloaded area is equal to the one it replaces
+    private final Set<PlotArea> knownAreas = Collections.newSetFromMap(new IdentityHashMap<>());
+    private final org.bukkit.Location scratch = new org.bukkit.Location(null, 0, 0, 0);
+
+    @Inject
+    public EntityCounterListener(
+            final @NonNull PlotAreaManager plotAreaManager,
+            final @NonNull EntityCounterService entityCounterService
+    ) {
+        this.plotAreaManager = plotAreaManager;
+        this.entityCounterService = entityCounterService;
+    }
+
+    /**
+     * Count the entities that are already in the loaded worlds and start keeping the counters up to date.
+     * The listener has to be registered before this is called.
+     */
+    public void start() {
+        this.updateAreas();
+        this.trackWorlds();
+        this.entityCounterService.start();
+        TaskManager.runTaskRepeat(this::sweep, TaskTime.ticks(SWEEP_INTERVAL));
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onEntityAdd(EntityAddToWorldEvent event) {
+        this.track(event.getEntity());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onEntityRemove(EntityRemoveFromWorldEvent event) {
+        final TrackedEntity tracked = this.entities.remove(event.getEntity().getUniqueId());
+        if (tracked != null) {
+            tracked.detach();
+        }
+    }
+
+    private void trackWorlds() {
+        for (final World world : Bukkit.getWorlds()) {
+            if (!this.plotAreaManager.hasPlotArea(world.getName())) {
+                continue;
+            }
+            for (final Entity entity : world.getEntities()) {
+                this.track(entity);
+            }
+        }
+    }
+
+    private void track(final @NonNull Entity entity) {
+        final int categories = EntityCategories.getCapCategories(BukkitAdapter.adapt(entity.getType()));
+        if (categories == 0 || this.entities.containsKey(entity.getUniqueId())) {
+            return;
+        }
+        final org.bukkit.Location location = entity.getLocation(this.scratch);
+        if (!this.plotAreaManager.hasPlotArea(location.getWorld().getName())) {
+            return;
+        }
+        final TrackedEntity tracked = new TrackedEntity(entity, categories);
+        this.entities.put(entity.getUniqueId(), tracked);
+        this.attribute(tracked, location);
+    }
+
+    private void sweep() {
+        final boolean areasChanged = this.updateAreas();
+        if (areasChanged) {
+            // Worlds that gained their first plot area have not been tracked so far
+            this.trackWorlds();
+        }
+        final Iterator<TrackedEntity> iterator = this.entities.values().iterator();
+        while (iterator.hasNext()) {
+            final TrackedEntity tracked = iterator.next();
+            final org.bukkit.Location location = tracked.entity.getLocation(this.scratch);
+            if (!areasChanged && tracked.x == location.getBlockX() && tracked.z == location.getBlockZ()
+                    && (tracked.area == null || tracked.layoutVersion == tracked.area.getLayoutVersion())) {
+                continue;
+            }
+            if (areasChanged && !this.plotAreaManager.hasPlotArea(location.getWorld().getName())) {
+                tracked.detach();
+                iterator.remove();
+                continue;
+            }
+            this.attribute(tracked, location);
+        }
+    }
+
+    /**
+     * Check whether plot areas have been added, removed or replaced since the previous call.
+     *
+     * @return {@code true} if the plot areas changed
+     */
+    private boolean updateAreas() {
+        final PlotArea[] areas = this.plotAreaManager.getAllPlotAreas();
+        boolean changed = areas.length != this.knownAreas.size();
+        for (int i = 0; i < areas.length && !changed; i++) {
+            changed = !this.knownAreas.contains(areas[i]);
+        }
+        if (changed) {
+            this.knownAreas.clear();
+            Collections.addAll(this.knownAreas, areas);
+        }
+        return changed;
+    }
+
+    private void attribute(final @NonNull TrackedEntity tracked, final org.bukkit.@NonNull Location location) {
+        final int x = location.getBlockX();
+        final int z = location.getBlockZ();
+        final Location at = Location.at(location.getWorld().getName(), x, location.getBlockY(), z);
+        final PlotArea area = this.plotAreaManager.getApplicablePlotArea(at);
+        final PlotId id = area == null ? null : area.getEntityCounter().locate(at);
+        if (area != tracked.area || (id == null ? tracked.id != null : !id.equals(tracked.id))) {
+            tracked.detach();
+            if (id != null) {
+                area.getEntityCounter().add(id, tracked.categories);
+            }
+        }
+        tracked.area = area;
+        tracked.id = id;
+        tracked.x = x;
+        tracked.z = z;
+        tracked.layoutVersion = area == null ? 0 : area.getLayoutVersion();
+    }
+
+    private static final class TrackedEntity {
+
+        private final Entity entity;
+        private final int categories;
+        private @Nullable PlotArea area;
+        private @Nullable PlotId id;
+        private int x;
+        private int z;
+        private int layoutVersion;
+
+        private TrackedEntity(final @NonNull Entity entity, final int categories) {
+            this.entity = entity;
+            this.categories = categories;
+        }
+
+        private void detach() {
+            if (this.area != null && this.id != null) {
+                this.area.getEntityCounter().remove(this.id, this.categories);
+            }
+        }
+
+    }
+
+}
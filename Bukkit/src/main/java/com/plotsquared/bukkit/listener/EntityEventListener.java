@@ -56,9 +56,7 @@ import org.bukkit.entity.EntityType;
 import org.bukkit.entity.FallingBlock;
 import org.bukkit.entity.Player;
 import org.bukkit.entity.Projectile;
-import org.bukkit.entity.TNTPrimed;
 import org.bukkit.entity.Vehicle;
-import org.bukkit.entity.minecart.ExplosiveMinecart;
 import org.bukkit.event.Cancellable;
 import org.bukkit.event.EventHandler;
 import org.bukkit.event.EventPriority;
@@ -69,7 +67,6 @@ import org.bukkit.event.entity.EntityCombustByEntityEvent;
 import org.bukkit.event.entity.EntityDamageByEntityEvent;
 import org.bukkit.event.entity.EntityDamageEvent;
 import org.bukkit.event.entity.EntityExplodeEvent;
-import org.bukkit.event.entity.ExplosionPrimeEvent;
 import org.bukkit.event.vehicle.VehicleCreateEvent;
 import org.bukkit.metadata.FixedMetadataValue;
 import org.bukkit.metadata.MetadataValue;
@@ -78,7 +75,6 @@ import org.bukkit.projectiles.BlockProjectileSource;
 import org.bukkit.projectiles.ProjectileSource;
 import org.checkerframework.checker.nullness.qual.NonNull;
 
-import java.util.Iterator;
 import java.util.List;
 import java.util.Objects;
 
@@ -94,7 +90,7 @@ public class EntityEventListener implements Listener {
     private final BukkitPlatform platform;
     private final PlotAreaManager plotAreaManager;
     private final EventDispatcher eventDispatcher;
-    private float lastRadius;
+    private final ExplosionBlockFilter explosionBlockFilter = new ExplosionBlockFilter();
 
     @Inject
     public EntityEventListener(
@@ -227,7 +223,7 @@ public class EntityEventListener implements Listener {
             return;
         }
         Plot plot = area.getOwnedPlotAbs(location);
-        if (plot == null || plot.getFlag(DisablePhysicsFlag.class)) {
+        if (plot == null || plot.getBooleanFlag(DisablePhysicsFlag.class)) {
             event.setCancelled(true);
             if (plot != null) {
                 if (block.getType().hasGravity()) {
@@ -270,7 +266,7 @@ public class EntityEventListener implements Listener {
             }
             return;
         }
-        if (!plot.getFlag(WeavingDeathPlace.class)) {
+        if (!plot.getBooleanFlag(WeavingDeathPlace.class)) {
             plot.debug(event.getTo() + " could not spawn because weaving-death-place = false");
             event.setCancelled(true);
         }
@@ -293,7 +289,7 @@ public class EntityEventListener implements Listener {
             }
             return;
         }
-        if (plot.getFlag(InvincibleFlag.class)) {
+        if (plot.getBooleanFlag(InvincibleFlag.class)) {
             plot.debug(event.getEntity().getName() + " could not take damage because invincible = true");
             event.setCancelled(true);
         }
@@ -312,7 +308,8 @@ public class EntityEventListener implements Listener {
         }
         Plot plot = area.getOwnedPlot(location);
         if (plot != null) {
-            if (plot.getFlag(ExplosionFlag.class)) {
+            if (plot.getBooleanFlag(ExplosionFlag.class)) {
+                // Explosives are tagged with the plot they were spawned in
                 List<MetadataValue> meta = event.getEntity().getMetadata("plot");
                 Plot origin;
                 if (meta.isEmpty()) {
@@ -320,25 +317,7 @@ public class EntityEventListener implements Listener {
                 } else {
                     origin = (Plot) meta.get(0).value();
                 }
-                if (this.lastRadius != 0) {
-                    List<Entity> nearby = event.getEntity().getNearbyEntities(this.lastRadius, this.lastRadius, this.lastRadius);
-                    for (Entity near : nearby) {
-                        if (near instanceof TNTPrimed || near instanceof ExplosiveMinecart) {
-                            if (!near.hasMetadata("plot")) {
-                                near.setMetadata("plot", new FixedMetadataValue((Plugin) PlotSquared.platform(), plot));
-                            }
-                        }
-                    }
-                    this.lastRadius = 0;
-                }
-                Iterator<Block> iterator = event.blockList().iterator();
-                while (iterator.hasNext()) {
-                    Block block = iterator.next();
-                    location = BukkitUtil.adapt(block.getLocation());
-                    if (!area.contains(location.getX(), location.getZ()) || !origin.equals(area.getOwnedPlot(location))) {
-                        iterator.remove();
-                    }
-                }
+                this.explosionBlockFilter.retainPlotBlocks(area, origin, event.blockList());
                 return;
             } else {
                 plot.debug("Explosion was cancelled because explosion = false");
@@ -397,13 +376,13 @@ public class EntityEventListener implements Listener {
             if (shooter instanceof Player) {
                 PlotPlayer<?> pp = BukkitUtil.adapt((Player) shooter);
                 if (plot == null) {
-                    if (area.isRoadFlags() && !area.getRoadFlag(ProjectileChangeBlockFlag.class) && !pp.hasPermission(Permission.PERMISSION_ADMIN_PROJECTILE_UNOWNED)) {
+                    if (area.isRoadFlags() && !area.getRoadBooleanFlag(ProjectileChangeBlockFlag.class) && !pp.hasPermission(Permission.PERMISSION_ADMIN_PROJECTILE_UNOWNED)) {
                         entity.remove();
                         event.setCancelled(true);
                     }
                     return;
                 }
-                if (plot.isAdded(pp.getUUID()) || plot.getFlag(ProjectileChangeBlockFlag.class) || pp.hasPermission(Permission.PERMISSION_ADMIN_PROJECTILE_OTHER)) {
+                if (plot.isAdded(pp.getUUID()) || plot.getBooleanFlag(ProjectileChangeBlockFlag.class) || pp.hasPermission(Permission.PERMISSION_ADMIN_PROJECTILE_OTHER)) {
                     return;
                 }
                 entity.remove();
@@ -440,17 +419,12 @@ public class EntityEventListener implements Listener {
             }
             return;
         }
-        if (!plot.getFlag(EntityChangeBlockFlag.class)) {
+        if (!plot.getBooleanFlag(EntityChangeBlockFlag.class)) {
             plot.debug(e.getType() + " could not change block because entity-change-block = false");
             event.setCancelled(true);
         }
     }
 
-    @EventHandler
-    public void onPrime(ExplosionPrimeEvent event) {
-        this.lastRadius = event.getRadius() + 1;
-    }
-
     @EventHandler(priority = EventPriority.HIGHEST, ignoreCancelled = true)
     public void onVehicleCreate(VehicleCreateEvent event) {
         Vehicle entity = event.getVehicle();
@@ -35,7 +35,9 @@ import org.bukkit.entity.EnderCrystal;
 import org.bukkit.entity.Entity;
 import org.bukkit.entity.EntityType;
 import org.bukkit.entity.Item;
+import org.bukkit.entity.TNTPrimed;
 import org.bukkit.entity.Vehicle;
+import org.bukkit.entity.minecart.ExplosiveMinecart;
 import org.bukkit.event.EventHandler;
 import org.bukkit.event.EventPriority;
 import org.bukkit.event.Listener;
@@ -162,6 +164,13 @@ public class EntitySpawnListener implements Listener {
             }
             return;
         }
+        if (entity instanceof TNTPrimed || entity instanceof ExplosiveMinecart) {
+            // Explosions of this entity may only destroy blocks of the plot it was spawned in
+            if (!entity.hasMetadata("plot")) {
+                entity.setMetadata("plot", new FixedMetadataValue((Plugin) PlotSquared.platform(), plot.getBasePlot(false)));
+            }
+            return;
+        }
         if (type == EntityType.SHULKER) {
             if (!entity.hasMetadata("shulkerPlot")) {
                 entity.setMetadata("shulkerPlot", new FixedMetadataValue((Plugin) PlotSquared.platform(), plot.getId()));
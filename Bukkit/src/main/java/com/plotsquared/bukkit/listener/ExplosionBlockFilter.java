@@ -0,0 +1,72 @@
+/*
+ * PlotSquared, a land and world management plugin for Minecraft.
+ * Copyright (C) IntellectualSites <https://intellectualsites.com>
+ * Copyright (C) IntellectualSites team and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.plotsquared.bukkit.listener;
+
+import com.plotsquared.core.plot.Plot;
+import com.plotsquared.core.plot.PlotArea;
+import org.bukkit.block.Block;
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+import java.util.List;
+
+/**
+ * Restricts the blocks destroyed by explosions to a single plot using {@link PlotArea#filterToPlot}. The coordinate
+ * buffers are reused between explosions, so this must only be used from the server thread.
+ */
+final class ExplosionBlockFilter {
+
+    private int[] xs = new int[256];
+    private int[] zs = new int[256];
+    private boolean[] inside = new boolean[256];
+
+    /**
+     * Remove all blocks from the block list of an explosion that are not part of the origin plot.
+     *
+     * @param area   plot area the explosion happened in
+     * @param origin plot the explosion originates from
+     * @param blocks mutable block list of the explosion
+     */
+    void retainPlotBlocks(final @NonNull PlotArea area, final @NonNull Plot origin, final @NonNull List<Block> blocks) {
+        final int size = blocks.size();
+        if (size > this.xs.length) {
+            final int capacity = Math.max(size, this.xs.length * 2);
+            this.xs = new int[capacity];
+            this.zs = new int[capacity];
+            this.inside = new boolean[capacity];
+        }
+        for (int i = 0; i < size; i++) {
+            final Block block = blocks.get(i);
+            this.xs[i] = block.getX();
+            this.zs[i] = block.getZ();
+        }
+        final int kept = area.filterToPlot(origin, this.xs, this.zs, size, this.inside);
+        if (kept == size) {
+            return;
+        }
+        // Compact the list in place instead of removing blocks one by one
+        int index = 0;
+        for (int i = 0; i < size; i++) {
+            if (this.inside[i]) {
+                blocks.set(index++, blocks.get(i));
+            }
+        }
+        blocks.subList(kept, size).clear();
+    }
+
+}
@@ -0,0 +1,65 @@
+/*
+ * PlotSquared, a land and world management plugin for Minecraft.
+ * Copyright (C) IntellectualSites <https://intellectualsites.com>
+ * Copyright (C) IntellectualSites team and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.plotsquared.bukkit.listener;
+
+import com.plotsquared.core.plot.PlotArea;
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+/**
+ * Remembers for the block columns liquids recently flowed from whether they are next to a plot.
+ * <p>
+ * A flowing liquid fires an event for every direction it spreads into, and large flows keep revisiting the same
+ * columns, so the result of {@link PlotArea#isPlotAround(int, int)} is memoized per column. Entries are
+ * tagged with the {@link PlotArea#getLayoutVersion() layout version} of the area and dropped once plots are
+ * claimed, merged or removed. The memo is a fixed size, direct mapped table that is only accessed from the
+ * server thread.
+ */
+final class FlowNeighbourhoodMemo {
+
+    private static final int SIZE = 1024;
+    private static final int MASK = SIZE - 1;
+
+    private final Entry[] entries = new Entry[SIZE];
+
+    /**
+     * Get whether the block column or one of its eight neighbours is part of a plot of the area.
+     *
+     * @param area plot area containing the column
+     * @param x    block x
+     * @param z    block z
+     * @return {@code true} if a plot is next to the column
+     */
+    boolean isPlotAround(final @NonNull PlotArea area, final int x, final int z) {
+        int hash = x * 0x9E3779B9 ^ z * 0x85EBCA6B;
+        final int index = (hash ^ hash >>> 16) & MASK;
+        final int version = area.getLayoutVersion();
+        final Entry entry = this.entries[index];
+        if (entry != null && entry.area() == area && entry.version() == version && entry.x() == x && entry.z() == z) {
+            return entry.plotAround();
+        }
+        final boolean plotAround = area.isPlotAround(x, z);
+        this.entries[index] = new Entry(area, version, x, z, plotAround);
+        return plotAround;
+    }
+
+    private record Entry(PlotArea area, int version, int x, int z, boolean plotAround) {
+
+    }
+
+}
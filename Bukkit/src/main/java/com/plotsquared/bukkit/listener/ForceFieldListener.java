@@ -103,7 +103,7 @@ public class ForceFieldListener {
     }
 
     public static void handleForcefield(Player player, PlotPlayer<?> plotPlayer, Plot plot) {
-        if (plot.getFlag(ForcefieldFlag.class)) {
+        if (plot.getBooleanFlag(ForcefieldFlag.class)) {
             UUID uuid = plotPlayer.getUUID();
             if (plot.isAdded(uuid)) {
                 Set<PlotPlayer<?>> players = getNearbyPlayers(player, plot);
@@ -105,7 +105,7 @@ public class HighFreqBlockEventListener implements Listener {
             }
             return;
         }
-        if (!plot.getFlag(RedstoneFlag.class)) {
+        if (!plot.getBooleanFlag(RedstoneFlag.class)) {
             event.setNewCurrent(0);
             plot.debug("Redstone event was cancelled because redstone = false");
             return;
@@ -161,21 +161,21 @@ public class HighFreqBlockEventListener implements Listener {
         if (plot == null) {
             return;
         }
-        if (event.getChangedType().hasGravity() && plot.getFlag(DisablePhysicsFlag.class)) {
+        if (event.getChangedType().hasGravity() && plot.getBooleanFlag(DisablePhysicsFlag.class)) {
             event.setCancelled(true);
             sendBlockChange(event.getBlock().getLocation(), event.getBlock().getBlockData());
             plot.debug("Prevented block physics and resent block change because disable-physics = true");
             return;
         }
         if (event.getChangedType() == Material.COMPARATOR) {
-            if (!plot.getFlag(RedstoneFlag.class)) {
+            if (!plot.getBooleanFlag(RedstoneFlag.class)) {
                 event.setCancelled(true);
                 plot.debug("Prevented comparator update because redstone = false");
             }
             return;
         }
         if (PHYSICS_BLOCKS.contains(event.getChangedType())) {
-            if (plot.getFlag(DisablePhysicsFlag.class)) {
+            if (plot.getBooleanFlag(DisablePhysicsFlag.class)) {
                 event.setCancelled(true);
                 plot.debug("Prevented block physics because disable-physics = true");
             }
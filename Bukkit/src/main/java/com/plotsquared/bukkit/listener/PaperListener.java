@@ -108,7 +108,7 @@ public class PaperListener implements Listener {
             if (!event.willDrop()) {
                 return;
             }
-            event.setWillDrop(plot.getFlag(TileDropFlag.class));
+            event.setWillDrop(plot.getBooleanFlag(TileDropFlag.class));
         }
     }
 
@@ -366,11 +366,11 @@ public class PaperListener implements Listener {
             }
         } else if (!plot.isAdded(pp.getUUID())) {
             if (entity.getType().getKey().equals(FISHING_BOBBER)) {
-                if (plot.getFlag(FishingFlag.class)) {
+                if (plot.getBooleanFlag(FishingFlag.class)) {
                     return;
                 }
             }
-            if (!plot.getFlag(ProjectilesFlag.class)) {
+            if (!plot.getBooleanFlag(ProjectilesFlag.class)) {
                 if (!pp.hasPermission(Permission.PERMISSION_ADMIN_PROJECTILE_OTHER)) {
                     pp.sendMessage(
                             TranslatableCaption.of("permission.no_permission_event"),
@@ -22,6 +22,7 @@ import com.destroystokyo.paper.MaterialTags;
 import com.google.common.base.Charsets;
 import com.google.inject.Inject;
 import com.plotsquared.bukkit.player.BukkitPlayer;
+import com.plotsquared.bukkit.player.PlayerMovementState;
 import com.plotsquared.bukkit.util.BukkitEntityUtil;
 import com.plotsquared.bukkit.util.BukkitUtil;
 import com.plotsquared.bukkit.util.UpdateUtility;
@@ -79,6 +80,8 @@ import com.plotsquared.core.util.task.TaskManager;
 import com.plotsquared.core.util.task.TaskTime;
 import com.sk89q.worldedit.WorldEdit;
 import com.sk89q.worldedit.bukkit.BukkitAdapter;
+import com.sk89q.worldedit.math.BlockVector3;
+import com.sk89q.worldedit.regions.CuboidRegion;
 import com.sk89q.worldedit.util.Enums;
 import com.sk89q.worldedit.world.block.BlockType;
 import com.sk89q.worldedit.world.block.BlockTypes;
@@ -328,7 +331,7 @@ public class PlayerEventListener implements Listener {
         }
         Plot plot = area.getPlot(location);
         if (plot != null) {
-            event.setDropItems(plot.getFlag(TileDropFlag.class));
+            event.setDropItems(plot.getBooleanFlag(TileDropFlag.class));
         }
     }
 
@@ -357,7 +360,7 @@ public class PlayerEventListener implements Listener {
                 if (plot.isAdded(event.getPlayer().getUniqueId())) {
                     return; // allow for added players
                 }
-                if (!plot.getFlag(EditSignFlag.class)
+                if (!plot.getBooleanFlag(EditSignFlag.class)
                         && !event.getPlayer().hasPermission(Permission.PERMISSION_ADMIN_INTERACT_OTHER.toString())) {
                     plot.debug(event.getPlayer().getName() + " could not color the sign because of edit-sign = false");
                     event.setCancelled(true);
@@ -577,7 +580,8 @@ public class PlayerEventListener implements Listener {
     @EventHandler(priority = EventPriority.HIGHEST, ignoreCancelled = true)
     public void playerRespawn(PlayerRespawnEvent event) {
         Player player = event.getPlayer();
-        PlotPlayer<Player> pp = BukkitUtil.adapt(player);
+        BukkitPlayer pp = BukkitUtil.adapt(player);
+        pp.getMovementState().invalidate();
         this.eventDispatcher.doRespawnTask(pp);
     }
 
@@ -590,6 +594,8 @@ public class PlayerEventListener implements Listener {
             return;
         }
         BukkitPlayer pp = BukkitUtil.adapt(player);
+        // The teleport may change the plot context without leaving the bounds of the last move
+        pp.getMovementState().invalidate();
         try (final MetaDataAccess<Plot> lastPlotAccess =
                      pp.accessTemporaryMetaData(PlayerMetaDataKeys.TEMPORARY_LAST_PLOT)) {
             Plot lastPlot = lastPlotAccess.get().orElse(null);
@@ -616,7 +622,7 @@ public class PlayerEventListener implements Listener {
                     // to is identical to the plot's home location, and untrusted-visit is true
                     // i.e. untrusted-visit can override deny-teleport
                     // this is acceptable, because otherwise it wouldn't make sense to have both flags set
-                    if (result || (plot.getFlag(UntrustedVisitFlag.class) && plot
+                    if (result || (plot.getBooleanFlag(UntrustedVisitFlag.class) && plot
                             .getHomeSynchronous()
                             .equals(BukkitUtil.adaptComplete(to)))) {
                         // returns false if the player is not allowed to enter the plot (if they are denied, for example)
@@ -722,129 +728,93 @@ public class PlayerEventListener implements Listener {
     public void playerMove(PlayerMoveEvent event) {
         org.bukkit.Location from = event.getFrom();
         org.bukkit.Location to = event.getTo();
-        int x2;
-        if (MathMan.roundInt(from.getX()) != (x2 = MathMan.roundInt(to.getX()))) {
-            Player player = event.getPlayer();
-            BukkitPlayer pp = BukkitUtil.adapt(player);
-            // Cancel teleport
-            if (TaskManager.removeFromTeleportQueue(pp.getName())) {
-                pp.sendMessage(TranslatableCaption.of("teleport.teleport_failed"));
-            }
-            // Set last location
-            Location location = BukkitUtil.adapt(to);
-            try (final MetaDataAccess<Location> lastLocationAccess =
-                         pp.accessTemporaryMetaData(PlayerMetaDataKeys.TEMPORARY_LOCATION)) {
-                lastLocationAccess.remove();
+        int x1 = MathMan.roundInt(from.getX());
+        int z1 = MathMan.roundInt(from.getZ());
+        int x2 = MathMan.roundInt(to.getX());
+        int z2 = MathMan.roundInt(to.getZ());
+        if (x1 == x2 && z1 == z2) {
+            return;
+        }
+        Player player = event.getPlayer();
+        BukkitPlayer pp = BukkitUtil.adapt(player);
+        // Cancel teleport
+        if (TaskManager.removeFromTeleportQueue(pp.getName())) {
+            pp.sendMessage(TranslatableCaption.of("teleport.teleport_failed"));
+        }
+        // Nothing changes while the player stays within the plot, road stretch or chunk of the last handled move
+        PlayerMovementState state = pp.getMovementState();
+        String worldName = to.getWorld().getName();
+        if (state.contains(worldName, x2, z2)) {
+            Plot plot = state.getPlot();
+            if (plot != null) {
+                ForceFieldListener.handleForcefield(player, pp, plot);
             }
-            PlotArea area = location.getPlotArea();
-            if (area == null) {
+            return;
+        }
+        if (!this.handleMove(event, player, pp, worldName, x1, z1, x2, z2)) {
+            state.invalidate();
+        }
+    }
+
+    /**
+     * Handle a move to a block outside the bounds of the player's movement state, and update the state.
+     *
+     * @return {@code false} if the move was cancelled or the player was teleported elsewhere
+     */
+    private boolean handleMove(
+            PlayerMoveEvent event, Player player, BukkitPlayer pp, String worldName,
+            int x1, int z1, int x2, int z2
+    ) {
+        org.bukkit.Location from = event.getFrom();
+        org.bukkit.Location to = event.getTo();
+        PlayerMovementState state = pp.getMovementState();
+        Location location = null;
+        PlotArea area = null;
+        if (this.plotAreaManager.hasPlotArea(worldName)) {
+            location = BukkitUtil.adapt(to);
+            area = location.getPlotArea();
+        }
+        if (area == null) {
+            if (!state.isSameContext(worldName, null, null)) {
+                try (final MetaDataAccess<Location> lastLocationAccess =
+                             pp.accessTemporaryMetaData(PlayerMetaDataKeys.TEMPORARY_LOCATION)) {
+                    lastLocationAccess.remove();
+                }
                 try (final MetaDataAccess<Plot> lastPlotAccess =
                              pp.accessTemporaryMetaData(PlayerMetaDataKeys.TEMPORARY_LAST_PLOT)) {
                     lastPlotAccess.remove();
                 }
-                return;
-            }
-            Plot now = area.getPlot(location);
-            Plot lastPlot;
-            try (final MetaDataAccess<Plot> lastPlotAccess =
-                         pp.accessTemporaryMetaData(PlayerMetaDataKeys.TEMPORARY_LAST_PLOT)) {
-                lastPlot = lastPlotAccess.get().orElse(null);
-            }
-            if (now == null) {
-                try (final MetaDataAccess<Boolean> kickAccess =
-                             pp.accessTemporaryMetaData(PlayerMetaDataKeys.TEMPORARY_KICK)) {
-                    if (lastPlot != null && !plotListener.plotExit(pp, lastPlot, now, area) && this.tmpTeleport && !kickAccess.get().orElse(
-                            false)) {
-                        pp.sendMessage(
-                                TranslatableCaption.of("permission.no_permission_event"),
-                                TagResolver.resolver(
-                                        "node",
-                                        Tag.inserting(Permission.PERMISSION_ADMIN_EXIT_DENIED)
-                                )
-                        );
-                        this.tmpTeleport = false;
-                        if (lastPlot.equals(BukkitUtil.adapt(from).getPlot())) {
-                            player.teleport(from);
-                        } else {
-                            player.teleport(player.getWorld().getSpawnLocation());
-                        }
-                        this.tmpTeleport = true;
-                        event.setCancelled(true);
-                        return;
-                    }
-                }
-            } else if (now.equals(lastPlot)) {
-                ForceFieldListener.handleForcefield(player, pp, now);
-            } else if (!plotListener.plotEntry(pp, now) && this.tmpTeleport) {
-                pp.sendMessage(
-                        TranslatableCaption.of("deny.no_enter"),
-                        TagResolver.resolver("plot", Tag.inserting(Component.text(now.toString())))
-                );
-                this.tmpTeleport = false;
-                to.setX(from.getBlockX());
-                to.setY(from.getBlockY());
-                to.setZ(from.getBlockZ());
-                player.teleport(event.getTo());
-                this.tmpTeleport = true;
-                return;
             }
-            int border = area.getBorder(true);
-            int x1;
-            if (x2 > border && this.tmpTeleport) {
-                if (!pp.hasPermission(Permission.PERMISSION_ADMIN_BYPASS_BORDER)) {
-                    to.setX(border - 1);
-                    this.tmpTeleport = false;
-                    player.teleport(event.getTo());
-                    this.tmpTeleport = true;
-                    pp.sendMessage(TranslatableCaption.of("border.denied"));
-                } else if (MathMan.roundInt(from.getX()) <= border) { // Only send if they just moved out of the border
-                    pp.sendMessage(TranslatableCaption.of("border.bypass.exited"));
-                }
-            } else if (x2 < -border && this.tmpTeleport) {
-                if (!pp.hasPermission(Permission.PERMISSION_ADMIN_BYPASS_BORDER)) {
-                    to.setX(-border + 1);
-                    this.tmpTeleport = false;
-                    player.teleport(event.getTo());
-                    this.tmpTeleport = true;
-                    pp.sendMessage(TranslatableCaption.of("border.denied"));
-                } else if (MathMan.roundInt(from.getX()) >= -border) { // Only send if they just moved out of the border
-                    pp.sendMessage(TranslatableCaption.of("border.bypass.exited"));
-                }
-            } else if (((x1 = MathMan.roundInt(from.getX())) >= border && x2 <= border) || (x1 <= -border && x2 >= -border)) {
-                if (pp.hasPermission(Permission.PERMISSION_ADMIN_BYPASS_BORDER)) {
-                    pp.sendMessage(TranslatableCaption.of("border.bypass.entered"));
-                }
+            // Nothing changes within the chunk as long as no plot area overlaps it
+            int chunkX = x2 & ~15;
+            int chunkZ = z2 & ~15;
+            if (location != null && this.plotAreaManager.getPlotAreas(
+                    worldName,
+                    new CuboidRegion(BlockVector3.at(chunkX, 0, chunkZ), BlockVector3.at(chunkX + 15, 0, chunkZ + 15))
+            ).length != 0) {
+                state.update(worldName, null, null, x2, z2, x2, z2);
+            } else {
+                state.update(worldName, null, null, chunkX, chunkZ, chunkX + 15, chunkZ + 15);
             }
+            return true;
         }
-        int z2;
-        if (MathMan.roundInt(from.getZ()) != (z2 = MathMan.roundInt(to.getZ()))) {
-            Player player = event.getPlayer();
-            BukkitPlayer pp = BukkitUtil.adapt(player);
-            // Cancel teleport
-            if (TaskManager.removeFromTeleportQueue(pp.getName())) {
-                pp.sendMessage(TranslatableCaption.of("teleport.teleport_failed"));
+        Plot now = area.getPlot(location);
+        if (state.isSameContext(worldName, area, now)) {
+            // Moved to another part of the same plot, or along the road
+            if (now != null) {
+                ForceFieldListener.handleForcefield(player, pp, now);
             }
-            // Set last location
-            Location location = BukkitUtil.adapt(to);
+        } else {
             try (final MetaDataAccess<Location> lastLocationAccess =
                          pp.accessTemporaryMetaData(PlayerMetaDataKeys.TEMPORARY_LOCATION)) {
-                lastLocationAccess.set(location);
-            }
-            PlotArea area = location.getPlotArea();
-            if (area == null) {
-                try (final MetaDataAccess<Plot> lastPlotAccess =
-                             pp.accessTemporaryMetaData(PlayerMetaDataKeys.TEMPORARY_LAST_PLOT)) {
-                    lastPlotAccess.remove();
-                }
-                return;
+                lastLocationAccess.remove();
             }
-            Plot plot = area.getPlot(location);
             Plot lastPlot;
             try (final MetaDataAccess<Plot> lastPlotAccess =
                          pp.accessTemporaryMetaData(PlayerMetaDataKeys.TEMPORARY_LAST_PLOT)) {
                 lastPlot = lastPlotAccess.get().orElse(null);
             }
-            if (plot == null) {
+            if (now == null) {
                 try (final MetaDataAccess<Boolean> kickAccess =
                              pp.accessTemporaryMetaData(PlayerMetaDataKeys.TEMPORARY_KICK)) {
                     if (lastPlot != null && !plotListener.plotExit(pp, lastPlot, null, area) && this.tmpTeleport && !kickAccess.get().orElse(
@@ -864,53 +834,107 @@ public class PlayerEventListener implements Listener {
                         }
                         this.tmpTeleport = true;
                         event.setCancelled(true);
-                        return;
+                        return false;
                     }
                 }
-            } else if (plot.equals(lastPlot)) {
-                ForceFieldListener.handleForcefield(player, pp, plot);
-            } else if (!plotListener.plotEntry(pp, plot) && this.tmpTeleport) {
+            } else if (now.equals(lastPlot)) {
+                ForceFieldListener.handleForcefield(player, pp, now);
+            } else if (!plotListener.plotEntry(pp, now) && this.tmpTeleport) {
                 pp.sendMessage(
                         TranslatableCaption.of("deny.no_enter"),
-                        TagResolver.resolver("plot", Tag.inserting(Component.text(plot.toString())))
+                        TagResolver.resolver("plot", Tag.inserting(Component.text(now.toString())))
                 );
                 this.tmpTeleport = false;
-                player.teleport(from);
                 to.setX(from.getBlockX());
                 to.setY(from.getBlockY());
                 to.setZ(from.getBlockZ());
                 player.teleport(event.getTo());
                 this.tmpTeleport = true;
-                return;
-            }
-            int border = area.getBorder(true);
-            int z1;
-            if (z2 > border && this.tmpTeleport) {
-                if (!pp.hasPermission(Permission.PERMISSION_ADMIN_BYPASS_BORDER)) {
-                    to.setZ(border - 1);
-                    this.tmpTeleport = false;
-                    player.teleport(event.getTo());
-                    this.tmpTeleport = true;
-                    pp.sendMessage(TranslatableCaption.of("border.denied"));
-                } else if (MathMan.roundInt(from.getZ()) <= border) { // Only send if they just moved out of the border
-                    pp.sendMessage(TranslatableCaption.of("border.bypass.exited"));
-                }
-            } else if (z2 < -border && this.tmpTeleport) {
-                if (!pp.hasPermission(Permission.PERMISSION_ADMIN_BYPASS_BORDER)) {
-                    to.setZ(-border + 1);
-                    this.tmpTeleport = false;
-                    player.teleport(event.getTo());
-                    this.tmpTeleport = true;
-                    pp.sendMessage(TranslatableCaption.of("border.denied"));
-                } else if (MathMan.roundInt(from.getZ()) >= -border) { // Only send if they just moved out of the border
-                    pp.sendMessage(TranslatableCaption.of("border.bypass.exited"));
-                }
-            } else if (((z1 = MathMan.roundInt(from.getZ())) >= border && z2 <= border) || (z1 <= -border && z2 >= -border)) {
-                if (pp.hasPermission(Permission.PERMISSION_ADMIN_BYPASS_BORDER)) {
-                    pp.sendMessage(TranslatableCaption.of("border.bypass.entered"));
+                return false;
+            }
+        }
+        int border = area.getBorder(true);
+        boolean teleported = x1 != x2 && this.handleBorder(event, player, pp, border, x1, x2, true);
+        teleported |= z1 != z2 && this.handleBorder(event, player, pp, border, z1, z2, false);
+        if (teleported) {
+            return false;
+        }
+        // The player can move freely within the region of the plot they are in, or the stretch of road they are on,
+        // as long as they stay within the border
+        int minX = x2;
+        int minZ = z2;
+        int maxX = x2;
+        int maxZ = z2;
+        if (now != null) {
+            for (final CuboidRegion region : now.getRegions()) {
+                BlockVector3 min = region.getMinimumPoint();
+                BlockVector3 max = region.getMaximumPoint();
+                if (x2 >= min.getX() && x2 <= max.getX() && z2 >= min.getZ() && z2 <= max.getZ()) {
+                    minX = Math.max(min.getX(), -border + 1);
+                    minZ = Math.max(min.getZ(), -border + 1);
+                    maxX = Math.min(max.getX(), border - 1);
+                    maxZ = Math.min(max.getZ(), border - 1);
+                    break;
                 }
             }
+        } else {
+            int[] road = area.getRoadBounds(x2, z2);
+            if (road != null) {
+                minX = Math.max(road[0], -border + 1);
+                minZ = Math.max(road[1], -border + 1);
+                maxX = Math.min(road[2], border - 1);
+                maxZ = Math.min(road[3], border - 1);
+            }
+        }
+        if (x2 < minX || x2 > maxX || z2 < minZ || z2 > maxZ) {
+            minX = maxX = x2;
+            minZ = maxZ = z2;
+        }
+        state.update(worldName, area, now, minX, minZ, maxX, maxZ);
+        return true;
+    }
+
+    /**
+     * Handle a player moving along one axis relative to the plot border of the area.
+     *
+     * @return {@code true} if the player was teleported back within the border
+     */
+    private boolean handleBorder(
+            PlayerMoveEvent event, Player player, BukkitPlayer pp, int border, int from, int to,
+            boolean xAxis
+    ) {
+        if (to > border && this.tmpTeleport) {
+            if (!pp.hasPermission(Permission.PERMISSION_ADMIN_BYPASS_BORDER)) {
+                this.teleportWithinBorder(event, player, pp, border - 1, xAxis);
+                return true;
+            } else if (from <= border) { // Only send if they just moved out of the border
+                pp.sendMessage(TranslatableCaption.of("border.bypass.exited"));
+            }
+        } else if (to < -border && this.tmpTeleport) {
+            if (!pp.hasPermission(Permission.PERMISSION_ADMIN_BYPASS_BORDER)) {
+                this.teleportWithinBorder(event, player, pp, -border + 1, xAxis);
+                return true;
+            } else if (from >= -border) { // Only send if they just moved out of the border
+                pp.sendMessage(TranslatableCaption.of("border.bypass.exited"));
+            }
+        } else if ((from >= border && to <= border) || (from <= -border && to >= -border)) {
+            if (pp.hasPermission(Permission.PERMISSION_ADMIN_BYPASS_BORDER)) {
+                pp.sendMessage(TranslatableCaption.of("border.bypass.entered"));
+            }
+        }
+        return false;
+    }
+
+    private void teleportWithinBorder(PlayerMoveEvent event, Player player, BukkitPlayer pp, int coordinate, boolean xAxis) {
+        if (xAxis) {
+            event.getTo().setX(coordinate);
+        } else {
+            event.getTo().setZ(coordinate);
         }
+        this.tmpTeleport = false;
+        player.teleport(event.getTo());
+        this.tmpTeleport = true;
+        pp.sendMessage(TranslatableCaption.of("border.denied"));
     }
 
     @EventHandler(priority = EventPriority.LOW)
@@ -930,7 +954,7 @@ public class PlayerEventListener implements Listener {
         if (plot == null) {
             return;
         }
-        if (!((plot.getFlag(ChatFlag.class) && area.isPlotChat() && plotPlayer.getAttribute("chat"))
+        if (!((plot.getBooleanFlag(ChatFlag.class) && area.isPlotChat() && plotPlayer.getAttribute("chat"))
                 || area.isForcingPlotChat())) {
             return;
         }
@@ -1031,7 +1055,7 @@ public class PlayerEventListener implements Listener {
         if (event.getClick() == ClickType.CREATIVE) {
             final Plot plot = pp.getCurrentPlot();
             if (plot != null) {
-                if (plot.getFlag(PreventCreativeCopyFlag.class) && !plot
+                if (plot.getBooleanFlag(PreventCreativeCopyFlag.class) && !plot
                         .isAdded(player.getUniqueId()) && !pp.hasPermission(Permission.PERMISSION_ADMIN_INTERACT_OTHER)) {
                     final ItemStack newStack =
                             new ItemStack(newItem.getType(), newItem.getAmount());
@@ -1194,7 +1218,7 @@ public class PlayerEventListener implements Listener {
                 if (plot.isAdded(uuid)) {
                     return;
                 }
-                if (plot.getFlag(MiscInteractFlag.class)) {
+                if (plot.getBooleanFlag(MiscInteractFlag.class)) {
                     return;
                 }
                 if (!pp.hasPermission(Permission.PERMISSION_ADMIN_INTERACT_OTHER)) {
@@ -1592,7 +1616,7 @@ public class PlayerEventListener implements Listener {
                 return;
             }
             if (!plot.isAdded(pp.getUUID())) {
-                if (!plot.getFlag(HangingPlaceFlag.class)) {
+                if (!plot.getBooleanFlag(HangingPlaceFlag.class)) {
                     if (!pp.hasPermission(Permission.PERMISSION_ADMIN_BUILD_OTHER)) {
                         pp.sendMessage(
                                 TranslatableCaption.of("permission.no_permission_event"),
@@ -1647,7 +1671,7 @@ public class PlayerEventListener implements Listener {
                     event.setCancelled(true);
                 }
             } else if (!plot.isAdded(pp.getUUID())) {
-                if (plot.getFlag(HangingBreakFlag.class)) {
+                if (plot.getBooleanFlag(HangingBreakFlag.class)) {
                     return;
                 }
                 if (!pp.hasPermission(Permission.PERMISSION_ADMIN_DESTROY_OTHER)) {
@@ -1685,7 +1709,7 @@ public class PlayerEventListener implements Listener {
                             event.setCancelled(true);
                         }
                     } else if (!plot.isAdded(player.getUUID())) {
-                        if (!plot.getFlag(HangingBreakFlag.class)) {
+                        if (!plot.getBooleanFlag(HangingBreakFlag.class)) {
                             if (!player.hasPermission(Permission.PERMISSION_ADMIN_DESTROY_OTHER)) {
                                 player.sendMessage(
                                         TranslatableCaption.of("permission.no_permission_event"),
@@ -1756,45 +1780,44 @@ public class PlayerEventListener implements Listener {
             }
 
             if (EntityCategories.HOSTILE.contains(entityType) && flagContainer
-                    .getFlag(HostileInteractFlag.class).getValue()) {
+                    .getBooleanFlag(HostileInteractFlag.class)) {
                 return;
             }
 
             if (EntityCategories.ANIMAL.contains(entityType) && flagContainer
-                    .getFlag(AnimalInteractFlag.class).getValue()) {
+                    .getBooleanFlag(AnimalInteractFlag.class)) {
                 return;
             }
 
             // This actually makes use of the interface, so we don't use the
             // category
             if (entity instanceof Tameable && ((Tameable) entity).isTamed() && flagContainer
-                    .getFlag(TamedInteractFlag.class).getValue()) {
+                    .getBooleanFlag(TamedInteractFlag.class)) {
                 return;
             }
 
             if (EntityCategories.VEHICLE.contains(entityType) && flagContainer
-                    .getFlag(VehicleUseFlag.class).getValue()) {
+                    .getBooleanFlag(VehicleUseFlag.class)) {
                 return;
             }
 
             if (EntityCategories.PLAYER.contains(entityType) && flagContainer
-                    .getFlag(PlayerInteractFlag.class).getValue()) {
+                    .getBooleanFlag(PlayerInteractFlag.class)) {
                 return;
             }
 
             if (EntityCategories.INTERACTION.contains(entityType) && flagContainer
-                    .getFlag(InteractionInteractFlag.class).getValue()) {
+                    .getBooleanFlag(InteractionInteractFlag.class)) {
                 return;
             }
 
             if (EntityCategories.VILLAGER.contains(entityType) && flagContainer
-                    .getFlag(VillagerInteractFlag.class).getValue()) {
+                    .getBooleanFlag(VillagerInteractFlag.class)) {
                 return;
             }
 
             if ((EntityCategories.HANGING.contains(entityType) || EntityCategories.OTHER
-                    .contains(entityType)) && flagContainer.getFlag(MiscInteractFlag.class)
-                    .getValue()) {
+                    .contains(entityType)) && flagContainer.getBooleanFlag(MiscInteractFlag.class)) {
                 return;
             }
 
@@ -1851,7 +1874,7 @@ public class PlayerEventListener implements Listener {
                     return;
                 }
                 if (!plot.isAdded(pp.getUUID())) {
-                    if (plot.getFlag(VehicleBreakFlag.class)) {
+                    if (plot.getBooleanFlag(VehicleBreakFlag.class)) {
                         return;
                     }
                     if (!pp.hasPermission(Permission.PERMISSION_ADMIN_DESTROY_VEHICLE_OTHER)) {
@@ -1889,7 +1912,7 @@ public class PlayerEventListener implements Listener {
         }
         UUID uuid = pp.getUUID();
         if (!plot.isAdded(uuid)) {
-            if (!plot.getFlag(ItemDropFlag.class)) {
+            if (!plot.getBooleanFlag(ItemDropFlag.class)) {
                 plot.debug(player.getName() + " could not drop item because of item-drop = false");
                 event.setCancelled(true);
             }
@@ -1914,7 +1937,7 @@ public class PlayerEventListener implements Listener {
                 return;
             }
             UUID uuid = pp.getUUID();
-            if (!plot.isAdded(uuid) && plot.getFlag(DropProtectionFlag.class)) {
+            if (!plot.isAdded(uuid) && plot.getBooleanFlag(DropProtectionFlag.class)) {
                 plot.debug(player.getName() + " could not pick up item because of drop-protection = true");
                 event.setCancelled(true);
             }
@@ -1935,7 +1958,7 @@ public class PlayerEventListener implements Listener {
             }
             return;
         }
-        if (plot.getFlag(KeepInventoryFlag.class)) {
+        if (plot.getBooleanFlag(KeepInventoryFlag.class)) {
             plot.debug(event.getEntity().getName() + " kept their inventory because of keep-inventory = true");
             event.getDrops().clear();
             event.setKeepInventory(true);
@@ -1968,7 +1991,7 @@ public class PlayerEventListener implements Listener {
             }
             return;
         }
-        if (plot.getFlag(DenyPortalTravelFlag.class)) {
+        if (plot.getBooleanFlag(DenyPortalTravelFlag.class)) {
             plot.debug(event.getPlayer().getName() + " did not travel thru a portal because of deny-portal-travel = true");
             event.setCancelled(true);
         }
@@ -2014,7 +2037,7 @@ public class PlayerEventListener implements Listener {
                 }
                 continue;
             }
-            if (plot.getFlag(DenyPortalsFlag.class)) {
+            if (plot.getBooleanFlag(DenyPortalsFlag.class)) {
                 StringBuilder builder = new StringBuilder();
                 if (event.getEntity() != null) {
                     builder.append(event.getEntity().getName()).append(" did not create a portal");
@@ -2045,7 +2068,7 @@ public class PlayerEventListener implements Listener {
             return;
         }
         if (!plot.isAdded(pp.getUUID())) {
-            if (plot.getFlag(LecternReadBookFlag.class)) {
+            if (plot.getBooleanFlag(LecternReadBookFlag.class)) {
                 plot.debug(event.getPlayer().getName() + " could not take the book because of lectern-read-book = true");
                 event.setCancelled(true);
             }
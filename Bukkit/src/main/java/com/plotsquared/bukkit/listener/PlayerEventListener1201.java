@@ -56,7 +56,7 @@ public class PlayerEventListener1201 implements Listener {
         if (plot.isAdded(event.getPlayer().getUniqueId())) {
             return; // allow for added players
         }
-        if (!plot.getFlag(EditSignFlag.class)
+        if (!plot.getBooleanFlag(EditSignFlag.class)
                 && !event.getPlayer().hasPermission(Permission.PERMISSION_ADMIN_INTERACT_OTHER.toString())) {
             plot.debug(event.getPlayer().getName() + " could not edit the sign because of edit-sign = false");
             event.setCancelled(true);
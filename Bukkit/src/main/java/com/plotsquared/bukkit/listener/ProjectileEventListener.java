@@ -136,11 +136,11 @@ public class ProjectileEventListener implements Listener {
             }
         } else if (!plot.isAdded(pp.getUUID())) {
             if (entity instanceof FishHook) {
-                if (plot.getFlag(FishingFlag.class)) {
+                if (plot.getBooleanFlag(FishingFlag.class)) {
                     return;
                 }
             }
-            if (!plot.getFlag(ProjectilesFlag.class)) {
+            if (!plot.getBooleanFlag(ProjectilesFlag.class)) {
                 if (!pp.hasPermission(Permission.PERMISSION_ADMIN_PROJECTILE_OTHER)) {
                     pp.sendMessage(
                             TranslatableCaption.of("permission.no_permission_event"),
@@ -184,7 +184,7 @@ public class ProjectileEventListener implements Listener {
         if (shooter instanceof Player) {
             if (!((Player) shooter).isOnline()) {
                 if (plot != null) {
-                    if (plot.isAdded(((Player) shooter).getUniqueId()) || plot.getFlag(ProjectilesFlag.class)) {
+                    if (plot.isAdded(((Player) shooter).getUniqueId()) || plot.getBooleanFlag(ProjectilesFlag.class)) {
                         return false;
                     }
                 } else if (PlotFlagUtil.isAreaRoadFlagsAndFlagEquals(area, ProjectilesFlag.class, true)) {
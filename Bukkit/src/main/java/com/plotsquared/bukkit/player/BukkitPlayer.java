@@ -65,6 +65,7 @@ public class BukkitPlayer extends PlotPlayer<Player> {
 
     private static boolean CHECK_EFFECTIVE = true;
     public final Player player;
+    private final PlayerMovementState movementState = new PlayerMovementState();
     private String name;
 
     /**
@@ -98,6 +99,16 @@ public class BukkitPlayer extends PlotPlayer<Player> {
         return this.player;
     }
 
+    /**
+     * Get the plot context of the last movement of this player that was handled by the player listener.
+     *
+     * @return movement state
+     * @since TODO
+     */
+    public @NonNull PlayerMovementState getMovementState() {
+        return this.movementState;
+    }
+
     @NonNull
     @Override
     public UUID getUUID() {
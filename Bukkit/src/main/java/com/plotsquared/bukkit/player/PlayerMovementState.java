@@ -0,0 +1,130 @@
+/*
+ * PlotSquared, a land and world management plugin for Minecraft.
+ * Copyright (C) IntellectualSites <https://intellectualsites.com>
+ * Copyright (C) IntellectualSites team and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.plotsquared.bukkit.player;
+
+import com.plotsquared.core.plot.Plot;
+import com.plotsquared.core.plot.PlotArea;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * The plot context of a player's last handled movement.
+ * <p>
+ * The state describes a rectangle of block columns within which the plot area, the plot and the border state
+ * of the player do not change. As long as the player moves within it, movement does not need to be handled
+ * again. The state is only accessed from the server thread, so it is not synchronized.
+ *
+ * @since TODO
+ */
+public final class PlayerMovementState {
+
+    private @Nullable String world;
+    private @Nullable PlotArea area;
+    private @Nullable Plot plot;
+    private int layoutVersion;
+    private int minX;
+    private int minZ;
+    private int maxX;
+    private int maxZ;
+
+    PlayerMovementState() {
+    }
+
+    /**
+     * Check whether a movement to the given block column needs no handling, as it is within the bounds of the
+     * last handled movement and the plots of the area have not changed since.
+     *
+     * @param world world name
+     * @param x     block x
+     * @param z     block z
+     * @return {@code true} if the movement is within the current bounds
+     */
+    public boolean contains(final @NonNull String world, final int x, final int z) {
+        if (this.world == null || !this.world.equals(world)) {
+            return false;
+        }
+        if (x < this.minX || x > this.maxX || z < this.minZ || z > this.maxZ) {
+            return false;
+        }
+        return this.area == null || this.area.getLayoutVersion() == this.layoutVersion;
+    }
+
+    /**
+     * Check whether the player is still in the same plot area and plot as during the last handled movement.
+     * This does not require the player to be within the bounds.
+     *
+     * @param world world name
+     * @param area  current plot area
+     * @param plot  current base plot, or {@code null} if on the road
+     * @return {@code true} if the context did not change
+     */
+    public boolean isSameContext(final @NonNull String world, final @Nullable PlotArea area, final @Nullable Plot plot) {
+        if (this.world == null || !this.world.equals(world) || this.area != area) {
+            return false;
+        }
+        if (area != null && area.getLayoutVersion() != this.layoutVersion) {
+            return false;
+        }
+        return this.plot == null ? plot == null : this.plot.equals(plot);
+    }
+
+    /**
+     * Get the plot the player was in during the last handled movement.
+     *
+     * @return base plot, or {@code null} if the player was not in a plot
+     */
+    public @Nullable Plot getPlot() {
+        return this.plot;
+    }
+
+    /**
+     * Store the context of a handled movement.
+     *
+     * @param world world name
+     * @param area  plot area, or {@code null} if the player is not in a plot area
+     * @param plot  base plot, or {@code null} if the player is not in a plot
+     * @param minX  minimum block x of the bounds, inclusive
+     * @param minZ  minimum block z of the bounds, inclusive
+     * @param maxX  maximum block x of the bounds, inclusive
+     * @param maxZ  maximum block z of the bounds, inclusive
+     */
+    public void update(
+            final @NonNull String world, final @Nullable PlotArea area, final @Nullable Plot plot,
+            final int minX, final int minZ, final int maxX, final int maxZ
+    ) {
+        this.world = world;
+        this.area = area;
+        this.plot = plot;
+        this.layoutVersion = area == null ? 0 : area.getLayoutVersion();
+        this.minX = minX;
+        this.minZ = minZ;
+        this.maxX = maxX;
+        this.maxZ = maxZ;
+    }
+
+    /**
+     * Forget the last handled movement, so that the next movement is handled in full.
+     */
+    public void invalidate() {
+        this.world = null;
+        this.area = null;
+        this.plot = null;
+    }
+
+}
@@ -22,11 +22,13 @@ import com.google.inject.Inject;
 import com.google.inject.assistedinject.Assisted;
 import com.plotsquared.bukkit.BukkitPlatform;
 import com.plotsquared.core.PlotSquared;
+import com.plotsquared.core.configuration.Settings;
+import com.plotsquared.core.queue.BlockQueueScheduler;
 import com.plotsquared.core.queue.ChunkCoordinator;
+import com.plotsquared.core.queue.GlobalBlockQueue;
+import com.plotsquared.core.queue.LoadWindow;
 import com.plotsquared.core.queue.subscriber.ProgressSubscriber;
-import com.plotsquared.core.util.task.PlotSquaredTask;
 import com.plotsquared.core.util.task.TaskManager;
-import com.plotsquared.core.util.task.TaskTime;
 import com.sk89q.worldedit.math.BlockVector2;
 import com.sk89q.worldedit.world.World;
 import io.papermc.lib.PaperLib;
@@ -42,11 +44,14 @@ import java.util.Collection;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
 import java.util.function.Consumer;
+import java.util.function.Function;
 
 /**
  * Utility that allows for the loading and coordination of chunk actions
@@ -56,8 +61,16 @@ import java.util.function.Consumer;
  * coordinator will prevent the chunks from being unloaded until the sink
  * has fully consumed the chunk
  * </p>
+ * <p>
+ * Loaded chunks are processed by the {@link BlockQueueScheduler} of the {@link GlobalBlockQueue}, which shares the
+ * time per tick between all active coordinators.
+ * </p>
+ * <p>
+ * The number of chunks loading at once is controlled by a {@link LoadWindow}, which adapts it to the chunk load latency,
+ * the backlog of loaded chunks and the server tick time.
+ * </p>
  **/
-public final class BukkitChunkCoordinator extends ChunkCoordinator {
+public final class BukkitChunkCoordinator extends ChunkCoordinator implements BlockQueueScheduler.Task {
 
     private static final Logger LOGGER = LogManager.getLogger("PlotSquared/" + BukkitChunkCoordinator.class.getSimpleName());
 
@@ -77,9 +90,12 @@ public final class BukkitChunkCoordinator extends ChunkCoordinator {
     private final AtomicInteger loadingChunks = new AtomicInteger();
     private final boolean forceSync;
     private final boolean shouldGen;
+    private final BlockQueueScheduler scheduler;
 
-    private int batchSize;
-    private PlotSquaredTask task;
+    private final LoadWindow loadWindow;
+
+    private int lastWindow;
+    private int lastExpectedSize;
     private volatile boolean shouldCancel;
     private boolean finished;
 
@@ -95,13 +111,15 @@ public final class BukkitChunkCoordinator extends ChunkCoordinator {
             @Assisted("unloadAfter") final boolean unloadAfter,
             @Assisted final @NonNull Collection<ProgressSubscriber> progressSubscribers,
             @Assisted("forceSync") final boolean forceSync,
-            @Assisted("shouldGen") final boolean shouldGen
+            @Assisted("shouldGen") final boolean shouldGen,
+            final @NonNull GlobalBlockQueue blockQueue
     ) {
         this.requestedChunks = new LinkedBlockingQueue<>(requestedChunks);
         this.availableChunks = new LinkedBlockingQueue<>();
         this.totalSize = requestedChunks.size();
         this.expectedSize = new AtomicInteger(this.totalSize);
-        this.batchSize = initialBatchSize;
+        this.lastExpectedSize = this.totalSize;
+        this.loadWindow = new LoadWindow(initialBatchSize, 1, Settings.QUEUE.MAX_LOADING_CHUNKS);
         this.chunkConsumer = chunkConsumer;
         this.maxIterationTime = maxIterationTime;
         this.whenDone = whenDone;
@@ -112,15 +130,16 @@ public final class BukkitChunkCoordinator extends ChunkCoordinator {
         this.progressSubscribers.addAll(progressSubscribers);
         this.forceSync = forceSync;
         this.shouldGen = shouldGen;
+        this.scheduler = blockQueue.getScheduler();
     }
 
     @Override
     public void start() {
         if (!forceSync) {
             // Request initial batch
-            this.requestBatch();
-            // Wait until next tick to give the chunks a chance to be loaded
-            TaskManager.runTaskLater(() -> task = TaskManager.runTaskRepeat(this, TaskTime.ticks(1)), TaskTime.ticks(1));
+            this.requestBatch(this.loadWindow.getWindow());
+            // The scheduler runs from the next tick on, which gives the chunks a chance to be loaded
+            this.scheduler.schedule(this);
         } else {
             try {
                 while (!shouldCancel && !requestedChunks.isEmpty()) {
@@ -148,15 +167,15 @@ public final class BukkitChunkCoordinator extends ChunkCoordinator {
             for (final ProgressSubscriber subscriber : this.progressSubscribers) {
                 subscriber.notifyEnd();
             }
-            if (task != null) {
-                task.cancel();
-            }
             finished = true;
         }
     }
 
     @Override
-    public void run() {
+    public boolean tick() {
+        if (finished) {
+            return false;
+        }
         if (shouldCancel) {
             if (unloadAfter) {
                 Chunk chunk;
@@ -165,109 +184,161 @@ public final class BukkitChunkCoordinator extends ChunkCoordinator {
                 }
             }
             finish();
-            return;
+            return false;
         }
-
-        Chunk chunk = this.availableChunks.poll();
-        if (chunk == null) {
-            if (this.availableChunks.isEmpty()) {
-                if (this.requestedChunks.isEmpty() && loadingChunks.get() == 0) {
-                    finish();
-                } else {
-                    requestBatch();
-                }
-            }
-            return;
+        final int expected = this.expectedSize.get();
+        if (expected <= 0 || (this.availableChunks.isEmpty() && this.requestedChunks.isEmpty() && loadingChunks.get() == 0)) {
+            finish();
+            return false;
         }
-        long[] iterationTime = new long[2];
-        int processedChunks = 0;
-        do {
-            final long start = System.currentTimeMillis();
-            try {
-                this.chunkConsumer.accept(BlockVector2.at(chunk.getX(), chunk.getZ()));
-            } catch (final Throwable throwable) {
-                this.throwableConsumer.accept(throwable);
+        if (expected != this.lastExpectedSize) {
+            this.lastExpectedSize = expected;
+            final double progress = ((double) totalSize - (double) expected) / (double) totalSize;
+            for (final ProgressSubscriber subscriber : this.progressSubscribers) {
+                subscriber.notifyProgress(this, progress);
             }
-            if (unloadAfter) {
-                this.freeChunk(chunk);
+        }
+        final TaskManager taskManager = TaskManager.getPlatformImplementation();
+        this.loadWindow.onTick(taskManager.getAverageTickTime(), Settings.QUEUE.TARGET_TICK_TIME);
+        final int window = this.loadWindow.getWindow();
+        if (window != this.lastWindow) {
+            this.lastWindow = window;
+            for (final ProgressSubscriber subscriber : this.progressSubscribers) {
+                subscriber.notifyLoadWindow(this, window);
             }
-            processedChunks++;
-            final long end = System.currentTimeMillis();
-            // Update iteration time
-            iterationTime[0] = iterationTime[1];
-            iterationTime[1] = end - start;
-        } while (iterationTime[0] + iterationTime[1] < this.maxIterationTime * 2 && (chunk = availableChunks.poll()) != null);
-        if (processedChunks < this.batchSize) {
-            // Adjust batch size based on the amount of processed chunks per tick
-            this.batchSize = processedChunks;
         }
+        // Keep a window of chunks loaded or loading, so that the coordinator can use its share of the next tick
+        final int pending = this.availableChunks.size() + loadingChunks.get();
+        if (pending < window) {
+            this.requestBatch(window - pending);
+        }
+        return true;
+    }
 
-        final int expected = this.expectedSize.addAndGet(-processedChunks);
-
-        if (expected <= 0) {
+    @Override
+    public boolean processChunk() {
+        if (shouldCancel || finished) {
+            return false;
+        }
+        // Keep the chunk loaded until the consumer has caught up, tick() does not load more than the window meanwhile
+        final BooleanSupplier readiness = this.getReadiness();
+        if (readiness != null && !readiness.getAsBoolean()) {
+            return false;
+        }
+        final Chunk chunk = this.availableChunks.poll();
+        if (chunk == null) {
+            return false;
+        }
+        try {
+            this.chunkConsumer.accept(BlockVector2.at(chunk.getX(), chunk.getZ()));
+        } catch (final Throwable throwable) {
+            this.throwableConsumer.accept(throwable);
+        }
+        if (unloadAfter) {
+            this.freeChunk(chunk);
+        }
+        if (this.expectedSize.decrementAndGet() <= 0) {
             finish();
-        } else {
-            if (this.availableChunks.size() < processedChunks) {
-                final double progress = ((double) totalSize - (double) expected) / (double) totalSize;
-                for (final ProgressSubscriber subscriber : this.progressSubscribers) {
-                    subscriber.notifyProgress(this, progress);
-                }
-                this.requestBatch();
-            }
+        }
+        return true;
+    }
+
+    @Override
+    public void run() {
+        // Process on behalf of the caller, within the iteration time of this coordinator only
+        if (!this.tick()) {
+            return;
+        }
+        final long deadline = System.currentTimeMillis() + this.maxIterationTime;
+        while (System.currentTimeMillis() < deadline && this.processChunk()) {
+            // Keep processing
         }
     }
 
     /**
      * Requests a batch of chunks to be loaded
+     *
+     * @param count number of chunks to request
      */
-    private void requestBatch() {
-        for (int i = 0; i < this.batchSize && this.requestedChunks.peek() != null; i++) {
+    private void requestBatch(final int count) {
+        for (int i = 0; i < count && this.requestedChunks.peek() != null; i++) {
             // This required PaperLib to be bumped to version 1.0.4 to mark the request as urgent
             final BlockVector2 chunk = this.requestedChunks.poll();
             loadingChunks.incrementAndGet();
+            final long requested = System.nanoTime();
+            final CompletableFuture<?> prepared = this.prepare(chunk);
             PaperLib
                     .getChunkAtAsync(this.bukkitWorld, chunk.getX(), chunk.getZ(), shouldGen, true)
-                    .orTimeout(10L, TimeUnit.SECONDS)
+                    .orTimeout(this.loadWindow.getTimeout(), TimeUnit.NANOSECONDS)
                     .whenComplete((chunkObject, throwable) -> {
-                        loadingChunks.decrementAndGet();
                         if (throwable != null) {
+                            loadingChunks.decrementAndGet();
                             if (throwable instanceof TimeoutException) {
                                 LOGGER.warn("Timed out awaiting chunk load {}", chunk);
+                                this.loadWindow.onTimeout();
                                 this.requestedChunks.offer(chunk);
                             } else {
                                 LOGGER.error("Failed to load chunk {}", chunk, throwable);
                                 // We want one less because this couldn't be processed
                                 this.expectedSize.decrementAndGet();
                             }
-                        } else if (chunkObject == null) {
+                            return;
+                        }
+                        this.loadWindow.onLoad(System.nanoTime() - requested, this.availableChunks.size());
+                        if (chunkObject == null) {
+                            loadingChunks.decrementAndGet();
                             if (shouldGen) {
                                 LOGGER.error("Null chunk returned for chunk at {}", chunk);
                             }
+                        } else if (!prepared.isDone()) {
+                            // The chunk consumer prepares the chunk itself should the preparation fail
+                            prepared.whenComplete((ignored, t) -> TaskManager.runTask(() -> this.addLoadedChunk(chunkObject)));
                         } else if (PlotSquared.get().isMainThread(Thread.currentThread())) {
-                            this.processChunk(chunkObject);
+                            this.addLoadedChunk(chunkObject);
                         } else {
-                            TaskManager.runTask(() -> this.processChunk(chunkObject));
+                            TaskManager.runTask(() -> this.addLoadedChunk(chunkObject));
                         }
                     });
         }
     }
 
+    /**
+     * Start the preparation of a chunk, if the coordinator has a preparation function
+     */
+    private @NonNull CompletableFuture<?> prepare(final @NonNull BlockVector2 chunk) {
+        final Function<BlockVector2, CompletableFuture<?>> preparation = this.getPreparation();
+        if (preparation == null) {
+            return CompletableFuture.completedFuture(null);
+        }
+        try {
+            return preparation.apply(chunk);
+        } catch (final Throwable throwable) {
+            this.throwableConsumer.accept(throwable);
+            return CompletableFuture.completedFuture(null);
+        }
+    }
+
     /**
      * Once a chunk has been loaded, process it (add a plugin ticket and add to
      * available chunks list). It is important that this gets executed on the
-     * server's main thread.
+     * server's main thread. The chunk only stops counting as loading once it is
+     * available, so the coordinator cannot finish while it is being prepared.
      */
-    private void processChunk(final @NonNull Chunk chunk) {
+    private void addLoadedChunk(final @NonNull Chunk chunk) {
         /* Chunk#isLoaded does not necessarily return true shortly after PaperLib#getChunkAtAsync completes, but the chunk is
         still loaded.
         if (!chunk.isLoaded()) {
             throw new IllegalArgumentException(String.format("Chunk %d;%d is is not loaded", chunk.getX(), chunk.getZ());
         }*/
-        if (finished) {
-            return;
+        try {
+            if (finished) {
+                return;
+            }
+            chunk.addPluginChunkTicket(this.plugin);
+            this.availableChunks.add(chunk);
+        } finally {
+            loadingChunks.decrementAndGet();
         }
-        chunk.addPluginChunkTicket(this.plugin);
-        this.availableChunks.add(chunk);
     }
 
     /**
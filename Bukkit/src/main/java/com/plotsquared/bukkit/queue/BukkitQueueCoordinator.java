@@ -26,7 +26,9 @@ import com.plotsquared.core.inject.factory.ChunkCoordinatorBuilderFactory;
 import com.plotsquared.core.inject.factory.ChunkCoordinatorFactory;
 import com.plotsquared.core.queue.BasicQueueCoordinator;
 import com.plotsquared.core.queue.ChunkCoordinator;
+import com.plotsquared.core.queue.GlobalBlockQueue;
 import com.plotsquared.core.queue.LocalChunk;
+import com.plotsquared.core.queue.PalettedSection;
 import com.plotsquared.core.util.ChunkUtil;
 import com.sk89q.jnbt.CompoundTag;
 import com.sk89q.worldedit.WorldEditException;
@@ -49,10 +51,16 @@ import org.bukkit.block.Block;
 import org.bukkit.block.Container;
 import org.bukkit.block.data.BlockData;
 import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
 import java.util.function.Consumer;
+import java.util.function.Function;
 
 public class BukkitQueueCoordinator extends BasicQueueCoordinator {
 
@@ -91,7 +99,10 @@ public class BukkitQueueCoordinator extends BasicQueueCoordinator {
     private ChunkCoordinatorBuilderFactory chunkCoordinatorBuilderFactory;
     @Inject
     private ChunkCoordinatorFactory chunkCoordinatorFactory;
+    @Inject
+    private GlobalBlockQueue blockQueue;
     private ChunkCoordinator chunkCoordinator;
+    private final Map<BlockVector2, CompletableFuture<ChunkApplyPlan>> plans = new ConcurrentHashMap<>();
 
     @Inject
     public BukkitQueueCoordinator(@NonNull World world) {
@@ -112,6 +123,8 @@ public class BukkitQueueCoordinator extends BasicQueueCoordinator {
     @Override
     public void cancel() {
         chunkCoordinator.cancel();
+        plans.values().forEach(plan -> plan.cancel(false));
+        plans.clear();
     }
 
     @Override
@@ -132,92 +145,25 @@ public class BukkitQueueCoordinator extends BasicQueueCoordinator {
             regenClipboard = null;
         }
         Consumer<BlockVector2> consumer = getChunkConsumer();
+        Function<BlockVector2, CompletableFuture<?>> preparation = null;
         if (consumer == null) {
+            final Executor executor = blockQueue.getPreparationExecutor();
+            if (executor != null) {
+                preparation = blockVector2 -> plans.computeIfAbsent(
+                        blockVector2,
+                        chunk -> CompletableFuture.supplyAsync(() -> prepare(chunk, regenClipboard), executor)
+                );
+            }
             consumer = blockVector2 -> {
-                LocalChunk localChunk = getBlockChunks().get(blockVector2);
-                boolean isRegenChunk =
-                        regenClipboard != null && blockVector2.getBlockX() > getRegenStart()[0] && blockVector2.getBlockZ() > getRegenStart()[1]
-                                && blockVector2.getBlockX() < getRegenEnd()[0] && blockVector2.getBlockZ() < getRegenEnd()[1];
-                int sx = blockVector2.getX() << 4;
-                int sz = blockVector2.getZ() << 4;
-                if (isRegenChunk) {
-                    for (int layer = getMinLayer(); layer <= getMaxLayer(); layer++) {
-                        for (int y = 0; y < 16; y++) {
-                            for (int x = 0; x < 16; x++) {
-                                for (int z = 0; z < 16; z++) {
-                                    x += sx;
-                                    y += layer << 4;
-                                    z += sz;
-                                    BaseBlock block = regenClipboard.getFullBlock(BlockVector3.at(x, y, z));
-                                    if (block != null) {
-                                        boolean edge = Settings.QUEUE.UPDATE_EDGES && isEdgeRegen(x & 15, z & 15, blockVector2);
-                                        setWorldBlock(x, y, z, block, blockVector2, edge);
-                                    }
-                                }
-                            }
-                        }
-                    }
-                }
-                // Allow regen and then blocks to be placed (plot schematic etc)
-                if (localChunk == null) {
-                    return;
-                }
-                for (int layer = 0; layer < localChunk.getBaseblocks().length; layer++) {
-                    BaseBlock[] blocksLayer = localChunk.getBaseblocks()[layer];
-                    if (blocksLayer == null) {
-                        continue;
-                    }
-                    for (int j = 0; j < blocksLayer.length; j++) {
-                        if (blocksLayer[j] == null) {
-                            continue;
-                        }
-                        BaseBlock block = blocksLayer[j];
-
-                        if (block != null) {
-                            int lx = ChunkUtil.getX(j);
-                            int lz = ChunkUtil.getZ(j);
-                            int x = sx + lx;
-                            int y = ChunkUtil.getY(layer + localChunk.getMinSection(), j);
-                            int z = sz + lz;
-                            boolean edge = Settings.QUEUE.UPDATE_EDGES && isEdge(y >> 4, lx, y & 15, lz, blockVector2,
-                                    localChunk
-                            );
-                            setWorldBlock(x, y, z, block, blockVector2, edge);
-                        }
-                    }
-                }
-                for (int layer = 0; layer < localChunk.getBiomes().length; layer++) {
-                    BiomeType[] biomesLayer = localChunk.getBiomes()[layer];
-                    if (biomesLayer == null) {
-                        continue;
-                    }
-                    for (int j = 0; j < biomesLayer.length; j++) {
-                        if (biomesLayer[j] == null) {
-                            continue;
-                        }
-                        BiomeType biome = biomesLayer[j];
-                        if (biome != null) {
-                            int x = sx + ChunkUtil.getX(j);
-                            int y = ChunkUtil.getY(layer, j);
-                            int z = sz + ChunkUtil.getZ(j);
-                            getWorld().setBiome(BlockVector3.at(x, y, z), biome);
-                        }
-                    }
-                }
-                if (localChunk.getTiles().size() > 0) {
-                    localChunk.getTiles().forEach((blockVector3, tag) -> {
-                        try {
-                            BaseBlock block = getWorld().getBlock(blockVector3).toBaseBlock(tag);
-                            getWorld().setBlock(blockVector3, block, getSideEffectSet(SideEffectState.NONE));
-                        } catch (WorldEditException ignored) {
-                            StateWrapper sw = new StateWrapper(tag);
-                            sw.restoreTag(getWorld().getName(), blockVector3.getX(), blockVector3.getY(), blockVector3.getZ());
-                        }
-                    });
-                }
-                if (localChunk.getEntities().size() > 0) {
-                    localChunk.getEntities().forEach((location, entity) -> getWorld().createEntity(location, entity));
+                CompletableFuture<ChunkApplyPlan> prepared = plans.remove(blockVector2);
+                ChunkApplyPlan plan;
+                if (prepared != null && prepared.isDone() && !prepared.isCompletedExceptionally()) {
+                    plan = prepared.join();
+                } else {
+                    // Not prepared in time, or the preparation failed
+                    plan = prepare(blockVector2, regenClipboard);
                 }
+                apply(blockVector2, plan);
             };
         }
         Collection<BlockVector2> read = new ArrayList<>();
@@ -230,8 +176,10 @@ public class BukkitQueueCoordinator extends BasicQueueCoordinator {
                         .inWorld(getWorld())
                         .withChunks(getBlockChunks().keySet())
                         .withChunks(read)
-                        .withInitialBatchSize(3)
-                        .withMaxIterationTime(40)
+                        .withInitialBatchSize(Settings.QUEUE.INITIAL_BATCH_SIZE)
+                        .withPriority(getPriority())
+                        .withPreparation(preparation)
+                        .withReadiness(getChunkConsumerReadiness())
                         .withThrowableConsumer(Throwable::printStackTrace)
                         .withFinalAction(getCompleteTask())
                         .withConsumer(consumer)
@@ -243,28 +191,165 @@ public class BukkitQueueCoordinator extends BasicQueueCoordinator {
         return super.enqueue();
     }
 
+    /**
+     * Prepare the blocks of a chunk for placement. This only reads the queue and the regenerated blocks, so that it can run
+     * off the main thread.
+     */
+    private @NonNull ChunkApplyPlan prepare(@NonNull BlockVector2 blockVector2, @Nullable Clipboard regenClipboard) {
+        ChunkApplyPlan plan = new ChunkApplyPlan();
+        boolean isRegenChunk =
+                regenClipboard != null && blockVector2.getBlockX() > getRegenStart()[0] && blockVector2.getBlockZ() > getRegenStart()[1]
+                        && blockVector2.getBlockX() < getRegenEnd()[0] && blockVector2.getBlockZ() < getRegenEnd()[1];
+        int sx = blockVector2.getX() << 4;
+        int sz = blockVector2.getZ() << 4;
+        if (isRegenChunk) {
+            for (int layer = getMinLayer(); layer <= getMaxLayer(); layer++) {
+                PalettedSection<BaseBlock> blocks = new PalettedSection<>();
+                byte[] flags = new byte[PalettedSection.SIZE];
+                for (int j = 0; j < PalettedSection.SIZE; j++) {
+                    int x = ChunkUtil.getX(j);
+                    int z = ChunkUtil.getZ(j);
+                    BaseBlock block = regenClipboard.getFullBlock(BlockVector3.at(sx + x, ChunkUtil.getY(layer, j), sz + z));
+                    if (block != null) {
+                        blocks.set(j, block);
+                        boolean edge = Settings.QUEUE.UPDATE_EDGES && isEdgeRegen(x, z, blockVector2);
+                        flags[j] = getFlags(block, edge);
+                    }
+                }
+                plan.add(layer, blocks, flags);
+            }
+        }
+        // Allow regen and then blocks to be placed (plot schematic etc)
+        LocalChunk localChunk = getBlockChunks().get(blockVector2);
+        if (localChunk == null) {
+            return plan;
+        }
+        for (int layer = 0; layer < localChunk.getBlockSections().length; layer++) {
+            PalettedSection<BaseBlock> blocks = localChunk.getBlockSections()[layer];
+            if (blocks == null) {
+                continue;
+            }
+            int section = layer + localChunk.getMinSection();
+            // Blocks inside a uniform section are surrounded by queued blocks, only those on its faces can be edges
+            boolean uniform = blocks.isUniform();
+            byte[] flags = new byte[PalettedSection.SIZE];
+            BaseBlock last = null;
+            byte lastFlags = 0;
+            for (int j = 0; j < PalettedSection.SIZE; j++) {
+                BaseBlock block = blocks.get(j);
+                if (block == null) {
+                    continue;
+                }
+                if (block != last) {
+                    last = block;
+                    lastFlags = getFlags(block, false);
+                }
+                int x = ChunkUtil.getX(j);
+                int y = ChunkUtil.getY(0, j);
+                int z = ChunkUtil.getZ(j);
+                boolean edge = Settings.QUEUE.UPDATE_EDGES
+                        && (!uniform || x == 0 || x == 15 || y == 0 || y == 15 || z == 0 || z == 15)
+                        && isEdge(section, x, y, z, blockVector2, localChunk);
+                flags[j] = edge ? (byte) (lastFlags | ChunkApplyPlan.EDGE) : lastFlags;
+            }
+            plan.add(section, blocks, flags);
+        }
+        return plan;
+    }
+
+    /**
+     * Get the {@link ChunkApplyPlan} flags of a block to place
+     */
+    private byte getFlags(@NonNull BaseBlock block, boolean edge) {
+        byte flags = ChunkApplyPlan.SET;
+        if (edge) {
+            flags |= ChunkApplyPlan.EDGE;
+        }
+        switch (getLightingMode()) {
+            case NONE:
+                break;
+            case PLACEMENT:
+                if (block.getBlockType().getMaterial().getLightValue() > 0) {
+                    flags |= ChunkApplyPlan.LIGHTING;
+                }
+                break;
+            case REPLACEMENT:
+                flags |= block.getBlockType().getMaterial().getLightValue() > 0
+                        ? ChunkApplyPlan.LIGHTING
+                        : ChunkApplyPlan.LIGHTING_IF_REPLACING;
+                break;
+            default:
+                // Can only be "all"
+                flags |= ChunkApplyPlan.LIGHTING;
+        }
+        return flags;
+    }
+
+    /**
+     * Write a prepared chunk to the world, along with the biomes, tiles and entities of the queue. Must be called on the
+     * main thread.
+     */
+    private void apply(@NonNull BlockVector2 blockVector2, @NonNull ChunkApplyPlan plan) {
+        int sx = blockVector2.getX() << 4;
+        int sz = blockVector2.getZ() << 4;
+        for (ChunkApplyPlan.Section section : plan.getSections()) {
+            PalettedSection<BaseBlock> blocks = section.blocks();
+            byte[] flags = section.flags();
+            for (int j = 0; j < PalettedSection.SIZE; j++) {
+                if (flags[j] == 0) {
+                    continue;
+                }
+                int x = sx + ChunkUtil.getX(j);
+                int y = ChunkUtil.getY(section.y(), j);
+                int z = sz + ChunkUtil.getZ(j);
+                setWorldBlock(x, y, z, blocks.get(j), flags[j]);
+            }
+        }
+        LocalChunk localChunk = getBlockChunks().get(blockVector2);
+        if (localChunk == null) {
+            return;
+        }
+        for (int layer = 0; layer < localChunk.getBiomeSections().length; layer++) {
+            PalettedSection<BiomeType> biomesLayer = localChunk.getBiomeSections()[layer];
+            if (biomesLayer == null) {
+                continue;
+            }
+            for (int j = 0; j < PalettedSection.SIZE; j++) {
+                BiomeType biome = biomesLayer.get(j);
+                if (biome != null) {
+                    int x = sx + ChunkUtil.getX(j);
+                    int y = ChunkUtil.getY(layer, j);
+                    int z = sz + ChunkUtil.getZ(j);
+                    getWorld().setBiome(BlockVector3.at(x, y, z), biome);
+                }
+            }
+        }
+        if (localChunk.getTiles().size() > 0) {
+            localChunk.getTiles().forEach((blockVector3, tag) -> {
+                try {
+                    BaseBlock block = getWorld().getBlock(blockVector3).toBaseBlock(tag);
+                    getWorld().setBlock(blockVector3, block, getSideEffectSet(SideEffectState.NONE));
+                } catch (WorldEditException ignored) {
+                    StateWrapper sw = new StateWrapper(tag);
+                    sw.restoreTag(getWorld().getName(), blockVector3.getX(), blockVector3.getY(), blockVector3.getZ());
+                }
+            });
+        }
+        if (localChunk.getEntities().size() > 0) {
+            localChunk.getEntities().forEach((location, entity) -> getWorld().createEntity(location, entity));
+        }
+    }
+
     /**
      * Set a block to the world. First tries WNA but defaults to normal block setting methods if that fails
      */
-    @SuppressWarnings("unused")
-    private void setWorldBlock(int x, int y, int z, @NonNull BaseBlock block, @NonNull BlockVector2 blockVector2, boolean edge) {
+    private void setWorldBlock(int x, int y, int z, @NonNull BaseBlock block, byte flags) {
         try {
             BlockVector3 loc = BlockVector3.at(x, y, z);
-            boolean lighting = false;
-            switch (getLightingMode()) {
-                case NONE:
-                    break;
-                case PLACEMENT:
-                    lighting = block.getBlockType().getMaterial().getLightValue() > 0;
-                    break;
-                case REPLACEMENT:
-                    lighting = block.getBlockType().getMaterial().getLightValue() > 0
-                            || getWorld().getBlock(loc).getBlockType().getMaterial().getLightValue() > 0;
-                    break;
-                default:
-                    // Can only be "all"
-                    lighting = true;
-            }
+            boolean edge = (flags & ChunkApplyPlan.EDGE) != 0;
+            boolean lighting = (flags & ChunkApplyPlan.LIGHTING) != 0
+                    || (flags & ChunkApplyPlan.LIGHTING_IF_REPLACING) != 0
+                    && getWorld().getBlock(loc).getBlockType().getMaterial().getLightValue() > 0;
             SideEffectSet sideEffectSet;
             if (lighting) {
                 sideEffectSet = getSideEffectSet(edge ? SideEffectState.EDGE_LIGHTING : SideEffectState.LIGHTING);
@@ -311,63 +396,63 @@ public class BukkitQueueCoordinator extends BasicQueueCoordinator {
 
     private boolean isEdge(int layer, int x, int y, int z, BlockVector2 blockVector2, LocalChunk localChunk) {
         int layerIndex = (layer - localChunk.getMinSection());
-        if (layer == localChunk.getMinSection() || layerIndex == localChunk.getBaseblocks().length - 1) {
+        if (layer == localChunk.getMinSection() || layerIndex == localChunk.getBlockSections().length - 1) {
             return false;
         }
         if (x == 0) {
             LocalChunk localChunkX = getBlockChunks().get(blockVector2.withX(blockVector2.getX() - 1));
-            if (localChunkX == null || localChunkX.getBaseblocks()[layerIndex] == null ||
-                    localChunkX.getBaseblocks()[layerIndex][ChunkUtil.getJ(15, y, z)] != null) {
+            if (localChunkX == null || localChunkX.getBlockSections()[layerIndex] == null ||
+                    localChunkX.getBlockSections()[layerIndex].isSet(ChunkUtil.getJ(15, y, z))) {
                 return true;
             }
         } else if (x == 15) {
             LocalChunk localChunkX = getBlockChunks().get(blockVector2.withX(blockVector2.getX() + 1));
-            if (localChunkX == null || localChunkX.getBaseblocks()[layerIndex] == null ||
-                    localChunkX.getBaseblocks()[layerIndex][ChunkUtil.getJ(0, y, z)] != null) {
+            if (localChunkX == null || localChunkX.getBlockSections()[layerIndex] == null ||
+                    localChunkX.getBlockSections()[layerIndex].isSet(ChunkUtil.getJ(0, y, z))) {
                 return true;
             }
         }
         if (z == 0) {
             LocalChunk localChunkZ = getBlockChunks().get(blockVector2.withZ(blockVector2.getZ() - 1));
-            if (localChunkZ == null || localChunkZ.getBaseblocks()[layerIndex] == null ||
-                    localChunkZ.getBaseblocks()[layerIndex][ChunkUtil.getJ(x, y, 15)] != null) {
+            if (localChunkZ == null || localChunkZ.getBlockSections()[layerIndex] == null ||
+                    localChunkZ.getBlockSections()[layerIndex].isSet(ChunkUtil.getJ(x, y, 15))) {
                 return true;
             }
         } else if (z == 15) {
             LocalChunk localChunkZ = getBlockChunks().get(blockVector2.withZ(blockVector2.getZ() + 1));
-            if (localChunkZ == null || localChunkZ.getBaseblocks()[layerIndex] == null ||
-                    localChunkZ.getBaseblocks()[layerIndex][ChunkUtil.getJ(x, y, 0)] != null) {
+            if (localChunkZ == null || localChunkZ.getBlockSections()[layerIndex] == null ||
+                    localChunkZ.getBlockSections()[layerIndex].isSet(ChunkUtil.getJ(x, y, 0))) {
                 return true;
             }
         }
         if (y == 0) {
-            if (localChunk.getBaseblocks()[layerIndex - 1] == null ||
-                    localChunk.getBaseblocks()[layerIndex][ChunkUtil.getJ(x, 15, z)] != null) {
+            if (localChunk.getBlockSections()[layerIndex - 1] == null ||
+                    localChunk.getBlockSections()[layerIndex].isSet(ChunkUtil.getJ(x, 15, z))) {
                 return true;
             }
         } else if (y == 15) {
-            if (localChunk.getBaseblocks()[layerIndex + 1] == null ||
-                    localChunk.getBaseblocks()[layerIndex][ChunkUtil.getJ(x, 0, z)] != null) {
+            if (localChunk.getBlockSections()[layerIndex + 1] == null ||
+                    localChunk.getBlockSections()[layerIndex].isSet(ChunkUtil.getJ(x, 0, z))) {
                 return true;
             }
         }
-        BaseBlock[] baseBlocks = localChunk.getBaseblocks()[layerIndex];
-        if (x > 0 && baseBlocks[ChunkUtil.getJ(x - 1, y, z)] == null) {
+        PalettedSection<BaseBlock> baseBlocks = localChunk.getBlockSections()[layerIndex];
+        if (x > 0 && !baseBlocks.isSet(ChunkUtil.getJ(x - 1, y, z))) {
             return true;
         }
-        if (x < 15 && baseBlocks[ChunkUtil.getJ(x + 1, y, z)] == null) {
+        if (x < 15 && !baseBlocks.isSet(ChunkUtil.getJ(x + 1, y, z))) {
             return true;
         }
-        if (y > 0 && baseBlocks[ChunkUtil.getJ(x, y - 1, z)] == null) {
+        if (y > 0 && !baseBlocks.isSet(ChunkUtil.getJ(x, y - 1, z))) {
             return true;
         }
-        if (y < 15 && baseBlocks[ChunkUtil.getJ(x, y + 1, z)] == null) {
+        if (y < 15 && !baseBlocks.isSet(ChunkUtil.getJ(x, y + 1, z))) {
             return true;
         }
-        if (z > 0 && baseBlocks[ChunkUtil.getJ(x, y, z - 1)] == null) {
+        if (z > 0 && !baseBlocks.isSet(ChunkUtil.getJ(x, y, z - 1))) {
             return true;
         }
-        return z < 15 && baseBlocks[ChunkUtil.getJ(x, y, z + 1)] == null;
+        return z < 15 && !baseBlocks.isSet(ChunkUtil.getJ(x, y, z + 1));
     }
 
     private boolean isEdgeRegen(int x, int z, BlockVector2 blockVector2) {
@@ -0,0 +1,77 @@
+/*
+ * PlotSquared, a land and world management plugin for Minecraft.
+ * Copyright (C) IntellectualSites <https://intellectualsites.com>
+ * Copyright (C) IntellectualSites team and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.plotsquared.bukkit.queue;
+
+import com.plotsquared.core.queue.PalettedSection;
+import com.sk89q.worldedit.world.block.BaseBlock;
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The blocks of a chunk as prepared by a {@link BukkitQueueCoordinator}, with the side effects of each block already
+ * decided, so that the main thread only has to write them to the world.
+ */
+final class ChunkApplyPlan {
+
+    /**
+     * A block is set at the position.
+     */
+    static final byte SET = 1;
+    /**
+     * The block is at the edge of the queued blocks, and must update its neighbours.
+     */
+    static final byte EDGE = 1 << 1;
+    /**
+     * The block must be lit.
+     */
+    static final byte LIGHTING = 1 << 2;
+    /**
+     * The block must be lit if it replaces a block that emits light, which can only be checked when the block is placed.
+     */
+    static final byte LIGHTING_IF_REPLACING = 1 << 3;
+
+    private final List<Section> sections = new ArrayList<>();
+
+    void add(final int y, final @NonNull PalettedSection<BaseBlock> blocks, final byte @NonNull [] flags) {
+        this.sections.add(new Section(y, blocks, flags));
+    }
+
+    /**
+     * Get the sections to place, in the order they have to be placed in.
+     *
+     * @return prepared sections
+     */
+    @NonNull List<Section> getSections() {
+        return this.sections;
+    }
+
+    /**
+     * Blocks of a section, with their flags by position.
+     *
+     * @param y      section y, i.e. block y {@code >> 4}
+     * @param blocks blocks of the section
+     * @param flags  flags of each position
+     */
+    record Section(int y, @NonNull PalettedSection<BaseBlock> blocks, byte @NonNull [] flags) {
+
+    }
+
+}
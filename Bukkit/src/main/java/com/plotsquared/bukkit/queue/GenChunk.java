@@ -152,6 +152,12 @@ public class GenChunk extends ZeroedDelegateScopedQueueCoordinator {
         chunkData.setRegion(minX, minY, minZ, maxX + 1, maxY + 1, maxZ + 1, BukkitAdapter.adapt(block));
     }
 
+    @Override
+    public void setCuboid(@NonNull Location pos1, @NonNull Location pos2, @NonNull Pattern blocks) {
+        // Blocks are written to the chunk data rather than passed to the parent, so the cuboid must not be forwarded
+        setCuboidBlockwise(pos1, pos2, blocks);
+    }
+
     @Override
     public boolean setBiome(int x, int z, @NonNull BiomeType biomeType) {
         return setBiome(x, z, BukkitAdapter.adapt(biomeType));
@@ -54,6 +54,17 @@ public class LimitedRegionWrapperQueue extends DelegateQueueCoordinator {
         this.limitedRegion = limitedRegion;
     }
 
+    @Override
+    public void setCuboid(com.plotsquared.core.location.@NonNull Location pos1, com.plotsquared.core.location.@NonNull Location pos2, @NonNull BlockState block) {
+        // Blocks are written to the limited region rather than passed to the parent, so the cuboid must not be forwarded
+        setCuboidBlockwise(pos1, pos2, block);
+    }
+
+    @Override
+    public void setCuboid(com.plotsquared.core.location.@NonNull Location pos1, com.plotsquared.core.location.@NonNull Location pos2, @NonNull Pattern blocks) {
+        setCuboidBlockwise(pos1, pos2, blocks);
+    }
+
     @Override
     public boolean setBlock(final int x, final int y, final int z, @NonNull final Pattern pattern) {
         return setBlock(x, y, z, pattern.applyBlock(BlockVector3.at(x, y, z)));
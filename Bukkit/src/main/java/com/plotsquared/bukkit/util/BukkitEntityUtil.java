@@ -167,7 +167,7 @@ public class BukkitEntityUtil {
             }
 
             if (EntityCategories.HANGING.contains(entityType)) { // hanging
-                if (plot != null && (plot.getFlag(HangingBreakFlag.class) || plot
+                if (plot != null && (plot.getBooleanFlag(HangingBreakFlag.class) || plot
                         .isAdded(plotPlayer.getUUID()))) {
                     if (Settings.Done.RESTRICT_BUILDING && DoneFlag.isDone(plot)) {
                         if (!plotPlayer.hasPermission(Permission.PERMISSION_ADMIN_BUILD_OTHER)) {
@@ -190,7 +190,7 @@ public class BukkitEntityUtil {
                     return false;
                 }
             } else if (victim.getType() == EntityType.ARMOR_STAND) {
-                if (plot != null && (plot.getFlag(MiscBreakFlag.class) || plot
+                if (plot != null && (plot.getBooleanFlag(MiscBreakFlag.class) || plot
                         .isAdded(plotPlayer.getUUID()))) {
                     return true;
                 }
@@ -210,12 +210,12 @@ public class BukkitEntityUtil {
                 }
             } else if (EntityCategories.HOSTILE.contains(entityType)) {
                 if (isPlot) {
-                    if (plot.getFlag(HostileAttackFlag.class) || plot.getFlag(PveFlag.class) || plot
+                    if (plot.getBooleanFlag(HostileAttackFlag.class) || plot.getBooleanFlag(PveFlag.class) || plot
                             .isAdded(plotPlayer.getUUID())) {
                         return true;
                     }
-                } else if (roadFlags && (area.getRoadFlag(HostileAttackFlag.class) || area
-                        .getFlag(PveFlag.class))) {
+                } else if (roadFlags && (area.getRoadBooleanFlag(HostileAttackFlag.class) || area
+                        .getBooleanFlag(PveFlag.class))) {
                     return true;
                 }
                 if (!plotPlayer.hasPermission(Permission.PERMISSION_ADMIN_PVE + "." + stub)) {
@@ -234,12 +234,12 @@ public class BukkitEntityUtil {
                 }
             } else if (EntityCategories.TAMEABLE.contains(entityType)) { // victim is tameable
                 if (isPlot) {
-                    if (plot.getFlag(TamedAttackFlag.class) || plot.getFlag(PveFlag.class) || plot
+                    if (plot.getBooleanFlag(TamedAttackFlag.class) || plot.getBooleanFlag(PveFlag.class) || plot
                             .isAdded(plotPlayer.getUUID())) {
                         return true;
                     }
-                } else if (roadFlags && (area.getRoadFlag(TamedAttackFlag.class) || area
-                        .getFlag(PveFlag.class))) {
+                } else if (roadFlags && (area.getRoadBooleanFlag(TamedAttackFlag.class) || area
+                        .getBooleanFlag(PveFlag.class))) {
                     return true;
                 }
                 if (!plotPlayer.hasPermission(Permission.PERMISSION_ADMIN_PVE + "." + stub)) {
@@ -258,7 +258,7 @@ public class BukkitEntityUtil {
                 }
             } else if (EntityCategories.PLAYER.contains(entityType)) {
                 if (isPlot) {
-                    if (!plot.getFlag(PvpFlag.class) && !plotPlayer.hasPermission(Permission.PERMISSION_ADMIN_PVP + "." + stub)) {
+                    if (!plot.getBooleanFlag(PvpFlag.class) && !plotPlayer.hasPermission(Permission.PERMISSION_ADMIN_PVP + "." + stub)) {
                         plotPlayer.sendMessage(
                                 TranslatableCaption.of("permission.no_permission_event"),
                                 TagResolver.resolver(
@@ -272,7 +272,7 @@ public class BukkitEntityUtil {
                     } else {
                         return true;
                     }
-                } else if (roadFlags && area.getRoadFlag(PvpFlag.class)) {
+                } else if (roadFlags && area.getRoadBooleanFlag(PvpFlag.class)) {
                     return true;
                 }
                 if (!plotPlayer.hasPermission(Permission.PERMISSION_ADMIN_PVP + "." + stub)) {
@@ -287,12 +287,12 @@ public class BukkitEntityUtil {
                 }
             } else if (EntityCategories.ANIMAL.contains(entityType)) { // victim is animal
                 if (isPlot) {
-                    if (plot.getFlag(AnimalAttackFlag.class) || plot.getFlag(PveFlag.class) || plot
+                    if (plot.getBooleanFlag(AnimalAttackFlag.class) || plot.getBooleanFlag(PveFlag.class) || plot
                             .isAdded(plotPlayer.getUUID())) {
                         return true;
                     }
-                } else if (roadFlags && (area.getRoadFlag(AnimalAttackFlag.class) || area
-                        .getFlag(PveFlag.class))) {
+                } else if (roadFlags && (area.getRoadBooleanFlag(AnimalAttackFlag.class) || area
+                        .getBooleanFlag(PveFlag.class))) {
                     return true;
                 }
                 if (!plotPlayer.hasPermission(Permission.PERMISSION_ADMIN_PVE + "." + stub)) {
@@ -314,10 +314,10 @@ public class BukkitEntityUtil {
                 return true;
             } else { // victim is something else
                 if (isPlot) {
-                    if (plot.getFlag(PveFlag.class) || plot.isAdded(plotPlayer.getUUID())) {
+                    if (plot.getBooleanFlag(PveFlag.class) || plot.isAdded(plotPlayer.getUUID())) {
                         return true;
                     }
-                } else if (roadFlags && area.getRoadFlag(PveFlag.class)) {
+                } else if (roadFlags && area.getRoadBooleanFlag(PveFlag.class)) {
                     return true;
                 }
                 if (!plotPlayer.hasPermission(Permission.PERMISSION_ADMIN_PVE + "." + stub)) {
@@ -338,7 +338,7 @@ public class BukkitEntityUtil {
             return true;
         } else if (dplot != null && (!dplot.equals(vplot) || Objects
                 .equals(dplot.getOwnerAbs(), vplot.getOwnerAbs()))) {
-            return vplot != null && vplot.getFlag(PveFlag.class);
+            return vplot != null && vplot.getBooleanFlag(PveFlag.class);
         }
         //disable the firework damage. too much of a headache to support at the moment.
         if (vplot != null) {
@@ -346,10 +346,10 @@ public class BukkitEntityUtil {
                 return false;
             }
         }
-        if (vplot == null && roadFlags && area.getRoadFlag(PveFlag.class)) {
+        if (vplot == null && roadFlags && area.getRoadBooleanFlag(PveFlag.class)) {
             return true;
         }
-        return ((vplot != null && vplot.getFlag(PveFlag.class)) || !(damager instanceof Arrow
+        return ((vplot != null && vplot.getBooleanFlag(PveFlag.class)) || !(damager instanceof Arrow
                 && !(victim instanceof Creature)));
     }
 
@@ -0,0 +1,499 @@
+/*
+ * PlotSquared, a land and world management plugin for Minecraft.
+ * Copyright (C) IntellectualSites <https://intellectualsites.com>
+ * Copyright (C) IntellectualSites team and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.plotsquared.bukkit.util;
+
+import com.google.inject.Inject;
+import com.google.inject.Singleton;
+import com.plotsquared.core.PlotSquared;
+import com.plotsquared.core.configuration.Settings;
+import com.plotsquared.core.events.RemoveRoadEntityEvent;
+import com.plotsquared.core.events.Result;
+import com.plotsquared.core.plot.Plot;
+import com.plotsquared.core.plot.PlotArea;
+import com.plotsquared.core.plot.PlotId;
+import com.plotsquared.core.plot.world.PlotAreaManager;
+import com.plotsquared.core.util.EventDispatcher;
+import com.plotsquared.core.util.task.TaskManager;
+import com.plotsquared.core.util.task.TaskTime;
+import com.sk89q.worldedit.bukkit.BukkitAdapter;
+import io.papermc.lib.PaperLib;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.bukkit.Bukkit;
+import org.bukkit.Chunk;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.entity.Entity;
+import org.bukkit.entity.LivingEntity;
+import org.bukkit.entity.Player;
+import org.bukkit.metadata.FixedMetadataValue;
+import org.bukkit.metadata.MetadataValue;
+import org.bukkit.plugin.Plugin;
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Removes mobs, items and vehicles from roads, as configured by the {@code kill-road-*} components.
+ * <p>
+ * Instead of going through all entities of every plot world at once, the sweeper visits the loaded chunks of the
+ * plot worlds in turns and stops for the tick once {@link Settings.Road_Entities#MAX_TICK_TIME} is used up.
+ * Chunks that lie entirely within a single claimed plot cannot contain anything to remove and are skipped without
+ * looking at their entities. A new pass starts when the previous one is complete, at most once every
+ * {@link Settings.Road_Entities#PASS_INTERVAL} seconds.
+ */
+@Singleton
+public class RoadEntitySweeper implements Runnable {
+
+    private static final Logger LOGGER = LogManager.getLogger("PlotSquared/" + RoadEntitySweeper.class.getSimpleName());
+
+    private final PlotAreaManager plotAreaManager;
+    private final EventDispatcher eventDispatcher;
+
+    private final List<Chunk> pending = new ArrayList<>();
+    private int cursor;
+    private long passStart;
+    private boolean started;
+
+    private long chunksVisited;
+    private long chunksSkipped;
+    private long entitiesVisited;
+    private long entitiesRemoved;
+    private long lastPassNanos;
+    private int lastPassTicks;
+    private int passTicks;
+
+    @Inject
+    public RoadEntitySweeper(final @NonNull PlotAreaManager plotAreaManager, final @NonNull EventDispatcher eventDispatcher) {
+        this.plotAreaManager = plotAreaManager;
+        this.eventDispatcher = eventDispatcher;
+    }
+
+    /**
+     * Start sweeping the plot worlds every tick.
+     */
+    public void start() {
+        if (this.started) {
+            return;
+        }
+        this.started = true;
+        TaskManager.runTaskRepeat(this, TaskTime.ticks(1L));
+    }
+
+    @Override
+    public void run() {
+        final long now = System.nanoTime();
+        if (this.cursor >= this.pending.size()) {
+            if (!this.pending.isEmpty()) {
+                this.completePass(now);
+            }
+            if (now - this.passStart < TimeUnit.SECONDS.toNanos(Settings.Road_Entities.PASS_INTERVAL)) {
+                return;
+            }
+            this.beginPass(now);
+            if (this.pending.isEmpty()) {
+                return;
+            }
+        }
+        this.passTicks++;
+        final long deadline = now + TimeUnit.MILLISECONDS.toNanos(Settings.Road_Entities.MAX_TICK_TIME);
+        // Always make progress, even if the budget is smaller than a single chunk
+        do {
+            final Chunk chunk = this.pending.get(this.cursor);
+            this.pending.set(this.cursor++, null);
+            try {
+                this.sweep(chunk);
+            } catch (Throwable e) {
+                LOGGER.error("Failed to sweep road entities in chunk {}", chunk, e);
+            }
+        } while (this.cursor < this.pending.size() && System.nanoTime() < deadline);
+    }
+
+    private void beginPass(final long now) {
+        this.pending.clear();
+        this.cursor = 0;
+        this.passStart = now;
+        this.passTicks = 0;
+        for (final World world : Bukkit.getWorlds()) {
+            if (this.plotAreaManager.hasPlotArea(world.getName())) {
+                this.pending.addAll(List.of(world.getLoadedChunks()));
+            }
+        }
+    }
+
+    private void completePass(final long now) {
+        this.pending.clear();
+        this.cursor = 0;
+        this.lastPassNanos = now - this.passStart;
+        this.lastPassTicks = this.passTicks;
+        if (Settings.DEBUG) {
+            LOGGER.info(
+                    "Road entity pass took {} ms over {} ticks; {} chunks visited, {} skipped, {} entities visited, {} removed in total",
+                    TimeUnit.NANOSECONDS.toMillis(this.lastPassNanos), this.lastPassTicks, this.chunksVisited,
+                    this.chunksSkipped, this.entitiesVisited, this.entitiesRemoved
+            );
+        }
+    }
+
+    private void sweep(final @NonNull Chunk chunk) {
+        if (!chunk.isLoaded()) {
+            return;
+        }
+        final int chunkX = chunk.getX();
+        final int chunkZ = chunk.getZ();
+        final PlotArea area = this.plotAreaManager.getApplicablePlotArea(com.plotsquared.core.location.Location.at(
+                chunk.getWorld().getName(), (chunkX << 4) + 8, 0, (chunkZ << 4) + 8));
+        if (area != null && area.isChunkInOwnedPlot(chunkX, chunkZ)) {
+            this.chunksSkipped++;
+            return;
+        }
+        this.chunksVisited++;
+        for (final Entity entity : chunk.getEntities()) {
+            this.entitiesVisited++;
+            if (this.sweep(entity)) {
+                this.entitiesRemoved++;
+            }
+        }
+    }
+
+    @SuppressWarnings("deprecation")
+    private boolean sweep(final @NonNull Entity entity) {
+        // TODO: use (type) pattern matching when targeting java 21
+        switch (entity.getType().toString()) {
+            case "EGG":
+            case "FISHING_HOOK", "FISHING_BOBBER":
+            case "ENDER_SIGNAL", "EYE_OF_ENDER":
+            case "AREA_EFFECT_CLOUD":
+            case "EXPERIENCE_ORB":
+            case "LEASH_HITCH", "LEASH_KNOT":
+            case "FIREWORK", "FIREWORK_ROCKET":
+            case "LIGHTNING", "LIGHTNING_BOLT":
+            case "WITHER_SKULL":
+            case "UNKNOWN":
+            case "PLAYER":
+                // non moving / unmovable
+                return false;
+            case "THROWN_EXP_BOTTLE", "EXPERIENCE_BOTTLE":
+            case "SPLASH_POTION", "POTION":
+            case "SNOWBALL":
+            case "SHULKER_BULLET":
+            case "SPECTRAL_ARROW":
+            case "ENDER_PEARL":
+            case "ARROW":
+            case "LLAMA_SPIT":
+            case "TRIDENT":
+                // managed elsewhere | projectile
+                return false;
+            case "ITEM_FRAME":
+            case "PAINTING":
+                // Not vehicles
+                return false;
+            case "ARMOR_STAND":
+                // Temporarily classify as vehicle
+            case "MINECART":
+            case "MINECART_CHEST":
+            case "CHEST_MINECART":
+            case "MINECART_COMMAND":
+            case "COMMAND_BLOCK_MINECART":
+            case "MINECART_FURNACE":
+            case "FURNACE_MINECART":
+            case "MINECART_HOPPER":
+            case "HOPPER_MINECART":
+            case "MINECART_MOB_SPAWNER":
+            case "SPAWNER_MINECART":
+            case "END_CRYSTAL":
+            case "ENDER_CRYSTAL": // Backwards compatibility for 1.20.4
+            case "MINECART_TNT":
+            case "TNT_MINECART":
+            case "CHEST_BOAT":
+            case "BOAT":
+            case "ACACIA_BOAT", "BIRCH_BOAT", "CHERRY_BOAT", "DARK_OAK_BOAT", "JUNGLE_BOAT", "MANGROVE_BOAT",
+                 "OAK_BOAT", "PALE_OAK_BOAT", "SPRUCE_BOAT", "BAMBOO_RAFT":
+            case "ACACIA_CHEST_BOAT", "BIRCH_CHEST_BOAT", "CHERRY_CHEST_BOAT", "DARK_OAK_CHEST_BOAT",
+                 "JUNGLE_CHEST_BOAT", "MANGROVE_CHEST_BOAT", "OAK_CHEST_BOAT", "PALE_OAK_CHEST_BOAT",
+                 "SPRUCE_CHEST_BOAT", "BAMBOO_CHEST_RAFT":
+                if (Settings.Enabled_Components.KILL_ROAD_VEHICLES) {
+                    com.plotsquared.core.location.Location location = BukkitUtil.adapt(entity.getLocation());
+                    Plot plot = location.getPlot();
+                    if (plot == null) {
+                        if (location.isPlotArea()) {
+                            if (entity.hasMetadata("ps-tmp-teleport")) {
+                                return false;
+                            }
+                            return this.removeRoadEntity(entity);
+                        }
+                        return false;
+                    }
+                    List<MetadataValue> meta = entity.getMetadata("plot");
+                    if (meta.isEmpty()) {
+                        return false;
+                    }
+                    Plot origin = (Plot) meta.get(0).value();
+                    if (!plot.equals(origin.getBasePlot(false))) {
+                        if (entity.hasMetadata("ps-tmp-teleport")) {
+                            return false;
+                        }
+                        return this.removeRoadEntity(entity);
+                    }
+                }
+                return false;
+            case "SMALL_FIREBALL":
+            case "FIREBALL":
+            case "DRAGON_FIREBALL":
+            case "DROPPED_ITEM", "ITEM":
+                if (Settings.Enabled_Components.KILL_ROAD_ITEMS && BukkitUtil.adapt(entity.getLocation()).isUnownedPlotArea()) {
+                    return this.removeRoadEntity(entity);
+                }
+                // dropped item
+                return false;
+            case "PRIMED_TNT", "TNT":
+            case "FALLING_BLOCK":
+                // managed elsewhere
+                return false;
+            case "SHULKER":
+                if (Settings.Enabled_Components.KILL_ROAD_MOBS && (Settings.Enabled_Components.KILL_NAMED_ROAD_MOBS || entity.getCustomName() == null)) {
+                    LivingEntity livingEntity = (LivingEntity) entity;
+                    List<MetadataValue> meta = entity.getMetadata("shulkerPlot");
+                    if (!meta.isEmpty()) {
+                        if (livingEntity.isLeashed() && !Settings.Enabled_Components.KILL_OWNED_ROAD_MOBS) {
+                            return false;
+                        }
+                        if (entity.hasMetadata("keep")) {
+                            return false;
+                        }
+
+                        PlotId originalPlotId = (PlotId) meta.get(0).value();
+                        if (originalPlotId != null) {
+                            com.plotsquared.core.location.Location pLoc = BukkitUtil.adapt(entity.getLocation());
+                            PlotArea area = pLoc.getPlotArea();
+                            if (area != null) {
+                                Plot currentPlot = area.getPlotAbs(pLoc);
+                                if (currentPlot == null || !originalPlotId.equals(currentPlot.getId())) {
+                                    if (entity.hasMetadata("ps-tmp-teleport")) {
+                                        return false;
+                                    }
+                                    return this.removeRoadEntity(entity);
+                                }
+                            }
+                        }
+                    } else {
+                        //This is to apply the metadata to already spawned shulkers (see EntitySpawnListener.java)
+                        com.plotsquared.core.location.Location pLoc = BukkitUtil.adapt(entity.getLocation());
+                        PlotArea area = pLoc.getPlotArea();
+                        if (area != null) {
+                            Plot currentPlot = area.getPlotAbs(pLoc);
+                            if (currentPlot != null) {
+                                entity.setMetadata(
+                                        "shulkerPlot",
+                                        new FixedMetadataValue((Plugin) PlotSquared.platform(), currentPlot.getId())
+                                );
+                            }
+                        }
+                    }
+                }
+                return false;
+            case "ZOMBIFIED_PIGLIN":
+            case "PIGLIN_BRUTE":
+            case "LLAMA":
+            case "DONKEY":
+            case "MULE":
+            case "ZOMBIE_HORSE":
+            case "SKELETON_HORSE":
+            case "HUSK":
+            case "ELDER_GUARDIAN":
+            case "WITHER_SKELETON":
+            case "STRAY":
+            case "ZOMBIE_VILLAGER":
+            case "EVOKER":
+            case "EVOKER_FANGS":
+            case "VEX":
+            case "VINDICATOR":
+            case "POLAR_BEAR":
+            case "BAT":
+            case "BLAZE":
+            case "CAVE_SPIDER":
+            case "CHICKEN":
+            case "COW":
+            case "CREEPER":
+            case "ENDERMAN":
+            case "ENDERMITE":
+            case "ENDER_DRAGON":
+            case "GHAST":
+            case "HAPPY_GHAST": // 1.21.6+
+            case "GHASTLING": // 1.21.6+
+            case "GIANT":
+            case "GUARDIAN":
+            case "HORSE":
+            case "IRON_GOLEM":
+            case "MAGMA_CUBE":
+            case "MUSHROOM_COW", "MOOSHROOM":
+            case "OCELOT":
+            case "PIG":
+            case "PIG_ZOMBIE":
+            case "RABBIT":
+            case "SHEEP":
+            case "SILVERFISH":
+            case "SKELETON":
+            case "SLIME":
+            case "SNOWMAN", "SNOW_GOLEM":
+            case "SPIDER":
+            case "SQUID":
+            case "VILLAGER":
+            case "WITCH":
+            case "WITHER":
+            case "WOLF":
+            case "ZOMBIE":
+            case "PARROT":
+            case "SALMON":
+            case "DOLPHIN":
+            case "TROPICAL_FISH":
+            case "DROWNED":
+            case "COD":
+            case "TURTLE":
+            case "PUFFERFISH":
+            case "PHANTOM":
+            case "ILLUSIONER":
+            case "CAT":
+            case "PANDA":
+            case "FOX":
+            case "PILLAGER":
+            case "TRADER_LLAMA":
+            case "WANDERING_TRADER":
+            case "RAVAGER":
+            case "BEE":
+            case "HOGLIN":
+            case "PIGLIN":
+            case "ZOGLIN":
+            default: {
+                if (Settings.Enabled_Components.KILL_ROAD_MOBS) {
+                    Location location = entity.getLocation();
+                    if (BukkitUtil.adapt(location).isPlotRoad()) {
+                        if (entity instanceof LivingEntity livingEntity) {
+                            if ((Settings.Enabled_Components.KILL_OWNED_ROAD_MOBS || !livingEntity.isLeashed())
+                                    || !entity.hasMetadata("keep")) {
+                                Entity passenger = entity.getPassenger();
+                                if ((Settings.Enabled_Components.KILL_OWNED_ROAD_MOBS
+                                        || !((passenger instanceof Player) || livingEntity.isLeashed()))
+                                        && (Settings.Enabled_Components.KILL_NAMED_ROAD_MOBS || entity.getCustomName() == null)
+                                        && entity.getMetadata("keep").isEmpty()) {
+                                    if (entity.hasMetadata("ps-tmp-teleport")) {
+                                        return false;
+                                    }
+                                    return this.removeRoadEntity(entity);
+                                }
+                            }
+                        } else {
+                            Entity passenger = entity.getPassenger();
+                            if ((Settings.Enabled_Components.KILL_OWNED_ROAD_MOBS || !(passenger instanceof Player))
+                                    && (Settings.Enabled_Components.KILL_NAMED_ROAD_MOBS && entity.getCustomName() != null)
+                                    && entity.getMetadata("keep").isEmpty()) {
+                                if (entity.hasMetadata("ps-tmp-teleport")) {
+                                    return false;
+                                }
+                                return this.removeRoadEntity(entity);
+                            }
+                        }
+                    }
+                }
+            }
+        }
+        return false;
+    }
+
+    private boolean isCustomSpawned(final @NonNull Entity entity) {
+        //noinspection ConstantValue - getEntitySpawnReason annotated as NotNull, but is not NotNull. lol.
+        if (PaperLib.isPaper() && entity.getEntitySpawnReason() != null && "CUSTOM".equals(entity.getEntitySpawnReason().name())) {
+            return true;
+        }
+        // Fallback for Spigot not having Entity#getEntitySpawnReason
+        return entity.getMetadata("ps_custom_spawned").stream().anyMatch(MetadataValue::asBoolean);
+    }
+
+    private boolean removeRoadEntity(final @NonNull Entity entity) {
+        // Checked last, as reading metadata is more expensive than classifying the entity
+        if (this.isCustomSpawned(entity)) {
+            return false;
+        }
+        RemoveRoadEntityEvent event = eventDispatcher.callRemoveRoadEntity(BukkitAdapter.adapt(entity));
+
+        if (event.getEventResult() == Result.DENY) {
+            return false;
+        }
+
+        entity.remove();
+        return true;
+    }
+
+    /**
+     * Get the number of chunks whose entities have been looked at.
+     *
+     * @return chunks visited since the sweeper was started
+     */
+    public long getChunksVisited() {
+        return this.chunksVisited;
+    }
+
+    /**
+     * Get the number of chunks that were skipped because they lie within a single claimed plot.
+     *
+     * @return chunks skipped since the sweeper was started
+     */
+    public long getChunksSkipped() {
+        return this.chunksSkipped;
+    }
+
+    /**
+     * Get the number of entities that have been looked at.
+     *
+     * @return entities visited since the sweeper was started
+     */
+    public long getEntitiesVisited() {
+        return this.entitiesVisited;
+    }
+
+    /**
+     * Get the number of entities that have been removed from roads.
+     *
+     * @return entities removed since the sweeper was started
+     */
+    public long getEntitiesRemoved() {
+        return this.entitiesRemoved;
+    }
+
+    /**
+     * Get the wall clock duration of the last complete pass over the loaded chunks.
+     *
+     * @return duration in nanoseconds, or {@code 0} if no pass has completed yet
+     */
+    public long getLastPassNanos() {
+        return this.lastPassNanos;
+    }
+
+    /**
+     * Get the number of ticks the last complete pass over the loaded chunks was spread over.
+     *
+     * @return number of ticks, or {@code 0} if no pass has completed yet
+     */
+    public int getLastPassTicks() {
+        return this.lastPassTicks;
+    }
+
+}
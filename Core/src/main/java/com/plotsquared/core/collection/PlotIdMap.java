@@ -0,0 +1,441 @@
+/*
+ * PlotSquared, a land and world management plugin for Minecraft.
+ * Copyright (C) IntellectualSites <https://intellectualsites.com>
+ * Copyright (C) IntellectualSites team and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.plotsquared.core.collection;
+
+import com.plotsquared.core.plot.PlotId;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.AbstractCollection;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * Concurrent open addressing map keyed by the x and y coordinates of a {@link PlotId}.
+ * <p>
+ * Keys are stored as packed {@code long}s, so lookups through {@link #get(int, int)} do not need a
+ * {@link PlotId} instance and never allocate. Reads are lock-free, writes are serialized.
+ * Removed slots are only reclaimed when the table is rebuilt, which keeps a slot bound to a single
+ * key for the lifetime of a table and allows readers to match keys without locking.
+ * <p>
+ * Iteration is weakly consistent, like the views of {@link java.util.concurrent.ConcurrentHashMap}.
+ *
+ * @param <V> value type
+ * @since TODO
+ */
+public final class PlotIdMap<V> {
+
+    private static final VarHandle KEYS = MethodHandles.arrayElementVarHandle(long[].class);
+    private static final VarHandle VALUES = MethodHandles.arrayElementVarHandle(Object[].class);
+    /**
+     * Marker for unused slots. The id this packs to is stored separately in {@link #emptyKeyValue}.
+     */
+    private static final long EMPTY = Long.MIN_VALUE;
+    private static final int MIN_CAPACITY = 16;
+
+    private volatile Table table = new Table(MIN_CAPACITY);
+    private volatile Object emptyKeyValue;
+    private volatile int size;
+
+    /**
+     * Pack plot id coordinates into the key used by this map.
+     *
+     * @param x plot id x
+     * @param y plot id y
+     * @return packed key
+     */
+    public static long pack(final int x, final int y) {
+        return ((long) x << 32) | (y & 0xFFFFFFFFL);
+    }
+
+    private static int unpackX(final long key) {
+        return (int) (key >> 32);
+    }
+
+    private static int unpackY(final long key) {
+        return (int) key;
+    }
+
+    private static int mix(final long key) {
+        final long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+
+    /**
+     * Get the value mapped to the given plot id coordinates.
+     *
+     * @param x plot id x
+     * @param y plot id y
+     * @return the value, or null if none is mapped
+     */
+    public @Nullable V get(final int x, final int y) {
+        return get(pack(x, y));
+    }
+
+    /**
+     * Get the value mapped to the given plot id.
+     *
+     * @param id plot id
+     * @return the value, or null if none is mapped
+     */
+    public @Nullable V get(final @NonNull PlotId id) {
+        return get(pack(id.getX(), id.getY()));
+    }
+
+    @SuppressWarnings("unchecked")
+    private V get(final long key) {
+        if (key == EMPTY) {
+            return (V) this.emptyKeyValue;
+        }
+        final Table table = this.table;
+        final long[] keys = table.keys;
+        int index = mix(key) & table.mask;
+        while (true) {
+            final long current = (long) KEYS.getAcquire(keys, index);
+            if (current == key) {
+                return (V) VALUES.getAcquire(table.values, index);
+            }
+            if (current == EMPTY) {
+                return null;
+            }
+            index = (index + 1) & table.mask;
+        }
+    }
+
+    /**
+     * Check whether a value is mapped to the given plot id.
+     *
+     * @param id plot id
+     * @return {@code true} if a value is mapped
+     */
+    public boolean containsKey(final @NonNull PlotId id) {
+        return get(id) != null;
+    }
+
+    /**
+     * Map a value to a plot id, replacing any existing value.
+     *
+     * @param id    plot id
+     * @param value value
+     * @return the previous value, or null if none was mapped
+     */
+    public @Nullable V put(final @NonNull PlotId id, final @NonNull V value) {
+        return put(pack(id.getX(), id.getY()), value, false);
+    }
+
+    /**
+     * Map a value to a plot id if no value is mapped yet.
+     *
+     * @param id    plot id
+     * @param value value
+     * @return the existing value, or null if the value was added
+     */
+    public @Nullable V putIfAbsent(final @NonNull PlotId id, final @NonNull V value) {
+        return put(pack(id.getX(), id.getY()), value, true);
+    }
+
+    @SuppressWarnings("unchecked")
+    private synchronized V put(final long key, final V value, final boolean onlyIfAbsent) {
+        if (key == EMPTY) {
+            final V old = (V) this.emptyKeyValue;
+            if (old == null || !onlyIfAbsent) {
+                this.emptyKeyValue = value;
+                if (old == null) {
+                    this.size++;
+                }
+            }
+            return old;
+        }
+        Table table = this.table;
+        int index = table.find(key);
+        if (table.keys[index] == key) {
+            final V old = (V) table.values[index];
+            if (old == null || !onlyIfAbsent) {
+                VALUES.setRelease(table.values, index, value);
+                if (old == null) {
+                    this.size++;
+                }
+            }
+            return old;
+        }
+        if (table.used + 1 > table.threshold) {
+            table = rebuild(this.size + 1);
+            index = table.find(key);
+        }
+        // the value has to be visible before the key, as readers only look at the value once the key matches
+        VALUES.setRelease(table.values, index, value);
+        KEYS.setRelease(table.keys, index, key);
+        table.used++;
+        this.size++;
+        return null;
+    }
+
+    /**
+     * Remove the value mapped to a plot id.
+     *
+     * @param id plot id
+     * @return the removed value, or null if none was mapped
+     */
+    @SuppressWarnings("unchecked")
+    public synchronized @Nullable V remove(final @NonNull PlotId id) {
+        final long key = pack(id.getX(), id.getY());
+        if (key == EMPTY) {
+            final V old = (V) this.emptyKeyValue;
+            if (old != null) {
+                this.emptyKeyValue = null;
+                this.size--;
+            }
+            return old;
+        }
+        final Table table = this.table;
+        final int index = table.find(key);
+        if (table.keys[index] != key) {
+            return null;
+        }
+        final V old = (V) table.values[index];
+        if (old != null) {
+            VALUES.setRelease(table.values, index, null);
+            this.size--;
+        }
+        return old;
+    }
+
+    /**
+     * Remove all values from the map.
+     */
+    public synchronized void clear() {
+        this.emptyKeyValue = null;
+        this.size = 0;
+        this.table = new Table(MIN_CAPACITY);
+    }
+
+    /**
+     * Get the number of mapped values.
+     *
+     * @return number of values
+     */
+    public int size() {
+        return this.size;
+    }
+
+    public boolean isEmpty() {
+        return this.size == 0;
+    }
+
+    /**
+     * Perform an action for every value in the map.
+     *
+     * @param action action to perform
+     */
+    @SuppressWarnings("unchecked")
+    public void forEach(final @NonNull Consumer<? super V> action) {
+        final Object emptyKeyValue = this.emptyKeyValue;
+        if (emptyKeyValue != null) {
+            action.accept((V) emptyKeyValue);
+        }
+        final Table table = this.table;
+        for (int i = 0; i < table.keys.length; i++) {
+            if ((long) KEYS.getAcquire(table.keys, i) == EMPTY) {
+                continue;
+            }
+            final Object value = VALUES.getAcquire(table.values, i);
+            if (value != null) {
+                action.accept((V) value);
+            }
+        }
+    }
+
+    /**
+     * Get a live, weakly consistent view of the values in this map.
+     *
+     * @return value view
+     */
+    public @NonNull Collection<V> values() {
+        return new AbstractCollection<>() {
+            @Override
+            public Iterator<V> iterator() {
+                return new EntryIterator<>(PlotIdMap.this) {
+                    @Override
+                    V map(final long key, final V value) {
+                        return value;
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                return PlotIdMap.this.size();
+            }
+
+            @Override
+            public void forEach(final Consumer<? super V> action) {
+                PlotIdMap.this.forEach(action);
+            }
+        };
+    }
+
+    /**
+     * Get a live, weakly consistent view of the entries in this map. The entries are created
+     * on demand and do not write through to the map.
+     *
+     * @return entry view
+     */
+    public @NonNull Set<Map.Entry<PlotId, V>> entrySet() {
+        return new AbstractSet<>() {
+            @Override
+            public Iterator<Map.Entry<PlotId, V>> iterator() {
+                return new EntryIterator<>(PlotIdMap.this) {
+                    @Override
+                    Map.Entry<PlotId, V> map(final long key, final V value) {
+                        return new AbstractMap.SimpleImmutableEntry<>(PlotId.of(unpackX(key), unpackY(key)), value);
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                return PlotIdMap.this.size();
+            }
+        };
+    }
+
+    /**
+     * Rebuild the table, dropping removed slots. Must be called while holding the map lock.
+     */
+    private Table rebuild(final int expectedSize) {
+        int capacity = MIN_CAPACITY;
+        while (capacity * Table.LOAD_FACTOR < expectedSize * 2L) {
+            capacity <<= 1;
+        }
+        final Table old = this.table;
+        final Table table = new Table(capacity);
+        for (int i = 0; i < old.keys.length; i++) {
+            final Object value = old.values[i];
+            if (value != null) {
+                final int index = table.find(old.keys[i]);
+                table.keys[index] = old.keys[i];
+                table.values[index] = value;
+                table.used++;
+            }
+        }
+        // publishing through the volatile field makes the plain writes above visible to readers
+        this.table = table;
+        return table;
+    }
+
+    private static final class Table {
+
+        private static final double LOAD_FACTOR = 0.5;
+
+        private final long[] keys;
+        private final Object[] values;
+        private final int mask;
+        private final int threshold;
+        /**
+         * Number of slots holding a key, including keys whose value has been removed.
+         */
+        private int used;
+
+        private Table(final int capacity) {
+            this.keys = new long[capacity];
+            this.values = new Object[capacity];
+            this.mask = capacity - 1;
+            this.threshold = (int) (capacity * LOAD_FACTOR);
+            Arrays.fill(this.keys, EMPTY);
+        }
+
+        /**
+         * Find the slot holding the key, or the empty slot it would be inserted into.
+         */
+        private int find(final long key) {
+            int index = mix(key) & this.mask;
+            while (true) {
+                final long current = this.keys[index];
+                if (current == key || current == EMPTY) {
+                    return index;
+                }
+                index = (index + 1) & this.mask;
+            }
+        }
+
+    }
+
+    private abstract static class EntryIterator<V, T> implements Iterator<T> {
+
+        private final Table table;
+        private Object emptyKeyValue;
+        private int index = -1;
+        private T next;
+
+        private EntryIterator(final PlotIdMap<V> map) {
+            this.table = map.table;
+            this.emptyKeyValue = map.emptyKeyValue;
+            advance();
+        }
+
+        abstract T map(long key, V value);
+
+        @SuppressWarnings("unchecked")
+        private void advance() {
+            if (this.emptyKeyValue != null) {
+                this.next = map(EMPTY, (V) this.emptyKeyValue);
+                this.emptyKeyValue = null;
+                return;
+            }
+            while (++this.index < this.table.keys.length) {
+                final long key = (long) KEYS.getAcquire(this.table.keys, this.index);
+                if (key == EMPTY) {
+                    continue;
+                }
+                final Object value = VALUES.getAcquire(this.table.values, this.index);
+                if (value != null) {
+                    this.next = map(key, (V) value);
+                    return;
+                }
+            }
+            this.next = null;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return this.next != null;
+        }
+
+        @Override
+        public T next() {
+            if (this.next == null) {
+                throw new NoSuchElementException();
+            }
+            final T result = this.next;
+            advance();
+            return result;
+        }
+
+    }
+
+}
@@ -27,11 +27,13 @@ import com.plotsquared.core.configuration.caption.CaptionHolder;
 import com.plotsquared.core.configuration.caption.TranslatableCaption;
 import com.plotsquared.core.configuration.file.YamlConfiguration;
 import com.plotsquared.core.events.TeleportCause;
+import com.plotsquared.core.generator.AreaPregenerator;
 import com.plotsquared.core.generator.AugmentedUtils;
 import com.plotsquared.core.generator.HybridPlotWorld;
 import com.plotsquared.core.inject.annotations.WorldConfig;
 import com.plotsquared.core.inject.annotations.WorldFile;
 import com.plotsquared.core.inject.factory.HybridPlotWorldFactory;
+import com.plotsquared.core.inject.factory.ProgressSubscriberFactory;
 import com.plotsquared.core.location.Location;
 import com.plotsquared.core.permissions.Permission;
 import com.plotsquared.core.player.ConsolePlayer;
@@ -44,6 +46,7 @@ import com.plotsquared.core.plot.world.PlotAreaManager;
 import com.plotsquared.core.plot.world.SinglePlotArea;
 import com.plotsquared.core.queue.GlobalBlockQueue;
 import com.plotsquared.core.queue.QueueCoordinator;
+import com.plotsquared.core.queue.subscriber.ProgressSubscriber;
 import com.plotsquared.core.setup.PlotAreaBuilder;
 import com.plotsquared.core.util.FileUtils;
 import com.plotsquared.core.util.MathMan;
@@ -64,6 +67,7 @@ import com.sk89q.worldedit.extent.clipboard.io.BuiltInClipboardFormat;
 import com.sk89q.worldedit.extent.clipboard.io.ClipboardWriter;
 import com.sk89q.worldedit.function.operation.ForwardExtentCopy;
 import com.sk89q.worldedit.function.operation.Operations;
+import com.sk89q.worldedit.math.BlockVector2;
 import com.sk89q.worldedit.math.BlockVector3;
 import com.sk89q.worldedit.regions.CuboidRegion;
 import com.sk89q.worldedit.regions.Region;
@@ -94,7 +98,7 @@ import java.util.stream.Collectors;
         category = CommandCategory.ADMINISTRATION,
         requiredType = RequiredType.NONE,
         aliases = "world",
-        usage = "/plot area <create | info | list | tp | regen>",
+        usage = "/plot area <create | info | list | tp | regen | pregen>",
         confirmation = true)
 public class Area extends SubCommand {
 
@@ -806,6 +810,132 @@ public class Area extends SubCommand {
                 queue.enqueue();
                 return true;
             }
+            case "pregen", "pregenerate" -> {
+                if (!player.hasPermission(Permission.PERMISSION_AREA_PREGEN)) {
+                    player.sendMessage(
+                            TranslatableCaption.of("permission.no_permission"),
+                            TagResolver.resolver("node", Tag.inserting(Permission.PERMISSION_AREA_PREGEN))
+                    );
+                    return false;
+                }
+                if (args.length < 2 || args.length > 3) {
+                    player.sendMessage(
+                            TranslatableCaption.of("commandconfig.command_syntax"),
+                            TagResolver.resolver("value", Tag.inserting(Component.text("/plot area pregen <area> [radius|stop]")))
+                    );
+                    return false;
+                }
+                final PlotArea area = this.plotAreaManager.getPlotAreaByString(args[1]);
+                if (area == null || area instanceof SinglePlotArea) {
+                    player.sendMessage(
+                            TranslatableCaption.of("errors.not_valid_plot_world"),
+                            TagResolver.resolver("value", Tag.inserting(Component.text(args[1])))
+                    );
+                    return false;
+                }
+                final TagResolver areaResolver = TagResolver.resolver("area", Tag.inserting(Component.text(area.toString())));
+                final AreaPregenerator running = AreaPregenerator.getRunning(area);
+                if (args.length == 3 && args[2].equalsIgnoreCase("stop")) {
+                    if (running == null) {
+                        player.sendMessage(TranslatableCaption.of("area.pregen_not_running"), areaResolver);
+                        return false;
+                    }
+                    running.cancel();
+                    player.sendMessage(TranslatableCaption.of("area.pregen_stopping"), areaResolver);
+                    return true;
+                }
+                if (running != null) {
+                    player.sendMessage(TranslatableCaption.of("area.pregen_running"), areaResolver);
+                    return false;
+                }
+                int radius = -1;
+                if (args.length == 3) {
+                    try {
+                        radius = Integer.parseInt(args[2]);
+                    } catch (NumberFormatException ignored) {
+                    }
+                    if (radius < 0 || radius > AreaPregenerator.MAX_RADIUS) {
+                        player.sendMessage(
+                                TranslatableCaption.of("invalid.not_valid_number"),
+                                TagResolver.resolver(
+                                        "value",
+                                        Tag.inserting(Component.text("(0, " + AreaPregenerator.MAX_RADIUS + ")"))
+                                )
+                        );
+                        return false;
+                    }
+                    // The radius is given in blocks
+                    radius = (radius + 15) >> 4;
+                }
+                final BlockVector2 center;
+                if (AreaPregenerator.hasRegion(area)) {
+                    final BlockVector3 regionCenter = area.getRegion().getCenter().toBlockPoint();
+                    center = BlockVector2.at(regionCenter.getX() >> 4, regionCenter.getZ() >> 4);
+                } else if (radius == -1) {
+                    player.sendMessage(TranslatableCaption.of("area.pregen_radius_required"), areaResolver);
+                    return false;
+                } else {
+                    final Location spawn = this.worldUtil.getSpawn(area.getWorldName());
+                    center = BlockVector2.at(spawn.getX() >> 4, spawn.getZ() >> 4);
+                }
+                final AreaPregenerator pregenerator = new AreaPregenerator(
+                        area,
+                        this.worldUtil.getWeWorld(area.getWorldName()),
+                        this.blockQueue,
+                        center,
+                        radius
+                );
+                ProgressSubscriber subscriber = null;
+                if (Settings.QUEUE.NOTIFY_PROGRESS) {
+                    subscriber = PlotSquared.platform().injector().getInstance(ProgressSubscriberFactory.class).createFull(
+                            player,
+                            Settings.QUEUE.NOTIFY_INTERVAL,
+                            Settings.QUEUE.NOTIFY_WAIT,
+                            TranslatableCaption.of("area.pregen_progress")
+                    );
+                }
+                final boolean started = pregenerator.start(subscriber, () -> {
+                    if (pregenerator.isCancelled()) {
+                        player.sendMessage(
+                                TranslatableCaption.of("area.pregen_stopped"),
+                                areaResolver,
+                                TagResolver.resolver(
+                                        "progress",
+                                        Tag.inserting(Component.text(String.format("%.2f", pregenerator.getProgress() * 100)))
+                                )
+                        );
+                    } else {
+                        player.sendMessage(
+                                TranslatableCaption.of("area.pregen_complete"),
+                                areaResolver,
+                                TagResolver.resolver("amount", Tag.inserting(Component.text(pregenerator.getTotalChunks()))),
+                                TagResolver.resolver(
+                                        "rate",
+                                        Tag.inserting(Component.text(String.format("%.1f", pregenerator.getChunksPerSecond())))
+                                )
+                        );
+                    }
+                });
+                if (!started) {
+                    player.sendMessage(TranslatableCaption.of("area.pregen_running"), areaResolver);
+                    return false;
+                }
+                if (pregenerator.isCancelled() || pregenerator.getProgress() >= 1) {
+                    // Already finished while starting
+                    return true;
+                }
+                player.sendMessage(
+                        TranslatableCaption.of(pregenerator.getCompletedChunks() > 0 ? "area.pregen_resumed" : "area.pregen_started"),
+                        areaResolver,
+                        TagResolver.resolver("amount", Tag.inserting(Component.text(pregenerator.getTotalChunks()))),
+                        TagResolver.resolver(
+                                "progress",
+                                Tag.inserting(Component.text(String.format("%.2f", pregenerator.getProgress() * 100)))
+                        ),
+                        TagResolver.resolver("command", Tag.inserting(Component.text("/plot area pregen " + args[1] + " stop")))
+                );
+                return true;
+            }
             case "goto", "v", "teleport", "visit", "tp" -> {
                 if (!player.hasPermission(Permission.PERMISSION_AREA_TP)) {
                     player.sendMessage(
@@ -881,6 +1011,9 @@ public class Area extends SubCommand {
             if (player.hasPermission(Permission.PERMISSION_AREA_TP)) {
                 completions.add("tp");
             }
+            if (player.hasPermission(Permission.PERMISSION_AREA_PREGEN)) {
+                completions.add("pregen");
+            }
             final List<Command> commands = completions.stream().filter(completion -> completion
                             .toLowerCase()
                             .startsWith(args[0].toLowerCase()))
@@ -22,13 +22,13 @@ import com.plotsquared.core.configuration.caption.TranslatableCaption;
 import com.plotsquared.core.permissions.Permission;
 import com.plotsquared.core.player.PlotPlayer;
 import com.plotsquared.core.plot.Plot;
-import com.plotsquared.core.plot.flag.PlotFlag;
 import com.plotsquared.core.plot.flag.implementations.AnimalCapFlag;
 import com.plotsquared.core.plot.flag.implementations.EntityCapFlag;
 import com.plotsquared.core.plot.flag.implementations.HostileCapFlag;
 import com.plotsquared.core.plot.flag.implementations.MiscCapFlag;
 import com.plotsquared.core.plot.flag.implementations.MobCapFlag;
 import com.plotsquared.core.plot.flag.implementations.VehicleCapFlag;
+import com.plotsquared.core.plot.flag.types.IntegerFlag;
 import net.kyori.adventure.text.Component;
 import net.kyori.adventure.text.ComponentLike;
 import net.kyori.adventure.text.minimessage.tag.Tag;
@@ -75,13 +75,13 @@ public class Caps extends SubCommand {
         return true;
     }
 
-    private <T extends PlotFlag<Integer, T>> void sendFormatted(
+    private <T extends IntegerFlag<T>> void sendFormatted(
             final Plot plot,
             final PlotPlayer<?> player, final Class<T> capFlag, final int[] countedEntities,
             final String name, final int type
     ) {
         final int current = countedEntities[type];
-        final int max = plot.getFlag(capFlag);
+        final int max = plot.getIntFlag(capFlag);
         final String percentage = String.format("%.1f", 100 * ((float) current / max));
         ComponentLike maxBeautified = max >= Integer.MAX_VALUE
                 ? TranslatableCaption.of("info.infinite").toComponent(player)
@@ -100,8 +100,8 @@ public class Done extends SubCommand {
                 @Override
                 public void run(PlotAnalysis value) {
                     plot.removeRunning();
-                    boolean result =
-                            value.getComplexity(doneRequirements) >= doneRequirements.THRESHOLD;
+                    boolean result = value != null
+                            && value.getComplexity(doneRequirements) >= doneRequirements.THRESHOLD;
                     finish(plot, player, result);
                 }
             });
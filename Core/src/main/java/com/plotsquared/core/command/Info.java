@@ -84,7 +84,7 @@ public class Info extends SubCommand {
         }
 
         // hide-info flag
-        if (plot.getFlag(HideInfoFlag.class)) {
+        if (plot.getBooleanFlag(HideInfoFlag.class)) {
             boolean allowed = false;
             for (final String argument : args) {
                 if (argument.equalsIgnoreCase("-f")) {
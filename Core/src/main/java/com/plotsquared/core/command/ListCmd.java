@@ -463,7 +463,7 @@ public class ListCmd extends SubCommand {
                 String server = TranslatableCaption.of("info.plot_list_player_server").getComponent(player);
                 String everyone = TranslatableCaption.of("info.plot_list_player_everyone").getComponent(player);
                 TextComponent.Builder builder = Component.text();
-                if (plot.getFlag(ServerPlotFlag.class)) {
+                if (plot.getBooleanFlag(ServerPlotFlag.class)) {
                     TagResolver serverResolver = TagResolver.resolver(
                             "server",
                             Tag.inserting(TranslatableCaption.of("info.server").toComponent(player))
@@ -390,6 +390,9 @@ public class Settings extends Config {
                 "horn_coral_wall_fan", "tube_coral", "tube_coral_block", "tube_coral_fan",
                 "tube_coral_wall_fan"
         );
+        @Comment({"Memory in MB each plot world may use to cache the layout of generated chunks",
+                " - Set to 0 to disable the cache"})
+        public static int GENERATOR_CACHE_SIZE = 32;
 
     }
 
@@ -671,20 +674,43 @@ public class Settings extends Config {
         public static boolean CREATURE_SPAWN = true;
         @Comment("Check the tile entity limit on block placement")
         public static boolean TILE_ENTITY_CHECK = true;
+        @Comment({"Keep live entity counts per plot from Paper's entity add and remove events,",
+                "instead of scanning the chunks of a plot whenever an entity cap is checked"})
+        public static boolean ENTITY_COUNTERS = true;
         @Comment("Use Paper's async tab completion")
         public static boolean ASYNC_TAB_COMPLETION;
 
     }
 
+    @Comment("Settings relating to the removal of mobs, items and vehicles on roads, see enabled-components.kill-road-*")
+    public static final class Road_Entities {
+
+        @Comment({"Time in ms per tick that may be spent looking for entities on roads.",
+                "Loaded chunks are visited in turns, so a lower value spreads a pass over more ticks."})
+        public static int MAX_TICK_TIME = 2;
+        @Comment("Minimum time in seconds between the start of two passes over the loaded chunks")
+        public static int PASS_INTERVAL = 1;
+
+    }
+
     @Comment("Settings relating to PlotSquared's GlobalBlockQueue")
     public static final class QUEUE {
 
         @Comment({"Average time per tick spent completing chunk tasks in ms.",
                 "Queue will adjust the batch size to match this."})
         public static int MAX_ITERATION_TIME = 30;
-        @Comment({"Initial number of chunks to process by the queue. This can be increased or",
-                "decreased by the queue based on the actual iteration time compared to above."})
+        @Comment({"Time in ms a tick may take including the queue, if the server reports its tick times (Paper).",
+                "The queue spends less than the max iteration time per tick while the server is busy."})
+        public static int TARGET_TICK_TIME = 45;
+        @Comment({"Initial number of chunks the queue loads at once. This is increased or",
+                "decreased by the queue up to the limit below."})
         public static int INITIAL_BATCH_SIZE = 5;
+        @Comment({"Maximum number of chunks a queue may be loading at once. The queue grows and shrinks",
+                "the number within this limit based on chunk load times and server tick times."})
+        public static int MAX_LOADING_CHUNKS = 64;
+        @Comment({"Number of threads that prepare queued chunks off the main thread, while they are loading.",
+                "Set to 0 to prepare chunks on the main thread."})
+        public static int PREPARATION_THREADS = 2;
         @Comment("Notify progress of the queue to the player or console.")
         public static boolean NOTIFY_PROGRESS = true;
         @Comment("Interval in ms to notify player or console of progress.")
@@ -704,6 +730,15 @@ public class Settings extends Config {
 
     }
 
+    @Comment("Settings related to the expiry of plots")
+    public static final class Expiry {
+
+        @Comment({"Number of plots analyzed at the same time by expiry tasks that use a calibration.",
+                "The chunks of the plots are read through the queue, higher values load more chunks at once."})
+        public static int ANALYSIS_WORKERS = 4;
+
+    }
+
     @Comment("Settings related to tab completion")
     public static final class Tab_Completions {
 
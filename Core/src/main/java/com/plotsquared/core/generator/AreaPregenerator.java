@@ -0,0 +1,505 @@
+/*
+ * PlotSquared, a land and world management plugin for Minecraft.
+ * Copyright (C) IntellectualSites <https://intellectualsites.com>
+ * Copyright (C) IntellectualSites team and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.plotsquared.core.generator;
+
+import com.plotsquared.core.PlotSquared;
+import com.plotsquared.core.plot.PlotArea;
+import com.plotsquared.core.queue.ChunkCoordinator;
+import com.plotsquared.core.queue.GlobalBlockQueue;
+import com.plotsquared.core.queue.QueueCoordinator;
+import com.plotsquared.core.queue.QueuePriority;
+import com.plotsquared.core.queue.subscriber.ProgressSubscriber;
+import com.plotsquared.core.util.task.TaskManager;
+import com.sk89q.worldedit.math.BlockVector2;
+import com.sk89q.worldedit.world.World;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Generates the chunks of a plot area ahead of time, so that the first player to enter them does not have to wait
+ * for them to be generated.
+ * <p>
+ * Chunks are generated one region file (32x32 chunks) at a time, in a square spiral of regions around the center.
+ * The regions are visited lazily, so that large radii do not need to be laid out up front. Every region is loaded
+ * through a {@link QueueCoordinator}, whose chunk coordinator keeps a bounded window of chunks loading at once,
+ * which platforms with a parallel capable generator generate concurrently. The position in the spiral is saved to
+ * disk after each region, so that a pregeneration that was stopped, or interrupted by a restart,
+ * continues where it left off when it is started again with the same center and radius.
+ *
+ * @since TODO
+ */
+public final class AreaPregenerator {
+
+    private static final Logger LOGGER = LogManager.getLogger("PlotSquared/" + AreaPregenerator.class.getSimpleName());
+    private static final Map<PlotArea, AreaPregenerator> RUNNING = new ConcurrentHashMap<>();
+
+    /**
+     * The largest radius in blocks that can be pregenerated, which is the distance from the center of a world to its
+     * border in vanilla Minecraft.
+     */
+    public static final int MAX_RADIUS = 30_000_000;
+
+    private final PlotArea area;
+    private final World world;
+    private final GlobalBlockQueue blockQueue;
+    private final BlockVector2 center;
+    private final int radius;
+    private final int minChunkX;
+    private final int minChunkZ;
+    private final int maxChunkX;
+    private final int maxChunkZ;
+    // Region of the center, and the bounds of the regions to generate relative to it
+    private final int centerRegionX;
+    private final int centerRegionZ;
+    private final int minRegionX;
+    private final int minRegionZ;
+    private final int maxRegionX;
+    private final int maxRegionZ;
+    private final int maxRing;
+    private final File progressFile;
+    private final long totalChunks;
+    private volatile boolean cancelled;
+    // Next position in the spiral: the ring around the center region, and the offset within the ring
+    private int ring;
+    private long offset;
+    private volatile long completedChunks;
+    private long startedChunks;
+    private long startTime;
+    private @Nullable ProgressSubscriber subscriber;
+    private @Nullable Runnable whenDone;
+
+    /**
+     * Create a new pregeneration of the chunks of an area within a square around a center. The square is limited to the
+     * region of the area, if it has one.
+     *
+     * @param area       area to pregenerate
+     * @param world      world of the area
+     * @param blockQueue block queue to load the chunks through
+     * @param center     center of the square, in chunk coordinates
+     * @param radius     radius of the square in chunks, or {@code -1} to pregenerate the whole region of the area
+     * @throws IllegalArgumentException if the radius is larger than {@link #MAX_RADIUS}, or no radius is given for an
+     *                                  area without a region
+     */
+    public AreaPregenerator(
+            final @NonNull PlotArea area,
+            final @NonNull World world,
+            final @NonNull GlobalBlockQueue blockQueue,
+            final @NonNull BlockVector2 center,
+            final int radius
+    ) {
+        this.area = area;
+        this.world = world;
+        this.blockQueue = blockQueue;
+        this.center = center;
+        this.radius = radius;
+        if (radius > MAX_RADIUS >> 4) {
+            throw new IllegalArgumentException("The radius may not exceed " + MAX_RADIUS + " blocks");
+        }
+        int minChunkX = Integer.MIN_VALUE;
+        int minChunkZ = Integer.MIN_VALUE;
+        int maxChunkX = Integer.MAX_VALUE;
+        int maxChunkZ = Integer.MAX_VALUE;
+        if (hasRegion(area)) {
+            minChunkX = area.getRegion().getMinimumPoint().getX() >> 4;
+            minChunkZ = area.getRegion().getMinimumPoint().getZ() >> 4;
+            maxChunkX = area.getRegion().getMaximumPoint().getX() >> 4;
+            maxChunkZ = area.getRegion().getMaximumPoint().getZ() >> 4;
+        }
+        if (radius >= 0) {
+            minChunkX = Math.max(minChunkX, center.getX() - radius);
+            minChunkZ = Math.max(minChunkZ, center.getZ() - radius);
+            maxChunkX = Math.min(maxChunkX, center.getX() + radius);
+            maxChunkZ = Math.min(maxChunkZ, center.getZ() + radius);
+        } else if (!hasRegion(area)) {
+            throw new IllegalArgumentException("A radius is required for areas without a region");
+        }
+        this.minChunkX = minChunkX;
+        this.minChunkZ = minChunkZ;
+        this.maxChunkX = maxChunkX;
+        this.maxChunkZ = maxChunkZ;
+        this.totalChunks = Math.max(0L, (long) maxChunkX - minChunkX + 1) * Math.max(0L, (long) maxChunkZ - minChunkZ + 1);
+
+        this.centerRegionX = center.getX() >> 5;
+        this.centerRegionZ = center.getZ() >> 5;
+        this.minRegionX = (minChunkX >> 5) - this.centerRegionX;
+        this.minRegionZ = (minChunkZ >> 5) - this.centerRegionZ;
+        this.maxRegionX = (maxChunkX >> 5) - this.centerRegionX;
+        this.maxRegionZ = (maxChunkZ >> 5) - this.centerRegionZ;
+        this.maxRing = this.totalChunks == 0 ? -1 : Math.max(
+                Math.max(Math.abs(this.minRegionX), Math.abs(this.maxRegionX)),
+                Math.max(Math.abs(this.minRegionZ), Math.abs(this.maxRegionZ))
+        );
+
+        String name = area.getWorldName();
+        if (area.getId() != null) {
+            name += "-" + area.getId();
+        }
+        this.progressFile = new File(PlotSquared.platform().getDirectory(), "pregen" + File.separator + name + ".properties");
+    }
+
+    /**
+     * Check whether an area is limited to a region, or covers its whole world.
+     *
+     * @param area area to check
+     * @return {@code true} if the area has a region
+     */
+    public static boolean hasRegion(final @NonNull PlotArea area) {
+        return area.getMin().getX() != Integer.MIN_VALUE;
+    }
+
+    /**
+     * Get the pregeneration that is currently running in an area.
+     *
+     * @param area area to get the pregeneration of
+     * @return the running pregeneration, or null if there is none
+     */
+    public static @Nullable AreaPregenerator getRunning(final @NonNull PlotArea area) {
+        return RUNNING.get(area);
+    }
+
+    /**
+     * Start the pregeneration, continuing from the saved progress if there is any. Must be called from the main thread.
+     *
+     * @param subscriber subscriber to notify about the progress of the whole pregeneration, or null
+     * @param whenDone   task to run on the main thread when the pregeneration has finished or was stopped
+     * @return {@code false} if a pregeneration is already running in the area
+     */
+    public boolean start(final @Nullable ProgressSubscriber subscriber, final @Nullable Runnable whenDone) {
+        if (RUNNING.putIfAbsent(this.area, this) != null) {
+            return false;
+        }
+        this.subscriber = subscriber;
+        this.whenDone = whenDone;
+        this.loadProgress();
+        this.startedChunks = this.completedChunks;
+        this.startTime = System.nanoTime();
+        this.next();
+        return true;
+    }
+
+    /**
+     * Stop the pregeneration once the region that is currently being generated has finished. The progress is kept, so
+     * that the pregeneration can be continued later.
+     */
+    public void cancel() {
+        this.cancelled = true;
+    }
+
+    /**
+     * Get whether the pregeneration was stopped before all chunks were generated.
+     *
+     * @return {@code true} if the pregeneration was stopped
+     */
+    public boolean isCancelled() {
+        return this.cancelled;
+    }
+
+    /**
+     * Get the number of chunks the pregeneration covers.
+     *
+     * @return number of chunks
+     */
+    public long getTotalChunks() {
+        return this.totalChunks;
+    }
+
+    /**
+     * Get the number of chunks that have been generated, including those generated before the pregeneration was
+     * continued.
+     *
+     * @return number of generated chunks
+     */
+    public long getCompletedChunks() {
+        return this.completedChunks;
+    }
+
+    /**
+     * Get the progress of the pregeneration.
+     *
+     * @return progress in the range [0, 1]
+     */
+    public double getProgress() {
+        return this.totalChunks == 0 ? 1 : (double) this.completedChunks / this.totalChunks;
+    }
+
+    /**
+     * Get the number of chunks generated per second since the pregeneration was started.
+     *
+     * @return chunks per second
+     */
+    public double getChunksPerSecond() {
+        final long elapsed = System.nanoTime() - this.startTime;
+        if (elapsed <= 0) {
+            return 0;
+        }
+        return (this.completedChunks - this.startedChunks) / (elapsed / (double) TimeUnit.SECONDS.toNanos(1));
+    }
+
+    private void next() {
+        final BlockVector2 region = this.cancelled ? null : this.nextRegion();
+        if (region == null) {
+            this.finish();
+            return;
+        }
+        final int ring = this.ring;
+        final long offset = this.offset;
+        final Set<BlockVector2> chunks = this.getChunks(region);
+        final QueueCoordinator queue = this.blockQueue.getNewQueue(this.world);
+        // Loading the chunk generates it, nothing else has to be done
+        queue.setChunkConsumer(chunk -> {
+        });
+        queue.addReadChunks(chunks);
+        queue.setShouldGen(true);
+        queue.setUnloadAfter(true);
+        queue.setPriority(QueuePriority.LOW);
+        queue.addProgressSubscriber(new RegionSubscriber(chunks.size()));
+        queue.setCompleteTask(() -> {
+            this.completedChunks += chunks.size();
+            final long completed = this.completedChunks;
+            TaskManager.runTaskAsync(() -> this.saveProgress(ring, offset, completed));
+            this.next();
+        });
+        queue.enqueue();
+    }
+
+    private void finish() {
+        RUNNING.remove(this.area, this);
+        if (!this.cancelled) {
+            TaskManager.runTaskAsync(() -> {
+                try {
+                    Files.deleteIfExists(this.progressFile.toPath());
+                } catch (IOException e) {
+                    LOGGER.error("Failed to delete the pregeneration progress of {}", this.area, e);
+                }
+            });
+        }
+        LOGGER.info(
+                "Pregeneration of {} {} at {} chunks ({} chunks/s)",
+                this.area,
+                this.cancelled ? "stopped" : "finished",
+                this.completedChunks,
+                String.format("%.1f", this.getChunksPerSecond())
+        );
+        if (this.subscriber != null) {
+            this.subscriber.notifyEnd();
+        }
+        if (this.whenDone != null) {
+            this.whenDone.run();
+        }
+    }
+
+    /**
+     * Advance the spiral to the next region within the bounds. Every ring around the center region is walked as four
+     * sides of {@code 2 * ring} regions each, and the parts of a side outside of the bounds are skipped at once.
+     *
+     * @return the next region, or null if all regions have been visited
+     */
+    private @Nullable BlockVector2 nextRegion() {
+        while (this.ring <= this.maxRing) {
+            final int ring = this.ring;
+            if (ring == 0) {
+                this.ring = 1;
+                this.offset = 0;
+                if (this.isRegionInBounds(0, 0)) {
+                    return BlockVector2.at(this.centerRegionX, this.centerRegionZ);
+                }
+                continue;
+            }
+            final long sideLength = 2L * ring;
+            if (this.offset >= 4 * sideLength) {
+                this.ring++;
+                this.offset = 0;
+                continue;
+            }
+            final int side = (int) (this.offset / sideLength);
+            long step = this.offset % sideLength;
+            // Fixed coordinate of the side, and the coordinate of its first region that changes along it
+            final int fixed;
+            final int from;
+            final int direction;
+            final int min;
+            final int max;
+            switch (side) {
+                case 0 -> { // north, towards east
+                    fixed = -ring;
+                    from = -ring;
+                    direction = 1;
+                }
+                case 1 -> { // east, towards south
+                    fixed = ring;
+                    from = -ring;
+                    direction = 1;
+                }
+                case 2 -> { // south, towards west
+                    fixed = ring;
+                    from = ring;
+                    direction = -1;
+                }
+                default -> { // west, towards north
+                    fixed = -ring;
+                    from = ring;
+                    direction = -1;
+                }
+            }
+            final boolean alongX = side % 2 == 0;
+            if (alongX) {
+                min = this.minRegionX;
+                max = this.maxRegionX;
+            } else {
+                min = this.minRegionZ;
+                max = this.maxRegionZ;
+            }
+            final boolean fixedInBounds = alongX
+                    ? fixed >= this.minRegionZ && fixed <= this.maxRegionZ
+                    : fixed >= this.minRegionX && fixed <= this.maxRegionX;
+            // Steps along the side that lie within the bounds
+            final long first = direction == 1 ? (long) min - from : (long) from - max;
+            final long last = direction == 1 ? (long) max - from : (long) from - min;
+            if (!fixedInBounds || step > last || last < 0) {
+                this.offset = (side + 1) * sideLength;
+                continue;
+            }
+            step = Math.max(step, first);
+            if (step >= sideLength) {
+                this.offset = (side + 1) * sideLength;
+                continue;
+            }
+            this.offset = side * sideLength + step + 1;
+            final int moving = (int) (from + direction * step);
+            return alongX
+                    ? BlockVector2.at(this.centerRegionX + moving, this.centerRegionZ + fixed)
+                    : BlockVector2.at(this.centerRegionX + fixed, this.centerRegionZ + moving);
+        }
+        return null;
+    }
+
+    private boolean isRegionInBounds(final int x, final int z) {
+        return x >= this.minRegionX && x <= this.maxRegionX && z >= this.minRegionZ && z <= this.maxRegionZ;
+    }
+
+    private @NonNull Set<BlockVector2> getChunks(final @NonNull BlockVector2 region) {
+        final int minX = Math.max(this.minChunkX, region.getX() << 5);
+        final int minZ = Math.max(this.minChunkZ, region.getZ() << 5);
+        final int maxX = Math.min(this.maxChunkX, (region.getX() << 5) + 31);
+        final int maxZ = Math.min(this.maxChunkZ, (region.getZ() << 5) + 31);
+        final Set<BlockVector2> chunks = new HashSet<>();
+        for (int x = minX; x <= maxX; x++) {
+            for (int z = minZ; z <= maxZ; z++) {
+                chunks.add(BlockVector2.at(x, z));
+            }
+        }
+        return chunks;
+    }
+
+    private void loadProgress() {
+        this.ring = 0;
+        this.offset = 0;
+        this.completedChunks = 0;
+        if (!this.progressFile.exists()) {
+            return;
+        }
+        final Properties properties = new Properties();
+        try (InputStream inputStream = Files.newInputStream(this.progressFile.toPath())) {
+            properties.load(inputStream);
+            if (Integer.parseInt(properties.getProperty("center-x")) != this.center.getX()
+                    || Integer.parseInt(properties.getProperty("center-z")) != this.center.getZ()
+                    || Integer.parseInt(properties.getProperty("radius")) != this.radius) {
+                return;
+            }
+            final int ring = Integer.parseInt(properties.getProperty("ring"));
+            final long offset = Long.parseLong(properties.getProperty("offset"));
+            final long chunks = Long.parseLong(properties.getProperty("chunks"));
+            if (ring < 0 || offset < 0 || chunks < 0 || chunks > this.totalChunks) {
+                return;
+            }
+            this.ring = ring;
+            this.offset = offset;
+            this.completedChunks = chunks;
+        } catch (IOException | RuntimeException e) {
+            LOGGER.error("Failed to load the pregeneration progress of {}, starting over", this.area, e);
+        }
+    }
+
+    private synchronized void saveProgress(final int ring, final long offset, final long chunks) {
+        final Properties properties = new Properties();
+        properties.setProperty("center-x", Integer.toString(this.center.getX()));
+        properties.setProperty("center-z", Integer.toString(this.center.getZ()));
+        properties.setProperty("radius", Integer.toString(this.radius));
+        properties.setProperty("ring", Integer.toString(ring));
+        properties.setProperty("offset", Long.toString(offset));
+        properties.setProperty("chunks", Long.toString(chunks));
+        try {
+            Files.createDirectories(this.progressFile.getParentFile().toPath());
+            try (OutputStream outputStream = Files.newOutputStream(this.progressFile.toPath())) {
+                properties.store(outputStream, "Pregeneration progress of " + this.area);
+            }
+        } catch (IOException e) {
+            LOGGER.error("Failed to save the pregeneration progress of {}", this.area, e);
+        }
+    }
+
+    /**
+     * Forwards the progress of the queue of one region as the progress of the whole pregeneration.
+     */
+    private final class RegionSubscriber implements ProgressSubscriber {
+
+        private final int chunks;
+
+        private RegionSubscriber(final int chunks) {
+            this.chunks = chunks;
+        }
+
+        @Override
+        public void notifyProgress(final @NonNull ChunkCoordinator coordinator, final double progress) {
+            final ProgressSubscriber subscriber = AreaPregenerator.this.subscriber;
+            if (subscriber != null && totalChunks > 0) {
+                subscriber.notifyProgress(coordinator, (completedChunks + progress * this.chunks) / totalChunks);
+            }
+        }
+
+        @Override
+        public void notifyEnd() {
+            // The subscriber is notified once the whole pregeneration has finished
+        }
+
+        @Override
+        public void notifyLoadWindow(final @NonNull ChunkCoordinator coordinator, final int window) {
+            final ProgressSubscriber subscriber = AreaPregenerator.this.subscriber;
+            if (subscriber != null) {
+                subscriber.notifyLoadWindow(coordinator, window);
+            }
+        }
+
+    }
+
+}
@@ -0,0 +1,214 @@
+/*
+ * PlotSquared, a land and world management plugin for Minecraft.
+ * Copyright (C) IntellectualSites <https://intellectualsites.com>
+ * Copyright (C) IntellectualSites team and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.plotsquared.core.generator;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.plotsquared.core.configuration.Settings;
+import com.plotsquared.core.location.Location;
+import com.plotsquared.core.queue.PalettedSection;
+import com.plotsquared.core.queue.ZeroedDelegateScopedQueueCoordinator;
+import com.plotsquared.core.util.ChunkUtil;
+import com.plotsquared.core.util.PatternUtil;
+import com.sk89q.worldedit.function.pattern.Pattern;
+import com.sk89q.worldedit.world.biome.BiomeType;
+import com.sk89q.worldedit.world.block.BaseBlock;
+import com.sk89q.worldedit.world.block.BlockState;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * The blocks and biomes {@link HybridGen} generates for a chunk. The output of the generator only depends on the position
+ * of the chunk within the plot grid, so chunks at the same offset from the grid share their template.
+ */
+final class HybridChunkTemplate {
+
+    private final int[] sectionY;
+    private final PalettedSection<BaseBlock>[] sections;
+    private final BiomeType @Nullable [] biomes;
+    private final long memoryUsage;
+
+    private HybridChunkTemplate(
+            final int @NonNull [] sectionY,
+            final PalettedSection<BaseBlock> @NonNull [] sections,
+            final BiomeType @Nullable [] biomes
+    ) {
+        this.sectionY = sectionY;
+        this.sections = sections;
+        this.biomes = biomes;
+        long memoryUsage = 64L + sectionY.length * 12L;
+        for (final PalettedSection<BaseBlock> section : sections) {
+            memoryUsage += section.getMemoryUsage();
+        }
+        if (biomes != null) {
+            memoryUsage += biomes.length * 8L;
+        }
+        this.memoryUsage = memoryUsage;
+    }
+
+    /**
+     * Create a cache of templates, limited by {@link Settings.General#GENERATOR_CACHE_SIZE}.
+     *
+     * @return template cache, or null if caching is disabled
+     */
+    static @Nullable Cache<Integer, HybridChunkTemplate> newCache() {
+        if (Settings.General.GENERATOR_CACHE_SIZE <= 0) {
+            return null;
+        }
+        return CacheBuilder.newBuilder()
+                .maximumWeight(Settings.General.GENERATOR_CACHE_SIZE * 1024L * 1024L)
+                .<Integer, HybridChunkTemplate>weigher((key, template) -> (int) Math.min(Integer.MAX_VALUE, template.memoryUsage))
+                .build();
+    }
+
+    /**
+     * Get whether the generated blocks of an area are the same for every chunk at the same offset from the plot grid. This is
+     * not the case if a plot component is made of several blocks, as those are picked at random.
+     *
+     * @param area area to check
+     * @return {@code true} if chunks of the area may be generated from templates
+     */
+    static boolean isPeriodic(final @NonNull HybridPlotWorld area) {
+        return isSingleBlock(area.ROAD_BLOCK.toPattern()) && isSingleBlock(area.WALL_FILLING.toPattern())
+                && isSingleBlock(area.WALL_BLOCK.toPattern()) && isSingleBlock(area.MAIN_BLOCK.toPattern())
+                && isSingleBlock(area.TOP_BLOCK.toPattern());
+    }
+
+    private static boolean isSingleBlock(final @NonNull Pattern pattern) {
+        return PatternUtil.getUniformBlock(pattern) != null;
+    }
+
+    /**
+     * Write the template to a chunk.
+     *
+     * @param result chunk to write to
+     * @param biome  biome to fill the chunk with before the biomes of schematics are applied, or null to not set biomes
+     */
+    void apply(final @NonNull ZeroedDelegateScopedQueueCoordinator result, final @Nullable BiomeType biome) {
+        if (biome != null) {
+            result.fillBiome(biome);
+            if (this.biomes != null) {
+                for (int i = 0; i < this.biomes.length; i++) {
+                    if (this.biomes[i] != null) {
+                        result.setBiome(i & 15, i >> 4, this.biomes[i]);
+                    }
+                }
+            }
+        }
+        for (int i = 0; i < this.sections.length; i++) {
+            final PalettedSection<BaseBlock> section = this.sections[i];
+            final int y = this.sectionY[i];
+            if (section.isUniform()) {
+                final BaseBlock block = section.get(0);
+                if (block != null && !block.hasNbtData()) {
+                    result.setCuboid(Location.at("", 0, y << 4, 0), Location.at("", 15, (y << 4) + 15, 15), block.toImmutableState());
+                    continue;
+                }
+            }
+            for (int j = 0; j < PalettedSection.SIZE; j++) {
+                final BaseBlock block = section.get(j);
+                if (block != null) {
+                    result.setBlock(ChunkUtil.getX(j), ChunkUtil.getY(y, j), ChunkUtil.getZ(j), block);
+                }
+            }
+        }
+    }
+
+    /**
+     * Collects the output of the generator for a chunk into a template.
+     */
+    static final class Recorder extends ZeroedDelegateScopedQueueCoordinator {
+
+        private final Map<Integer, PalettedSection<BaseBlock>> sections = new TreeMap<>();
+        private BiomeType[] biomes;
+
+        /**
+         * @param min minimum point of the chunk the template is generated for
+         * @param max maximum point of the chunk the template is generated for
+         */
+        Recorder(final @NonNull Location min, final @NonNull Location max) {
+            super(null, min, max);
+        }
+
+        @Override
+        public void setCuboid(@NonNull Location pos1, @NonNull Location pos2, @NonNull BlockState block) {
+            // Blocks are recorded rather than passed to the parent, so the cuboid must not be forwarded
+            setCuboidBlockwise(pos1, pos2, block);
+        }
+
+        @Override
+        public void setCuboid(@NonNull Location pos1, @NonNull Location pos2, @NonNull Pattern blocks) {
+            setCuboidBlockwise(pos1, pos2, blocks);
+        }
+
+        @Override
+        public boolean setBlock(final int x, final int y, final int z, final @NonNull BaseBlock id) {
+            if (x < 0 || x > 15 || z < 0 || z > 15) {
+                return false;
+            }
+            this.sections.computeIfAbsent(y >> 4, k -> new PalettedSection<>()).set(ChunkUtil.getJ(x, y, z), id);
+            return true;
+        }
+
+        @Override
+        public boolean setBlock(final int x, final int y, final int z, final @NonNull BlockState id) {
+            return this.setBlock(x, y, z, id.toBaseBlock());
+        }
+
+        @Override
+        public boolean setBlock(final int x, final int y, final int z, final @NonNull Pattern pattern) {
+            // Only single block patterns are recorded, see isPeriodic
+            return this.setBlock(x, y, z, PatternUtil.apply(pattern, x, y, z));
+        }
+
+        @Override
+        public boolean setBiome(final int x, final int z, final @NonNull BiomeType biome) {
+            if (x < 0 || x > 15 || z < 0 || z > 15) {
+                return false;
+            }
+            if (this.biomes == null) {
+                this.biomes = new BiomeType[256];
+            }
+            this.biomes[z << 4 | x] = biome;
+            return true;
+        }
+
+        @Override
+        public void fillBiome(final BiomeType biome) {
+            // The fill is not part of the template
+        }
+
+        @SuppressWarnings("unchecked")
+        @NonNull HybridChunkTemplate build() {
+            final int[] sectionY = new int[this.sections.size()];
+            final PalettedSection<BaseBlock>[] sections = new PalettedSection[this.sections.size()];
+            int i = 0;
+            for (final Map.Entry<Integer, PalettedSection<BaseBlock>> entry : this.sections.entrySet()) {
+                sectionY[i] = entry.getKey();
+                sections[i++] = entry.getValue();
+            }
+            return new HybridChunkTemplate(sectionY, sections, this.biomes);
+        }
+
+    }
+
+}
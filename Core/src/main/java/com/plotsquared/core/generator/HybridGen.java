@@ -19,6 +19,7 @@
 package com.plotsquared.core.generator;
 
 import com.google.common.base.Preconditions;
+import com.google.common.cache.Cache;
 import com.google.inject.Inject;
 import com.plotsquared.core.PlotSquared;
 import com.plotsquared.core.configuration.Settings;
@@ -75,20 +76,23 @@ public class HybridGen extends IndependentPlotGenerator {
         } else {
             minY = world.getMinBuildHeight();
         }
-        BaseBlock[] blocks = world.G_SCH.get(MathMan.pair(relativeX, relativeZ));
-        if (blocks != null) {
-            for (int y = 0; y < blocks.length; y++) {
-                if (blocks[y] != null) {
-                    if (!features.contains(SchematicFeature.POPULATING) || blocks[y].hasNbtData()) {
-                        result.setBlock(x, minY + y, z, blocks[y]);
-                    }
+        SchematicOverlay overlay = world.getSchematicOverlay();
+        if (features.contains(SchematicFeature.POPULATING)) {
+            for (int y = overlay.nextTile(relativeX, relativeZ, 0); y != -1; y = overlay.nextTile(relativeX, relativeZ, y + 1)) {
+                result.setBlock(x, minY + y, z, overlay.getBlock(relativeX, y, relativeZ));
+            }
+        } else {
+            for (int y = overlay.getMinY(relativeX, relativeZ), maxY = overlay.getMaxY(relativeX, relativeZ); y <= maxY; y++) {
+                BaseBlock block = overlay.getBlock(relativeX, y, relativeZ);
+                if (block != null) {
+                    result.setBlock(x, minY + y, z, block);
                 }
             }
         }
         if (!features.contains(SchematicFeature.BIOMES)) {
             return;
         }
-        BiomeType biome = world.G_SCH_B.get(MathMan.pair(relativeX, relativeZ));
+        BiomeType biome = overlay.getBiome(relativeX, relativeZ);
         if (biome != null) {
             result.setBiome(x, z, biome);
         }
@@ -100,6 +104,31 @@ public class HybridGen extends IndependentPlotGenerator {
         Preconditions.checkNotNull(settings, "settings cannot be null");
 
         HybridPlotWorld hybridPlotWorld = (HybridPlotWorld) settings;
+        Cache<Integer, HybridChunkTemplate> templates = hybridPlotWorld.getChunkTemplates();
+        if (templates == null || !HybridChunkTemplate.isPeriodic(hybridPlotWorld)) {
+            generate(result, hybridPlotWorld, biomes);
+            return;
+        }
+        // The generated chunk only depends on its position relative to the plot grid
+        Location min = result.getMin();
+        short relativeOffsetX = (short) Math.floorMod(min.getX() - hybridPlotWorld.ROAD_OFFSET_X, hybridPlotWorld.SIZE);
+        short relativeOffsetZ = (short) Math.floorMod(min.getZ() - hybridPlotWorld.ROAD_OFFSET_Z, hybridPlotWorld.SIZE);
+        int key = MathMan.pair(relativeOffsetX, relativeOffsetZ);
+        HybridChunkTemplate template = templates.getIfPresent(key);
+        if (template == null) {
+            HybridChunkTemplate.Recorder recorder = new HybridChunkTemplate.Recorder(min, result.getMax());
+            generate(recorder, hybridPlotWorld, true);
+            template = recorder.build();
+            templates.put(key, template);
+        }
+        template.apply(result, biomes ? hybridPlotWorld.getPlotBiome() : null);
+    }
+
+    private void generate(
+            @NonNull ZeroedDelegateScopedQueueCoordinator result,
+            @NonNull HybridPlotWorld hybridPlotWorld,
+            boolean biomes
+    ) {
         // Biome
         if (biomes) {
             result.fillBiome(hybridPlotWorld.getPlotBiome());
@@ -398,7 +427,7 @@ public class HybridGen extends IndependentPlotGenerator {
         int size = hybridPlotWorld.PLOT_WIDTH + hybridPlotWorld.ROAD_WIDTH;
         relativeX = Math.floorMod(relativeX, size);
         relativeZ = Math.floorMod(relativeZ, size);
-        BiomeType biome = hybridPlotWorld.G_SCH_B.get(MathMan.pair((short) relativeX, (short) relativeZ));
+        BiomeType biome = hybridPlotWorld.getSchematicOverlay().getBiome(relativeX, relativeZ);
         return biome == null ? hybridPlotWorld.getPlotBiome() : biome;
     }
 
@@ -30,9 +30,9 @@ import com.plotsquared.core.plot.PlotAreaTerrainType;
 import com.plotsquared.core.plot.PlotAreaType;
 import com.plotsquared.core.plot.PlotId;
 import com.plotsquared.core.queue.QueueCoordinator;
+import com.plotsquared.core.queue.QueuePriority;
 import com.plotsquared.core.util.FileBytes;
 import com.plotsquared.core.util.FileUtils;
-import com.plotsquared.core.util.MathMan;
 import com.plotsquared.core.util.RegionManager;
 import com.plotsquared.core.util.WorldUtil;
 import com.sk89q.worldedit.function.pattern.Pattern;
@@ -164,6 +164,7 @@ public class HybridPlotManager extends ClassicPlotManager {
         }
         int schemYDiff = (isRoad ? hybridPlotWorld.getRoadYStart() : hybridPlotWorld.getPlotYStart()) - minY;
         BaseBlock airBlock = BlockTypes.AIR.getDefaultState().toBaseBlock();
+        SchematicOverlay overlay = hybridPlotWorld.getSchematicOverlay();
         for (int x = pos1.getX(); x <= pos2.getX(); x++) {
             short absX = (short) ((x - hybridPlotWorld.ROAD_OFFSET_X) % size);
             if (absX < 0) {
@@ -174,11 +175,11 @@ public class HybridPlotManager extends ClassicPlotManager {
                 if (absZ < 0) {
                     absZ += size;
                 }
-                BaseBlock[] blocks = hybridPlotWorld.G_SCH.get(MathMan.pair(absX, absZ));
-                if (blocks != null) {
-                    for (int y = 0; y < blocks.length; y++) {
-                        if (blocks[y] != null) {
-                            queue.setBlock(x, minY + y, z, blocks[y]);
+                if (overlay.hasColumn(absX, absZ)) {
+                    for (int y = 0; y < overlay.getHeight(); y++) {
+                        BaseBlock block = overlay.getBlock(absX, y, absZ);
+                        if (block != null) {
+                            queue.setBlock(x, minY + y, z, block);
                         } else if (y > schemYDiff) {
                             // This is necessary, otherwise any blocks not specified in the schematic will remain after a clear.
                             // This should only be done where the schematic has actually "started"
@@ -190,7 +191,7 @@ public class HybridPlotManager extends ClassicPlotManager {
                         }
                     }
                 }
-                BiomeType biome = hybridPlotWorld.G_SCH_B.get(MathMan.pair(absX, absZ));
+                BiomeType biome = overlay.getBiome(absX, absZ);
                 if (biome != null) {
                     queue.setBiome(x, z, biome);
                 } else {
@@ -289,6 +290,10 @@ public class HybridPlotManager extends ClassicPlotManager {
         if (actor != null && Settings.QUEUE.NOTIFY_PROGRESS) {
             queue.addProgressSubscriber(subscriberFactory.createWithActor(actor));
         }
+        if (enqueue && actor == null) {
+            // Not initiated by a player, e.g. the deletion of an expired plot
+            queue.setPriority(QueuePriority.LOW);
+        }
         if (whenDone != null) {
             queue.setCompleteTask(whenDone);
         }
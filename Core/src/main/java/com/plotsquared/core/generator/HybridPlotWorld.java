@@ -18,6 +18,7 @@
  */
 package com.plotsquared.core.generator;
 
+import com.google.common.cache.Cache;
 import com.google.inject.Inject;
 import com.google.inject.assistedinject.Assisted;
 import com.intellectualsites.annotations.DoNotUse;
@@ -35,7 +36,6 @@ import com.plotsquared.core.plot.PlotManager;
 import com.plotsquared.core.plot.schematic.Schematic;
 import com.plotsquared.core.queue.GlobalBlockQueue;
 import com.plotsquared.core.util.FileUtils;
-import com.plotsquared.core.util.MathMan;
 import com.plotsquared.core.util.SchematicHandler;
 import com.sk89q.jnbt.CompoundTag;
 import com.sk89q.jnbt.CompoundTagBuilder;
@@ -58,9 +58,9 @@ import org.checkerframework.checker.nullness.qual.Nullable;
 import java.io.File;
 import java.lang.reflect.Field;
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
 
 public class HybridPlotWorld extends ClassicPlotWorld {
 
@@ -70,8 +70,18 @@ public class HybridPlotWorld extends ClassicPlotWorld {
     public boolean PLOT_SCHEMATIC = false;
     public short PATH_WIDTH_LOWER;
     public short PATH_WIDTH_UPPER;
-    public HashMap<Integer, BaseBlock[]> G_SCH;
-    public HashMap<Integer, BiomeType> G_SCH_B;
+    /**
+     * @deprecated Read-only view of the schematic blocks per column, keyed by
+     *         {@link com.plotsquared.core.util.MathMan#pair(short, short)}. Use {@link #getSchematicOverlay()} instead.
+     */
+    @Deprecated(forRemoval = true, since = "TODO")
+    public Map<Integer, BaseBlock[]> G_SCH;
+    /**
+     * @deprecated Read-only view of the schematic biomes per column, keyed by
+     *         {@link com.plotsquared.core.util.MathMan#pair(short, short)}. Use {@link #getSchematicOverlay()} instead.
+     */
+    @Deprecated(forRemoval = true, since = "TODO")
+    public Map<Integer, BiomeType> G_SCH_B;
     /**
      * The Y level at which schematic generation will start, lowest of either road or plot schematic generation.
      */
@@ -87,6 +97,8 @@ public class HybridPlotWorld extends ClassicPlotWorld {
     private boolean schem1PopulationNeeded = false;
     private boolean schem2PopulationNeeded = false;
     private boolean schem3PopulationNeeded = false;
+    private Cache<Integer, HybridChunkTemplate> chunkTemplates;
+    private SchematicOverlay schematicOverlay;
 
     @Inject
     private SchematicHandler schematicHandler;
@@ -211,8 +223,10 @@ public class HybridPlotWorld extends ClassicPlotWorld {
     }
 
     public void setupSchematics() throws SchematicHandler.UnsupportedFormatException {
-        this.G_SCH = new HashMap<>();
-        this.G_SCH_B = new HashMap<>();
+        this.schematicOverlay = new SchematicOverlay(this.SIZE, 0);
+        this.G_SCH = this.schematicOverlay.asColumnMap();
+        this.G_SCH_B = this.schematicOverlay.asBiomeMap();
+        this.chunkTemplates = HybridChunkTemplate.newCache();
 
         // Try to determine root. This means that plot areas can have separate schematic
         // directories
@@ -258,7 +272,7 @@ public class HybridPlotWorld extends ClassicPlotWorld {
         SCHEM_Y = schematicStartHeight();
 
         // plotY and roadY are important to allow plot and/or road schematic "overflow" into each other
-        // without causing AIOOB exceptions when attempting either to set blocks to, or get block from G_SCH
+        // without causing AIOOB exceptions when attempting either to set blocks to, or get block from the schematic overlay
         // Default plot schematic start height, normalized to the minimum height schematics are pasted from.
         plotY = PLOT_HEIGHT - SCHEM_Y;
         int minRoadWall = Settings.Schematics.USE_WALL_IN_ROAD_SCHEM_HEIGHT ? Math.min(ROAD_HEIGHT, WALL_HEIGHT) : ROAD_HEIGHT;
@@ -311,6 +325,9 @@ public class HybridPlotWorld extends ClassicPlotWorld {
             }
         }
         int maxSchematicHeight = Math.max(plotY + plotSchemHeight, roadY + roadSchemHeight);
+        this.schematicOverlay = new SchematicOverlay(this.SIZE, maxSchematicHeight);
+        this.G_SCH = this.schematicOverlay.asColumnMap();
+        this.G_SCH_B = this.schematicOverlay.asBiomeMap();
 
         if (schematic3 != null) {
             this.PLOT_SCHEMATIC = true;
@@ -351,8 +368,7 @@ public class HybridPlotWorld extends ClassicPlotWorld {
                                 (short) (y + plotY),
                                 (short) (z + shift + oddshift + centerShiftZ),
                                 id,
-                                false,
-                                maxSchematicHeight
+                                false
                         );
                     }
                     if (blockArrayClipboard3.hasBiomes()) {
@@ -409,16 +425,14 @@ public class HybridPlotWorld extends ClassicPlotWorld {
                             (short) (y + roadY),
                             (short) (z + shift + oddshift),
                             id,
-                            false,
-                            maxSchematicHeight
+                            false
                     );
                     addOverlayBlock(
                             (short) (z + shift + oddshift),
                             (short) (y + roadY),
                             (short) (shift - x + (oddshift - 1)),
                             id,
-                            true,
-                            maxSchematicHeight
+                            true
                     );
                 }
                 if (blockArrayClipboard1.hasBiomes()) {
@@ -453,8 +467,7 @@ public class HybridPlotWorld extends ClassicPlotWorld {
                             (short) (y + roadY),
                             (short) (z - shift),
                             id,
-                            false,
-                            maxSchematicHeight
+                            false
                     );
                 }
                 if (blockArrayClipboard2.hasBiomes()) {
@@ -465,7 +478,7 @@ public class HybridPlotWorld extends ClassicPlotWorld {
         }
     }
 
-    private void addOverlayBlock(short x, short y, short z, BaseBlock id, boolean rotate, int height) {
+    private void addOverlayBlock(short x, short y, short z, BaseBlock id, boolean rotate) {
         if (z < 0) {
             z += this.SIZE;
         } else if (z >= this.SIZE) {
@@ -479,21 +492,17 @@ public class HybridPlotWorld extends ClassicPlotWorld {
         if (rotate) {
             id = rotate(id);
         }
-        int pair = MathMan.pair(x, z);
-        BaseBlock[] existing = this.G_SCH.computeIfAbsent(pair, k -> new BaseBlock[height]);
-        if (y >= height) {
+        if (!this.schematicOverlay.setBlock(x, y, z, id)) {
             if (y > lastOverlayHeightError) {
                 lastOverlayHeightError = y;
                 LOGGER.error(
                         "Error adding overlay block in world {}. `y > height`. y={}, height={}",
                         getWorldName(),
                         y,
-                        height
+                        this.schematicOverlay.getHeight()
                 );
             }
-            return;
         }
-        existing[y] = id;
     }
 
     private void addOverlayBiome(short x, short z, BiomeType id) {
@@ -507,8 +516,7 @@ public class HybridPlotWorld extends ClassicPlotWorld {
         } else if (x >= this.SIZE) {
             x -= this.SIZE;
         }
-        int pair = MathMan.pair(x, z);
-        this.G_SCH_B.put(pair, id);
+        this.schematicOverlay.setBiome(x, z, id);
     }
 
     /**
@@ -531,6 +539,26 @@ public class HybridPlotWorld extends ClassicPlotWorld {
         return schem3MinPoint;
     }
 
+    /**
+     * Get the blocks and biomes placed by the road and plot schematics of the area, which are set up by
+     * {@link HybridPlotWorld#setupSchematics()}.
+     *
+     * @return schematic overlay of the area
+     * @since TODO
+     */
+    public @NonNull SchematicOverlay getSchematicOverlay() {
+        return this.schematicOverlay;
+    }
+
+    /**
+     * Get the cache of chunk templates of the area, which is reset whenever the schematics are set up.
+     *
+     * @return template cache, or null if caching is disabled
+     */
+    @Nullable Cache<Integer, HybridChunkTemplate> getChunkTemplates() {
+        return this.chunkTemplates;
+    }
+
     /**
      * Get if post-generation population of chunks with tiles/entities is needed for this world. Not for public API use.
      *
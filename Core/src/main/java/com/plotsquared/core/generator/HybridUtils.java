@@ -34,12 +34,11 @@ import com.plotsquared.core.plot.flag.GlobalFlagContainer;
 import com.plotsquared.core.plot.flag.PlotFlag;
 import com.plotsquared.core.plot.flag.implementations.AnalysisFlag;
 import com.plotsquared.core.plot.world.PlotAreaManager;
-import com.plotsquared.core.queue.BlockArrayCacheScopedQueueCoordinator;
 import com.plotsquared.core.queue.GlobalBlockQueue;
 import com.plotsquared.core.queue.QueueCoordinator;
+import com.plotsquared.core.queue.QueuePriority;
 import com.plotsquared.core.util.ChunkManager;
 import com.plotsquared.core.util.EventDispatcher;
-import com.plotsquared.core.util.MathMan;
 import com.plotsquared.core.util.RegionManager;
 import com.plotsquared.core.util.RegionUtil;
 import com.plotsquared.core.util.SchematicHandler;
@@ -48,13 +47,10 @@ import com.plotsquared.core.util.task.RunnableVal;
 import com.plotsquared.core.util.task.TaskManager;
 import com.plotsquared.core.util.task.TaskTime;
 import com.sk89q.worldedit.math.BlockVector2;
-import com.sk89q.worldedit.math.BlockVector3;
 import com.sk89q.worldedit.regions.CuboidRegion;
 import com.sk89q.worldedit.world.biome.BiomeType;
 import com.sk89q.worldedit.world.block.BaseBlock;
 import com.sk89q.worldedit.world.block.BlockState;
-import com.sk89q.worldedit.world.block.BlockType;
-import com.sk89q.worldedit.world.block.BlockTypes;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.checkerframework.checker.nullness.qual.NonNull;
@@ -69,13 +65,15 @@ import java.util.Iterator;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 
 public class HybridUtils {
 
     private static final Logger LOGGER = LogManager.getLogger("PlotSquared/" + HybridUtils.class.getSimpleName());
-    private static final BlockState AIR = BlockTypes.AIR.getDefaultState();
+    private static final int MAX_PENDING_ANALYSES = 8;
 
     /**
      * Deprecated and likely to be removed in a future release.
@@ -135,179 +133,49 @@ public class HybridUtils {
         TaskManager.runTaskAsync(() -> {
             final PlotArea area = this.plotAreaManager.getPlotArea(world, null);
             if (!(area instanceof HybridPlotWorld hpw)) {
+                TaskManager.runTask(() -> {
+                    whenDone.value = null;
+                    whenDone.run();
+                });
                 return;
             }
 
-            final BlockVector3 bot = region.getMinimumPoint();
-            final BlockVector3 top = region.getMaximumPoint();
-
-            final int bx = bot.getX();
-            final int bz = bot.getZ();
-            final int tx = top.getX();
-            final int tz = top.getZ();
-            final int cbx = bx >> 4;
-            final int cbz = bz >> 4;
-            final int ctx = tx >> 4;
-            final int ctz = tz >> 4;
-            final int width = tx - bx + 1;
-            final int length = tz - bz + 1;
-            final int height = area.getMaxGenHeight() - area.getMinGenHeight() + 1;
-            final int minHeight = area.getMinGenHeight();
-
-            final BlockState[][][] newBlocks = new BlockState[height][width][length];
-
-            BlockArrayCacheScopedQueueCoordinator oldBlockQueue = new BlockArrayCacheScopedQueueCoordinator(
-                    Location.at("", region.getMinimumPoint().withY(hpw.getMinGenHeight())),
-                    Location.at("", region.getMaximumPoint().withY(hpw.getMaxGenHeight()))
-            );
-
-            region.getChunks().forEach(chunkPos -> {
-                int relChunkX = chunkPos.getX() - cbx;
-                int relChunkZ = chunkPos.getZ() - cbz;
-                oldBlockQueue.setOffsetX(relChunkX << 4);
-                oldBlockQueue.setOffsetZ(relChunkZ << 4);
-                hpw.getGenerator().generateChunk(oldBlockQueue, hpw, false);
-            });
-
-            final BlockState[][][] oldBlocks = oldBlockQueue.getBlockStates();
+            final RegionAnalysis analysis = new RegionAnalysis(hpw, region);
+            final Executor preparationExecutor = this.blockQueue.getPreparationExecutor();
+            final Executor executor = preparationExecutor != null ? preparationExecutor : TaskManager::runTaskAsync;
+            final List<CompletableFuture<?>> analyzed = new ArrayList<>();
+            final AtomicInteger pending = new AtomicInteger();
 
             QueueCoordinator queue = area.getQueue();
             queue.addReadChunks(region.getChunks());
+            // Only keep a few chunks waiting for analysis in memory, further chunks stay loaded until there is room
+            queue.setChunkConsumerReadiness(() -> pending.get() < MAX_PENDING_ANALYSES);
             queue.setChunkConsumer(chunkPos -> {
-                int X = chunkPos.getX();
-                int Z = chunkPos.getZ();
-                int minX;
-                if (X == cbx) {
-                    minX = bx & 15;
-                } else {
-                    minX = 0;
-                }
-                int minZ;
-                if (Z == cbz) {
-                    minZ = bz & 15;
-                } else {
-                    minZ = 0;
-                }
-                int maxX;
-                if (X == ctx) {
-                    maxX = tx & 15;
-                } else {
-                    maxX = 15;
-                }
-                int maxZ;
-                if (Z == ctz) {
-                    maxZ = tz & 15;
-                } else {
-                    maxZ = 15;
-                }
-
-                int chunkBlockX = X << 4;
-                int chunkBlockZ = Z << 4;
-
-                int xb = chunkBlockX - bx;
-                int zb = chunkBlockZ - bz;
-                for (int x = minX; x <= maxX; x++) {
-                    int xx = chunkBlockX + x;
-                    for (int z = minZ; z <= maxZ; z++) {
-                        int zz = chunkBlockZ + z;
-                        for (int yIndex = 0; yIndex < height; yIndex++) {
-                            int y = yIndex + minHeight;
-                            BlockState block = queue.getBlock(xx, y, zz);
-                            if (block == null) {
-                                block = AIR;
-                            }
-                            int xr = xb + x;
-                            int zr = zb + z;
-                            newBlocks[yIndex][xr][zr] = block;
-                        }
+                BlockState[] blocks = analysis.read(queue, chunkPos);
+                pending.incrementAndGet();
+                analyzed.add(CompletableFuture.runAsync(() -> {
+                    try {
+                        analysis.analyze(chunkPos, blocks);
+                    } finally {
+                        pending.decrementAndGet();
                     }
-                }
+                }, executor));
             });
 
-            final Runnable run = () -> {
-                int size = width * length;
-                int[] changes = new int[size];
-                int[] faces = new int[size];
-                int[] data = new int[size];
-                int[] air = new int[size];
-                int[] variety = new int[size];
-                int i = 0;
-                for (int x = 0; x < width; x++) {
-                    for (int z = 0; z < length; z++) {
-                        Set<BlockType> types = new HashSet<>();
-                        for (int yIndex = 0; yIndex < height; yIndex++) {
-                            BlockState old = oldBlocks[yIndex][x][z]; // Nullable
-                            BlockState now = newBlocks[yIndex][x][z]; // Not null
-                            if (now == null) {
-                                throw new NullPointerException(String.format(
-                                        "\"now\" block null attempting to perform plot analysis. Indexes: x=%d of %d, yIndex=%d" +
-                                                " of %d, z=%d of %d",
-                                        x,
-                                        width,
-                                        yIndex,
-                                        height,
-                                        z,
-                                        length
-                                ));
-                            }
-                            if (!now.equals(old) && !(old == null && now.getBlockType().equals(BlockTypes.AIR))) {
-                                changes[i]++;
-                            }
-                            if (now.getBlockType().getMaterial().isAir()) {
-                                air[i]++;
-                            } else {
-                                // check vertices
-                                // modifications_adjacent
-                                if (x > 0 && z > 0 && yIndex > 0 && x < width - 1 && z < length - 1 && yIndex < (height - 1)) {
-                                    if (newBlocks[yIndex - 1][x][z].getBlockType().getMaterial().isAir()) {
-                                        faces[i]++;
-                                    }
-                                    if (newBlocks[yIndex][x - 1][z].getBlockType().getMaterial().isAir()) {
-                                        faces[i]++;
-                                    }
-                                    if (newBlocks[yIndex][x][z - 1].getBlockType().getMaterial().isAir()) {
-                                        faces[i]++;
-                                    }
-                                    if (newBlocks[yIndex + 1][x][z].getBlockType().getMaterial().isAir()) {
-                                        faces[i]++;
-                                    }
-                                    if (newBlocks[yIndex][x + 1][z].getBlockType().getMaterial().isAir()) {
-                                        faces[i]++;
-                                    }
-                                    if (newBlocks[yIndex][x][z + 1].getBlockType().getMaterial().isAir()) {
-                                        faces[i]++;
-                                    }
-                                }
-
-                                if (!now.equals(now.getBlockType().getDefaultState())) {
-                                    data[i]++;
-                                }
-                                types.add(now.getBlockType());
-                            }
-                        }
-                        variety[i] = types.size();
-                        i++;
-                    }
+            final Runnable run = () -> CompletableFuture.allOf(analyzed.toArray(new CompletableFuture[0])).whenComplete((v, e) -> {
+                if (e != null) {
+                    LOGGER.error("Failed to analyze region {} in world {}", region, world, e);
+                    TaskManager.runTask(() -> {
+                        whenDone.value = null;
+                        whenDone.run();
+                    });
+                    return;
                 }
-                // analyze plot
-                // put in analysis obj
-
-                // run whenDone
-                PlotAnalysis analysis = new PlotAnalysis();
-                analysis.changes = (int) (MathMan.getMean(changes) * 100);
-                analysis.faces = (int) (MathMan.getMean(faces) * 100);
-                analysis.data = (int) (MathMan.getMean(data) * 100);
-                analysis.air = (int) (MathMan.getMean(air) * 100);
-                analysis.variety = (int) (MathMan.getMean(variety) * 100);
-
-                analysis.changes_sd = (int) (MathMan.getSD(changes, analysis.changes) * 100);
-                analysis.faces_sd = (int) (MathMan.getSD(faces, analysis.faces) * 100);
-                analysis.data_sd = (int) (MathMan.getSD(data, analysis.data) * 100);
-                analysis.air_sd = (int) (MathMan.getSD(air, analysis.air) * 100);
-                analysis.variety_sd = (int) (MathMan.getSD(variety, analysis.variety) * 100);
-                whenDone.value = analysis;
-                whenDone.run();
-            };
+                TaskManager.runTask(() -> {
+                    whenDone.value = analysis.finish();
+                    whenDone.run();
+                });
+            });
             queue.setCompleteTask(run);
             queue.enqueue();
         });
@@ -362,10 +230,9 @@ public class HybridUtils {
                     PlotFlag<?, ?> plotFlag = GlobalFlagContainer.getInstance().getFlag(AnalysisFlag.class).createFlagInstance(
                             result);
                     PlotFlagAddEvent event = eventDispatcher.callFlagAdd(plotFlag, origin);
-                    if (event.getEventResult() == Result.DENY) {
-                        return;
+                    if (event.getEventResult() != Result.DENY) {
+                        origin.setFlag(event.getFlag());
                     }
-                    origin.setFlag(event.getFlag());
                     TaskManager.runTask(whenDone);
                     return;
                 }
@@ -374,6 +241,12 @@ public class HybridUtils {
                 analyzeRegion(origin.getWorldName(), region, new RunnableVal<>() {
                     @Override
                     public void run(PlotAnalysis value) {
+                        if (value == null) {
+                            // A region failed to analyze, report the plot as not analyzed
+                            whenDone.value = null;
+                            whenDone.run();
+                            return;
+                        }
                         analysis.add(value);
                         TaskManager.runTaskLater(task, TaskTime.ticks(1L));
                     }
@@ -433,6 +306,7 @@ public class HybridUtils {
                     Iterator<BlockVector2> iter = chunks.iterator();
                     QueueCoordinator queue = blockQueue.getNewQueue(worldUtil.getWeWorld(area.getWorldName()));
                     queue.setShouldGen(false);
+                    queue.setPriority(QueuePriority.LOW);
                     while (iter.hasNext()) {
                         BlockVector2 chunk = iter.next();
                         iter.remove();
@@ -476,6 +350,7 @@ public class HybridUtils {
                                     if (chunks.size() >= 32) {
                                         QueueCoordinator queue = blockQueue.getNewQueue(worldUtil.getWeWorld(area.getWorldName()));
                                         queue.setShouldGen(false);
+                                        queue.setPriority(QueuePriority.LOW);
                                         for (int i = 0; i < 32; i++) {
                                             final BlockVector2 chunk = iterator.next();
                                             iterator.remove();
@@ -490,6 +365,7 @@ public class HybridUtils {
                                     }
                                     QueueCoordinator queue = blockQueue.getNewQueue(worldUtil.getWeWorld(area.getWorldName()));
                                     queue.setShouldGen(false);
+                                    queue.setPriority(QueuePriority.LOW);
                                     while (!chunks.isEmpty()) {
                                         final BlockVector2 chunk = iterator.next();
                                         iterator.remove();
@@ -674,37 +550,19 @@ public class HybridUtils {
                         condition = !gx || !gz || !lx || !lz;
                     }
                     if (condition) {
-                        BaseBlock[] blocks = plotWorld.G_SCH.get(MathMan.pair(absX, absZ));
+                        SchematicOverlay overlay = plotWorld.getSchematicOverlay();
                         int minY = plotWorld.getRoadYStart();
-                        int maxDy = Math.max(extend, blocks.length);
+                        int maxDy = Math.max(extend, overlay.getHeight());
                         for (int dy = 0; dy < maxDy; dy++) {
-                            if (dy > blocks.length - 1) {
-                                queue.setBlock(
-                                        finalX + X + plotWorld.ROAD_OFFSET_X,
-                                        minY + dy,
-                                        finalZ + Z + plotWorld.ROAD_OFFSET_Z,
-                                        WEExtent.AIRBASE
-                                );
-                            } else {
-                                BaseBlock block = blocks[dy];
-                                if (block != null) {
-                                    queue.setBlock(
-                                            finalX + X + plotWorld.ROAD_OFFSET_X,
-                                            minY + dy,
-                                            finalZ + Z + plotWorld.ROAD_OFFSET_Z,
-                                            block
-                                    );
-                                } else {
-                                    queue.setBlock(
-                                            finalX + X + plotWorld.ROAD_OFFSET_X,
-                                            minY + dy,
-                                            finalZ + Z + plotWorld.ROAD_OFFSET_Z,
-                                            WEExtent.AIRBASE
-                                    );
-                                }
-                            }
+                            BaseBlock block = overlay.getBlock(absX, dy, absZ);
+                            queue.setBlock(
+                                    finalX + X + plotWorld.ROAD_OFFSET_X,
+                                    minY + dy,
+                                    finalZ + Z + plotWorld.ROAD_OFFSET_Z,
+                                    block != null ? block : WEExtent.AIRBASE
+                            );
                         }
-                        BiomeType biome = plotWorld.G_SCH_B.get(MathMan.pair(absX, absZ));
+                        BiomeType biome = overlay.getBiome(absX, absZ);
                         if (biome != null) {
                             queue.setBiome(finalX + X + plotWorld.ROAD_OFFSET_X, finalZ + Z + plotWorld.ROAD_OFFSET_Z, biome);
                         } else {
@@ -0,0 +1,340 @@
+/*
+ * PlotSquared, a land and world management plugin for Minecraft.
+ * Copyright (C) IntellectualSites <https://intellectualsites.com>
+ * Copyright (C) IntellectualSites team and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.plotsquared.core.generator;
+
+import com.plotsquared.core.location.Location;
+import com.plotsquared.core.plot.expiration.PlotAnalysis;
+import com.plotsquared.core.queue.BlockArrayCacheScopedQueueCoordinator;
+import com.plotsquared.core.queue.QueueCoordinator;
+import com.plotsquared.core.util.MathMan;
+import com.sk89q.worldedit.math.BlockVector2;
+import com.sk89q.worldedit.math.BlockVector3;
+import com.sk89q.worldedit.regions.CuboidRegion;
+import com.sk89q.worldedit.world.block.BlockState;
+import com.sk89q.worldedit.world.block.BlockType;
+import com.sk89q.worldedit.world.block.BlockTypes;
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * Computes the {@link PlotAnalysis} of a region one chunk at a time, so that only the blocks of the chunks being analyzed
+ * are kept in memory rather than the blocks of the whole region.
+ * <p>
+ * The blocks of a chunk are read on the main thread by {@link #read(QueueCoordinator, BlockVector2)} and analyzed by
+ * {@link #analyze(BlockVector2, BlockState[])} on any thread, against the blocks the generator places in the same chunk.
+ * Faces between two chunks are counted once all chunks have been analyzed, from the air of the columns at the edges of
+ * the chunks. The resulting metrics are the same as those of analyzing the whole region at once.
+ */
+final class RegionAnalysis {
+
+    private static final BlockState AIR = BlockTypes.AIR.getDefaultState();
+
+    private final HybridPlotWorld area;
+    private final int bx;
+    private final int bz;
+    private final int tx;
+    private final int tz;
+    private final int width;
+    private final int length;
+    private final int height;
+    private final int minHeight;
+    private final int words;
+    // Heights at which blocks count faces, all but the lowest and highest
+    private final long[] interior;
+    // Metrics per column, indexed by x * length + z relative to the region
+    private final int[] changes;
+    private final int[] faces;
+    private final int[] data;
+    private final int[] air;
+    private final int[] variety;
+    // Air of the columns at the edges of chunks, by column
+    private final Map<Integer, long[]> edgeAir = new ConcurrentHashMap<>();
+    // Faces towards columns of other chunks, counted once all chunks have been analyzed
+    private final Queue<EdgeFaces> edgeFaces = new ConcurrentLinkedQueue<>();
+
+    RegionAnalysis(final @NonNull HybridPlotWorld area, final @NonNull CuboidRegion region) {
+        final BlockVector3 bot = region.getMinimumPoint();
+        final BlockVector3 top = region.getMaximumPoint();
+        this.area = area;
+        this.bx = bot.getX();
+        this.bz = bot.getZ();
+        this.tx = top.getX();
+        this.tz = top.getZ();
+        this.width = this.tx - this.bx + 1;
+        this.length = this.tz - this.bz + 1;
+        this.height = area.getMaxGenHeight() - area.getMinGenHeight() + 1;
+        this.minHeight = area.getMinGenHeight();
+        this.words = (this.height + 63) >> 6;
+        this.interior = new long[this.words];
+        for (int yIndex = 1; yIndex < this.height - 1; yIndex++) {
+            this.interior[yIndex >> 6] |= 1L << yIndex;
+        }
+        final int size = this.width * this.length;
+        this.changes = new int[size];
+        this.faces = new int[size];
+        this.data = new int[size];
+        this.air = new int[size];
+        this.variety = new int[size];
+    }
+
+    /**
+     * Read the blocks of the part of a chunk within the region. Must be called from the main thread.
+     *
+     * @param queue queue that loaded the chunk
+     * @param chunk chunk to read
+     * @return blocks of the chunk, by column and then by height
+     */
+    BlockState @NonNull [] read(final @NonNull QueueCoordinator queue, final @NonNull BlockVector2 chunk) {
+        final int minX = this.getMinX(chunk);
+        final int minZ = this.getMinZ(chunk);
+        final int maxX = this.getMaxX(chunk);
+        final int maxZ = this.getMaxZ(chunk);
+        final int chunkBlockX = chunk.getX() << 4;
+        final int chunkBlockZ = chunk.getZ() << 4;
+        final BlockState[] blocks = new BlockState[(maxX - minX + 1) * (maxZ - minZ + 1) * this.height];
+        int index = 0;
+        for (int x = minX; x <= maxX; x++) {
+            final int xx = chunkBlockX + x;
+            for (int z = minZ; z <= maxZ; z++) {
+                final int zz = chunkBlockZ + z;
+                for (int yIndex = 0; yIndex < this.height; yIndex++) {
+                    final BlockState block = queue.getBlock(xx, yIndex + this.minHeight, zz);
+                    blocks[index++] = block == null ? AIR : block;
+                }
+            }
+        }
+        return blocks;
+    }
+
+    /**
+     * Analyze the blocks of a chunk read by {@link #read(QueueCoordinator, BlockVector2)}. May be called from any thread,
+     * but only once per chunk.
+     *
+     * @param chunk  chunk the blocks were read from
+     * @param blocks blocks of the chunk
+     */
+    void analyze(final @NonNull BlockVector2 chunk, final BlockState @NonNull [] blocks) {
+        final int minX = this.getMinX(chunk);
+        final int minZ = this.getMinZ(chunk);
+        final int maxX = this.getMaxX(chunk);
+        final int maxZ = this.getMaxZ(chunk);
+        final int chunkBlockX = chunk.getX() << 4;
+        final int chunkBlockZ = chunk.getZ() << 4;
+        final int columnLength = maxZ - minZ + 1;
+        final int columns = (maxX - minX + 1) * columnLength;
+
+        // Blocks the generator places in the chunk, to count the changes against
+        final BlockArrayCacheScopedQueueCoordinator generated = new BlockArrayCacheScopedQueueCoordinator(
+                Location.at("", chunkBlockX + minX, this.minHeight, chunkBlockZ + minZ),
+                Location.at("", chunkBlockX + maxX, this.area.getMaxGenHeight(), chunkBlockZ + maxZ)
+        );
+        this.area.getGenerator().generateChunk(generated, this.area, false);
+        final BlockState[][][] oldBlocks = generated.getBlockStates();
+
+        // Palette of the chunk, with the properties of every state computed once
+        final Map<BlockState, Integer> paletteIndex = new HashMap<>();
+        final List<BlockState> palette = new ArrayList<>();
+        final Map<BlockType, Integer> typeIndex = new HashMap<>();
+        final int[] ids = new int[blocks.length];
+        final long[][] airBits = new long[columns][this.words];
+        for (int index = 0; index < blocks.length; index++) {
+            final BlockState block = blocks[index];
+            Integer id = paletteIndex.get(block);
+            if (id == null) {
+                id = palette.size();
+                paletteIndex.put(block, id);
+                palette.add(block);
+            }
+            ids[index] = id;
+        }
+        final int paletteSize = palette.size();
+        final boolean[] isAir = new boolean[paletteSize];
+        final boolean[] isDefault = new boolean[paletteSize];
+        final int[] types = new int[paletteSize];
+        for (int id = 0; id < paletteSize; id++) {
+            final BlockState state = palette.get(id);
+            isAir[id] = state.getBlockType().getMaterial().isAir();
+            isDefault[id] = state.equals(state.getBlockType().getDefaultState());
+            types[id] = typeIndex.computeIfAbsent(state.getBlockType(), type -> typeIndex.size());
+        }
+        for (int column = 0; column < columns; column++) {
+            final long[] bits = airBits[column];
+            final int offset = column * this.height;
+            for (int yIndex = 0; yIndex < this.height; yIndex++) {
+                if (isAir[ids[offset + yIndex]]) {
+                    bits[yIndex >> 6] |= 1L << yIndex;
+                }
+            }
+        }
+
+        final int[] typeStamps = new int[typeIndex.size()];
+        int column = 0;
+        for (int x = minX; x <= maxX; x++) {
+            final int rx = chunkBlockX + x - this.bx;
+            for (int z = minZ; z <= maxZ; z++, column++) {
+                final int rz = chunkBlockZ + z - this.bz;
+                final int i = rx * this.length + rz;
+                final long[] own = airBits[column];
+                final boolean inside = rx > 0 && rz > 0 && rx < this.width - 1 && rz < this.length - 1;
+                final int offset = column * this.height;
+                final int stamp = column + 1;
+                int changes = 0;
+                int faces = 0;
+                int data = 0;
+                int air = 0;
+                int variety = 0;
+                for (int yIndex = 0; yIndex < this.height; yIndex++) {
+                    final int id = ids[offset + yIndex];
+                    final BlockState now = palette.get(id);
+                    final BlockState old = oldBlocks[yIndex][x - minX][z - minZ]; // Nullable
+                    if (!now.equals(old) && !(old == null && now.getBlockType().equals(BlockTypes.AIR))) {
+                        changes++;
+                    }
+                    if (isAir[id]) {
+                        air++;
+                        continue;
+                    }
+                    if (inside && yIndex > 0 && yIndex < this.height - 1) {
+                        if (isSet(own, yIndex - 1)) {
+                            faces++;
+                        }
+                        if (isSet(own, yIndex + 1)) {
+                            faces++;
+                        }
+                        // Neighbours in other chunks are counted by countEdgeFaces
+                        if (x > minX && isSet(airBits[column - columnLength], yIndex)) {
+                            faces++;
+                        }
+                        if (x < maxX && isSet(airBits[column + columnLength], yIndex)) {
+                            faces++;
+                        }
+                        if (z > minZ && isSet(airBits[column - 1], yIndex)) {
+                            faces++;
+                        }
+                        if (z < maxZ && isSet(airBits[column + 1], yIndex)) {
+                            faces++;
+                        }
+                    }
+                    if (!isDefault[id]) {
+                        data++;
+                    }
+                    if (typeStamps[types[id]] != stamp) {
+                        typeStamps[types[id]] = stamp;
+                        variety++;
+                    }
+                }
+                this.changes[i] = changes;
+                this.faces[i] = faces;
+                this.data[i] = data;
+                this.air[i] = air;
+                this.variety[i] = variety;
+
+                if (x == 0 || x == 15 || z == 0 || z == 15) {
+                    this.edgeAir.put(i, own);
+                }
+                if (inside && (x == minX || x == maxX || z == minZ || z == maxZ)) {
+                    final long[] solid = new long[this.words];
+                    for (int word = 0; word < this.words; word++) {
+                        solid[word] = ~own[word] & this.interior[word];
+                    }
+                    if (x == minX) {
+                        this.edgeFaces.add(new EdgeFaces(i, i - this.length, solid));
+                    }
+                    if (x == maxX) {
+                        this.edgeFaces.add(new EdgeFaces(i, i + this.length, solid));
+                    }
+                    if (z == minZ) {
+                        this.edgeFaces.add(new EdgeFaces(i, i - 1, solid));
+                    }
+                    if (z == maxZ) {
+                        this.edgeFaces.add(new EdgeFaces(i, i + 1, solid));
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Complete the analysis once all chunks of the region have been analyzed.
+     *
+     * @return analysis of the region
+     */
+    @NonNull PlotAnalysis finish() {
+        EdgeFaces edge;
+        while ((edge = this.edgeFaces.poll()) != null) {
+            final long[] neighbour = this.edgeAir.get(edge.neighbour());
+            if (neighbour == null) {
+                continue;
+            }
+            for (int word = 0; word < this.words; word++) {
+                this.faces[edge.column()] += Long.bitCount(edge.solid()[word] & neighbour[word]);
+            }
+        }
+
+        PlotAnalysis analysis = new PlotAnalysis();
+        analysis.changes = (int) (MathMan.getMean(this.changes) * 100);
+        analysis.faces = (int) (MathMan.getMean(this.faces) * 100);
+        analysis.data = (int) (MathMan.getMean(this.data) * 100);
+        analysis.air = (int) (MathMan.getMean(this.air) * 100);
+        analysis.variety = (int) (MathMan.getMean(this.variety) * 100);
+
+        analysis.changes_sd = (int) (MathMan.getSD(this.changes, analysis.changes) * 100);
+        analysis.faces_sd = (int) (MathMan.getSD(this.faces, analysis.faces) * 100);
+        analysis.data_sd = (int) (MathMan.getSD(this.data, analysis.data) * 100);
+        analysis.air_sd = (int) (MathMan.getSD(this.air, analysis.air) * 100);
+        analysis.variety_sd = (int) (MathMan.getSD(this.variety, analysis.variety) * 100);
+        return analysis;
+    }
+
+    private static boolean isSet(final long[] bits, final int index) {
+        return (bits[index >> 6] & 1L << index) != 0;
+    }
+
+    private int getMinX(final @NonNull BlockVector2 chunk) {
+        return chunk.getX() == this.bx >> 4 ? this.bx & 15 : 0;
+    }
+
+    private int getMinZ(final @NonNull BlockVector2 chunk) {
+        return chunk.getZ() == this.bz >> 4 ? this.bz & 15 : 0;
+    }
+
+    private int getMaxX(final @NonNull BlockVector2 chunk) {
+        return chunk.getX() == this.tx >> 4 ? this.tx & 15 : 15;
+    }
+
+    private int getMaxZ(final @NonNull BlockVector2 chunk) {
+        return chunk.getZ() == this.tz >> 4 ? this.tz & 15 : 15;
+    }
+
+    /**
+     * Non-air blocks of a column at the edge of a chunk that count a face for every air block next to them in the
+     * neighbouring column of another chunk.
+     */
+    private record EdgeFaces(int column, int neighbour, long[] solid) {
+
+    }
+
+}
@@ -0,0 +1,412 @@
+/*
+ * PlotSquared, a land and world management plugin for Minecraft.
+ * Copyright (C) IntellectualSites <https://intellectualsites.com>
+ * Copyright (C) IntellectualSites team and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.plotsquared.core.generator;
+
+import com.plotsquared.core.util.MathMan;
+import com.sk89q.worldedit.world.biome.BiomeType;
+import com.sk89q.worldedit.world.block.BaseBlock;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.util.AbstractMap;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * The blocks and biomes that the road and plot schematics of a {@link HybridPlotWorld} place into one
+ * {@code size x size} square of plot and road, relative to the start of the road.
+ * <p>
+ * Columns are looked up through a flat index by {@code x * size + z}. The blocks of every column are stored as
+ * palette indices into a palette shared by all columns, packed into as few bits as the palette size allows, with
+ * palette index {@code 0} reserved for positions the schematics do not set. Every column also keeps the range of
+ * heights that contain blocks, and the heights of its blocks with NBT data, so that generation and population only
+ * have to visit those.
+ * <p>
+ * The overlay is filled once while the schematics are set up and is only read afterwards.
+ *
+ * @since TODO
+ */
+public final class SchematicOverlay {
+
+    private final int size;
+    private final int height;
+    private BaseBlock[] palette = new BaseBlock[4];
+    private int paletteSize = 1;
+    private final Map<BaseBlock, Integer> paletteIndex = new HashMap<>();
+    private int bits;
+    // Packed palette indices per column, null for columns not covered by any schematic
+    private final long[][] columns;
+    private final short[] minY;
+    private final short[] maxY;
+    // Bit set of the heights of blocks with NBT data per column, null for columns without any
+    private long @Nullable [][] tiles;
+    private BiomeType @Nullable [] biomes;
+
+    /**
+     * Create a new, empty overlay.
+     *
+     * @param size   width of the plot and road square
+     * @param height number of blocks stored per column, starting at the schematic start height
+     */
+    public SchematicOverlay(final int size, final int height) {
+        this.size = size;
+        this.height = height;
+        this.columns = new long[size * size][];
+        this.minY = new short[size * size];
+        this.maxY = new short[size * size];
+        Arrays.fill(this.minY, (short) height);
+        Arrays.fill(this.maxY, (short) -1);
+    }
+
+    /**
+     * Get the width of the plot and road square covered by the overlay.
+     *
+     * @return overlay size
+     */
+    public int getSize() {
+        return this.size;
+    }
+
+    /**
+     * Get the number of blocks stored per column.
+     *
+     * @return column height
+     */
+    public int getHeight() {
+        return this.height;
+    }
+
+    /**
+     * Check whether any schematic covers a column, even if it does not set any block in it.
+     *
+     * @param x x position relative to the start of the road
+     * @param z z position relative to the start of the road
+     * @return {@code true} if the column is covered
+     */
+    public boolean hasColumn(final int x, final int z) {
+        final int column = this.index(x, z);
+        return column != -1 && this.columns[column] != null;
+    }
+
+    /**
+     * Get the block a schematic places at a position.
+     *
+     * @param x x position relative to the start of the road
+     * @param y height relative to the schematic start height
+     * @param z z position relative to the start of the road
+     * @return the block, or null if no schematic sets the position
+     */
+    public @Nullable BaseBlock getBlock(final int x, final int y, final int z) {
+        final int column = this.index(x, z);
+        if (column == -1 || y < 0 || y >= this.height) {
+            return null;
+        }
+        final long[] data = this.columns[column];
+        if (data == null || this.bits == 0) {
+            return null;
+        }
+        final int perLong = 64 / this.bits;
+        return this.palette[(int) (data[y / perLong] >>> y % perLong * this.bits & (1L << this.bits) - 1)];
+    }
+
+    /**
+     * Get the lowest height at which a column contains a block.
+     *
+     * @param x x position relative to the start of the road
+     * @param z z position relative to the start of the road
+     * @return lowest height, or {@link #getHeight()} if the column does not contain any blocks
+     */
+    public int getMinY(final int x, final int z) {
+        final int column = this.index(x, z);
+        return column == -1 ? this.height : this.minY[column];
+    }
+
+    /**
+     * Get the highest height at which a column contains a block.
+     *
+     * @param x x position relative to the start of the road
+     * @param z z position relative to the start of the road
+     * @return highest height, or {@code -1} if the column does not contain any blocks
+     */
+    public int getMaxY(final int x, final int z) {
+        final int column = this.index(x, z);
+        return column == -1 ? -1 : this.maxY[column];
+    }
+
+    /**
+     * Get the next height at or above the given height at which a column contains a block with NBT data.
+     *
+     * @param x    x position relative to the start of the road
+     * @param z    z position relative to the start of the road
+     * @param from height to start searching from
+     * @return height of the block, or {@code -1} if there are no more such blocks in the column
+     */
+    public int nextTile(final int x, final int z, final int from) {
+        final int column = this.index(x, z);
+        if (column == -1 || this.tiles == null || from >= this.height) {
+            return -1;
+        }
+        final long[] tiles = this.tiles[column];
+        if (tiles == null) {
+            return -1;
+        }
+        int word = Math.max(0, from) >> 6;
+        long bits = tiles[word] & -1L << Math.max(0, from);
+        while (bits == 0) {
+            if (++word == tiles.length) {
+                return -1;
+            }
+            bits = tiles[word];
+        }
+        return (word << 6) + Long.numberOfTrailingZeros(bits);
+    }
+
+    /**
+     * Get the biome a schematic places in a column.
+     *
+     * @param x x position relative to the start of the road
+     * @param z z position relative to the start of the road
+     * @return the biome, or null if no schematic sets a biome in the column
+     */
+    public @Nullable BiomeType getBiome(final int x, final int z) {
+        final int column = this.index(x, z);
+        if (column == -1 || this.biomes == null) {
+            return null;
+        }
+        return this.biomes[column];
+    }
+
+    /**
+     * Get a read-only view of the covered columns as arrays of {@link #getHeight()} blocks, keyed by
+     * {@link MathMan#pair(short, short)} of their x and z position. The arrays are built on every lookup.
+     *
+     * @return column view
+     */
+    @NonNull Map<Integer, BaseBlock[]> asColumnMap() {
+        return new AbstractMap<>() {
+            @Override
+            public BaseBlock @Nullable [] get(final Object key) {
+                if (!(key instanceof Integer pair) || !SchematicOverlay.this.hasColumn(pair >> 16, (short) (int) pair)) {
+                    return null;
+                }
+                return SchematicOverlay.this.getColumn(pair >> 16, (short) (int) pair);
+            }
+
+            @Override
+            public boolean containsKey(final Object key) {
+                return key instanceof Integer pair && SchematicOverlay.this.hasColumn(pair >> 16, (short) (int) pair);
+            }
+
+            @Override
+            public @NonNull Set<Entry<Integer, BaseBlock[]>> entrySet() {
+                final Set<Entry<Integer, BaseBlock[]>> entries = new LinkedHashSet<>();
+                for (int column = 0; column < columns.length; column++) {
+                    if (columns[column] != null) {
+                        final int x = column / size;
+                        final int z = column % size;
+                        entries.add(new SimpleImmutableEntry<>(MathMan.pair((short) x, (short) z), getColumn(x, z)));
+                    }
+                }
+                return Collections.unmodifiableSet(entries);
+            }
+        };
+    }
+
+    /**
+     * Get a read-only view of the biomes of the columns, keyed by {@link MathMan#pair(short, short)} of their x and
+     * z position.
+     *
+     * @return biome view
+     */
+    @NonNull Map<Integer, BiomeType> asBiomeMap() {
+        return new AbstractMap<>() {
+            @Override
+            public @Nullable BiomeType get(final Object key) {
+                return key instanceof Integer pair ? SchematicOverlay.this.getBiome(pair >> 16, (short) (int) pair) : null;
+            }
+
+            @Override
+            public boolean containsKey(final Object key) {
+                return this.get(key) != null;
+            }
+
+            @Override
+            public @NonNull Set<Entry<Integer, BiomeType>> entrySet() {
+                final Set<Entry<Integer, BiomeType>> entries = new LinkedHashSet<>();
+                if (biomes != null) {
+                    for (int column = 0; column < biomes.length; column++) {
+                        if (biomes[column] != null) {
+                            final short x = (short) (column / size);
+                            final short z = (short) (column % size);
+                            entries.add(new SimpleImmutableEntry<>(MathMan.pair(x, z), biomes[column]));
+                        }
+                    }
+                }
+                return Collections.unmodifiableSet(entries);
+            }
+        };
+    }
+
+    private BaseBlock @NonNull [] getColumn(final int x, final int z) {
+        final BaseBlock[] blocks = new BaseBlock[this.height];
+        for (int y = 0; y < this.height; y++) {
+            blocks[y] = this.getBlock(x, y, z);
+        }
+        return blocks;
+    }
+
+    /**
+     * Set the block at a position, replacing the block a previous schematic may have placed there. The column is
+     * marked as covered even if the height is outside of the overlay. Columns outside of the square are ignored.
+     *
+     * @param x     x position relative to the start of the road
+     * @param y     height relative to the schematic start height
+     * @param z     z position relative to the start of the road
+     * @param block block to set
+     * @return {@code false} if the height is outside of the overlay and the block was not set
+     */
+    boolean setBlock(final int x, final int y, final int z, final @NonNull BaseBlock block) {
+        final int column = this.index(x, z);
+        if (column == -1) {
+            return true;
+        }
+        if (this.columns[column] == null) {
+            this.columns[column] = new long[this.length(this.bits)];
+        }
+        if (y < 0 || y >= this.height) {
+            return false;
+        }
+        final int paletteIndex = this.indexOf(block);
+        final int bits = this.bits;
+        final int perLong = 64 / bits;
+        final int slot = y / perLong;
+        final int shift = y % perLong * bits;
+        final long[] data = this.columns[column];
+        data[slot] = data[slot] & ~((1L << bits) - 1 << shift) | (long) paletteIndex << shift;
+        if (y < this.minY[column]) {
+            this.minY[column] = (short) y;
+        }
+        if (y > this.maxY[column]) {
+            this.maxY[column] = (short) y;
+        }
+        final boolean tile = block.hasNbtData();
+        if (this.tiles == null) {
+            if (!tile) {
+                return true;
+            }
+            this.tiles = new long[this.columns.length][];
+        }
+        long[] tiles = this.tiles[column];
+        if (tiles == null) {
+            if (!tile) {
+                return true;
+            }
+            tiles = this.tiles[column] = new long[(this.height + 63) >> 6];
+        }
+        if (tile) {
+            tiles[y >> 6] |= 1L << y;
+        } else {
+            tiles[y >> 6] &= ~(1L << y);
+        }
+        return true;
+    }
+
+    /**
+     * Set the biome of a column. Columns outside of the square are ignored.
+     *
+     * @param x     x position relative to the start of the road
+     * @param z     z position relative to the start of the road
+     * @param biome biome to set
+     */
+    void setBiome(final int x, final int z, final @NonNull BiomeType biome) {
+        final int column = this.index(x, z);
+        if (column == -1) {
+            return;
+        }
+        if (this.biomes == null) {
+            this.biomes = new BiomeType[this.columns.length];
+        }
+        this.biomes[column] = biome;
+    }
+
+    private int index(final int x, final int z) {
+        if (x < 0 || z < 0 || x >= this.size || z >= this.size) {
+            return -1;
+        }
+        return x * this.size + z;
+    }
+
+    private int length(final int bits) {
+        if (bits == 0) {
+            return 0;
+        }
+        final int perLong = 64 / bits;
+        return (this.height + perLong - 1) / perLong;
+    }
+
+    private int indexOf(final @NonNull BaseBlock block) {
+        final Integer existing = this.paletteIndex.get(block);
+        if (existing != null) {
+            return existing;
+        }
+        final int index = this.paletteSize++;
+        if (index == this.palette.length) {
+            this.palette = Arrays.copyOf(this.palette, index * 2);
+        }
+        this.palette[index] = block;
+        this.paletteIndex.put(block, index);
+        if (this.paletteSize > 1L << this.bits) {
+            // Only powers of two, so that no index spans two longs. 32 bits hold any palette an int can index
+            int bits = Math.max(1, this.bits);
+            while (1L << bits < this.paletteSize) {
+                bits <<= 1;
+            }
+            this.resize(bits);
+        }
+        return index;
+    }
+
+    private void resize(final int bits) {
+        final int previousBits = this.bits;
+        final int length = this.length(bits);
+        final int perLong = 64 / bits;
+        for (int column = 0; column < this.columns.length; column++) {
+            final long[] previous = this.columns[column];
+            if (previous == null) {
+                continue;
+            }
+            final long[] data = new long[length];
+            if (previousBits != 0) {
+                final int previousPerLong = 64 / previousBits;
+                final long mask = (1L << previousBits) - 1;
+                for (int y = 0; y < this.height; y++) {
+                    final long paletteIndex = previous[y / previousPerLong] >>> y % previousPerLong * previousBits & mask;
+                    data[y / perLong] |= paletteIndex << y % perLong * bits;
+                }
+            }
+            this.columns[column] = data;
+        }
+        this.bits = bits;
+    }
+
+}
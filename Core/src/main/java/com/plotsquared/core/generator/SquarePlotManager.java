@@ -25,7 +25,6 @@ import com.plotsquared.core.plot.Plot;
 import com.plotsquared.core.plot.PlotArea;
 import com.plotsquared.core.plot.PlotId;
 import com.plotsquared.core.queue.QueueCoordinator;
-import com.plotsquared.core.util.HashUtil;
 import com.plotsquared.core.util.RegionManager;
 import com.sk89q.worldedit.regions.CuboidRegion;
 import org.apache.logging.log4j.LogManager;
@@ -33,6 +32,7 @@ import org.apache.logging.log4j.Logger;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.checkerframework.checker.nullness.qual.Nullable;
 
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.Set;
 
@@ -59,7 +59,7 @@ public abstract class SquarePlotManager extends GridPlotManager {
             @Nullable PlotPlayer<?> actor,
             @Nullable QueueCoordinator queue
     ) {
-        final Set<CuboidRegion> regions = plot.getRegions();
+        final Set<CuboidRegion> regions = new HashSet<>(plot.getRegions());
         Runnable run = new Runnable() {
             @Override
             public void run() {
@@ -155,75 +155,120 @@ public abstract class SquarePlotManager extends GridPlotManager {
             x -= squarePlotWorld.ROAD_OFFSET_X;
             z -= squarePlotWorld.ROAD_OFFSET_Z;
             int size = squarePlotWorld.PLOT_WIDTH + squarePlotWorld.ROAD_WIDTH;
-            int pathWidthLower;
-            int end;
-            if (squarePlotWorld.ROAD_WIDTH == 0) {
-                pathWidthLower = -1;
-                end = squarePlotWorld.PLOT_WIDTH;
-            } else {
-                if ((squarePlotWorld.ROAD_WIDTH % 2) == 0) {
-                    pathWidthLower = (squarePlotWorld.ROAD_WIDTH / 2) - 1;
-                } else {
-                    pathWidthLower = squarePlotWorld.ROAD_WIDTH / 2;
-                }
-                end = pathWidthLower + squarePlotWorld.PLOT_WIDTH;
-            }
             int dx = Math.floorDiv(x, size) + 1;
             int rx = Math.floorMod(x, size);
             int dz = Math.floorDiv(z, size) + 1;
             int rz = Math.floorMod(z, size);
-            PlotId id = PlotId.of(dx, dz);
-            boolean[] merged = new boolean[]{rz <= pathWidthLower, rx > end, rz > end, rx <= pathWidthLower};
-            int hash = HashUtil.hash(merged);
+            int hash = getRoadHash(rx, rz);
             // Not merged, and no need to check if it is
             if (hash == 0) {
-                return id;
+                return PlotId.of(dx, dz);
             }
-            Plot plot = squarePlotWorld.getOwnedPlotAbs(id);
+            Plot plot = squarePlotWorld.getOwnedPlotAbs(dx, dz);
             // Not merged, and standing on road
             if (plot == null) {
                 return null;
             }
-            switch (hash) {
-                case 8 -> {
-                    // north
-                    return plot.isMerged(Direction.NORTH) ? id : null;
-                }
-                case 4 -> {
-                    // east
-                    return plot.isMerged(Direction.EAST) ? id : null;
-                }
-                case 2 -> {
-                    // south
-                    return plot.isMerged(Direction.SOUTH) ? id : null;
-                }
-                case 1 -> {
-                    // west
-                    return plot.isMerged(Direction.WEST) ? id : null;
-                }
-                case 12 -> {
-                    // northeast
-                    return plot.isMerged(Direction.NORTHEAST) ? id : null;
-                }
-                case 6 -> {
-                    // southeast
-                    return plot.isMerged(Direction.SOUTHEAST) ? id : null;
-                }
-                case 3 -> {
-                    // southwest
-                    return plot.isMerged(Direction.SOUTHWEST) ? id : null;
-                }
-                case 9 -> {
-                    // northwest
-                    return plot.isMerged(Direction.NORTHWEST) ? id : null;
-                }
-            }
+            return isMergedTowards(plot, hash) ? plot.getId() : null;
         } catch (Exception ignored) {
             LOGGER.error("Invalid plot / road width in settings.yml for world: {}", squarePlotWorld.getWorldName());
         }
         return null;
     }
 
+    @Override
+    public @Nullable Plot getOwnedPlotAbs(int x, int y, int z) {
+        int size = squarePlotWorld.PLOT_WIDTH + squarePlotWorld.ROAD_WIDTH;
+        if (size <= 0) {
+            // let getPlotId report the invalid configuration
+            return super.getOwnedPlotAbs(x, y, z);
+        }
+        x -= squarePlotWorld.ROAD_OFFSET_X;
+        z -= squarePlotWorld.ROAD_OFFSET_Z;
+        Plot plot = squarePlotWorld.getOwnedPlotAbs(Math.floorDiv(x, size) + 1, Math.floorDiv(z, size) + 1);
+        if (plot == null) {
+            return null;
+        }
+        int hash = getRoadHash(Math.floorMod(x, size), Math.floorMod(z, size));
+        if (hash == 0 || isMergedTowards(plot, hash)) {
+            return plot;
+        }
+        return null;
+    }
+
+    @Override
+    public boolean isPlotAround(int x, int z) {
+        int size = squarePlotWorld.PLOT_WIDTH + squarePlotWorld.ROAD_WIDTH;
+        if (size <= 0) {
+            // let getPlotId report the invalid configuration
+            return super.isPlotAround(x, z);
+        }
+        x -= squarePlotWorld.ROAD_OFFSET_X;
+        z -= squarePlotWorld.ROAD_OFFSET_Z;
+        for (int nx = x - 1; nx <= x + 1; nx++) {
+            int dx = Math.floorDiv(nx, size) + 1;
+            int rx = Math.floorMod(nx, size);
+            for (int nz = z - 1; nz <= z + 1; nz++) {
+                int hash = getRoadHash(rx, Math.floorMod(nz, size));
+                if (hash == 0) {
+                    return true;
+                }
+                Plot plot = squarePlotWorld.getOwnedPlotAbs(dx, Math.floorDiv(nz, size) + 1);
+                if (plot != null && isMergedTowards(plot, hash)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Get which roads surrounding the plot cell the relative coordinates are on, in the format of
+     * {@link com.plotsquared.core.util.HashUtil#hash(boolean[])} for [north, east, south, west].
+     *
+     * @param rx x coordinate relative to the plot cell
+     * @param rz z coordinate relative to the plot cell
+     * @return 0 if the coordinates are within the plot, otherwise the road bits
+     */
+    private int getRoadHash(int rx, int rz) {
+        int pathWidthLower;
+        int end;
+        if (squarePlotWorld.ROAD_WIDTH == 0) {
+            pathWidthLower = -1;
+            end = squarePlotWorld.PLOT_WIDTH;
+        } else {
+            if ((squarePlotWorld.ROAD_WIDTH % 2) == 0) {
+                pathWidthLower = (squarePlotWorld.ROAD_WIDTH / 2) - 1;
+            } else {
+                pathWidthLower = squarePlotWorld.ROAD_WIDTH / 2;
+            }
+            end = pathWidthLower + squarePlotWorld.PLOT_WIDTH;
+        }
+        return (rz <= pathWidthLower ? 8 : 0) | (rx > end ? 4 : 0) | (rz > end ? 2 : 0) | (rx <= pathWidthLower ? 1 : 0);
+    }
+
+    private static boolean isMergedTowards(@NonNull Plot plot, int hash) {
+        return switch (hash) {
+            // north
+            case 8 -> plot.isMerged(Direction.NORTH);
+            // east
+            case 4 -> plot.isMerged(Direction.EAST);
+            // south
+            case 2 -> plot.isMerged(Direction.SOUTH);
+            // west
+            case 1 -> plot.isMerged(Direction.WEST);
+            // northeast
+            case 12 -> plot.isMerged(Direction.NORTHEAST);
+            // southeast
+            case 6 -> plot.isMerged(Direction.SOUTHEAST);
+            // southwest
+            case 3 -> plot.isMerged(Direction.SOUTHWEST);
+            // northwest
+            case 9 -> plot.isMerged(Direction.NORTHWEST);
+            default -> false;
+        };
+    }
+
     /**
      * Get the bottom plot loc (some basic math).
      */
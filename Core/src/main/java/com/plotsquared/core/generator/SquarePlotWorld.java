@@ -22,8 +22,10 @@ import com.plotsquared.core.configuration.ConfigurationSection;
 import com.plotsquared.core.configuration.Settings;
 import com.plotsquared.core.configuration.file.YamlConfiguration;
 import com.plotsquared.core.inject.annotations.WorldConfig;
+import com.plotsquared.core.plot.PlotAreaType;
 import com.plotsquared.core.plot.PlotId;
 import com.plotsquared.core.queue.GlobalBlockQueue;
+import com.sk89q.worldedit.regions.CuboidRegion;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.checkerframework.checker.nullness.qual.NonNull;
@@ -65,4 +67,55 @@ public abstract class SquarePlotWorld extends GridPlotWorld {
         this.SIZE = (short) (this.PLOT_WIDTH + this.ROAD_WIDTH);
     }
 
+    @Override
+    public int @Nullable [] getRoadBounds(final int x, final int z) {
+        // Within one road part of a grid cell, the plot a column belongs to does not change (see SquarePlotManager)
+        final int[] bounds = new int[4];
+        final boolean roadX = this.getPart(x, this.ROAD_OFFSET_X, bounds, 0);
+        final boolean roadZ = this.getPart(z, this.ROAD_OFFSET_Z, bounds, 1);
+        if (!roadX && !roadZ) {
+            return null;
+        }
+        if (this.getType() == PlotAreaType.PARTIAL) {
+            final CuboidRegion region = this.getRegion();
+            bounds[0] = Math.max(bounds[0], region.getMinimumPoint().getX());
+            bounds[1] = Math.max(bounds[1], region.getMinimumPoint().getZ());
+            bounds[2] = Math.min(bounds[2], region.getMaximumPoint().getX());
+            bounds[3] = Math.min(bounds[3], region.getMaximumPoint().getZ());
+        }
+        return bounds;
+    }
+
+    /**
+     * Find the part of the grid cell, the lower road, the plot or the upper road, that a coordinate lies in.
+     *
+     * @return {@code true} if the part is a road
+     */
+    private boolean getPart(final int coordinate, final int offset, final int @NonNull [] bounds, final int axis) {
+        final int lower;
+        final int end;
+        if (this.ROAD_WIDTH == 0) {
+            lower = -1;
+            end = this.PLOT_WIDTH;
+        } else {
+            lower = this.ROAD_WIDTH % 2 == 0 ? this.ROAD_WIDTH / 2 - 1 : this.ROAD_WIDTH / 2;
+            end = lower + this.PLOT_WIDTH;
+        }
+        final int size = Math.max(1, this.PLOT_WIDTH + this.ROAD_WIDTH);
+        final int start = Math.floorDiv(coordinate - offset, size) * size + offset;
+        final int relative = coordinate - start;
+        if (relative <= lower) {
+            bounds[axis] = start;
+            bounds[axis + 2] = start + lower;
+            return true;
+        } else if (relative > end) {
+            bounds[axis] = start + end + 1;
+            bounds[axis + 2] = start + size - 1;
+            return true;
+        }
+        bounds[axis] = start + lower + 1;
+        bounds[axis + 2] = start + end;
+        return false;
+    }
+
 }
@@ -191,7 +191,7 @@ public class PlotListener {
                 }
             }
 
-            if (plot.getFlag(NotifyEnterFlag.class)) {
+            if (plot.getBooleanFlag(NotifyEnterFlag.class)) {
                 if (!player.hasPermission("plots.flag.notify-enter.bypass")) {
                     for (UUID uuid : plot.getOwners()) {
                         final PlotPlayer<?> owner = PlotSquared.platform().playerManager().getPlayerIfExists(uuid);
@@ -315,7 +315,7 @@ public class PlotListener {
                     subtitle = "";
                     fromFlag = false;
                 }
-                if (fromFlag || !plot.getFlag(ServerPlotFlag.class) || Settings.Titles.DISPLAY_DEFAULT_ON_SERVER_PLOT) {
+                if (fromFlag || !plot.getBooleanFlag(ServerPlotFlag.class) || Settings.Titles.DISPLAY_DEFAULT_ON_SERVER_PLOT) {
                     TaskManager.runTaskLaterAsync(() -> {
                         Plot lastPlot;
                         try (final MetaDataAccess<Plot> lastPlotAccess =
@@ -393,7 +393,7 @@ public class PlotListener {
                 }
                 try (final MetaDataAccess<Boolean> kickAccess =
                              player.accessTemporaryMetaData(PlayerMetaDataKeys.TEMPORARY_KICK)) {
-                    if (plot.getFlag(DenyExitFlag.class) && !player.hasPermission(Permission.PERMISSION_ADMIN_EXIT_DENIED) &&
+                    if (plot.getBooleanFlag(DenyExitFlag.class) && !player.hasPermission(Permission.PERMISSION_ADMIN_EXIT_DENIED) &&
                             !kickAccess.get().orElse(false)) {
                         if (previous != null) {
                             lastPlot.set(previous);
@@ -427,7 +427,7 @@ public class PlotListener {
                     }
                 }
 
-                if (plot.getFlag(NotifyLeaveFlag.class)) {
+                if (plot.getBooleanFlag(NotifyLeaveFlag.class)) {
                     if (!player.hasPermission("plots.flag.notify-leave.bypass")) {
                         for (UUID uuid : plot.getOwners()) {
                             final PlotPlayer<?> owner = PlotSquared.platform().playerManager().getPlayerIfExists(uuid);
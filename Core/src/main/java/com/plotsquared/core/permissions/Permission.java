@@ -84,6 +84,7 @@ public enum Permission implements ComponentLike {
     PERMISSION_AREA_INFO("plots.area.info"),
     PERMISSION_AREA_INFO_FORCE("plots.admin.info.force"),
     PERMISSION_AREA_LIST("plots.area.list"),
+    PERMISSION_AREA_PREGEN("plots.area.pregen"),
     PERMISSION_AREA_REGEN("plots.area.regen"),
     PERMISSION_AREA_TP("plots.area.tp"),
     PERMISSION_AREA("plots.area"),
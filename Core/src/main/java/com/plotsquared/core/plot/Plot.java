@@ -49,10 +49,14 @@ import com.plotsquared.core.plot.flag.PlotFlag;
 import com.plotsquared.core.plot.flag.implementations.DescriptionFlag;
 import com.plotsquared.core.plot.flag.implementations.KeepFlag;
 import com.plotsquared.core.plot.flag.implementations.ServerPlotFlag;
+import com.plotsquared.core.plot.flag.types.BooleanFlag;
 import com.plotsquared.core.plot.flag.types.DoubleFlag;
+import com.plotsquared.core.plot.flag.types.IntegerFlag;
+import com.plotsquared.core.plot.flag.types.LongFlag;
 import com.plotsquared.core.plot.schematic.Schematic;
 import com.plotsquared.core.plot.world.SinglePlotArea;
 import com.plotsquared.core.queue.QueueCoordinator;
+import com.plotsquared.core.queue.QueuePriority;
 import com.plotsquared.core.util.EventDispatcher;
 import com.plotsquared.core.util.MathMan;
 import com.plotsquared.core.util.PlayerManager;
@@ -127,17 +131,18 @@ public class Plot {
     }
 
     /**
-     * Plot flag container
+     * Plot flag container<br>
+     * - Created lazily, unclaimed plots read through the area container until a flag is modified
      */
-    private final FlagContainer flagContainer = new FlagContainer(null);
+    private volatile FlagContainer flagContainer;
     /**
      * Utility used to manage plot comments
      */
-    private final PlotCommentContainer plotCommentContainer = new PlotCommentContainer(this);
+    private PlotCommentContainer plotCommentContainer;
     /**
      * Utility used to modify the plot
      */
-    private final PlotModificationManager plotModificationManager = new PlotModificationManager(this);
+    private PlotModificationManager plotModificationManager;
     /**
      * Represents whatever the database manager needs it to: <br>
      * - A value of -1 usually indicates the plot will not be stored in the DB<br>
@@ -178,6 +183,7 @@ public class Plot {
     private WorldUtil worldUtil;
     @Inject
     private SchematicHandler schematicHandler;
+    private volatile boolean injected;
     /**
      * plot owner
      * (Merged plots can have multiple owners)
@@ -199,12 +205,10 @@ public class Plot {
      */
     private ConcurrentHashMap<String, Object> meta;
     /**
-     * The cached origin plot.
-     * - The origin plot is used for plot grouping and relational data
+     * The cached region of this plot while it is not merged. The regions of merged plots are cached
+     * with their merge group.
      */
-    private Plot origin;
-
-    private Set<Plot> connectedCache;
+    private volatile Set<CuboidRegion> regionsCache;
 
     /**
      * Constructor for a new plot.
@@ -256,11 +260,12 @@ public class Plot {
         this.id = id;
         this.owner = owner;
         this.temp = temp;
-        this.flagContainer.setParentContainer(area.getFlagContainer());
-        PlotSquared.platform().injector().injectMembers(this);
-        // This is needed, because otherwise the Plot, the FlagContainer and its
-        // `this::handleUnknown` PlotFlagUpdateHandler won't get cleaned up ever
-        CLEANER.register(this, this.flagContainer.createCleanupHook());
+        // Unowned plots are mostly short-lived lookups (road walking, auto claim scans, region walks),
+        // so the flag container and the injected services are only created once they are needed
+        if (owner != null) {
+            this.getFlagContainer();
+            this.injectMembers();
+        }
     }
 
     /**
@@ -310,14 +315,46 @@ public class Plot {
         this.timestamp = timestamp;
         this.temp = temp;
         if (area != null) {
-            this.flagContainer.setParentContainer(area.getFlagContainer());
+            this.flagContainer = new FlagContainer(area.getFlagContainer());
             if (flags != null) {
                 for (PlotFlag<?, ?> flag : flags) {
                     this.flagContainer.addFlag(flag);
                 }
             }
         }
-        PlotSquared.platform().injector().injectMembers(this);
+        this.injectMembers();
+    }
+
+    private void injectMembers() {
+        if (!this.injected) {
+            PlotSquared.platform().injector().injectMembers(this);
+            this.injected = true;
+        }
+    }
+
+    private @NonNull EventDispatcher eventDispatcher() {
+        this.injectMembers();
+        return this.eventDispatcher;
+    }
+
+    private @NonNull PlotListener plotListener() {
+        this.injectMembers();
+        return this.plotListener;
+    }
+
+    private @NonNull RegionManager regionManager() {
+        this.injectMembers();
+        return this.regionManager;
+    }
+
+    private @NonNull WorldUtil worldUtil() {
+        this.injectMembers();
+        return this.worldUtil;
+    }
+
+    private @NonNull SchematicHandler schematicHandler() {
+        this.injectMembers();
+        return this.schematicHandler;
     }
 
     /**
@@ -534,6 +571,9 @@ public class Plot {
      */
     public void setOwnerAbs(final @Nullable UUID owner) {
         this.owner = owner;
+        if (this.area != null) {
+            this.area.updateOwner(this);
+        }
     }
 
     /**
@@ -675,7 +715,7 @@ public class Plot {
      * @return Server if ServerPlot flag set, else {@link #getOwnerAbs()}
      */
     public @Nullable UUID getOwner() {
-        if (this.getFlag(ServerPlotFlag.class)) {
+        if (this.getBooleanFlag(ServerPlotFlag.class)) {
             return DBFunc.SERVER;
         }
         return this.getOwnerAbs();
@@ -807,8 +847,11 @@ public class Plot {
             this.area.removePlot(this.id);
         }
         this.area = area;
+        this.regionsCache = null;
         area.addPlot(this);
-        this.flagContainer.setParentContainer(area.getFlagContainer());
+        if (this.flagContainer != null) {
+            this.flagContainer.setParentContainer(area.getFlagContainer());
+        }
     }
 
     /**
@@ -848,34 +891,23 @@ public class Plot {
      * - Merged plots need to be treated as a single plot for most purposes<br>
      * - Some data such as home location needs to be associated with the group rather than each plot<br>
      * - If the plot is not merged it will return itself.<br>
-     * - The result is cached locally
+     * - The result is cached in the merge graph of the plot area
      *
      * @param recalculate whether to recalculate the merged plots to find the origin
      * @return base Plot
      */
     public Plot getBasePlot(final boolean recalculate) {
-        if (this.origin != null && !recalculate) {
-            if (this.equals(this.origin)) {
-                return this;
-            }
-            return this.origin.getBasePlot(false);
+        if (this.settings == null || !this.isMerged()) {
+            return this;
         }
-        if (!this.isMerged()) {
-            this.origin = this;
-            return this.origin;
+        if (recalculate) {
+            this.area.getMergeGraph().invalidate(this.id);
         }
-        this.origin = this;
-        PlotId min = this.id;
-        for (Plot plot : this.getConnectedPlots()) {
-            if (plot.id.getY() < min.getY() || plot.id.getY() == min.getY() && plot.id.getX() < min.getX()) {
-                this.origin = plot;
-                min = plot.id;
-            }
-        }
-        for (Plot plot : this.getConnectedPlots()) {
-            plot.origin = this.origin;
-        }
-        return this.origin;
+        return this.getMergeGroup().getBase();
+    }
+
+    private PlotMergeGraph.@NonNull Group getMergeGroup() {
+        return this.area.getMergeGraph().getGroup(this);
     }
 
     /**
@@ -1071,6 +1103,7 @@ public class Plot {
     public void addDenied(final @NonNull UUID uuid) {
         for (final Plot current : getConnectedPlots()) {
             if (current.getDenied().add(uuid)) {
+                current.updateAddedIndex(uuid);
                 DBFunc.setDenied(current, uuid);
             }
         }
@@ -1084,6 +1117,7 @@ public class Plot {
     public void addTrusted(final @NonNull UUID uuid) {
         for (final Plot current : getConnectedPlots()) {
             if (current.getTrusted().add(uuid)) {
+                current.updateAddedIndex(uuid);
                 DBFunc.setTrusted(current, uuid);
             }
         }
@@ -1097,6 +1131,7 @@ public class Plot {
     public void addMember(final @NonNull UUID uuid) {
         for (final Plot current : getConnectedPlots()) {
             if (current.getMembers().add(uuid)) {
+                current.updateAddedIndex(uuid);
                 DBFunc.setMember(current, uuid);
             }
         }
@@ -1132,7 +1167,7 @@ public class Plot {
     }
 
     public boolean isLoaded() {
-        return this.worldUtil.isWorld(getWorldName());
+        return this.worldUtil().isWorld(getWorldName());
     }
 
     /**
@@ -1151,7 +1186,11 @@ public class Plot {
      * @return Immutable set containing the flags associated with the plot
      */
     public Set<PlotFlag<?, ?>> getFlags() {
-        return ImmutableSet.copyOf(flagContainer.getFlagMap().values());
+        final FlagContainer container = this.flagContainer;
+        if (container == null) {
+            return Collections.emptySet();
+        }
+        return ImmutableSet.copyOf(container.getFlagMap().values());
     }
 
     /**
@@ -1197,7 +1236,11 @@ public class Plot {
      * @return success
      */
     public boolean removeFlag(final @NonNull Class<? extends PlotFlag<?, ?>> flag) {
-        return this.removeFlag(getFlagContainer().queryLocal(flag));
+        final FlagContainer container = this.flagContainer;
+        if (container == null) {
+            return false;
+        }
+        return this.removeFlag(container.queryLocal(flag));
     }
 
     /**
@@ -1248,11 +1291,11 @@ public class Plot {
      * @return success
      */
     public boolean removeFlag(final @NonNull PlotFlag<?, ?> flag) {
-        if (flag == null || origin == null) {
+        if (flag == null) {
             return false;
         }
         boolean removed = false;
-        for (final Plot plot : origin.getConnectedPlots()) {
+        for (final Plot plot : this.getConnectedPlots()) {
             final Object value = plot.getFlagContainer().removeFlag(flag);
             if (value == null) {
                 continue;
@@ -1273,7 +1316,7 @@ public class Plot {
     public int[] countEntities() {
         int[] count = new int[6];
         for (Plot current : this.getConnectedPlots()) {
-            int[] result = this.regionManager.countEntities(current);
+            int[] result = this.regionManager().countEntities(current);
             count[CAP_ENTITY] += result[CAP_ENTITY];
             count[CAP_ANIMAL] += result[CAP_ANIMAL];
             count[CAP_MONSTER] += result[CAP_MONSTER];
@@ -1340,7 +1383,7 @@ public class Plot {
         for (Plot current : getConnectedPlots()) {
             List<PlotPlayer<?>> players = current.getPlayersInPlot();
             for (PlotPlayer<?> pp : players) {
-                this.plotListener.plotExit(pp, current, null, area);
+                this.plotListener().plotExit(pp, current, null, area);
             }
 
             if (Settings.Backup.DELETE_ON_UNCLAIM) {
@@ -1354,7 +1397,7 @@ public class Plot {
             current.settings = null;
             current.clearCache();
             for (final PlotPlayer<?> pp : players) {
-                this.plotListener.plotEntry(pp, current);
+                this.plotListener().plotEntry(pp, current);
             }
         }
         return true;
@@ -1370,7 +1413,7 @@ public class Plot {
                 MathMan.average(bot.getY(), top.getY()),
                 MathMan.average(bot.getZ(), top.getZ())
         );
-        this.worldUtil.getHighestBlock(getWorldName(), location.getX(), location.getZ(), y -> {
+        this.worldUtil().getHighestBlock(getWorldName(), location.getX(), location.getZ(), y -> {
             int height = y;
             if (area.allowSigns()) {
                 height = Math.max(y, getManager().getSignLoc(this).getY());
@@ -1402,7 +1445,7 @@ public class Plot {
                 MathMan.average(bot.getY(), top.getY()),
                 MathMan.average(bot.getZ(), top.getZ())
         );
-        int y = this.worldUtil.getHighestBlockSynchronous(getWorldName(), location.getX(), location.getZ());
+        int y = this.worldUtil().getHighestBlockSynchronous(getWorldName(), location.getX(), location.getZ());
         if (area.allowSigns()) {
             y = Math.max(y, getManager().getSignLoc(this).getY());
         }
@@ -1421,7 +1464,7 @@ public class Plot {
                 .getX();
         int z = largest.getMinimumPoint().getZ() - 1;
         PlotManager manager = getManager();
-        int y = isLoaded() ? this.worldUtil.getHighestBlockSynchronous(getWorldName(), x, z) : 62;
+        int y = isLoaded() ? this.worldUtil().getHighestBlockSynchronous(getWorldName(), x, z) : 62;
         if (area.allowSigns() && (y <= area.getMinGenHeight() || y >= area.getMaxGenHeight())) {
             y = Math.max(y, manager.getSignLoc(this).getY() - 1);
         }
@@ -1436,7 +1479,7 @@ public class Plot {
         int z = largest.getMinimumPoint().getZ() - 1;
         PlotManager manager = getManager();
         if (isLoaded()) {
-            this.worldUtil.getHighestBlock(getWorldName(), x, z, y -> {
+            this.worldUtil().getHighestBlock(getWorldName(), x, z, y -> {
                 int height = y;
                 if (area.allowSigns() && (y <= area.getMinGenHeight() || y >= area.getMaxGenHeight())) {
                     height = Math.max(y, manager.getSignLoc(this).getY() - 1);
@@ -1472,12 +1515,12 @@ public class Plot {
                 );
             }
             Location location = toHomeLocation(bottom, home);
-            if (Settings.Teleport.SIZED_BASED && this.worldUtil.isSmallBlock(location) && this.worldUtil.isSmallBlock(location.add(0,1,0))) {
+            if (Settings.Teleport.SIZED_BASED && this.worldUtil().isSmallBlock(location) && this.worldUtil().isSmallBlock(location.add(0,1,0))) {
                 return location;
             }
-            if (!this.worldUtil.getBlockSynchronous(location).getBlockType().getMaterial().isAir()) {
+            if (!this.worldUtil().getBlockSynchronous(location).getBlockType().getMaterial().isAir()) {
                 location = location.withY(
-                        Math.max(1 + this.worldUtil.getHighestBlockSynchronous(
+                        Math.max(1 + this.worldUtil().getHighestBlockSynchronous(
                                 this.getWorldName(),
                                 location.getX(),
                                 location.getZ()
@@ -1508,13 +1551,13 @@ public class Plot {
             }
             Location bottom = this.getBottomAbs();
             Location location = toHomeLocation(bottom, home);
-            if (Settings.Teleport.SIZED_BASED && this.worldUtil.isSmallBlock(location) && this.worldUtil.isSmallBlock(location.add(0,1,0))) {
+            if (Settings.Teleport.SIZED_BASED && this.worldUtil().isSmallBlock(location) && this.worldUtil().isSmallBlock(location.add(0,1,0))) {
                 result.accept(location);
             } else {
-                this.worldUtil.getBlock(location, block -> {
+                this.worldUtil().getBlock(location, block -> {
 
                     if (!block.getBlockType().getMaterial().isAir()) {
-                        this.worldUtil.getHighestBlock(this.getWorldName(), location.getX(), location.getZ(),
+                        this.worldUtil().getHighestBlock(this.getWorldName(), location.getX(), location.getZ(),
                                 y -> result.accept(location.withY(Math.max(1 + y, bottom.getY())))
                         );
                     } else {
@@ -1581,7 +1624,7 @@ public class Plot {
                 // center
                 if (getArea() instanceof SinglePlotArea) {
                     int y = loc.getY() == Integer.MIN_VALUE
-                            ? (isLoaded() ? this.worldUtil.getHighestBlockSynchronous(plot.getWorldName(), 0, 0) + 1 : 63)
+                            ? (isLoaded() ? this.worldUtil().getHighestBlockSynchronous(plot.getWorldName(), 0, 0) + 1 : 63)
                             : loc.getY();
                     return Location.at(plot.getWorldName(), 0, y, 0, 0, 0);
                 }
@@ -1599,12 +1642,12 @@ public class Plot {
                 z = bot.getZ() + loc.getZ();
             }
             int y = loc.getY() == Integer.MIN_VALUE
-                    ? (isLoaded() ? this.worldUtil.getHighestBlockSynchronous(plot.getWorldName(), x, z) + 1 : 63)
+                    ? (isLoaded() ? this.worldUtil().getHighestBlockSynchronous(plot.getWorldName(), x, z) + 1 : 63)
                     : loc.getY();
             return Location.at(plot.getWorldName(), x, y, z, loc.getYaw(), loc.getPitch());
         }
         if (getArea() instanceof SinglePlotArea) {
-            int y = isLoaded() ? this.worldUtil.getHighestBlockSynchronous(plot.getWorldName(), 0, 0) + 1 : 63;
+            int y = isLoaded() ? this.worldUtil().getHighestBlockSynchronous(plot.getWorldName(), 0, 0) + 1 : 63;
             return Location.at(plot.getWorldName(), 0, y, 0, 0, 0);
         }
         // Side
@@ -1648,7 +1691,7 @@ public class Plot {
             }
             if (loc.getY() == Integer.MIN_VALUE) {
                 if (isLoaded()) {
-                    this.worldUtil.getHighestBlock(
+                    this.worldUtil().getHighestBlock(
                             plot.getWorldName(),
                             x,
                             z,
@@ -1665,7 +1708,7 @@ public class Plot {
         }
         // Side
         if (getArea() instanceof SinglePlotArea) {
-            int y = isLoaded() ? this.worldUtil.getHighestBlockSynchronous(plot.getWorldName(), 0, 0) + 1 : 63;
+            int y = isLoaded() ? this.worldUtil().getHighestBlockSynchronous(plot.getWorldName(), 0, 0) + 1 : 63;
             result.accept(Location.at(plot.getWorldName(), 0, y, 0, 0, 0));
         }
         plot.getSide(result);
@@ -1768,7 +1811,7 @@ public class Plot {
             final @NonNull PlotPlayer<?> player, boolean teleport, String schematic, boolean updateDB,
             boolean auto
     ) {
-        this.eventDispatcher.callPlotClaimedNotify(this, auto);
+        this.eventDispatcher().callPlotClaimedNotify(this, auto);
         if (updateDB) {
             if (!this.getPlotModificationManager().create(player.getUUID(), true)) {
                 LOGGER.error("Player {} attempted to claim plot {}, but the database failed to update", player.getName(),
@@ -1799,18 +1842,18 @@ public class Plot {
             Schematic sch;
             try {
                 if (schematic == null || schematic.isEmpty()) {
-                    sch = schematicHandler.getSchematic(plotworld.getSchematicFile());
+                    sch = this.schematicHandler().getSchematic(plotworld.getSchematicFile());
                 } else {
-                    sch = schematicHandler.getSchematic(schematic);
+                    sch = this.schematicHandler().getSchematic(schematic);
                     if (sch == null) {
-                        sch = schematicHandler.getSchematic(plotworld.getSchematicFile());
+                        sch = this.schematicHandler().getSchematic(plotworld.getSchematicFile());
                     }
                 }
             } catch (SchematicHandler.UnsupportedFormatException e) {
                 e.printStackTrace();
                 return true;
             }
-            schematicHandler.paste(
+            this.schematicHandler().paste(
                     sch,
                     this,
                     0,
@@ -1830,7 +1873,13 @@ public class Plot {
                     }
             );
         }
-        plotworld.getPlotManager().claimPlot(this, null);
+        // The player is waiting for the claimed wall
+        final QueueCoordinator queue = plotworld.getQueue();
+        queue.setPriority(QueuePriority.HIGH);
+        plotworld.getPlotManager().claimPlot(this, queue);
+        if (queue.size() > 0) {
+            queue.enqueue();
+        }
         this.getPlotModificationManager().setSign(player.getName());
         return true;
     }
@@ -1841,7 +1890,7 @@ public class Plot {
      * @param result consumer to pass biome to when found
      */
     public void getBiome(Consumer<BiomeType> result) {
-        this.getCenter(location -> this.worldUtil.getBiome(location.getWorldName(), location.getX(), location.getZ(), result));
+        this.getCenter(location -> this.worldUtil().getBiome(location.getWorldName(), location.getX(), location.getZ(), result));
     }
 
     //TODO Better documentation needed.
@@ -1853,7 +1902,7 @@ public class Plot {
     @Deprecated
     public BiomeType getBiomeSynchronous() {
         final Location location = this.getCenterSynchronous();
-        return this.worldUtil.getBiomeSynchronous(location.getWorldName(), location.getX(), location.getZ());
+        return this.worldUtil().getBiomeSynchronous(location.getWorldName(), location.getX(), location.getZ());
     }
 
     /**
@@ -1896,6 +1945,8 @@ public class Plot {
         final PlotId temp = PlotId.of(this.getId().getX(), this.getId().getY());
         this.id = plot.getId();
         plot.id = temp;
+        this.clearCache();
+        plot.clearCache();
         this.area.removePlot(this.getId());
         plot.area.removePlot(plot.getId());
         this.area.addPlotAbs(this);
@@ -2036,9 +2087,16 @@ public class Plot {
         return rmvDenied(uuid);
     }
 
+    private void updateAddedIndex(final @NonNull UUID uuid) {
+        if (this.area != null) {
+            this.area.updateAdded(this, uuid);
+        }
+    }
+
     private boolean rmvDenied(UUID uuid) {
         for (Plot current : this.getConnectedPlots()) {
             if (current.getDenied().remove(uuid)) {
+                current.updateAddedIndex(uuid);
                 DBFunc.removeDenied(current, uuid);
             } else {
                 return false;
@@ -2068,6 +2126,7 @@ public class Plot {
     private boolean rmvTrusted(UUID uuid) {
         for (Plot plot : this.getConnectedPlots()) {
             if (plot.getTrusted().remove(uuid)) {
+                plot.updateAddedIndex(uuid);
                 DBFunc.removeTrusted(plot, uuid);
             } else {
                 return false;
@@ -2100,6 +2159,7 @@ public class Plot {
     private boolean rmvMember(UUID uuid) {
         for (Plot current : this.getConnectedPlots()) {
             if (current.getMembers().remove(uuid)) {
+                current.updateAddedIndex(uuid);
                 DBFunc.removeMember(current, uuid);
             } else {
                 return false;
@@ -2179,24 +2239,11 @@ public class Plot {
     public void setMerged(Direction direction, boolean value) {
         if (this.getSettings().setMerged(direction, value)) {
             if (value) {
-                Plot other = this.getRelative(direction).getBasePlot(false);
-                if (!other.equals(this.getBasePlot(false))) {
-                    Plot base = other.id.getY() < this.id.getY() || other.id.getY() == this.id.getY() && other.id.getX() < this.id
-                            .getX() ?
-                            other :
-                            this.origin;
-                    this.origin.origin = base;
-                    other.origin = base;
-                    this.origin = base;
-                    this.connectedCache = null;
-                }
+                this.area.getMergeGraph().union(this, this.getRelative(direction));
             } else {
-                if (this.origin != null) {
-                    this.origin.origin = null;
-                    this.origin = null;
-                }
-                this.connectedCache = null;
+                this.area.getMergeGraph().invalidate(this.id);
             }
+            this.area.invalidateChunkCache(this.id);
             DBFunc.setMerged(this, this.getSettings().getMerged());
         }
     }
@@ -2232,10 +2279,10 @@ public class Plot {
     }
 
     public void clearCache() {
-        this.connectedCache = null;
-        if (this.origin != null) {
-            this.origin.origin = null;
-            this.origin = null;
+        this.regionsCache = null;
+        if (this.area != null) {
+            this.area.getMergeGraph().invalidate(this.id);
+            this.area.invalidateChunkCache(this.id);
         }
     }
 
@@ -2290,11 +2337,11 @@ public class Plot {
                 flagContainer2.addAll(flagContainer1.getFlagMap().values());
             }
             if (!greater) {
-                this.flagContainer.clearLocal();
-                this.flagContainer.addAll(flagContainer2.getFlagMap().values());
+                flagContainer1.clearLocal();
+                flagContainer1.addAll(flagContainer2.getFlagMap().values());
             }
-            plot.flagContainer.clearLocal();
-            plot.flagContainer.addAll(this.flagContainer.getFlagMap().values());
+            flagContainer2.clearLocal();
+            flagContainer2.addAll(flagContainer1.getFlagMap().values());
         }
         if (!this.getAlias().isEmpty()) {
             plot.setAlias(this.getAlias());
@@ -2362,17 +2409,14 @@ public class Plot {
         if (!this.isMerged()) {
             return Collections.singleton(this);
         }
-        Plot basePlot = getBasePlot(false);
-        if (this.connectedCache == null && this != basePlot) {
-            // share cache between connected plots
-            Set<Plot> connectedPlots = basePlot.getConnectedPlots();
-            this.connectedCache = connectedPlots;
-            return connectedPlots;
-        }
-        if (this.connectedCache != null && this.connectedCache.contains(this)) {
-            return this.connectedCache;
-        }
+        return this.getMergeGroup().getPlots();
+    }
 
+    /**
+     * Find the plots connected to this plot by walking the merge data. Inconsistent merge data of
+     * the direct neighbours is repaired on the way.
+     */
+    @NonNull Set<Plot> computeConnectedPlots() {
         Set<Plot> tmpSet = new HashSet<>();
         tmpSet.add(this);
         HashSet<Plot> queueCache = new HashSet<>();
@@ -2393,9 +2437,7 @@ public class Plot {
             addIfIncluded(current, Direction.SOUTH, queueCache, tmpSet, frontier);
             addIfIncluded(current, Direction.WEST, queueCache, tmpSet, frontier);
         }
-        tmpSet = Set.copyOf(tmpSet);
-        this.connectedCache = tmpSet;
-        return tmpSet;
+        return Set.copyOf(tmpSet);
     }
 
     private void computeDirectMerged(Set<Plot> queueCache, Deque<Plot> frontier, Direction direction) {
@@ -2411,6 +2453,7 @@ public class Plot {
                     this.getSettings().setMerged(direction, false);
                     DBFunc.setMerged(this, this.getSettings().getMerged());
                 }
+                this.area.invalidateChunkCache(this.id);
             }
             queueCache.add(tmp);
             frontier.add(tmp);
@@ -2433,19 +2476,41 @@ public class Plot {
 
     /**
      * This will combine each plot into effective rectangular regions<br>
-     * - This result is cached globally<br>
+     * - This result is cached with the merge group until the plot is merged or unlinked<br>
      * - Useful for handling non rectangular shapes
      *
-     * @return all regions within the plot
+     * @return all regions within the plot, as an unmodifiable set. The regions must not be modified.
      */
     public @NonNull Set<CuboidRegion> getRegions() {
+        if (this.settings == null || !this.isMerged()) {
+            Set<CuboidRegion> regions = this.regionsCache;
+            if (regions == null) {
+                regions = this.computeRegions();
+                this.regionsCache = regions;
+            }
+            return regions;
+        }
+        // Groups are immutable snapshots, so the regions always match the plots of the group they are cached in
+        final PlotMergeGraph.Group group = this.getMergeGroup();
+        Set<CuboidRegion> regions = group.getRegions();
+        if (regions == null) {
+            regions = Collections.unmodifiableSet(this.computeRegions(group.getPlots()));
+            group.setRegions(regions);
+        }
+        return regions;
+    }
+
+    private @NonNull Set<CuboidRegion> computeRegions() {
+        return this.computeRegions(this.getConnectedPlots());
+    }
+
+    private @NonNull Set<CuboidRegion> computeRegions(final @NonNull Set<Plot> plots) {
         if (!this.isMerged()) {
             Location pos1 = this.getBottomAbs().withY(getArea().getMinBuildHeight());
             Location pos2 = this.getTopAbs().withY(getArea().getMaxBuildHeight());
             CuboidRegion rg = new CuboidRegion(pos1.getBlockVector3(), pos2.getBlockVector3());
             return Collections.singleton(rg);
         }
-        Set<Plot> plots = this.getConnectedPlots();
         Set<CuboidRegion> regions = new HashSet<>();
         Set<PlotId> visited = new HashSet<>();
         for (Plot current : plots) {
@@ -2594,8 +2659,8 @@ public class Plot {
     public void reEnter() {
         TaskManager.runTaskLater(() -> {
             for (PlotPlayer<?> pp : Plot.this.getPlayersInPlot()) {
-                this.plotListener.plotExit(pp, Plot.this, Plot.this, area);
-                this.plotListener.plotEntry(pp, Plot.this);
+                this.plotListener().plotExit(pp, Plot.this, Plot.this, area);
+                this.plotListener().plotEntry(pp, Plot.this);
             }
         }, TaskTime.ticks(1L));
     }
@@ -2646,7 +2711,7 @@ public class Plot {
             return;
         }
 
-        PlayerTeleportToPlotEvent event = this.eventDispatcher.callTeleport(player, player.getLocation(), plot, cause);
+        PlayerTeleportToPlotEvent event = this.eventDispatcher().callTeleport(player, player.getLocation(), plot, cause);
         if (event.getEventResult() == Result.DENY) {
             player.sendMessage(
                     TranslatableCaption.of("events.event_denied"),
@@ -2770,11 +2835,11 @@ public class Plot {
                     lesserPlot.getPlotModificationManager().removeRoadSouth(queue);
                     Plot diagonal = greaterPlot.getRelative(Direction.EAST);
                     if (diagonal.isMerged(Direction.NORTHWEST)) {
-                        lesserPlot.plotModificationManager.removeRoadSouthEast(queue);
+                        lesserPlot.getPlotModificationManager().removeRoadSouthEast(queue);
                     }
                     Plot below = greaterPlot.getRelative(Direction.WEST);
                     if (below.isMerged(Direction.NORTHEAST)) {
-                        below.getRelative(Direction.NORTH).plotModificationManager.removeRoadSouthEast(queue);
+                        below.getRelative(Direction.NORTH).getPlotModificationManager().removeRoadSouthEast(queue);
                     }
                 }
             }
@@ -2794,9 +2859,9 @@ public class Plot {
                     //lesserPlot.removeSign();
                     Plot diagonal = greaterPlot.getRelative(Direction.SOUTH);
                     if (diagonal.isMerged(Direction.NORTHWEST)) {
-                        lesserPlot.plotModificationManager.removeRoadSouthEast(queue);
+                        lesserPlot.getPlotModificationManager().removeRoadSouthEast(queue);
                     }
-                    lesserPlot.plotModificationManager.removeRoadEast(queue);
+                    lesserPlot.getPlotModificationManager().removeRoadEast(queue);
                 }
                 Plot below = greaterPlot.getRelative(Direction.NORTH);
                 if (below.isMerged(Direction.SOUTHWEST)) {
@@ -2826,7 +2891,55 @@ public class Plot {
      * @return The flag value
      */
     public @NonNull <T> T getFlag(final @NonNull Class<? extends PlotFlag<T, ?>> flagClass) {
-        return this.flagContainer.getFlag(flagClass).getValue();
+        return this.getEffectiveFlagContainer().getFlag(flagClass).getValue();
+    }
+
+    /**
+     * Get the value associated with the specified boolean flag without boxing it.
+     * The lookup order is the same as for {@link #getFlag(Class)}.
+     *
+     * @param flagClass The flag type (Class)
+     * @return The flag value
+     * @since TODO
+     */
+    public boolean getBooleanFlag(final @NonNull Class<? extends BooleanFlag<?>> flagClass) {
+        return this.getEffectiveFlagContainer().getBooleanFlag(flagClass);
+    }
+
+    /**
+     * Get the value associated with the specified integer flag without boxing it.
+     * The lookup order is the same as for {@link #getFlag(Class)}.
+     *
+     * @param flagClass The flag type (Class)
+     * @return The flag value
+     * @since TODO
+     */
+    public int getIntFlag(final @NonNull Class<? extends IntegerFlag<?>> flagClass) {
+        return this.getEffectiveFlagContainer().getIntFlag(flagClass);
+    }
+
+    /**
+     * Get the value associated with the specified long flag without boxing it.
+     * The lookup order is the same as for {@link #getFlag(Class)}.
+     *
+     * @param flagClass The flag type (Class)
+     * @return The flag value
+     * @since TODO
+     */
+    public long getLongFlag(final @NonNull Class<? extends LongFlag<?>> flagClass) {
+        return this.getEffectiveFlagContainer().getLongFlag(flagClass);
+    }
+
+    /**
+     * Get the value associated with the specified double flag without boxing it.
+     * The lookup order is the same as for {@link #getFlag(Class)}.
+     *
+     * @param flagClass The flag type (Class)
+     * @return The flag value
+     * @since TODO
+     */
+    public double getDoubleFlag(final @NonNull Class<? extends DoubleFlag<?>> flagClass) {
+        return this.getEffectiveFlagContainer().getDoubleFlag(flagClass);
     }
 
     /**
@@ -2841,10 +2954,27 @@ public class Plot {
      */
     public @NonNull <T, V extends PlotFlag<T, ?>> T getFlag(final @NonNull V flag) {
         final Class<?> flagClass = flag.getClass();
-        final PlotFlag<?, ?> flagInstance = this.flagContainer.getFlagErased(flagClass);
+        final PlotFlag<?, ?> flagInstance = this.getEffectiveFlagContainer().getFlagErased(flagClass);
         return FlagContainer.<T, V>castUnsafe(flagInstance).getValue();
     }
 
+    /**
+     * Get the container flag lookups should be performed against. Plots that never had their own
+     * container created share the container of their area.
+     *
+     * @return the plot container, or the area container if the plot has none
+     */
+    private @NonNull FlagContainer getEffectiveFlagContainer() {
+        final FlagContainer container = this.flagContainer;
+        if (container != null) {
+            return container;
+        }
+        if (this.area == null) {
+            return this.getFlagContainer();
+        }
+        return this.area.getFlagContainer();
+    }
+
     public CompletableFuture<Caption> format(final Caption iInfo, PlotPlayer<?> player, final boolean full) {
         final CompletableFuture<Caption> future = new CompletableFuture<>();
         int num = this.getConnectedPlots().size();
@@ -3069,7 +3199,20 @@ public class Plot {
      * @return Flag container
      */
     public @NonNull FlagContainer getFlagContainer() {
-        return this.flagContainer;
+        FlagContainer container = this.flagContainer;
+        if (container == null) {
+            synchronized (this) {
+                container = this.flagContainer;
+                if (container == null) {
+                    container = new FlagContainer(this.area == null ? null : this.area.getFlagContainer());
+                    // This is needed, because otherwise the Plot, the FlagContainer and its
+                    // `this::handleUnknown` PlotFlagUpdateHandler won't get cleaned up ever
+                    CLEANER.register(this, container.createCleanupHook());
+                    this.flagContainer = container;
+                }
+            }
+        }
+        return container;
     }
 
     /**
@@ -3079,6 +3222,9 @@ public class Plot {
      * @return Plot comment container
      */
     public @NonNull PlotCommentContainer getPlotCommentContainer() {
+        if (this.plotCommentContainer == null) {
+            this.plotCommentContainer = new PlotCommentContainer(this);
+        }
         return this.plotCommentContainer;
     }
 
@@ -3088,6 +3234,9 @@ public class Plot {
      * @return Plot modification manager
      */
     public @NonNull PlotModificationManager getPlotModificationManager() {
+        if (this.plotModificationManager == null) {
+            this.plotModificationManager = new PlotModificationManager(this);
+        }
         return this.plotModificationManager;
     }
 
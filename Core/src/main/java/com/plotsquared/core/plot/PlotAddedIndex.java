@@ -0,0 +1,68 @@
+/*
+ * PlotSquared, a land and world management plugin for Minecraft.
+ * Copyright (C) IntellectualSites <https://intellectualsites.com>
+ * Copyright (C) IntellectualSites team and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.plotsquared.core.plot;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Index of the claimed plots in a {@link PlotArea} by the players that are trusted, added as member or denied.
+ * <p>
+ * Like the {@link PlotOwnerIndex}, plots are indexed by their id. Callers resolve the ids through the area and
+ * should check the resolved plot, as the index does not distinguish between trusted, members and denied players.
+ */
+final class PlotAddedIndex {
+
+    private final Map<UUID, Set<PlotId>> plotsByPlayer = new ConcurrentHashMap<>();
+
+    void add(final @NonNull UUID uuid, final @NonNull PlotId id) {
+        this.plotsByPlayer.compute(uuid, (key, ids) -> {
+            if (ids == null) {
+                ids = ConcurrentHashMap.newKeySet();
+            }
+            ids.add(id);
+            return ids;
+        });
+    }
+
+    void remove(final @NonNull UUID uuid, final @NonNull PlotId id) {
+        this.plotsByPlayer.computeIfPresent(uuid, (key, ids) -> {
+            ids.remove(id);
+            return ids.isEmpty() ? null : ids;
+        });
+    }
+
+    /**
+     * Get a weakly consistent view of the ids of the plots the given player is added to.
+     *
+     * @param uuid player
+     * @return plot ids
+     */
+    @NonNull Collection<PlotId> get(final @NonNull UUID uuid) {
+        final Set<PlotId> ids = this.plotsByPlayer.get(uuid);
+        return ids == null ? Collections.emptySet() : ids;
+    }
+
+}
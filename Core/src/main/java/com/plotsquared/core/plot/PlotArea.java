@@ -22,6 +22,7 @@ import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.Lists;
 import com.plotsquared.core.PlotSquared;
+import com.plotsquared.core.collection.PlotIdMap;
 import com.plotsquared.core.collection.QuadMap;
 import com.plotsquared.core.configuration.ConfigurationNode;
 import com.plotsquared.core.configuration.ConfigurationSection;
@@ -45,6 +46,10 @@ import com.plotsquared.core.plot.flag.FlagParseException;
 import com.plotsquared.core.plot.flag.GlobalFlagContainer;
 import com.plotsquared.core.plot.flag.PlotFlag;
 import com.plotsquared.core.plot.flag.implementations.DoneFlag;
+import com.plotsquared.core.plot.flag.types.BooleanFlag;
+import com.plotsquared.core.plot.flag.types.DoubleFlag;
+import com.plotsquared.core.plot.flag.types.IntegerFlag;
+import com.plotsquared.core.plot.flag.types.LongFlag;
 import com.plotsquared.core.queue.GlobalBlockQueue;
 import com.plotsquared.core.queue.QueueCoordinator;
 import com.plotsquared.core.util.MathMan;
@@ -73,6 +78,7 @@ import org.jetbrains.annotations.NotNull;
 
 import java.text.DecimalFormat;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
@@ -99,7 +105,16 @@ public abstract class PlotArea implements ComponentLike {
         FLAG_DECIMAL_FORMAT.setMaximumFractionDigits(340);
     }
 
-    protected final ConcurrentHashMap<PlotId, Plot> plots = new ConcurrentHashMap<>();
+    protected final PlotIdMap<Plot> plots = new PlotIdMap<>();
+    private final PlotOwnerIndex ownerIndex = new PlotOwnerIndex();
+    private final PlotAddedIndex addedIndex = new PlotAddedIndex();
+    private final PlotMergeGraph mergeGraph = new PlotMergeGraph(this);
+    private final PlotChunkCache chunkCache = new PlotChunkCache(this);
+    private final PlotEntityCounter entityCounter = new PlotEntityCounter(this);
+    /**
+     * Guards updates of the plot indexes, so plots are indexed with the state they have while they are registered.
+     */
+    private final Object indexLock = new Object();
     @NonNull
     private final String worldName;
     private final String id;
@@ -571,8 +586,7 @@ public abstract class PlotArea implements ComponentLike {
      * @return the {@link Plot} or null if none exists
      */
     public @Nullable Plot getPlotAbs(final @NonNull Location location) {
-        final PlotId pid =
-                this.getPlotManager().getPlotId(location.getX(), location.getY(), location.getZ());
+        final PlotId pid = this.getPlotId(location.getX(), location.getY(), location.getZ());
         if (pid == null) {
             return null;
         }
@@ -586,8 +600,7 @@ public abstract class PlotArea implements ComponentLike {
      * @return base Plot
      */
     public @Nullable Plot getPlot(final @NonNull Location location) {
-        final PlotId pid =
-                this.getPlotManager().getPlotId(location.getX(), location.getY(), location.getZ());
+        final PlotId pid = this.getPlotId(location.getX(), location.getY(), location.getZ());
         if (pid == null) {
             return null;
         }
@@ -601,12 +614,7 @@ public abstract class PlotArea implements ComponentLike {
      * @return the base plot or null
      */
     public @Nullable Plot getOwnedPlot(final @NonNull Location location) {
-        final PlotId pid =
-                this.getPlotManager().getPlotId(location.getX(), location.getY(), location.getZ());
-        if (pid == null) {
-            return null;
-        }
-        Plot plot = this.plots.get(pid);
+        final Plot plot = this.getOwnedPlotAbs(location.getX(), location.getY(), location.getZ());
         return plot == null ? null : plot.getBasePlot(false);
     }
 
@@ -617,12 +625,145 @@ public abstract class PlotArea implements ComponentLike {
      * @return Plot or null
      */
     public @Nullable Plot getOwnedPlotAbs(final @NonNull Location location) {
-        final PlotId pid =
-                this.getPlotManager().getPlotId(location.getX(), location.getY(), location.getZ());
-        if (pid == null) {
-            return null;
+        return this.getOwnedPlotAbs(location.getX(), location.getY(), location.getZ());
+    }
+
+    /**
+     * Get the id of the plot at the given block coordinates, including roads that are part of merged plots.
+     * Chunks that lie entirely within one plot or entirely on the road are answered from a per-chunk cache.
+     *
+     * @param x block x
+     * @param y block y
+     * @param z block z
+     * @return the plot id, or null if the coordinates are on the road
+     */
+    @Nullable PlotId getPlotId(final int x, final int y, final int z) {
+        final PlotChunkCache.Entry entry = this.chunkCache.getEntry(x >> 4, z >> 4);
+        if (entry.isUniform()) {
+            return entry.getId();
+        }
+        return this.getPlotManager().getPlotId(x, y, z);
+    }
+
+    /**
+     * Get whether any block column of the 3x3 footprint centred on the given column is part of a plot of this area,
+     * claimed or not, including roads that are part of merged plots. This is what decides whether liquids on the
+     * road may flow next to plots.
+     *
+     * @param x block x of the centre
+     * @param z block z of the centre
+     * @return {@code true} if the centre or one of its eight neighbours is part of a plot
+     * @since TODO
+     */
+    public boolean isPlotAround(final int x, final int z) {
+        if (this.getType() == PlotAreaType.PARTIAL) {
+            // Neighbours may lie outside of the area, or in plots outside of its id range
+            for (int nx = x - 1; nx <= x + 1; nx++) {
+                for (int nz = z - 1; nz <= z + 1; nz++) {
+                    if (this.contains(nx, nz)) {
+                        final PlotId id = this.getPlotId(nx, 0, nz);
+                        if (id != null && this.contains(id)) {
+                            return true;
+                        }
+                    }
+                }
+            }
+            return false;
+        }
+        final int localX = x & 15;
+        final int localZ = z & 15;
+        if (localX != 0 && localX != 15 && localZ != 0 && localZ != 15) {
+            // The footprint lies within a single chunk
+            final PlotChunkCache.Entry entry = this.chunkCache.getEntry(x >> 4, z >> 4);
+            if (entry.isUniform()) {
+                return entry.getId() != null;
+            }
+        }
+        return this.getPlotManager().isPlotAround(x, z);
+    }
+
+    /**
+     * Classify a batch of block columns by whether they are part of the given claimed plot, for example to filter
+     * the blocks destroyed by an explosion. A column is part of the plot if {@link #getOwnedPlot(Location)} would
+     * return the plot for it, but the regions of the plot are only resolved once for the whole batch.
+     *
+     * @param origin the base plot the blocks may belong to
+     * @param xs     block x coordinates
+     * @param zs     block z coordinates
+     * @param length number of blocks to classify, starting at index 0
+     * @param inside receives for every block whether it is part of the plot
+     * @return the number of blocks that are part of the plot
+     * @since TODO
+     */
+    public int filterToPlot(
+            final @NonNull Plot origin, final int @NonNull [] xs, final int @NonNull [] zs, final int length,
+            final boolean @NonNull [] inside
+    ) {
+        if (origin.getArea() != this || !origin.equals(this.getOwnedPlotAbs(origin.getId()))) {
+            // The plot is not (or no longer) claimed in this area, so no block can be part of it
+            Arrays.fill(inside, 0, length, false);
+            return 0;
+        }
+        final Set<CuboidRegion> regions = origin.getRegions();
+        final int count = regions.size();
+        final int[] minX = new int[count];
+        final int[] minZ = new int[count];
+        final int[] maxX = new int[count];
+        final int[] maxZ = new int[count];
+        int r = 0;
+        for (final CuboidRegion region : regions) {
+            minX[r] = region.getMinimumPoint().getX();
+            minZ[r] = region.getMinimumPoint().getZ();
+            maxX[r] = region.getMaximumPoint().getX();
+            maxZ[r] = region.getMaximumPoint().getZ();
+            r++;
+        }
+        int kept = 0;
+        for (int i = 0; i < length; i++) {
+            final int x = xs[i];
+            final int z = zs[i];
+            boolean contained = false;
+            for (r = 0; r < count; r++) {
+                contained |= x >= minX[r] & x <= maxX[r] & z >= minZ[r] & z <= maxZ[r];
+            }
+            inside[i] = contained;
+            kept += contained ? 1 : 0;
+        }
+        return kept;
+    }
+
+    /**
+     * Get whether a whole chunk column lies within a single claimed plot of this area, including roads that are
+     * part of merged plots. Nothing in such a chunk can be on a road or in an unclaimed plot.
+     *
+     * @param chunkX chunk x
+     * @param chunkZ chunk z
+     * @return {@code true} if every block column of the chunk belongs to the same claimed plot
+     * @since TODO
+     */
+    public boolean isChunkInOwnedPlot(final int chunkX, final int chunkZ) {
+        final PlotChunkCache.Entry entry = this.chunkCache.getEntry(chunkX, chunkZ);
+        final PlotId id = entry.getId();
+        if (!entry.isUniform() || id == null) {
+            return false;
+        }
+        if (this.getType() == PlotAreaType.PARTIAL) {
+            final int minX = chunkX << 4;
+            final int minZ = chunkZ << 4;
+            if (!this.contains(minX, minZ) || !this.contains(minX + 15, minZ + 15)) {
+                return false;
+            }
+        }
+        return this.plots.get(id) != null;
+    }
+
+    private @Nullable Plot getOwnedPlotAbs(final int x, final int y, final int z) {
+        final PlotChunkCache.Entry entry = this.chunkCache.getEntry(x >> 4, z >> 4);
+        if (entry.isUniform()) {
+            final PlotId id = entry.getId();
+            return id == null ? null : this.plots.get(id);
         }
-        return this.plots.get(pid);
+        return this.getPlotManager().getOwnedPlotAbs(x, y, z);
     }
 
     /**
@@ -635,15 +776,55 @@ public abstract class PlotArea implements ComponentLike {
         return this.plots.get(id);
     }
 
+    /**
+     * Get the owned Plot at the given plot id coordinates. Unlike {@link #getOwnedPlotAbs(PlotId)} this
+     * does not require a {@link PlotId} instance.
+     *
+     * @param x the x coordinate of the plot id
+     * @param y the y coordinate of the plot id
+     * @return the plot or null
+     * @since TODO
+     */
+    public @Nullable Plot getOwnedPlotAbs(final int x, final int y) {
+        return this.plots.get(x, y);
+    }
+
     public @Nullable Plot getOwnedPlot(final @NonNull PlotId id) {
         Plot plot = this.plots.get(id);
         return plot == null ? null : plot.getBasePlot(false);
     }
 
+    /**
+     * Get the owned base plot at the given plot id coordinates.
+     *
+     * @param x the x coordinate of the plot id
+     * @param y the y coordinate of the plot id
+     * @return the base plot or null
+     * @since TODO
+     */
+    public @Nullable Plot getOwnedPlot(final int x, final int y) {
+        Plot plot = this.plots.get(x, y);
+        return plot == null ? null : plot.getBasePlot(false);
+    }
+
     public boolean contains(final int x, final int z) {
         return this.getType() != PlotAreaType.PARTIAL || RegionUtil.contains(getRegionAbs(), x, z);
     }
 
+    /**
+     * Get the bounds of the stretch of road around a block column that is not part of a plot. Every column within
+     * the bounds is on the road, so a player moving within them stays off plots. Areas that do not lay out their
+     * plots in a grid cannot tell, and return {@code null}.
+     *
+     * @param x block x of a column on the road
+     * @param z block z of a column on the road
+     * @return the inclusive bounds as {@code [minX, minZ, maxX, maxZ]}, or {@code null} if unknown
+     * @since TODO
+     */
+    public int @Nullable [] getRoadBounds(final int x, final int z) {
+        return null;
+    }
+
     public boolean contains(final @NonNull PlotId id) {
         return this.min == null || (id.getX() >= this.min.getX() && id.getX() <= this.max.getX() &&
                 id.getY() >= this.min.getY() && id.getY() <= this.max.getY());
@@ -693,17 +874,48 @@ public abstract class PlotArea implements ComponentLike {
             return Collections.emptySet();
         }
         final HashSet<Plot> myPlots = new HashSet<>();
-        forEachPlotAbs(value -> {
-            if (uuid.equals(value.getOwnerAbs())) {
-                myPlots.add(value);
+        for (final PlotId id : this.ownerIndex.get(uuid)) {
+            final Plot plot = this.plots.get(id);
+            if (plot != null && uuid.equals(plot.getOwnerAbs())) {
+                myPlots.add(plot);
             }
-        });
+        }
         return myPlots;
     }
 
     public @NonNull Set<Plot> getPlots(final @NonNull UUID uuid) {
-        return getPlots().stream().filter(plot -> plot.isBasePlot() && plot.isOwner(uuid))
-                .collect(ImmutableSet.toImmutableSet());
+        // A base plot is owned by the player if any of its connected plots is, so resolving the
+        // base plots of the player's own plots yields the same set as filtering all plots
+        final Set<Plot> myPlots = new HashSet<>();
+        for (final Plot plot : getPlotsAbs(uuid)) {
+            myPlots.add(plot.getBasePlot(false));
+        }
+        return ImmutableSet.copyOf(myPlots);
+    }
+
+    /**
+     * Get the claimed plots in this area where the given player is trusted, added as a member or denied. This does
+     * not include the plots owned by the player, and {@link com.plotsquared.core.database.DBFunc#EVERYONE} is only
+     * matched if it is passed explicitly.
+     *
+     * @param uuid the player
+     * @return the plots the player is added to
+     * @since TODO
+     */
+    public @NonNull Set<Plot> getAddedPlotsAbs(final @NonNull UUID uuid) {
+        final Set<Plot> addedPlots = new HashSet<>();
+        for (final PlotId id : this.addedIndex.get(uuid)) {
+            final Plot plot = this.plots.get(id);
+            if (plot != null && isAddedAbs(plot, uuid)) {
+                addedPlots.add(plot);
+            }
+        }
+        return addedPlots;
+    }
+
+    private static boolean isAddedAbs(final @NonNull Plot plot, final @NonNull UUID uuid) {
+        return plot.trusted != null && plot.trusted.contains(uuid) || plot.members != null && plot.members.contains(uuid)
+                || plot.denied != null && plot.denied.contains(uuid);
     }
 
     /**
@@ -715,11 +927,23 @@ public abstract class PlotArea implements ComponentLike {
         return this.plots.values();
     }
 
+    /**
+     * Get the number of plots owned by a player in this area, honouring {@link Settings.Done#COUNTS_TOWARDS_LIMIT}.
+     * This only visits the plots owned by the player.
+     *
+     * @param uuid the owner
+     * @return the number of plots counting towards the player's limit
+     */
     public int getPlotCount(final @NonNull UUID uuid) {
-        if (!Settings.Done.COUNTS_TOWARDS_LIMIT) {
-            return (int) getPlotsAbs(uuid).stream().filter(plot -> !DoneFlag.isDone(plot)).count();
+        int count = 0;
+        for (final PlotId id : this.ownerIndex.get(uuid)) {
+            final Plot plot = this.plots.get(id);
+            if (plot != null && uuid.equals(plot.getOwnerAbs())
+                    && (Settings.Done.COUNTS_TOWARDS_LIMIT || !DoneFlag.isDone(plot))) {
+                count++;
+            }
         }
-        return getPlotsAbs(uuid).size();
+        return count;
     }
 
     /**
@@ -737,13 +961,26 @@ public abstract class PlotArea implements ComponentLike {
     //todo check if this method is needed in this class
 
     public boolean hasPlot(final @NonNull UUID uuid) {
-        return this.plots.entrySet().stream().anyMatch(entry -> entry.getValue().isOwner(uuid));
+        for (final PlotId id : this.ownerIndex.get(uuid)) {
+            final Plot plot = this.plots.get(id);
+            if (plot != null && uuid.equals(plot.getOwnerAbs())) {
+                return true;
+            }
+        }
+        return false;
     }
 
     public int getPlotCount(final @Nullable PlotPlayer<?> player) {
         return player != null ? getPlotCount(player.getUUID()) : 0;
     }
 
+    /**
+     * Get the plot with the given id. If the plot is not claimed, a lightweight unowned plot is returned
+     * which reads its flags from this area and only allocates its own state once it is modified or claimed.
+     *
+     * @param id the {@link PlotId}
+     * @return the plot, or null if the id is outside of this area
+     */
     public @Nullable Plot getPlotAbs(final @NonNull PlotId id) {
         Plot plot = getOwnedPlotAbs(id);
         if (plot == null) {
@@ -847,9 +1084,7 @@ public abstract class PlotArea implements ComponentLike {
     }
 
     private void forEachPlotAbs(Consumer<Plot> run) {
-        for (final Entry<PlotId, Plot> entry : this.plots.entrySet()) {
-            run.accept(entry.getValue());
-        }
+        this.plots.forEach(run);
     }
 
     public void forEachBasePlot(Consumer<Plot> run) {
@@ -869,7 +1104,11 @@ public abstract class PlotArea implements ComponentLike {
     //todo eventually remove
     @Deprecated
     public @NonNull Map<PlotId, Plot> getPlotsRaw() {
-        return ImmutableMap.copyOf(plots);
+        final ImmutableMap.Builder<PlotId, Plot> builder = ImmutableMap.builder();
+        for (final Entry<PlotId, Plot> entry : this.plots.entrySet()) {
+            builder.put(entry);
+        }
+        return builder.build();
     }
 
     public @NonNull Set<Entry<PlotId, Plot>> getPlotEntries() {
@@ -883,7 +1122,7 @@ public abstract class PlotArea implements ComponentLike {
                 metaDataAccess.set(plot);
             }
         }
-        return this.plots.put(plot.getId(), plot) == null;
+        return addPlotAbs(plot);
     }
 
     public Plot getNextFreePlot(final PlotPlayer<?> player, @Nullable PlotId start) {
@@ -918,7 +1157,14 @@ public abstract class PlotArea implements ComponentLike {
     }
 
     public boolean addPlotIfAbsent(final @NonNull Plot plot) {
-        if (this.plots.putIfAbsent(plot.getId(), plot) == null) {
+        final boolean added;
+        synchronized (this.indexLock) {
+            added = this.plots.putIfAbsent(plot.getId(), plot) == null;
+            if (added) {
+                index(plot);
+            }
+        }
+        if (added) {
             for (PlotPlayer<?> pp : plot.getPlayersInPlot()) {
                 try (final MetaDataAccess<Plot> metaDataAccess = pp.accessTemporaryMetaData(
                         PlayerMetaDataKeys.TEMPORARY_LAST_PLOT)) {
@@ -931,7 +1177,14 @@ public abstract class PlotArea implements ComponentLike {
     }
 
     public boolean addPlotAbs(final @NonNull Plot plot) {
-        return this.plots.put(plot.getId(), plot) == null;
+        synchronized (this.indexLock) {
+            final Plot previous = this.plots.put(plot.getId(), plot);
+            if (previous != null && previous != plot) {
+                unindex(previous);
+            }
+            index(plot);
+            return previous == null;
+        }
     }
 
     /**
@@ -1041,7 +1294,136 @@ public abstract class PlotArea implements ComponentLike {
     }
 
     public boolean removePlot(final @NonNull PlotId id) {
-        return this.plots.remove(id) != null;
+        synchronized (this.indexLock) {
+            final Plot plot = this.plots.remove(id);
+            if (plot != null) {
+                unindex(plot);
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void index(final @NonNull Plot plot) {
+        this.mergeGraph.invalidate(plot.getId());
+        this.invalidateChunkCache(plot.getId());
+        this.ownerIndex.update(plot.getId(), plot.getOwnerAbs());
+        forEachAddedAbs(plot, uuid -> this.addedIndex.add(uuid, plot.getId()));
+    }
+
+    private void unindex(final @NonNull Plot plot) {
+        this.mergeGraph.invalidate(plot.getId());
+        this.invalidateChunkCache(plot.getId());
+        this.ownerIndex.remove(plot.getId());
+        forEachAddedAbs(plot, uuid -> this.addedIndex.remove(uuid, plot.getId()));
+    }
+
+    private static void forEachAddedAbs(final @NonNull Plot plot, final @NonNull Consumer<UUID> consumer) {
+        if (plot.trusted != null) {
+            plot.trusted.forEach(consumer);
+        }
+        if (plot.members != null) {
+            plot.members.forEach(consumer);
+        }
+        if (plot.denied != null) {
+            plot.denied.forEach(consumer);
+        }
+    }
+
+    /**
+     * Get the merge groups of the plots in this area.
+     *
+     * @return merge graph
+     */
+    @NonNull PlotMergeGraph getMergeGraph() {
+        return this.mergeGraph;
+    }
+
+    /**
+     * Invalidate the cached plot ids of the chunks covering a plot and the roads around it, after the plot was added
+     * or removed, or its merge state changed.
+     *
+     * @param id id of the changed plot
+     */
+    void invalidateChunkCache(final @NonNull PlotId id) {
+        // The roads of a plot end where the plots next to it begin
+        final Location min = this.getPlotManager().getPlotTopLocAbs(PlotId.of(id.getX() - 1, id.getY() - 1));
+        final Location max = this.getPlotManager().getPlotBottomLocAbs(PlotId.of(id.getX() + 1, id.getY() + 1));
+        this.chunkCache.invalidate(
+                Math.min(min.getX(), max.getX()) >> 4,
+                Math.min(min.getZ(), max.getZ()) >> 4,
+                Math.max(min.getX(), max.getX()) >> 4,
+                Math.max(min.getZ(), max.getZ()) >> 4
+        );
+    }
+
+    /**
+     * Get a counter that changes whenever plots of this area are added, removed, merged or unlinked. State derived
+     * from the plot layout, such as the plot a player is standing in, can store it to know when it is outdated.
+     *
+     * @return layout version of this area
+     * @since TODO
+     */
+    public int getLayoutVersion() {
+        return this.chunkCache.getVersion();
+    }
+
+    /**
+     * Get the live entity counts of the plots in this area. These are only maintained on platforms that can
+     * observe entities entering and leaving the world.
+     *
+     * @return entity counter of this area
+     * @since TODO
+     */
+    public @NonNull PlotEntityCounter getEntityCounter() {
+        return this.entityCounter;
+    }
+
+    /**
+     * Update the owner index after the owner of a claimed plot in this area changed, or the plot was added.
+     *
+     * @param plot the plot whose owner changed
+     */
+    void updateOwner(final @NonNull Plot plot) {
+        // the owner is read while holding the index lock so concurrent updates cannot record a stale owner
+        synchronized (this.indexLock) {
+            if (this.plots.get(plot.getId()) == plot) {
+                this.ownerIndex.update(plot.getId(), plot.getOwnerAbs());
+            }
+        }
+    }
+
+    /**
+     * Update the added player index after a player was trusted, added as a member or denied on a claimed plot
+     * in this area, or removed from one of these roles.
+     *
+     * @param plot the plot that changed
+     * @param uuid the player that was added or removed
+     */
+    void updateAdded(final @NonNull Plot plot, final @NonNull UUID uuid) {
+        synchronized (this.indexLock) {
+            if (this.plots.get(plot.getId()) != plot) {
+                return;
+            }
+            if (isAddedAbs(plot, uuid)) {
+                this.addedIndex.add(uuid, plot.getId());
+            } else {
+                this.addedIndex.remove(uuid, plot.getId());
+            }
+        }
+    }
+
+    /**
+     * Index all players added to a claimed plot in this area, after its trusted, member or denied sets were replaced.
+     *
+     * @param plot the plot that changed
+     */
+    void updateAdded(final @NonNull Plot plot) {
+        synchronized (this.indexLock) {
+            if (this.plots.get(plot.getId()) == plot) {
+                forEachAddedAbs(plot, uuid -> this.addedIndex.add(uuid, plot.getId()));
+            }
+        }
     }
 
     /**
@@ -1278,6 +1660,54 @@ public abstract class PlotArea implements ComponentLike {
         return this.flagContainer.getFlag(flagClass).getValue();
     }
 
+    /**
+     * Get the value associated with the specified boolean flag without boxing it.
+     * This will look at the default values stored in {@link GlobalFlagContainer}.
+     *
+     * @param flagClass The flag type (Class)
+     * @return The flag value
+     * @since TODO
+     */
+    public boolean getBooleanFlag(final @NonNull Class<? extends BooleanFlag<?>> flagClass) {
+        return this.flagContainer.getBooleanFlag(flagClass);
+    }
+
+    /**
+     * Get the value associated with the specified integer flag without boxing it.
+     * This will look at the default values stored in {@link GlobalFlagContainer}.
+     *
+     * @param flagClass The flag type (Class)
+     * @return The flag value
+     * @since TODO
+     */
+    public int getIntFlag(final @NonNull Class<? extends IntegerFlag<?>> flagClass) {
+        return this.flagContainer.getIntFlag(flagClass);
+    }
+
+    /**
+     * Get the value associated with the specified long flag without boxing it.
+     * This will look at the default values stored in {@link GlobalFlagContainer}.
+     *
+     * @param flagClass The flag type (Class)
+     * @return The flag value
+     * @since TODO
+     */
+    public long getLongFlag(final @NonNull Class<? extends LongFlag<?>> flagClass) {
+        return this.flagContainer.getLongFlag(flagClass);
+    }
+
+    /**
+     * Get the value associated with the specified double flag without boxing it.
+     * This will look at the default values stored in {@link GlobalFlagContainer}.
+     *
+     * @param flagClass The flag type (Class)
+     * @return The flag value
+     * @since TODO
+     */
+    public double getDoubleFlag(final @NonNull Class<? extends DoubleFlag<?>> flagClass) {
+        return this.flagContainer.getDoubleFlag(flagClass);
+    }
+
     /**
      * Get the value associated with the specified flag. This will look at
      * the default values stored in {@link GlobalFlagContainer}.
@@ -1305,6 +1735,18 @@ public abstract class PlotArea implements ComponentLike {
         return this.roadFlagContainer.getFlag(flagClass).getValue();
     }
 
+    /**
+     * Get the value associated with the specified boolean road flag without boxing it.
+     * This will look at the default values stored in {@link GlobalFlagContainer}.
+     *
+     * @param flagClass The flag type (Class)
+     * @return The flag value
+     * @since TODO
+     */
+    public boolean getRoadBooleanFlag(final @NonNull Class<? extends BooleanFlag<?>> flagClass) {
+        return this.roadFlagContainer.getBooleanFlag(flagClass);
+    }
+
     /**
      * Get the value associated with the specified road flag. This will look at
      * the default values stored in {@link GlobalFlagContainer}.
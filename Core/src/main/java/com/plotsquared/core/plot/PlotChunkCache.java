@@ -0,0 +1,218 @@
+/*
+ * PlotSquared, a land and world management plugin for Minecraft.
+ * Copyright (C) IntellectualSites <https://intellectualsites.com>
+ * Copyright (C) IntellectualSites team and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.plotsquared.core.plot;
+
+import com.plotsquared.core.generator.SquarePlotManager;
+import com.plotsquared.core.generator.SquarePlotWorld;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * Cache of the plots that the chunks of a {@link PlotArea} belong to.
+ * <p>
+ * Each chunk column is classified as belonging entirely to one plot, lying entirely on the road or being mixed.
+ * The first two cases are answered from the cache, mixed chunks still ask the {@link PlotManager}. The plot
+ * a block belongs to does not depend on its height, so one entry covers the whole column.
+ * <p>
+ * The cache is a fixed size, direct mapped table, so looking up a chunk is a single array read. Entries are
+ * immutable and tagged with the epoch of their slot at the time they were computed. Claiming, unclaiming, merging
+ * or unlinking a plot only bumps the epochs of the chunks around that plot, which invalidates their entries.
+ */
+final class PlotChunkCache {
+
+    private static final int SIZE = 4096;
+    private static final int MASK = SIZE - 1;
+
+    private final PlotArea area;
+    private final Entry[] entries = new Entry[SIZE];
+    private final AtomicIntegerArray epochs = new AtomicIntegerArray(SIZE);
+    private volatile int version;
+
+    PlotChunkCache(final @NonNull PlotArea area) {
+        this.area = area;
+    }
+
+    private static int index(final int chunkX, final int chunkZ) {
+        int hash = chunkX * 0x9E3779B9 ^ chunkZ * 0x85EBCA6B;
+        return (hash ^ hash >>> 16) & MASK;
+    }
+
+    /**
+     * Get the classification of a chunk column, computing it if it is not cached.
+     *
+     * @param chunkX chunk x
+     * @param chunkZ chunk z
+     * @return cache entry
+     */
+    @NonNull Entry getEntry(final int chunkX, final int chunkZ) {
+        final int index = index(chunkX, chunkZ);
+        final int epoch = this.epochs.get(index);
+        final Entry entry = this.entries[index];
+        if (entry != null && entry.epoch == epoch && entry.chunkX == chunkX && entry.chunkZ == chunkZ) {
+            return entry;
+        }
+        final Entry computed = this.compute(chunkX, chunkZ, epoch);
+        this.entries[index] = computed;
+        return computed;
+    }
+
+    private @NonNull Entry compute(final int chunkX, final int chunkZ, final int epoch) {
+        final PlotManager manager = this.area.getPlotManager();
+        final int minX = chunkX << 4;
+        final int minZ = chunkZ << 4;
+        final int[] xs;
+        final int[] zs;
+        if (this.area instanceof SquarePlotWorld world && manager instanceof SquarePlotManager) {
+            // The plot of a block only depends on the grid cell and the part of the cell (road or plot) it is in,
+            // so one block of every part the chunk overlaps is enough
+            xs = segments(world, minX, world.ROAD_OFFSET_X);
+            zs = segments(world, minZ, world.ROAD_OFFSET_Z);
+        } else {
+            xs = zs = null;
+        }
+        final int sizeX = xs == null ? 16 : xs[16];
+        final int sizeZ = zs == null ? 16 : zs[16];
+        final PlotId first = manager.getPlotId(minX, 0, minZ);
+        for (int i = 0; i < sizeX; i++) {
+            final int x = xs == null ? minX + i : xs[i];
+            for (int j = 0; j < sizeZ; j++) {
+                final int z = zs == null ? minZ + j : zs[j];
+                final PlotId id = manager.getPlotId(x, 0, z);
+                if (first == null ? id != null : !first.equals(id)) {
+                    return new Entry(chunkX, chunkZ, epoch, false, null);
+                }
+            }
+        }
+        return new Entry(chunkX, chunkZ, epoch, true, first);
+    }
+
+    /**
+     * Split the 16 blocks of a chunk along one axis into the runs that lie in the same part of the same grid cell,
+     * the lower road, the plot or the upper road, the same way {@link SquarePlotManager} does.
+     *
+     * @param world  plot world
+     * @param min    first block coordinate of the chunk
+     * @param offset road offset of the axis
+     * @return the first block of every run, followed by the number of runs at index 16
+     */
+    private static int @NonNull [] segments(final @NonNull SquarePlotWorld world, final int min, final int offset) {
+        final int lower;
+        final int end;
+        if (world.ROAD_WIDTH == 0) {
+            lower = -1;
+            end = world.PLOT_WIDTH;
+        } else {
+            lower = world.ROAD_WIDTH % 2 == 0 ? world.ROAD_WIDTH / 2 - 1 : world.ROAD_WIDTH / 2;
+            end = lower + world.PLOT_WIDTH;
+        }
+        final int size = Math.max(1, world.PLOT_WIDTH + world.ROAD_WIDTH);
+        final int[] segments = new int[17];
+        int count = 0;
+        long previous = Long.MIN_VALUE;
+        for (int block = min; block < min + 16; block++) {
+            final int relative = Math.floorMod(block - offset, size);
+            final int part = relative <= lower ? 0 : relative > end ? 2 : 1;
+            final long key = (long) Math.floorDiv(block - offset, size) * 3 + part;
+            if (key != previous) {
+                previous = key;
+                segments[count++] = block;
+            }
+        }
+        segments[16] = count;
+        return segments;
+    }
+
+    /**
+     * Get the current version of the cache, which changes whenever part of the cache is invalidated.
+     *
+     * @return cache version
+     */
+    int getVersion() {
+        return this.version;
+    }
+
+    /**
+     * Invalidate the cached chunks of a rectangle, after the plots in it or their merge state changed.
+     *
+     * @param minChunkX lowest chunk x
+     * @param minChunkZ lowest chunk z
+     * @param maxChunkX highest chunk x
+     * @param maxChunkZ highest chunk z
+     */
+    synchronized void invalidate(final int minChunkX, final int minChunkZ, final int maxChunkX, final int maxChunkZ) {
+        this.version++;
+        final long chunks = ((long) maxChunkX - minChunkX + 1) * ((long) maxChunkZ - minChunkZ + 1);
+        if (chunks >= SIZE) {
+            // Every slot is likely to be hit anyway
+            for (int index = 0; index < SIZE; index++) {
+                this.epochs.incrementAndGet(index);
+            }
+            return;
+        }
+        for (int chunkX = minChunkX; chunkX <= maxChunkX; chunkX++) {
+            for (int chunkZ = minChunkZ; chunkZ <= maxChunkZ; chunkZ++) {
+                this.epochs.incrementAndGet(index(chunkX, chunkZ));
+            }
+        }
+    }
+
+    /**
+     * Classification of a single chunk column.
+     */
+    static final class Entry {
+
+        private final int chunkX;
+        private final int chunkZ;
+        private final int epoch;
+        private final boolean uniform;
+        private final PlotId id;
+
+        private Entry(
+                final int chunkX, final int chunkZ, final int epoch, final boolean uniform,
+                final @Nullable PlotId id
+        ) {
+            this.chunkX = chunkX;
+            this.chunkZ = chunkZ;
+            this.epoch = epoch;
+            this.uniform = uniform;
+            this.id = id;
+        }
+        /**
+         * Get whether all blocks of the chunk belong to the same plot, or are all on the road.
+         *
+         * @return {@code true} if {@link #getId()} applies to the whole chunk
+         */
+        boolean isUniform() {
+            return this.uniform;
+        }
+
+        /**
+         * Get the plot id of the whole chunk, if the chunk is {@link #isUniform() uniform}.
+         *
+         * @return the plot id, or {@code null} if the chunk is on the road or mixed
+         */
+        @Nullable PlotId getId() {
+            return this.id;
+        }
+
+    }
+
+}
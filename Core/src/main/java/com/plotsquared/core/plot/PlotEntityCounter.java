@@ -0,0 +1,112 @@
+/*
+ * PlotSquared, a land and world management plugin for Minecraft.
+ * Copyright (C) IntellectualSites <https://intellectualsites.com>
+ * Copyright (C) IntellectualSites team and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.plotsquared.core.plot;
+
+import com.plotsquared.core.collection.PlotIdMap;
+import com.plotsquared.core.location.Location;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * Live entity counts of the plots in a {@link PlotArea}, indexed by the
+ * {@link com.plotsquared.core.util.entity.EntityCategories EntityCategories} cap slots.
+ * <p>
+ * Counts are kept per plot id rather than per merge group, so merging and unlinking plots does not need to move
+ * them around. Entities are added and removed by the platform as they enter and leave the world, which makes
+ * reading the counts of a plot a map lookup instead of a scan over its chunks. Entities on a road that is part of
+ * merged plots are counted towards one of the plots adjacent to the road.
+ * <p>
+ * Counts are only updated on the main thread. They can be read from any thread, but may be outdated.
+ *
+ * @since TODO
+ */
+public final class PlotEntityCounter {
+
+    private static final int SLOTS = 6;
+
+    private final PlotArea area;
+    private final PlotIdMap<int[]> counts = new PlotIdMap<>();
+
+    PlotEntityCounter(final @NonNull PlotArea area) {
+        this.area = area;
+    }
+
+    /**
+     * Get the id of the plot whose counts an entity at the given location belongs to.
+     *
+     * @param location entity location
+     * @return plot id, or null if the location is on the road
+     */
+    public @Nullable PlotId locate(final @NonNull Location location) {
+        return this.area.getPlotId(location.getX(), location.getY(), location.getZ());
+    }
+
+    /**
+     * Count an entity towards a plot.
+     *
+     * @param id         plot id
+     * @param categories bit mask of the cap slots the entity counts towards
+     */
+    public void add(final @NonNull PlotId id, final int categories) {
+        int[] count = this.counts.get(id);
+        if (count == null) {
+            count = new int[SLOTS];
+            this.counts.put(id, count);
+        }
+        for (int slot = 0; slot < SLOTS; slot++) {
+            count[slot] += categories >>> slot & 1;
+        }
+    }
+
+    /**
+     * Stop counting an entity towards a plot.
+     *
+     * @param id         plot id
+     * @param categories bit mask of the cap slots the entity was counted towards
+     */
+    public void remove(final @NonNull PlotId id, final int categories) {
+        final int[] count = this.counts.get(id);
+        if (count == null) {
+            return;
+        }
+        // Slots are kept when they drop to zero, so that entities moving in and out do not churn the map
+        for (int slot = 0; slot < SLOTS; slot++) {
+            count[slot] = Math.max(0, count[slot] - (categories >>> slot & 1));
+        }
+    }
+
+    /**
+     * Get the entity counts of a single plot, not including the plots it is merged with.
+     *
+     * @param id plot id
+     * @return a new array with the count of every cap slot
+     */
+    public int @NonNull [] getCounts(final @NonNull PlotId id) {
+        final int[] count = this.counts.get(id);
+        return count == null ? new int[SLOTS] : count.clone();
+    }
+
+    /**
+     * Remove all counts.
+     */
+    public void clear() {
+        this.counts.clear();
+    }
+
+}
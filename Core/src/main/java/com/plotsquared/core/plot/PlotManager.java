@@ -49,6 +49,42 @@ public abstract class PlotManager {
 
     public abstract PlotId getPlotId(int x, int y, int z);
 
+    /**
+     * Get the claimed plot at the given block coordinates, without resolving the base plot of merged plots.
+     * This is equivalent to looking up {@link #getPlotId(int, int, int)} in the plot area, but implementations
+     * may resolve the plot without creating a {@link PlotId}.
+     *
+     * @param x block x
+     * @param y block y
+     * @param z block z
+     * @return the claimed plot at the location, or null if there is none
+     * @since TODO
+     */
+    public @Nullable Plot getOwnedPlotAbs(int x, int y, int z) {
+        final PlotId plotId = getPlotId(x, y, z);
+        return plotId == null ? null : this.plotArea.getOwnedPlotAbs(plotId);
+    }
+
+    /**
+     * Get whether any block column of the 3x3 footprint centred on the given column is part of a plot, including
+     * roads that are part of merged plots.
+     *
+     * @param x block x of the centre
+     * @param z block z of the centre
+     * @return {@code true} if the centre or one of its eight neighbours is part of a plot
+     * @since TODO
+     */
+    public boolean isPlotAround(int x, int z) {
+        for (int dx = -1; dx <= 1; dx++) {
+            for (int dz = -1; dz <= 1; dz++) {
+                if (getPlotId(x + dx, 0, z + dz) != null) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
     // If you have a circular plot, just return the corner if it were a square
     public abstract Location getPlotBottomLocAbs(@NonNull PlotId plotId);
 
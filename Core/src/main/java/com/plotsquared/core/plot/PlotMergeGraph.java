@@ -0,0 +1,201 @@
+/*
+ * PlotSquared, a land and world management plugin for Minecraft.
+ * Copyright (C) IntellectualSites <https://intellectualsites.com>
+ * Copyright (C) IntellectualSites team and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.plotsquared.core.plot;
+
+import com.plotsquared.core.collection.PlotIdMap;
+import com.sk89q.worldedit.regions.CuboidRegion;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Disjoint sets of the merged plots in a {@link PlotArea}.
+ * <p>
+ * Every registered plot that is part of a merge group maps to its {@link Group}, which holds the base plot and
+ * the connected plots of the group. Merges join groups into a new group, so lookups of the base plot or the
+ * connected plots are a single map lookup. Groups cannot be split, so unlinking a plot drops its group and the
+ * group is rebuilt from the merge data the next time it is needed.
+ * <p>
+ * Reads are lock-free, updates are serialized. Groups are immutable snapshots: a merge publishes a new group for
+ * all plots involved, so readers never see a group whose plots and cached regions disagree.
+ */
+final class PlotMergeGraph {
+
+    private final PlotArea area;
+    private final PlotIdMap<Group> groups = new PlotIdMap<>();
+
+    PlotMergeGraph(final @NonNull PlotArea area) {
+        this.area = area;
+    }
+
+    private static boolean isLesser(final @NonNull PlotId id, final @NonNull PlotId other) {
+        return id.getY() < other.getY() || id.getY() == other.getY() && id.getX() < other.getX();
+    }
+
+    /**
+     * Get the merge group of a merged plot.
+     *
+     * @param plot merged plot
+     * @return the group of the plot. Groups of plots that are not registered in the area are not retained
+     */
+    @NonNull Group getGroup(final @NonNull Plot plot) {
+        final Group group = this.groups.get(plot.getId());
+        if (group != null && this.isRegistered(plot)) {
+            return group;
+        }
+        synchronized (this) {
+            if (!this.isRegistered(plot)) {
+                return new Group(plot.computeConnectedPlots());
+            }
+            final Group current = this.groups.get(plot.getId());
+            return current != null ? current : this.load(plot);
+        }
+    }
+
+    /**
+     * Build the group of a registered plot from the merge data. Must be called while holding the lock.
+     */
+    private @NonNull Group load(final @NonNull Plot plot) {
+        final Group group = new Group(plot.computeConnectedPlots());
+        for (final Plot member : group.plots) {
+            if (this.isRegistered(member)) {
+                this.groups.put(member.getId(), group);
+            }
+        }
+        return group;
+    }
+
+    /**
+     * Join the groups of two plots after they were merged.
+     *
+     * @param plot  plot
+     * @param other the plot it was merged with
+     */
+    synchronized void union(final @NonNull Plot plot, final @Nullable Plot other) {
+        if (other == null || !this.isRegistered(plot) || !this.isRegistered(other)) {
+            this.invalidate(plot.getId());
+            if (other != null) {
+                this.invalidate(other.getId());
+            }
+            return;
+        }
+        Group group = this.groups.get(plot.getId());
+        Group otherGroup = this.groups.get(other.getId());
+        if (group != null && group == otherGroup) {
+            return;
+        }
+        if (group == null) {
+            group = this.load(plot);
+        }
+        if (otherGroup == null) {
+            otherGroup = this.groups.get(other.getId());
+            if (otherGroup == null) {
+                otherGroup = this.load(other);
+            }
+        }
+        if (group == otherGroup) {
+            return;
+        }
+        final Set<Plot> plots = new HashSet<>(group.plots);
+        plots.addAll(otherGroup.plots);
+        final Group joined = new Group(Set.copyOf(plots));
+        for (final Plot member : joined.plots) {
+            if (this.isRegistered(member)) {
+                this.groups.put(member.getId(), joined);
+            }
+        }
+    }
+
+    /**
+     * Drop the group containing the plot with the given id, if any.
+     *
+     * @param id plot id
+     */
+    synchronized void invalidate(final @NonNull PlotId id) {
+        final Group group = this.groups.get(id);
+        if (group == null) {
+            return;
+        }
+        for (final Plot member : group.plots) {
+            if (this.groups.get(member.getId()) == group) {
+                this.groups.remove(member.getId());
+            }
+        }
+    }
+
+    private boolean isRegistered(final @NonNull Plot plot) {
+        return plot.getArea() == this.area && this.area.getOwnedPlotAbs(plot.getId()) == plot;
+    }
+
+    /**
+     * A group of merged plots.
+     */
+    static final class Group {
+
+        private final Set<Plot> plots;
+        private final Plot base;
+        private volatile Set<CuboidRegion> regions;
+
+        private Group(final @NonNull Set<Plot> plots) {
+            this.plots = plots;
+            Plot base = null;
+            for (final Plot plot : plots) {
+                if (base == null || isLesser(plot.getId(), base.getId())) {
+                    base = plot;
+                }
+            }
+            this.base = base;
+        }
+
+        /**
+         * Get the plots of the group.
+         *
+         * @return immutable set of plots
+         */
+        @NonNull Set<Plot> getPlots() {
+            return this.plots;
+        }
+
+        /**
+         * Get the base plot of the group, which is the plot with the lowest y and then x coordinate.
+         *
+         * @return base plot
+         */
+        @NonNull Plot getBase() {
+            return this.base;
+        }
+
+        /**
+         * Get the cached regions of the group.
+         *
+         * @return the regions, or null if they have not been computed since the group last changed
+         */
+        @Nullable Set<CuboidRegion> getRegions() {
+            return this.regions;
+        }
+
+        void setRegions(final @NonNull Set<CuboidRegion> regions) {
+            this.regions = regions;
+        }
+
+    }
+
+}
@@ -38,6 +38,7 @@ import com.plotsquared.core.location.Location;
 import com.plotsquared.core.player.PlotPlayer;
 import com.plotsquared.core.plot.flag.PlotFlag;
 import com.plotsquared.core.queue.QueueCoordinator;
+import com.plotsquared.core.queue.QueuePriority;
 import com.plotsquared.core.util.task.TaskManager;
 import com.plotsquared.core.util.task.TaskTime;
 import com.sk89q.worldedit.function.pattern.Pattern;
@@ -151,6 +152,7 @@ public final class PlotModificationManager {
                     DBFunc.setDenied(other, denied);
                 }
             }
+            other.getArea().updateAdded(other);
         }
         // copy terrain
         final ArrayDeque<CuboidRegion> regions = new ArrayDeque<>(this.plot.getRegions());
@@ -235,6 +237,9 @@ public final class PlotModificationManager {
                         TaskManager.runTask(whenDone);
                     };
                     QueueCoordinator queue = plot.getArea().getQueue();
+                    if (actor == null) {
+                        queue.setPriority(QueuePriority.LOW);
+                    }
                     for (Plot current : plots) {
                         if (isDelete || !current.hasOwner()) {
                             manager.unClaimPlot(current, null, queue);
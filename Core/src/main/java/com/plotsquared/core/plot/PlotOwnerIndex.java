@@ -0,0 +1,90 @@
+/*
+ * PlotSquared, a land and world management plugin for Minecraft.
+ * Copyright (C) IntellectualSites <https://intellectualsites.com>
+ * Copyright (C) IntellectualSites team and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.plotsquared.core.plot;
+
+import com.plotsquared.core.collection.PlotIdMap;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Index of the claimed plots in a {@link PlotArea} by their (absolute) owner.
+ * <p>
+ * Plots are indexed by their id rather than by instance, as plots keep their instance when they are moved or
+ * swapped. Callers resolve the ids through the area and should check the owner of the resolved plot, as the plot
+ * may have been removed or changed owner in the meantime.
+ */
+final class PlotOwnerIndex {
+
+    private final Map<UUID, Set<PlotId>> plotsByOwner = new ConcurrentHashMap<>();
+    private final PlotIdMap<UUID> ownerById = new PlotIdMap<>();
+
+    /**
+     * Record the owner of the plot with the given id, replacing any previously recorded owner.
+     *
+     * @param id    plot id
+     * @param owner new owner, or null if the plot is not owned
+     */
+    synchronized void update(final @NonNull PlotId id, final @Nullable UUID owner) {
+        final UUID previous = owner == null ? this.ownerById.remove(id) : this.ownerById.put(id, owner);
+        if (Objects.equals(previous, owner)) {
+            return;
+        }
+        if (previous != null) {
+            final Set<PlotId> ids = this.plotsByOwner.get(previous);
+            if (ids != null) {
+                ids.remove(id);
+                if (ids.isEmpty()) {
+                    this.plotsByOwner.remove(previous);
+                }
+            }
+        }
+        if (owner != null) {
+            this.plotsByOwner.computeIfAbsent(owner, key -> ConcurrentHashMap.newKeySet()).add(id);
+        }
+    }
+
+    /**
+     * Remove the plot with the given id from the index.
+     *
+     * @param id plot id
+     */
+    void remove(final @NonNull PlotId id) {
+        update(id, null);
+    }
+
+    /**
+     * Get a weakly consistent view of the ids of the plots owned by the given player.
+     *
+     * @param owner owner
+     * @return plot ids
+     */
+    @NonNull Collection<PlotId> get(final @NonNull UUID owner) {
+        final Set<PlotId> ids = this.plotsByOwner.get(owner);
+        return ids == null ? Collections.emptySet() : ids;
+    }
+
+}
@@ -20,6 +20,7 @@ package com.plotsquared.core.plot.expiration;
 
 import com.google.inject.Inject;
 import com.plotsquared.core.PlotSquared;
+import com.plotsquared.core.configuration.Settings;
 import com.plotsquared.core.configuration.caption.Caption;
 import com.plotsquared.core.configuration.caption.TranslatableCaption;
 import com.plotsquared.core.database.DBFunc;
@@ -55,13 +56,24 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Queue;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
 public class ExpireManager {
 
+    /**
+     * Number of analyses of plots that are kept to store at once.
+     */
+    private static final int ANALYSIS_BATCH_SIZE = 64;
+
     private final ConcurrentHashMap<UUID, Long> dates_cache;
     private final ConcurrentHashMap<UUID, Long> account_age_cache;
     private final EventDispatcher eventDispatcher;
@@ -208,7 +220,7 @@ public class ExpireManager {
         }
 
         // Don't delete server plots
-        if (plot.getFlag(ServerPlotFlag.class)) {
+        if (plot.getBooleanFlag(ServerPlotFlag.class)) {
             return new ArrayList<>();
         }
 
@@ -292,99 +304,7 @@ public class ExpireManager {
             return false;
         }
         this.running = 2;
-        TaskManager.runTaskAsync(new Runnable() {
-            private ConcurrentLinkedDeque<Plot> plots = null;
-
-            @Override
-            public void run() {
-                final Runnable task = this;
-                if (ExpireManager.this.running != 2) {
-                    ExpireManager.this.running = 0;
-                    return;
-                }
-                if (plots == null) {
-                    plots = new ConcurrentLinkedDeque<>(PlotQuery.newQuery().allPlots().asList());
-                }
-                while (!plots.isEmpty()) {
-                    if (ExpireManager.this.running != 2) {
-                        ExpireManager.this.running = 0;
-                        return;
-                    }
-                    Plot plot = plots.poll();
-                    PlotArea area = plot.getArea();
-                    final Plot newPlot = area.getPlot(plot.getId());
-                    final ArrayDeque<ExpiryTask> applicable = new ArrayDeque<>(tasks);
-                    final Collection<ExpiryTask> expired = isExpired(applicable, newPlot);
-                    if (expired.isEmpty()) {
-                        continue;
-                    }
-                    for (ExpiryTask expiryTask : expired) {
-                        if (!expiryTask.needsAnalysis()) {
-                            expiredTask.run(newPlot, () -> TaskManager.getPlatformImplementation()
-                                            .taskLaterAsync(task, TaskTime.ticks(1L)),
-                                    expiryTask.requiresConfirmation()
-                            );
-                            return;
-                        }
-                    }
-                    final RunnableVal<PlotAnalysis> handleAnalysis =
-                            new RunnableVal<>() {
-                                @Override
-                                public void run(final PlotAnalysis changed) {
-                                    passesComplexity(changed, expired, new RunnableVal<>() {
-                                        @Override
-                                        public void run(Boolean confirmation) {
-                                            expiredTask.run(
-                                                    newPlot,
-                                                    () -> TaskManager
-                                                            .getPlatformImplementation()
-                                                            .taskLaterAsync(task, TaskTime.ticks(1L)),
-                                                    confirmation
-                                            );
-                                        }
-                                    }, () -> {
-                                        PlotFlag<?, ?> plotFlag = GlobalFlagContainer.getInstance()
-                                                .getFlag(AnalysisFlag.class)
-                                                .createFlagInstance(changed.asList());
-                                        PlotFlagAddEvent event =
-                                                eventDispatcher.callFlagAdd(plotFlag, plot);
-                                        if (event.getEventResult() == Result.DENY) {
-                                            return;
-                                        }
-                                        newPlot.setFlag(event.getFlag());
-                                        TaskManager.runTaskLaterAsync(task, TaskTime.seconds(1L));
-                                    });
-                                }
-                            };
-                    final Runnable doAnalysis =
-                            () -> PlotSquared.platform().hybridUtils().analyzePlot(newPlot, handleAnalysis);
-
-                    PlotAnalysis analysis = newPlot.getComplexity(null);
-                    if (analysis != null) {
-                        passesComplexity(analysis, expired, new RunnableVal<>() {
-                            @Override
-                            public void run(Boolean value) {
-                                doAnalysis.run();
-                            }
-                        }, () -> TaskManager.getPlatformImplementation().taskLaterAsync(task, TaskTime.ticks(1L)));
-                    } else {
-                        doAnalysis.run();
-                    }
-                    return;
-                }
-                if (plots.isEmpty()) {
-                    ExpireManager.this.running = 3;
-                    TaskManager.runTaskLater(() -> {
-                        if (ExpireManager.this.running == 3) {
-                            ExpireManager.this.running = 2;
-                            runTask(expiredTask);
-                        }
-                    }, TaskTime.ticks(86400000L));
-                } else {
-                    TaskManager.runTaskLaterAsync(task, TaskTime.seconds(10L));
-                }
-            }
-        });
+        TaskManager.runTaskAsync(new ExpiryPass(expiredTask));
         return true;
     }
 
@@ -496,4 +416,179 @@ public class ExpireManager {
         return min;
     }
 
+    /**
+     * One pass over all plots. Up to {@link Settings.Expiry#ANALYSIS_WORKERS} plots are analyzed at the same time, while the
+     * expired plots are handed to the expired task one at a time. The analysis of plots that are kept is stored in bulk.
+     */
+    private final class ExpiryPass implements Runnable {
+
+        private final RunnableVal3<Plot, Runnable, Boolean> expiredTask;
+        private final int workers = Math.max(1, Settings.Expiry.ANALYSIS_WORKERS);
+        private final AtomicInteger analyzing = new AtomicInteger();
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+        // Expired plots and whether they need to be confirmed, waiting for the expired task
+        private final Queue<Map.Entry<Plot, Boolean>> expired = new ConcurrentLinkedQueue<>();
+        private final AtomicBoolean expiring = new AtomicBoolean();
+        // Analysis of plots that are kept, waiting to be stored as flags
+        private final Queue<Map.Entry<Plot, PlotAnalysis>> analyzed = new ConcurrentLinkedQueue<>();
+        private ConcurrentLinkedDeque<Plot> plots = null;
+
+        private ExpiryPass(final RunnableVal3<Plot, Runnable, Boolean> expiredTask) {
+            this.expiredTask = expiredTask;
+        }
+
+        @Override
+        public synchronized void run() {
+            this.scheduled.set(false);
+            if (ExpireManager.this.running != 2) {
+                ExpireManager.this.running = 0;
+                this.storeAnalyses();
+                return;
+            }
+            if (plots == null) {
+                plots = new ConcurrentLinkedDeque<>(PlotQuery.newQuery().allPlots().asList());
+            }
+            while (!plots.isEmpty()) {
+                if (ExpireManager.this.running != 2) {
+                    ExpireManager.this.running = 0;
+                    this.storeAnalyses();
+                    return;
+                }
+                // Continued once an analysis has finished or an expired plot has been handled
+                if (this.analyzing.get() >= this.workers || this.expired.size() >= this.workers) {
+                    return;
+                }
+                Plot plot = plots.poll();
+                PlotArea area = plot.getArea();
+                final Plot newPlot = area.getPlot(plot.getId());
+                final ArrayDeque<ExpiryTask> applicable = new ArrayDeque<>(tasks);
+                final Collection<ExpiryTask> expiredTasks = isExpired(applicable, newPlot);
+                if (expiredTasks.isEmpty()) {
+                    continue;
+                }
+                boolean analysisNeeded = true;
+                for (ExpiryTask expiryTask : expiredTasks) {
+                    if (!expiryTask.needsAnalysis()) {
+                        this.expired.add(Map.entry(newPlot, expiryTask.requiresConfirmation()));
+                        analysisNeeded = false;
+                        break;
+                    }
+                }
+                if (!analysisNeeded) {
+                    this.expireNext();
+                    continue;
+                }
+                PlotAnalysis analysis = newPlot.getComplexity(null);
+                if (analysis != null) {
+                    // Only analyze plots again whose last analysis would have them expire
+                    passesComplexity(analysis, expiredTasks, new RunnableVal<>() {
+                        @Override
+                        public void run(Boolean value) {
+                            analyze(newPlot, expiredTasks);
+                        }
+                    }, () -> {
+                    });
+                } else {
+                    this.analyze(newPlot, expiredTasks);
+                }
+            }
+            if (this.analyzing.get() > 0 || !this.expired.isEmpty() || this.expiring.get()) {
+                return;
+            }
+            this.storeAnalyses();
+            ExpireManager.this.running = 3;
+            TaskManager.runTaskLater(() -> {
+                if (ExpireManager.this.running == 3) {
+                    ExpireManager.this.running = 2;
+                    runTask(this.expiredTask);
+                }
+            }, TaskTime.ticks(86400000L));
+        }
+
+        private void schedule() {
+            if (this.scheduled.compareAndSet(false, true)) {
+                TaskManager.getPlatformImplementation().taskLaterAsync(this, TaskTime.ticks(1L));
+            }
+        }
+
+        private void analyze(final @NonNull Plot plot, final @NonNull Collection<ExpiryTask> expiredTasks) {
+            this.analyzing.incrementAndGet();
+            PlotSquared.platform().hybridUtils().analyzePlot(plot, new RunnableVal<>() {
+                @Override
+                public void run(final PlotAnalysis changed) {
+                    try {
+                        passesComplexity(changed, expiredTasks, new RunnableVal<>() {
+                            @Override
+                            public void run(Boolean confirmation) {
+                                expired.add(Map.entry(plot, confirmation));
+                            }
+                        }, () -> analyzed.add(Map.entry(plot, changed)));
+                    } finally {
+                        analyzing.decrementAndGet();
+                    }
+                    if (analyzed.size() >= ANALYSIS_BATCH_SIZE) {
+                        storeAnalyses();
+                    }
+                    expireNext();
+                    schedule();
+                }
+            });
+        }
+
+        /**
+         * Hand the next expired plot to the expired task, unless it is still handling another one.
+         */
+        private void expireNext() {
+            if (!this.expiring.compareAndSet(false, true)) {
+                return;
+            }
+            final Map.Entry<Plot, Boolean> next = this.expired.poll();
+            if (next == null || ExpireManager.this.running != 2) {
+                if (next != null) {
+                    // The pass was stopped
+                    this.expired.clear();
+                }
+                this.expiring.set(false);
+                // A plot may have been added after the poll
+                if (!this.expired.isEmpty() && ExpireManager.this.running == 2) {
+                    this.expireNext();
+                }
+                return;
+            }
+            this.expiredTask.run(next.getKey(), () -> {
+                this.expiring.set(false);
+                this.expireNext();
+                this.schedule();
+            }, next.getValue());
+        }
+
+        /**
+         * Store the analysis of all plots that are kept as flags on the main thread, so that the database stores them
+         * in one batch.
+         */
+        private void storeAnalyses() {
+            if (this.analyzed.isEmpty()) {
+                return;
+            }
+            final List<Map.Entry<Plot, PlotAnalysis>> analyses = new ArrayList<>();
+            Map.Entry<Plot, PlotAnalysis> entry;
+            while ((entry = this.analyzed.poll()) != null) {
+                analyses.add(entry);
+            }
+            TaskManager.runTask(() -> {
+                for (final Map.Entry<Plot, PlotAnalysis> analysis : analyses) {
+                    PlotFlag<?, ?> plotFlag = GlobalFlagContainer.getInstance()
+                            .getFlag(AnalysisFlag.class)
+                            .createFlagInstance(analysis.getValue().asList());
+                    PlotFlagAddEvent event = eventDispatcher.callFlagAdd(plotFlag, analysis.getKey());
+                    if (event.getEventResult() == Result.DENY) {
+                        continue;
+                    }
+                    analysis.getKey().setFlag(event.getFlag());
+                }
+            });
+        }
+
+    }
+
 }
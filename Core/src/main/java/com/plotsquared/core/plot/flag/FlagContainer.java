@@ -22,16 +22,22 @@ import com.google.common.base.Preconditions;
 import com.google.common.collect.ImmutableMap;
 import com.intellectualsites.annotations.NotPublic;
 import com.plotsquared.core.configuration.caption.CaptionUtility;
+import com.plotsquared.core.plot.flag.types.BooleanFlag;
+import com.plotsquared.core.plot.flag.types.DoubleFlag;
+import com.plotsquared.core.plot.flag.types.IntegerFlag;
+import com.plotsquared.core.plot.flag.types.LongFlag;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.checkerframework.checker.nullness.qual.Nullable;
 
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Locale;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Container type for {@link PlotFlag plot flags}.
@@ -39,6 +45,11 @@ import java.util.Map;
 public class FlagContainer {
 
     private static final Logger LOGGER = LogManager.getLogger("PlotSquared/" + FlagContainer.class.getSimpleName());
+    /**
+     * Incremented whenever any flag container changes. Effective flag tables validated during the
+     * current epoch are used without checking the parent containers.
+     */
+    private static final AtomicInteger EPOCH = new AtomicInteger();
 
     private final Map<String, String> unknownFlags = new HashMap<>();
     private final Map<Class<?>, PlotFlag<?, ?>> flagMap = new HashMap<>();
@@ -46,6 +57,8 @@ public class FlagContainer {
     private final Collection<PlotFlagUpdateHandler> updateSubscribers = new HashSet<>();
     private final PlotFlagUpdateHandler unknownsRef;
     private FlagContainer parentContainer;
+    private volatile int modCount;
+    private volatile EffectiveFlags effectiveFlags;
 
     /**
      * Construct a new flag container with an optional parent container and update handler.
@@ -115,6 +128,7 @@ public class FlagContainer {
 
     public void setParentContainer(FlagContainer parentContainer) {
         this.parentContainer = parentContainer;
+        this.invalidate();
     }
 
     @SuppressWarnings("unused")
@@ -149,6 +163,7 @@ public class FlagContainer {
                     "flag name may not be more than 64 characters. Check: " + flag.getName()
             );
             final PlotFlag<?, ?> oldInstance = this.flagMap.put(flag.getClass(), flag);
+            this.invalidate();
             final PlotFlagUpdateType plotFlagUpdateType;
             if (oldInstance != null) {
                 plotFlagUpdateType = PlotFlagUpdateType.FLAG_UPDATED;
@@ -179,6 +194,7 @@ public class FlagContainer {
     @SuppressWarnings("unchecked")
     public <V, T extends PlotFlag<V, ?>> V removeFlag(final T flag) {
         final Object value = this.flagMap.remove(flag.getClass());
+        this.invalidate();
         if (this.plotFlagUpdateHandler != null) {
             this.plotFlagUpdateHandler.handle(flag, PlotFlagUpdateType.FLAG_REMOVED);
         }
@@ -215,6 +231,73 @@ public class FlagContainer {
      */
     public void clearLocal() {
         this.flagMap.clear();
+        this.invalidate();
+    }
+
+    /**
+     * Drop the effective flag table of this container. Tables of child containers are rebuilt
+     * once they notice that the table of their parent changed.
+     */
+    private void invalidate() {
+        this.modCount++;
+        this.effectiveFlags = null;
+        EPOCH.incrementAndGet();
+    }
+
+    /**
+     * Get the effective flag table of this container, which holds the flag instance that applies
+     * to this container for every registered flag type, taking parent containers into account.
+     * The table is rebuilt if this container or any of its parents changed since it was built.
+     *
+     * @return effective flag table
+     */
+    private @NonNull EffectiveFlags getEffectiveFlags() {
+        final EffectiveFlags flags = this.effectiveFlags;
+        final int epoch = EPOCH.get();
+        if (flags != null && flags.epoch == epoch) {
+            return flags;
+        }
+        final int modCount = this.modCount;
+        final FlagContainer parentContainer = this.getParentContainer();
+        final EffectiveFlags parentFlags = parentContainer == null ? null : parentContainer.getEffectiveFlags();
+        if (flags != null && flags.modCount == modCount && flags.parent == parentFlags) {
+            flags.epoch = epoch;
+            return flags;
+        }
+        final EffectiveFlags rebuilt = new EffectiveFlags(this.buildEffectiveFlags(parentFlags), parentFlags, modCount, epoch);
+        this.effectiveFlags = rebuilt;
+        return rebuilt;
+    }
+
+    private PlotFlag<?, ?>[] buildEffectiveFlags(final @Nullable EffectiveFlags parentFlags) {
+        final int size = FlagIndex.size();
+        if (parentFlags != null && this.flagMap.isEmpty() && parentFlags.flags.length == size) {
+            // containers without local flags share the table of their parent
+            return parentFlags.flags;
+        }
+        final PlotFlag<?, ?>[] flags = parentFlags == null ? new PlotFlag<?, ?>[size] : Arrays.copyOf(parentFlags.flags, size);
+        for (final Map.Entry<Class<?>, PlotFlag<?, ?>> entry : this.flagMap.entrySet()) {
+            final int index = FlagIndex.of(entry.getKey());
+            if (index >= 0 && index < size) {
+                flags[index] = entry.getValue();
+            }
+        }
+        return flags;
+    }
+
+    /**
+     * Look up a flag in the effective flag table.
+     *
+     * @param flagClass flag type
+     * @return the flag instance, or null if the flag type is not part of the table
+     */
+    private @Nullable PlotFlag<?, ?> getEffectiveFlag(final @NonNull Class<?> flagClass) {
+        final int index = FlagIndex.of(flagClass);
+        if (index < 0) {
+            return null;
+        }
+        final PlotFlag<?, ?>[] flags = this.getEffectiveFlags().flags;
+        return index < flags.length ? flags[index] : null;
     }
 
     /**
@@ -248,6 +331,10 @@ public class FlagContainer {
      * @return the plot flag
      */
     public PlotFlag<?, ?> getFlagErased(Class<?> flagClass) {
+        final PlotFlag<?, ?> effectiveFlag = this.getEffectiveFlag(flagClass);
+        if (effectiveFlag != null) {
+            return effectiveFlag;
+        }
         final PlotFlag<?, ?> flag = this.flagMap.get(flagClass);
         if (flag != null) {
             return flag;
@@ -270,6 +357,10 @@ public class FlagContainer {
      * @return Flag instance
      */
     public <V, T extends PlotFlag<V, ?>> T getFlag(final Class<? extends T> flagClass) {
+        final PlotFlag<?, ?> effectiveFlag = this.getEffectiveFlag(flagClass);
+        if (effectiveFlag != null) {
+            return castUnsafe(effectiveFlag);
+        }
         final PlotFlag<?, ?> flag = this.flagMap.get(flagClass);
         if (flag != null) {
             return castUnsafe(flag);
@@ -281,6 +372,54 @@ public class FlagContainer {
         return null;
     }
 
+    /**
+     * Query all levels of flag containers for a boolean flag and return its value
+     * without boxing it.
+     *
+     * @param flagClass Flag class to query for
+     * @return Flag value
+     * @since TODO
+     */
+    public boolean getBooleanFlag(final @NonNull Class<? extends BooleanFlag<?>> flagClass) {
+        return ((BooleanFlag<?>) this.getFlagErased(flagClass)).getBooleanValue();
+    }
+
+    /**
+     * Query all levels of flag containers for an integer flag and return its value
+     * without boxing it.
+     *
+     * @param flagClass Flag class to query for
+     * @return Flag value
+     * @since TODO
+     */
+    public int getIntFlag(final @NonNull Class<? extends IntegerFlag<?>> flagClass) {
+        return ((IntegerFlag<?>) this.getFlagErased(flagClass)).getIntValue();
+    }
+
+    /**
+     * Query all levels of flag containers for a long flag and return its value
+     * without boxing it.
+     *
+     * @param flagClass Flag class to query for
+     * @return Flag value
+     * @since TODO
+     */
+    public long getLongFlag(final @NonNull Class<? extends LongFlag<?>> flagClass) {
+        return ((LongFlag<?>) this.getFlagErased(flagClass)).getLongValue();
+    }
+
+    /**
+     * Query all levels of flag containers for a double flag and return its value
+     * without boxing it.
+     *
+     * @param flagClass Flag class to query for
+     * @return Flag value
+     * @since TODO
+     */
+    public double getDoubleFlag(final @NonNull Class<? extends DoubleFlag<?>> flagClass) {
+        return ((DoubleFlag<?>) this.getFlagErased(flagClass)).getDoubleValue();
+    }
+
     /**
      * Check for flag existence in this flag container instance.
      *
@@ -380,6 +519,30 @@ public class FlagContainer {
         return flagMap.hashCode();
     }
 
+    /**
+     * Flattened view of the flags applying to a container, indexed by {@link FlagIndex}.
+     */
+    private static final class EffectiveFlags {
+
+        private final PlotFlag<?, ?>[] flags;
+        private final EffectiveFlags parent;
+        private final int modCount;
+        private volatile int epoch;
+
+        private EffectiveFlags(
+                final PlotFlag<?, ?>[] flags,
+                final @Nullable EffectiveFlags parent,
+                final int modCount,
+                final int epoch
+        ) {
+            this.flags = flags;
+            this.parent = parent;
+            this.modCount = modCount;
+            this.epoch = epoch;
+        }
+
+    }
+
     /**
      * Update event types used in {@link PlotFlagUpdateHandler}.
      */
@@ -0,0 +1,77 @@
+/*
+ * PlotSquared, a land and world management plugin for Minecraft.
+ * Copyright (C) IntellectualSites <https://intellectualsites.com>
+ * Copyright (C) IntellectualSites team and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.plotsquared.core.plot.flag;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+/**
+ * Dense indices of the flag types registered in the {@link GlobalFlagContainer}. The indices are used
+ * as positions in the effective flag tables of {@link FlagContainer flag containers}.
+ */
+final class FlagIndex {
+
+    private static final ClassValue<Slot> SLOTS = new ClassValue<>() {
+        @Override
+        protected Slot computeValue(final @NonNull Class<?> type) {
+            return new Slot();
+        }
+    };
+    private static volatile int size;
+
+    private FlagIndex() {
+    }
+
+    /**
+     * Get the index of a flag type.
+     *
+     * @param flagClass flag type
+     * @return the index, or -1 if the flag type has not been registered
+     */
+    static int of(final @NonNull Class<?> flagClass) {
+        return SLOTS.get(flagClass).index;
+    }
+
+    /**
+     * Assign an index to a flag type, if it does not have one yet.
+     *
+     * @param flagClass flag type
+     */
+    static synchronized void register(final @NonNull Class<?> flagClass) {
+        final Slot slot = SLOTS.get(flagClass);
+        if (slot.index < 0) {
+            slot.index = size++;
+        }
+    }
+
+    /**
+     * Get the number of registered flag types. All indices are lower than this.
+     *
+     * @return number of flag types
+     */
+    static int size() {
+        return size;
+    }
+
+    private static final class Slot {
+
+        private volatile int index = -1;
+
+    }
+
+}
@@ -262,6 +262,13 @@ public final class GlobalFlagContainer extends FlagContainer {
         return GlobalFlagContainer.instance;
     }
 
+    @Override
+    public <V, T extends PlotFlag<V, ?>> void addFlag(final T flag) {
+        // the index has to exist before the flag is added, so the effective flag tables include it
+        FlagIndex.register(flag.getClass());
+        super.addFlag(flag);
+    }
+
     @Override
     public PlotFlag<?, ?> getFlagErased(Class<?> flagClass) {
         final PlotFlag<?, ?> flag = super.getFlagErased(flagClass);
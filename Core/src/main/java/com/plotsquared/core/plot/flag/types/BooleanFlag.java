@@ -35,6 +35,8 @@ public abstract class BooleanFlag<F extends PlotFlag<Boolean, F>> extends PlotFl
     private static final Collection<String> negativeValues =
             Arrays.asList("0", "no", "deny", "disallow", "false");
 
+    private final boolean booleanValue;
+
     /**
      * Construct a new flag instance.
      *
@@ -43,6 +45,7 @@ public abstract class BooleanFlag<F extends PlotFlag<Boolean, F>> extends PlotFl
      */
     protected BooleanFlag(final boolean value, final Caption description) {
         super(value, TranslatableCaption.of("flags.flag_category_boolean"), description);
+        this.booleanValue = value;
     }
 
     /**
@@ -66,6 +69,16 @@ public abstract class BooleanFlag<F extends PlotFlag<Boolean, F>> extends PlotFl
         }
     }
 
+    /**
+     * Get the value of this flag without unboxing it.
+     *
+     * @return flag value
+     * @since TODO
+     */
+    public boolean getBooleanValue() {
+        return this.booleanValue;
+    }
+
     @Override
     public F merge(@NonNull Boolean newValue) {
         return this.flagOf(getValue() || newValue);
@@ -25,17 +25,30 @@ import org.checkerframework.checker.nullness.qual.NonNull;
 
 public abstract class DoubleFlag<F extends NumberFlag<Double, F>> extends NumberFlag<Double, F> {
 
+    private final double doubleValue;
+
     protected DoubleFlag(
             @NonNull Double value, Double minimum, Double maximum,
             @NonNull Caption flagDescription
     ) {
         super(value, minimum, maximum, TranslatableCaption.of("flags.flag_category_doubles"), flagDescription);
+        this.doubleValue = value;
     }
 
     protected DoubleFlag(@NonNull Double value, @NonNull Caption flagDescription) {
         this(value, Double.MIN_VALUE, Double.MAX_VALUE, flagDescription);
     }
 
+    /**
+     * Get the value of this flag without unboxing it.
+     *
+     * @return flag value
+     * @since TODO
+     */
+    public double getDoubleValue() {
+        return this.doubleValue;
+    }
+
     @Override
     public F merge(@NonNull Double newValue) {
         return flagOf(getValue() + newValue);
@@ -25,17 +25,30 @@ import org.checkerframework.checker.nullness.qual.NonNull;
 
 public abstract class IntegerFlag<F extends NumberFlag<Integer, F>> extends NumberFlag<Integer, F> {
 
+    private final int intValue;
+
     protected IntegerFlag(
             final int value, int minimum, int maximum,
             @NonNull Caption flagDescription
     ) {
         super(value, minimum, maximum, TranslatableCaption.of("flags.flag_category_integers"), flagDescription);
+        this.intValue = value;
     }
 
     protected IntegerFlag(@NonNull Caption flagDescription) {
         this(0, Integer.MIN_VALUE, Integer.MAX_VALUE, flagDescription);
     }
 
+    /**
+     * Get the value of this flag without unboxing it.
+     *
+     * @return flag value
+     * @since TODO
+     */
+    public int getIntValue() {
+        return this.intValue;
+    }
+
     @Override
     public F merge(@NonNull Integer newValue) {
         return flagOf(getValue() + newValue);
@@ -25,17 +25,30 @@ import org.checkerframework.checker.nullness.qual.NonNull;
 
 public abstract class LongFlag<F extends NumberFlag<Long, F>> extends NumberFlag<Long, F> {
 
+    private final long longValue;
+
     protected LongFlag(
             @NonNull Long value, Long minimum, Long maximum,
             @NonNull Caption flagDescription
     ) {
         super(value, minimum, maximum, TranslatableCaption.of("flags.flag_category_integers"), flagDescription);
+        this.longValue = value;
     }
 
     protected LongFlag(@NonNull Long value, @NonNull Caption flagDescription) {
         this(value, Long.MIN_VALUE, Long.MAX_VALUE, flagDescription);
     }
 
+    /**
+     * Get the value of this flag without unboxing it.
+     *
+     * @return flag value
+     * @since TODO
+     */
+    public long getLongValue() {
+        return this.longValue;
+    }
+
     @Override
     public F merge(@NonNull Long newValue) {
         return flagOf(getValue() + newValue);
@@ -18,6 +18,7 @@
  */
 package com.plotsquared.core.queue;
 
+import com.plotsquared.core.location.Location;
 import com.plotsquared.core.plot.PlotArea;
 import com.sk89q.jnbt.CompoundTag;
 import com.sk89q.worldedit.function.pattern.Pattern;
@@ -50,6 +51,17 @@ public class AreaBoundDelegateQueueCoordinator extends DelegateQueueCoordinator
         return this.area;
     }
 
+    @Override
+    public void setCuboid(@NonNull Location pos1, @NonNull Location pos2, @NonNull BlockState block) {
+        // Blocks outside of the area are filtered one by one, so the cuboid must not be forwarded
+        setCuboidBlockwise(pos1, pos2, block);
+    }
+
+    @Override
+    public void setCuboid(@NonNull Location pos1, @NonNull Location pos2, @NonNull Pattern blocks) {
+        setCuboidBlockwise(pos1, pos2, blocks);
+    }
+
     @Override
     public boolean setBlock(int x, int y, int z, @NonNull BlockState id) {
         if (area.contains(x, z)) {
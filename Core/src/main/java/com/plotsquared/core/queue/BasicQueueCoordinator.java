@@ -333,6 +333,77 @@ public abstract class BasicQueueCoordinator extends QueueCoordinator {
         this.sideEffectSet = sideEffectSet;
     }
 
+    @Override
+    public void setCuboid(
+            final com.plotsquared.core.location.@NonNull Location pos1,
+            final com.plotsquared.core.location.@NonNull Location pos2,
+            @NonNull final BlockState block
+    ) {
+        fillCuboid(pos1, pos2, block.toBaseBlock());
+    }
+
+    @Override
+    public void setCuboid(
+            final com.plotsquared.core.location.@NonNull Location pos1,
+            final com.plotsquared.core.location.@NonNull Location pos2,
+            @NonNull final Pattern blocks
+    ) {
+        BaseBlock block = PatternUtil.getUniformBlock(blocks);
+        if (block == null) {
+            super.setCuboid(pos1, pos2, blocks);
+            return;
+        }
+        fillCuboid(pos1, pos2, block);
+    }
+
+    /**
+     * Fill a cuboid with a single block, chunk by chunk. Sections that are entirely inside the cuboid are filled as a
+     * whole, without storing the block for each position.
+     */
+    private void fillCuboid(
+            final com.plotsquared.core.location.@NonNull Location pos1,
+            final com.plotsquared.core.location.@NonNull Location pos2,
+            @NonNull final BaseBlock block
+    ) {
+        int yMin = Math.max(Math.min(pos1.getY(), pos2.getY()), world.getMinY());
+        int yMax = Math.min(Math.max(pos1.getY(), pos2.getY()), world.getMaxY());
+        int xMin = Math.min(pos1.getX(), pos2.getX());
+        int xMax = Math.max(pos1.getX(), pos2.getX());
+        int zMin = Math.min(pos1.getZ(), pos2.getZ());
+        int zMax = Math.max(pos1.getZ(), pos2.getZ());
+        if (yMin > yMax) {
+            return;
+        }
+        for (int cx = xMin >> 4; cx <= xMax >> 4; cx++) {
+            int bx = cx << 4;
+            int x1 = Math.max(xMin, bx) & 15;
+            int x2 = Math.min(xMax, bx + 15) & 15;
+            for (int cz = zMin >> 4; cz <= zMax >> 4; cz++) {
+                int bz = cz << 4;
+                int z1 = Math.max(zMin, bz) & 15;
+                int z2 = Math.min(zMax, bz + 15) & 15;
+                boolean fullColumn = x1 == 0 && x2 == 15 && z1 == 0 && z2 == 15;
+                LocalChunk chunk = getChunk(cx, cz);
+                for (int section = yMin >> 4; section <= yMax >> 4; section++) {
+                    int by = section << 4;
+                    int y1 = Math.max(yMin, by);
+                    int y2 = Math.min(yMax, by + 15);
+                    if (fullColumn && y1 == by && y2 == by + 15) {
+                        chunk.fillSection(section, block);
+                        continue;
+                    }
+                    for (int y = y1; y <= y2; y++) {
+                        for (int x = x1; x <= x2; x++) {
+                            for (int z = z1; z <= z2; z++) {
+                                chunk.setBlock(x, y, z, block);
+                            }
+                        }
+                    }
+                }
+            }
+        }
+    }
+
     // Don't ask about the @NonNull placement. That's how it needs to be else it errors.
     @Override
     public void setBiomeCuboid(
@@ -81,6 +81,17 @@ public class BlockArrayCacheScopedQueueCoordinator extends ZeroedDelegateScopedQ
         return blockStates;
     }
 
+    @Override
+    public void setCuboid(@NonNull Location pos1, @NonNull Location pos2, @NonNull BlockState block) {
+        // Blocks are cached in this queue rather than passed to the parent, so the cuboid must not be forwarded
+        setCuboidBlockwise(pos1, pos2, block);
+    }
+
+    @Override
+    public void setCuboid(@NonNull Location pos1, @NonNull Location pos2, @NonNull Pattern blocks) {
+        setCuboidBlockwise(pos1, pos2, blocks);
+    }
+
     @Override
     public boolean setBlock(int x, final int y, int z, final @NonNull BlockState id) {
         x += offsetX;
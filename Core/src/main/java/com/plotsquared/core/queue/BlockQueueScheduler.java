@@ -0,0 +1,197 @@
+/*
+ * PlotSquared, a land and world management plugin for Minecraft.
+ * Copyright (C) IntellectualSites <https://intellectualsites.com>
+ * Copyright (C) IntellectualSites team and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.plotsquared.core.queue;
+
+import com.plotsquared.core.configuration.Settings;
+import com.plotsquared.core.util.task.PlotSquaredTask;
+import com.plotsquared.core.util.task.TaskManager;
+import com.plotsquared.core.util.task.TaskTime;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Shares the time that may be spent placing blocks per tick between all active {@link ChunkCoordinator}s.
+ * <p>
+ * The budget per tick is derived from the server's average tick time, so that the queue never pushes the tick past
+ * {@link Settings.QUEUE#TARGET_TICK_TIME}, and never exceeds {@link Settings.QUEUE#MAX_ITERATION_TIME}. Platforms that
+ * do not report their tick time fall back to the maximum, scaled down while the server is lagging. Within the budget,
+ * the active tasks take turns in round-robin order, processing as many chunks per turn as the
+ * {@link QueuePriority#getWeight() weight} of their priority.
+ * <p>
+ * Tasks may be scheduled from any thread, they are handed over to the main thread and run there.
+ *
+ * @since TODO
+ */
+public final class BlockQueueScheduler implements Runnable {
+
+    private static final Logger LOGGER = LogManager.getLogger("PlotSquared/" + BlockQueueScheduler.class.getSimpleName());
+
+    private static final double MIN_TICK_TIME = 1.0D;
+    private static final double TICK_TIME = 50.0D;
+    private static final double SMOOTHING = 0.05D;
+
+    private final Queue<Task> pending = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean startRequested = new AtomicBoolean();
+    // Only accessed on the main thread
+    private final List<Task> tasks = new ArrayList<>();
+    private PlotSquaredTask task;
+    private int cursor;
+    private double averageSpent;
+    private long lastRun;
+
+    /**
+     * Add a task to the scheduler. It takes part from the next tick on, until {@link Task#tick()} returns {@code false}.
+     * May be called from any thread.
+     *
+     * @param task task to schedule
+     */
+    public void schedule(final @NonNull Task task) {
+        this.pending.add(task);
+        if (this.startRequested.compareAndSet(false, true)) {
+            TaskManager.runTask(this::start);
+        }
+    }
+
+    private void start() {
+        // Reset before checking, so that a task scheduled after this point requests another start
+        this.startRequested.set(false);
+        if (this.task == null && !this.pending.isEmpty()) {
+            this.lastRun = System.nanoTime();
+            this.task = TaskManager.runTaskRepeat(this, TaskTime.ticks(1L));
+        }
+    }
+
+    /**
+     * Get the number of tasks currently sharing the budget.
+     *
+     * @return number of active tasks
+     */
+    public int getActiveTasks() {
+        return this.tasks.size() + this.pending.size();
+    }
+
+    @Override
+    public void run() {
+        final long start = System.nanoTime();
+        final long interval = start - this.lastRun;
+        this.lastRun = start;
+        Task scheduled;
+        while ((scheduled = this.pending.poll()) != null) {
+            this.tasks.add(scheduled);
+        }
+        // Completing a task may schedule the next one, so tick over a snapshot
+        for (final Task task : this.tasks.toArray(new Task[0])) {
+            boolean complete;
+            try {
+                complete = !task.tick();
+            } catch (final Throwable throwable) {
+                LOGGER.error("Failed to update a chunk task, it will be dropped", throwable);
+                complete = true;
+            }
+            if (complete) {
+                this.tasks.remove(task);
+            }
+        }
+        if (this.tasks.isEmpty()) {
+            this.task.cancel();
+            this.task = null;
+            this.averageSpent = 0;
+            return;
+        }
+        final long deadline = start + (long) (this.getBudget(interval) * TimeUnit.MILLISECONDS.toNanos(1));
+        boolean progress = true;
+        while (progress && System.nanoTime() < deadline) {
+            progress = false;
+            for (int turn = 0, size = this.tasks.size(); turn < size && System.nanoTime() < deadline; turn++) {
+                final Task task = this.tasks.get(this.cursor++ % size);
+                for (int chunk = task.getPriority().getWeight(); chunk > 0 && task.processChunk(); chunk--) {
+                    progress = true;
+                    if (System.nanoTime() >= deadline) {
+                        break;
+                    }
+                }
+            }
+            this.cursor %= this.tasks.size();
+        }
+        final double spent = (System.nanoTime() - start) / (double) TimeUnit.MILLISECONDS.toNanos(1);
+        this.averageSpent += (spent - this.averageSpent) * SMOOTHING;
+    }
+
+    /**
+     * Get the time in milliseconds that may be spent placing blocks in the current tick.
+     *
+     * @param interval time since the previous tick in nanoseconds
+     * @return budget in milliseconds
+     */
+    private double getBudget(final long interval) {
+        final double max = Settings.QUEUE.MAX_ITERATION_TIME;
+        final TaskManager taskManager = TaskManager.getPlatformImplementation();
+        final double tickTime = taskManager == null ? -1 : taskManager.getAverageTickTime();
+        final double budget;
+        if (tickTime < 0) {
+            // A tick that took longer than usual means the server is lagging behind
+            final double elapsed = interval / (double) TimeUnit.MILLISECONDS.toNanos(1);
+            budget = elapsed > TICK_TIME ? max * TICK_TIME / elapsed : max;
+        } else {
+            // The average tick time includes the time the queue spent itself
+            final double others = tickTime - this.averageSpent;
+            budget = Settings.QUEUE.TARGET_TICK_TIME - others;
+        }
+        return Math.max(MIN_TICK_TIME, Math.min(max, budget));
+    }
+
+    /**
+     * Work that places blocks chunk by chunk, such as a {@link ChunkCoordinator}.
+     *
+     * @since TODO
+     */
+    public interface Task {
+
+        /**
+         * Called once per tick before any chunk is processed, to load further chunks or complete the task.
+         *
+         * @return {@code false} if the task is complete and should be removed from the scheduler
+         */
+        boolean tick();
+
+        /**
+         * Process a single chunk that is ready.
+         *
+         * @return {@code false} if no chunk was ready
+         */
+        boolean processChunk();
+
+        /**
+         * Get the priority of the task.
+         *
+         * @return priority
+         */
+        @NonNull QueuePriority getPriority();
+
+    }
+
+}
@@ -18,8 +18,20 @@
  */
 package com.plotsquared.core.queue;
 
+import com.sk89q.worldedit.math.BlockVector2;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.function.BooleanSupplier;
+import java.util.function.Function;
+
 public abstract class ChunkCoordinator implements Runnable {
 
+    private QueuePriority priority = QueuePriority.NORMAL;
+    private Function<BlockVector2, CompletableFuture<?>> preparation;
+    private BooleanSupplier readiness;
+
     /**
      * Starts the chunk coordinator. This will usually (implementation-specific-permitting) mark chunks to be loaded in batches,
      * then add them to a queue and apply tickets once loaded to prevent unloading. A repeating task will then iterate over loaded
@@ -48,4 +60,68 @@ public abstract class ChunkCoordinator implements Runnable {
      */
     public abstract int getTotalChunks();
 
+    /**
+     * Get the priority of the coordinator in the {@link BlockQueueScheduler}
+     *
+     * @return priority
+     * @since TODO
+     */
+    public @NonNull QueuePriority getPriority() {
+        return this.priority;
+    }
+
+    /**
+     * Set the priority of the coordinator in the {@link BlockQueueScheduler}. Must be set before the coordinator is started.
+     *
+     * @param priority priority
+     * @since TODO
+     */
+    public void setPriority(final @NonNull QueuePriority priority) {
+        this.priority = priority;
+    }
+
+    /**
+     * Get the function that prepares a chunk off the main thread before it is passed to the chunk consumer.
+     *
+     * @return preparation function, or null if chunks are not prepared
+     * @since TODO
+     */
+    public @Nullable Function<BlockVector2, CompletableFuture<?>> getPreparation() {
+        return this.preparation;
+    }
+
+    /**
+     * Set a function that prepares a chunk off the main thread. It is called when the chunk is requested, and the chunk is
+     * only passed to the chunk consumer once both the chunk is loaded and the returned future has completed. The function
+     * may be called more than once for the same chunk. Must be set before the coordinator is started.
+     *
+     * @param preparation preparation function, or null to not prepare chunks
+     * @since TODO
+     */
+    public void setPreparation(final @Nullable Function<BlockVector2, CompletableFuture<?>> preparation) {
+        this.preparation = preparation;
+    }
+
+    /**
+     * Get the check whether the chunk consumer can accept another chunk.
+     *
+     * @return readiness check, or null if the chunk consumer is always ready
+     * @since TODO
+     */
+    public @Nullable BooleanSupplier getReadiness() {
+        return this.readiness;
+    }
+
+    /**
+     * Set a check whether the chunk consumer can accept another chunk. While it returns {@code false}, loaded chunks are
+     * kept back instead of being passed to the chunk consumer, and no further chunks are loaded than the coordinator
+     * would keep loaded anyway. Must be set before the coordinator is started.
+     *
+     * @param readiness readiness check, or null if the chunk consumer is always ready
+     * @since TODO
+     */
+    public void setReadiness(final @Nullable BooleanSupplier readiness) {
+        this.readiness = readiness;
+    }
+
 }
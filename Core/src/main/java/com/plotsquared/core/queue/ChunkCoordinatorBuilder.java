@@ -33,7 +33,10 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.BooleanSupplier;
 import java.util.function.Consumer;
+import java.util.function.Function;
 
 /**
  * Builds a {@link ChunkCoordinator} instance
@@ -53,6 +56,9 @@ public class ChunkCoordinatorBuilder {
     private boolean unloadAfter = true;
     private boolean forceSync = false;
     private boolean shouldGen = true;
+    private QueuePriority priority = QueuePriority.NORMAL;
+    private Function<BlockVector2, CompletableFuture<?>> preparation;
+    private BooleanSupplier readiness;
 
     @Inject
     public ChunkCoordinatorBuilder(@NonNull ChunkCoordinatorFactory chunkCoordinatorFactory) {
@@ -217,6 +223,45 @@ public class ChunkCoordinatorBuilder {
         return this;
     }
 
+    /**
+     * Set the priority of the chunk coordinator when it shares the time per tick with other coordinators. Default is
+     * {@link QueuePriority#NORMAL}.
+     *
+     * @param priority priority
+     * @return this ChunkCoordinatorBuilder instance
+     * @since TODO
+     */
+    public @NonNull ChunkCoordinatorBuilder withPriority(final @NonNull QueuePriority priority) {
+        this.priority = Preconditions.checkNotNull(priority, "Priority may not be null");
+        return this;
+    }
+
+    /**
+     * Set a function that prepares each chunk off the main thread while it is loading. See
+     * {@link ChunkCoordinator#setPreparation(Function)}.
+     *
+     * @param preparation preparation function
+     * @return this ChunkCoordinatorBuilder instance
+     * @since TODO
+     */
+    public @NonNull ChunkCoordinatorBuilder withPreparation(final @Nullable Function<BlockVector2, CompletableFuture<?>> preparation) {
+        this.preparation = preparation;
+        return this;
+    }
+
+    /**
+     * Set a check whether the chunk consumer can accept another chunk. See
+     * {@link ChunkCoordinator#setReadiness(BooleanSupplier)}.
+     *
+     * @param readiness readiness check
+     * @return this ChunkCoordinatorBuilder instance
+     * @since TODO
+     */
+    public @NonNull ChunkCoordinatorBuilder withReadiness(final @Nullable BooleanSupplier readiness) {
+        this.readiness = readiness;
+        return this;
+    }
+
     public @NonNull ChunkCoordinatorBuilder withProgressSubscriber(ProgressSubscriber progressSubscriber) {
         this.progressSubscribers.add(progressSubscriber);
         return this;
@@ -237,7 +282,7 @@ public class ChunkCoordinatorBuilder {
         Preconditions.checkNotNull(this.chunkConsumer, "No chunk consumer was supplied");
         Preconditions.checkNotNull(this.whenDone, "No final action was supplied");
         Preconditions.checkNotNull(this.throwableConsumer, "No throwable consumer was supplied");
-        return chunkCoordinatorFactory
+        final ChunkCoordinator chunkCoordinator = chunkCoordinatorFactory
                 .create(
                         this.maxIterationTime,
                         this.initialBatchSize,
@@ -251,6 +296,10 @@ public class ChunkCoordinatorBuilder {
                         this.forceSync,
                         this.shouldGen
                 );
+        chunkCoordinator.setPriority(this.priority);
+        chunkCoordinator.setPreparation(this.preparation);
+        chunkCoordinator.setReadiness(this.readiness);
+        return chunkCoordinator;
     }
 
 }
@@ -19,6 +19,7 @@
 package com.plotsquared.core.queue;
 
 import com.plotsquared.core.configuration.Settings;
+import com.plotsquared.core.location.Location;
 import com.plotsquared.core.queue.subscriber.ProgressSubscriber;
 import com.sk89q.jnbt.CompoundTag;
 import com.sk89q.worldedit.entity.Entity;
@@ -36,6 +37,7 @@ import org.checkerframework.checker.nullness.qual.Nullable;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Set;
+import java.util.function.BooleanSupplier;
 import java.util.function.Consumer;
 
 /**
@@ -52,6 +54,7 @@ public class DelegateQueueCoordinator extends QueueCoordinator {
         if (parent != null) {
             this.setForceSync(parent.isForceSync());
             this.setShouldGen(parent.isShouldGen());
+            this.setPriority(parent.getPriority());
         }
     }
 
@@ -98,6 +101,20 @@ public class DelegateQueueCoordinator extends QueueCoordinator {
         return false;
     }
 
+    @Override
+    public void setCuboid(@NonNull Location pos1, @NonNull Location pos2, @NonNull BlockState block) {
+        if (parent != null) {
+            parent.setCuboid(pos1, pos2, block);
+        }
+    }
+
+    @Override
+    public void setCuboid(@NonNull Location pos1, @NonNull Location pos2, @NonNull Pattern blocks) {
+        if (parent != null) {
+            parent.setCuboid(pos1, pos2, blocks);
+        }
+    }
+
     @Override
     public @Nullable BlockState getBlock(int x, int y, int z) {
         if (parent != null) {
@@ -228,6 +245,21 @@ public class DelegateQueueCoordinator extends QueueCoordinator {
         }
     }
 
+    @Override
+    public @Nullable BooleanSupplier getChunkConsumerReadiness() {
+        if (parent != null) {
+            return parent.getChunkConsumerReadiness();
+        }
+        return null;
+    }
+
+    @Override
+    public void setChunkConsumerReadiness(@Nullable BooleanSupplier readiness) {
+        if (parent != null) {
+            parent.setChunkConsumerReadiness(readiness);
+        }
+    }
+
     @Override
     public void addProgressSubscriber(@NonNull ProgressSubscriber progressSubscriber) {
         if (parent != null) {
@@ -18,13 +18,22 @@
  */
 package com.plotsquared.core.queue;
 
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import com.plotsquared.core.PlotSquared;
+import com.plotsquared.core.configuration.Settings;
 import com.sk89q.worldedit.world.World;
 import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 public class GlobalBlockQueue {
 
+    private final BlockQueueScheduler scheduler = new BlockQueueScheduler();
     private QueueProvider provider;
+    private ExecutorService preparationExecutor;
 
     public GlobalBlockQueue(@NonNull QueueProvider provider) {
         this.provider = provider;
@@ -43,6 +52,36 @@ public class GlobalBlockQueue {
         return queue;
     }
 
+    /**
+     * Get the scheduler that shares the time per tick between the active queues.
+     *
+     * @return block queue scheduler
+     * @since TODO
+     */
+    public @NonNull BlockQueueScheduler getScheduler() {
+        return this.scheduler;
+    }
+
+    /**
+     * Get the executor that queues use to prepare chunks off the main thread, sized by
+     * {@link Settings.QUEUE#PREPARATION_THREADS}.
+     *
+     * @return preparation executor, or null if chunks should be prepared on the main thread
+     * @since TODO
+     */
+    public synchronized @Nullable Executor getPreparationExecutor() {
+        if (Settings.QUEUE.PREPARATION_THREADS <= 0) {
+            return null;
+        }
+        if (this.preparationExecutor == null) {
+            this.preparationExecutor = Executors.newFixedThreadPool(
+                    Settings.QUEUE.PREPARATION_THREADS,
+                    new ThreadFactoryBuilder().setNameFormat("PlotSquared Queue Preparation #%d").setDaemon(true).build()
+            );
+        }
+        return this.preparationExecutor;
+    }
+
     public QueueProvider getProvider() {
         return this.provider;
     }
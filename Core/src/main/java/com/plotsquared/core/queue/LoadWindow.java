@@ -0,0 +1,152 @@
+/*
+ * PlotSquared, a land and world management plugin for Minecraft.
+ * Copyright (C) IntellectualSites <https://intellectualsites.com>
+ * Copyright (C) IntellectualSites team and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.plotsquared.core.queue;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Additive increase, multiplicative decrease controller for the number of chunks a {@link ChunkCoordinator} keeps
+ * loading at once.
+ * <p>
+ * The window grows by about one chunk for every window of chunks that loaded quickly, and is halved when loads time
+ * out, when the load latency rises well above the lowest latency observed, or when the server tick time exceeds the
+ * target. The window does not grow while loaded chunks are waiting to be processed, as more loads would then only
+ * hold more chunks in memory.
+ * <p>
+ * Methods may be called from any thread.
+ *
+ * @since TODO
+ */
+public final class LoadWindow {
+
+    // Latency relative to the baseline up to which the window may grow, and from which it shrinks
+    private static final double GROW_LATENCY = 2.0D;
+    private static final double SHRINK_LATENCY = 4.0D;
+    private static final double SMOOTHING = 0.2D;
+    // Rate at which the baseline follows latencies above it, so that it recovers from a single fast load
+    private static final double BASELINE_DRIFT = 0.01D;
+    private static final long DECREASE_COOLDOWN = TimeUnit.SECONDS.toNanos(1);
+    private static final long MIN_TIMEOUT = TimeUnit.SECONDS.toNanos(2);
+    private static final long MAX_TIMEOUT = TimeUnit.SECONDS.toNanos(10);
+    private static final int TIMEOUT_LATENCY = 8;
+
+    private final int min;
+    private final int max;
+    private double window;
+    private double latency = -1;
+    private double baseline = -1;
+    private long lastDecrease;
+
+    /**
+     * @param initial initial window
+     * @param min     smallest window
+     * @param max     largest window
+     */
+    public LoadWindow(final int initial, final int min, final int max) {
+        this.min = Math.max(1, min);
+        this.max = Math.max(this.min, max);
+        this.window = Math.max(this.min, Math.min(this.max, initial));
+        this.lastDecrease = System.nanoTime() - DECREASE_COOLDOWN;
+    }
+
+    /**
+     * Get the number of chunks that may be loading or loaded but not yet processed.
+     *
+     * @return current window
+     */
+    public synchronized int getWindow() {
+        return (int) this.window;
+    }
+
+    /**
+     * Get the smoothed latency of chunk loads.
+     *
+     * @return latency in nanoseconds, or {@code -1} if no load has completed yet
+     */
+    public synchronized long getLatency() {
+        return (long) this.latency;
+    }
+
+    /**
+     * Get the time after which a chunk load should be considered lost. This is a multiple of the smoothed load latency,
+     * between two and ten seconds.
+     *
+     * @return timeout in nanoseconds
+     */
+    public synchronized long getTimeout() {
+        if (this.latency < 0) {
+            return MAX_TIMEOUT;
+        }
+        return Math.max(MIN_TIMEOUT, Math.min(MAX_TIMEOUT, (long) (this.latency * TIMEOUT_LATENCY)));
+    }
+
+    /**
+     * Record a completed chunk load.
+     *
+     * @param latency time between the request and the completion of the load in nanoseconds
+     * @param backlog number of loaded chunks waiting to be processed
+     */
+    public synchronized void onLoad(final long latency, final int backlog) {
+        if (this.latency < 0) {
+            this.latency = latency;
+            this.baseline = latency;
+        } else {
+            this.latency += (latency - this.latency) * SMOOTHING;
+            if (latency < this.baseline) {
+                this.baseline = latency;
+            } else {
+                this.baseline += (latency - this.baseline) * BASELINE_DRIFT;
+            }
+        }
+        if (this.latency > this.baseline * SHRINK_LATENCY) {
+            this.decrease();
+        } else if (this.latency <= this.baseline * GROW_LATENCY && backlog < this.window) {
+            this.window = Math.min(this.max, this.window + 1.0D / this.window);
+        }
+    }
+
+    /**
+     * Record a chunk load that did not complete within {@link #getTimeout()}.
+     */
+    public synchronized void onTimeout() {
+        this.decrease();
+    }
+
+    /**
+     * Record the current tick time of the server.
+     *
+     * @param tickTime average tick time in milliseconds, or a negative value if unknown
+     * @param target   tick time in milliseconds above which the window shrinks
+     */
+    public synchronized void onTick(final double tickTime, final double target) {
+        if (tickTime > target) {
+            this.decrease();
+        }
+    }
+
+    private void decrease() {
+        final long now = System.nanoTime();
+        if (now - this.lastDecrease < DECREASE_COOLDOWN) {
+            return;
+        }
+        this.lastDecrease = now;
+        this.window = Math.max(this.min, this.window / 2.0D);
+    }
+
+}
@@ -27,9 +27,14 @@ import com.sk89q.worldedit.util.Location;
 import com.sk89q.worldedit.world.biome.BiomeType;
 import com.sk89q.worldedit.world.block.BaseBlock;
 import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
 
 import java.util.HashMap;
 
+/**
+ * The blocks, biomes, tiles and entities a {@link QueueCoordinator} writes to one chunk. Blocks and biomes are stored
+ * per section in {@link PalettedSection}s, which are only created once something is set in the section.
+ */
 public class LocalChunk {
 
     private final QueueCoordinator parent;
@@ -37,8 +42,8 @@ public class LocalChunk {
     private final int z;
     private final int minSection;
 
-    private final BaseBlock[][] baseblocks;
-    private final BiomeType[][] biomes;
+    private final PalettedSection<BaseBlock>[] blockSections;
+    private final PalettedSection<BiomeType>[] biomeSections;
     private final HashMap<BlockVector3, CompoundTag> tiles = new HashMap<>();
     private final HashMap<Location, BaseEntity> entities = new HashMap<>();
 
@@ -48,8 +53,13 @@ public class LocalChunk {
         this.z = z;
         this.minSection = parent.getMinLayer();
         int sections = parent.getMaxLayer() - parent.getMinLayer() + 1;
-        baseblocks = new BaseBlock[sections][];
-        biomes = new BiomeType[sections][];
+        blockSections = newSections(sections);
+        biomeSections = newSections(sections);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> PalettedSection<T>[] newSections(final int sections) {
+        return (PalettedSection<T>[]) new PalettedSection<?>[sections];
     }
 
     public @NonNull QueueCoordinator getParent() {
@@ -73,12 +83,72 @@ public class LocalChunk {
         return this.minSection;
     }
 
+    /**
+     * Get the blocks set in this chunk, as one array per section or null for sections without blocks.
+     *
+     * @return a copy of the blocks, changes to the arrays are not written back to the chunk
+     * @deprecated Creates a full copy of every section, use {@link #getBlockSections()}
+     */
+    @Deprecated(since = "TODO")
     public @NonNull BaseBlock[][] getBaseblocks() {
-        return this.baseblocks;
+        final BaseBlock[][] baseblocks = new BaseBlock[this.blockSections.length][];
+        for (int i = 0; i < baseblocks.length; i++) {
+            if (this.blockSections[i] != null) {
+                baseblocks[i] = this.blockSections[i].toArray(new BaseBlock[PalettedSection.SIZE]);
+            }
+        }
+        return baseblocks;
     }
 
+    /**
+     * Get the biomes set in this chunk, as one array per section or null for sections without biomes.
+     *
+     * @return a copy of the biomes, changes to the arrays are not written back to the chunk
+     * @deprecated Creates a full copy of every section, use {@link #getBiomeSections()}
+     */
+    @Deprecated(since = "TODO")
     public @NonNull BiomeType[][] getBiomes() {
-        return this.biomes;
+        final BiomeType[][] biomes = new BiomeType[this.biomeSections.length][];
+        for (int i = 0; i < biomes.length; i++) {
+            if (this.biomeSections[i] != null) {
+                biomes[i] = this.biomeSections[i].toArray(new BiomeType[PalettedSection.SIZE]);
+            }
+        }
+        return biomes;
+    }
+
+    /**
+     * Get the block sections of this chunk, from the lowest section up. Sections without blocks are null.
+     *
+     * @return block sections
+     * @since TODO
+     */
+    public @Nullable PalettedSection<BaseBlock> @NonNull [] getBlockSections() {
+        return this.blockSections;
+    }
+
+    /**
+     * Get the biome sections of this chunk, from the lowest section up. Sections without biomes are null.
+     *
+     * @return biome sections
+     * @since TODO
+     */
+    public @Nullable PalettedSection<BiomeType> @NonNull [] getBiomeSections() {
+        return this.biomeSections;
+    }
+
+    /**
+     * Get the block set at the given position.
+     *
+     * @param x chunk relative x
+     * @param y block y
+     * @param z chunk relative z
+     * @return the block, or null if none has been set
+     * @since TODO
+     */
+    public @Nullable BaseBlock getBlock(final int x, final int y, final int z) {
+        final PalettedSection<BaseBlock> section = this.blockSections[getLayerIndex(y)];
+        return section == null ? null : section.get(ChunkUtil.getJ(x, y, z));
     }
 
     public @NonNull HashMap<BlockVector3, CompoundTag> getTiles() {
@@ -88,11 +158,11 @@ public class LocalChunk {
     public void setBiome(final int x, final int y, final int z, final @NonNull BiomeType biomeType) {
         final int i = getLayerIndex(y);
         final int j = ChunkUtil.getJ(x, y, z);
-        BiomeType[] array = this.biomes[i];
-        if (array == null) {
-            array = this.biomes[i] = new BiomeType[4096];
+        PalettedSection<BiomeType> section = this.biomeSections[i];
+        if (section == null) {
+            section = this.biomeSections[i] = new PalettedSection<>();
         }
-        array[j] = biomeType;
+        section.set(j, biomeType);
     }
 
     @Override
@@ -103,11 +173,27 @@ public class LocalChunk {
     public void setBlock(final int x, final int y, final int z, final @NonNull BaseBlock baseBlock) {
         final int i = getLayerIndex(y);
         final int j = ChunkUtil.getJ(x, y, z);
-        BaseBlock[] array = baseblocks[i];
-        if (array == null) {
-            array = (baseblocks[i] = new BaseBlock[4096]);
+        PalettedSection<BaseBlock> section = blockSections[i];
+        if (section == null) {
+            section = (blockSections[i] = new PalettedSection<>());
+        }
+        section.set(j, baseBlock);
+    }
+
+    /**
+     * Set every block of a section to the same block, replacing anything set in the section before.
+     *
+     * @param section   section y, i.e. block y {@code >> 4}
+     * @param baseBlock block to set
+     * @since TODO
+     */
+    public void fillSection(final int section, final @NonNull BaseBlock baseBlock) {
+        final int i = section - minSection;
+        PalettedSection<BaseBlock> blocks = blockSections[i];
+        if (blocks == null) {
+            blocks = (blockSections[i] = new PalettedSection<>());
         }
-        array[j] = baseBlock;
+        blocks.fill(baseBlock);
     }
 
     public void setTile(final int x, final int y, final int z, final @NonNull CompoundTag tag) {
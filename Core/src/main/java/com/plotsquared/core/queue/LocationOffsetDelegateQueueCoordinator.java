@@ -18,6 +18,7 @@
  */
 package com.plotsquared.core.queue;
 
+import com.plotsquared.core.location.Location;
 import com.sk89q.jnbt.CompoundTag;
 import com.sk89q.worldedit.function.pattern.Pattern;
 import com.sk89q.worldedit.math.BlockVector3;
@@ -48,6 +49,17 @@ public class LocationOffsetDelegateQueueCoordinator extends DelegateQueueCoordin
         this.blockZ = blockZ;
     }
 
+    @Override
+    public void setCuboid(@NonNull Location pos1, @NonNull Location pos2, @NonNull BlockState block) {
+        // Blocks are filtered and offset one by one, so the cuboid must not be forwarded
+        setCuboidBlockwise(pos1, pos2, block);
+    }
+
+    @Override
+    public void setCuboid(@NonNull Location pos1, @NonNull Location pos2, @NonNull Pattern blocks) {
+        setCuboidBlockwise(pos1, pos2, blocks);
+    }
+
     @Override
     public boolean setBlock(int x, int y, int z, @NonNull BlockState id) {
         try {
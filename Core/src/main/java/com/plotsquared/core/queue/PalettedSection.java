@@ -0,0 +1,230 @@
+/*
+ * PlotSquared, a land and world management plugin for Minecraft.
+ * Copyright (C) IntellectualSites <https://intellectualsites.com>
+ * Copyright (C) IntellectualSites team and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.plotsquared.core.queue;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * The values of one 16x16x16 section of a {@link LocalChunk}, indexed by {@link com.plotsquared.core.util.ChunkUtil#getJ}.
+ * <p>
+ * Like Minecraft's own chunk sections, the distinct values are stored once in a palette and every position only
+ * stores the index of its value in the palette, packed into as few bits as the palette size allows. Palette index
+ * {@code 0} is reserved for positions that have not been set. A section in which all positions share the same value,
+ * such as a new section or a filled one, does not store any indices at all.
+ *
+ * @param <T> value type, such as blocks or biomes
+ * @since TODO
+ */
+public final class PalettedSection<T> {
+
+    /**
+     * Number of positions in a section.
+     */
+    public static final int SIZE = 4096;
+
+    private static final int MAX_LINEAR_PALETTE = 16;
+
+    private Object[] palette = new Object[4];
+    private int paletteSize = 1;
+    private @Nullable Map<Object, Integer> paletteIndex;
+    // Palette index of every position while the section is uniform
+    private int uniform;
+    // Packed palette indices, or null while the section is uniform
+    private long @Nullable [] data;
+    private int bits;
+
+    /**
+     * Get the value at a position.
+     *
+     * @param index position in the section
+     * @return the value, or null if the position has not been set
+     */
+    @SuppressWarnings("unchecked")
+    public @Nullable T get(final int index) {
+        final long[] data = this.data;
+        if (data == null) {
+            return (T) this.palette[this.uniform];
+        }
+        final int bits = this.bits;
+        final int perLong = 64 / bits;
+        final int shift = index % perLong * bits;
+        return (T) this.palette[(int) (data[index / perLong] >>> shift & (1L << bits) - 1)];
+    }
+
+    /**
+     * Check whether a position has been set.
+     *
+     * @param index position in the section
+     * @return {@code true} if a value has been set at the position
+     */
+    public boolean isSet(final int index) {
+        return this.get(index) != null;
+    }
+
+    /**
+     * Set the value at a position.
+     *
+     * @param index position in the section
+     * @param value value to set
+     */
+    public void set(final int index, final @NonNull T value) {
+        final int paletteIndex = this.indexOf(value);
+        if (this.data == null) {
+            if (paletteIndex == this.uniform) {
+                return;
+            }
+            this.resize(this.bitsFor(this.paletteSize));
+        } else if (this.paletteSize > 1 << this.bits) {
+            this.resize(this.bitsFor(this.paletteSize));
+        }
+        this.write(index, paletteIndex);
+    }
+
+    /**
+     * Set all positions of the section to the same value, discarding the previous values.
+     *
+     * @param value value to set
+     */
+    public void fill(final @NonNull T value) {
+        Arrays.fill(this.palette, null);
+        this.paletteSize = 1;
+        this.paletteIndex = null;
+        this.data = null;
+        this.bits = 0;
+        this.uniform = this.indexOf(value);
+    }
+
+    /**
+     * Get whether all positions of the section have the same value, or have not been set.
+     *
+     * @return {@code true} if the section is uniform
+     */
+    public boolean isUniform() {
+        return this.data == null;
+    }
+
+    /**
+     * Get an estimate of the memory used by the section.
+     *
+     * @return approximate size in bytes
+     * @since TODO
+     */
+    public long getMemoryUsage() {
+        long size = 48L + this.palette.length * 8L;
+        if (this.data != null) {
+            size += this.data.length * 8L;
+        }
+        if (this.paletteIndex != null) {
+            // Entry, boxed index and table slot per value
+            size += this.paletteSize * 56L;
+        }
+        return size;
+    }
+
+    /**
+     * Copy the values of the section into an array.
+     *
+     * @param array array of at least {@link #SIZE} elements to copy into, unset positions are copied as null
+     * @return the array
+     */
+    public T @NonNull [] toArray(final T @NonNull [] array) {
+        for (int i = 0; i < SIZE; i++) {
+            array[i] = this.get(i);
+        }
+        return array;
+    }
+
+    private int indexOf(final @NonNull T value) {
+        final Map<Object, Integer> paletteIndex = this.paletteIndex;
+        if (paletteIndex != null) {
+            final Integer index = paletteIndex.get(value);
+            if (index != null) {
+                return index;
+            }
+        } else {
+            for (int i = 1; i < this.paletteSize; i++) {
+                final Object entry = this.palette[i];
+                if (entry == value || entry.equals(value)) {
+                    return i;
+                }
+            }
+        }
+        final int index = this.paletteSize++;
+        if (index == this.palette.length) {
+            this.palette = Arrays.copyOf(this.palette, index * 2);
+        }
+        this.palette[index] = value;
+        if (paletteIndex != null) {
+            paletteIndex.put(value, index);
+        } else if (this.paletteSize > MAX_LINEAR_PALETTE) {
+            final Map<Object, Integer> map = new HashMap<>();
+            for (int i = 1; i < this.paletteSize; i++) {
+                map.put(this.palette[i], i);
+            }
+            this.paletteIndex = map;
+        }
+        return index;
+    }
+
+    private int bitsFor(final int paletteSize) {
+        // Only powers of two, so that no index spans two longs
+        int bits = 1;
+        while (1 << bits < paletteSize) {
+            bits <<= 1;
+        }
+        return bits;
+    }
+
+    private void resize(final int bits) {
+        final long[] previous = this.data;
+        final int previousBits = this.bits;
+        this.data = new long[SIZE * bits / 64];
+        this.bits = bits;
+        if (previous == null) {
+            if (this.uniform != 0) {
+                long pattern = 0;
+                for (int shift = 0; shift < 64; shift += bits) {
+                    pattern |= (long) this.uniform << shift;
+                }
+                Arrays.fill(this.data, pattern);
+            }
+            return;
+        }
+        final int perLong = 64 / previousBits;
+        final long mask = (1L << previousBits) - 1;
+        for (int i = 0; i < SIZE; i++) {
+            this.write(i, (int) (previous[i / perLong] >>> i % perLong * previousBits & mask));
+        }
+    }
+
+    private void write(final int index, final int paletteIndex) {
+        final int bits = this.bits;
+        final int perLong = 64 / bits;
+        final int slot = index / perLong;
+        final int shift = index % perLong * bits;
+        final long mask = (1L << bits) - 1;
+        this.data[slot] = this.data[slot] & ~(mask << shift) | (long) paletteIndex << shift;
+    }
+
+}
@@ -39,6 +39,7 @@ import org.checkerframework.checker.nullness.qual.Nullable;
 import java.util.List;
 import java.util.Set;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BooleanSupplier;
 import java.util.function.Consumer;
 
 public abstract class QueueCoordinator {
@@ -46,6 +47,9 @@ public abstract class QueueCoordinator {
     private final AtomicBoolean enqueued = new AtomicBoolean();
     private boolean forceSync = false;
     private boolean shouldGen = true;
+    private QueuePriority priority = QueuePriority.NORMAL;
+    @Nullable
+    private BooleanSupplier chunkConsumerReadiness;
     @Nullable
     private Object chunkObject;
     @SuppressWarnings({"unused", "FieldCanBeLocal"})
@@ -135,6 +139,27 @@ public abstract class QueueCoordinator {
         this.shouldGen = shouldGen;
     }
 
+    /**
+     * Get the priority of the queue when it shares the time per tick with other queues.
+     *
+     * @return priority of the queue
+     * @since TODO
+     */
+    public @NonNull QueuePriority getPriority() {
+        return this.priority;
+    }
+
+    /**
+     * Set the priority of the queue when it shares the time per tick with other queues. Must be set before the queue is
+     * enqueued.
+     *
+     * @param priority priority of the queue
+     * @since TODO
+     */
+    public void setPriority(@NonNull QueuePriority priority) {
+        this.priority = priority;
+    }
+
     /**
      * Get the Chunk Object set to the queue
      *
@@ -405,6 +430,27 @@ public abstract class QueueCoordinator {
      */
     public abstract void setChunkConsumer(@NonNull Consumer<BlockVector2> consumer);
 
+    /**
+     * Get the check whether the chunk consumer can accept another chunk.
+     *
+     * @return readiness check, or null if the chunk consumer is always ready
+     * @since TODO
+     */
+    public @Nullable BooleanSupplier getChunkConsumerReadiness() {
+        return this.chunkConsumerReadiness;
+    }
+
+    /**
+     * Set a check whether the chunk consumer can accept another chunk, so that a consumer that hands chunks off to
+     * other threads can hold back further chunks until it has caught up. Must be set before the queue is enqueued.
+     *
+     * @param readiness readiness check, or null if the chunk consumer is always ready
+     * @since TODO
+     */
+    public void setChunkConsumerReadiness(@Nullable BooleanSupplier readiness) {
+        this.chunkConsumerReadiness = readiness;
+    }
+
     /**
      * Add a {@link ProgressSubscriber} to the Queue to subscribe to the relevant Chunk Processor
      */
@@ -445,6 +491,31 @@ public abstract class QueueCoordinator {
      * @param block block to fill
      */
     public void setCuboid(@NonNull Location pos1, @NonNull Location pos2, @NonNull BlockState block) {
+        setCuboidBlockwise(pos1, pos2, block);
+    }
+
+    /**
+     * Fill a cuboid between two positions with a Pattern
+     *
+     * @param pos1   1st cuboid position
+     * @param pos2   2nd cuboid position
+     * @param blocks pattern to fill
+     */
+    public void setCuboid(@NonNull Location pos1, @NonNull Location pos2, @NonNull Pattern blocks) {
+        setCuboidBlockwise(pos1, pos2, blocks);
+    }
+
+    /**
+     * Fill a cuboid between two positions with a BlockState, one {@link #setBlock(int, int, int, BlockState)} call
+     * per block. Queues that change how single blocks are set, but inherit a faster {@code setCuboid}, use this to
+     * keep their cuboids going through {@code setBlock}.
+     *
+     * @param pos1  1st cuboid position
+     * @param pos2  2nd cuboid position
+     * @param block block to fill
+     * @since TODO
+     */
+    protected final void setCuboidBlockwise(@NonNull Location pos1, @NonNull Location pos2, @NonNull BlockState block) {
         int yMin = Math.min(pos1.getY(), pos2.getY());
         int yMax = Math.max(pos1.getY(), pos2.getY());
         int xMin = Math.min(pos1.getX(), pos2.getX());
@@ -461,13 +532,14 @@ public abstract class QueueCoordinator {
     }
 
     /**
-     * Fill a cuboid between two positions with a Pattern
+     * Fill a cuboid between two positions with a Pattern, one {@link #setBlock(int, int, int, Pattern)} call per block.
      *
      * @param pos1   1st cuboid position
      * @param pos2   2nd cuboid position
      * @param blocks pattern to fill
+     * @since TODO
      */
-    public void setCuboid(@NonNull Location pos1, @NonNull Location pos2, @NonNull Pattern blocks) {
+    protected final void setCuboidBlockwise(@NonNull Location pos1, @NonNull Location pos2, @NonNull Pattern blocks) {
         int yMin = Math.min(pos1.getY(), pos2.getY());
         int yMax = Math.max(pos1.getY(), pos2.getY());
         int xMin = Math.min(pos1.getX(), pos2.getX());
@@ -0,0 +1,58 @@
+/*
+ * PlotSquared, a land and world management plugin for Minecraft.
+ * Copyright (C) IntellectualSites <https://intellectualsites.com>
+ * Copyright (C) IntellectualSites team and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.plotsquared.core.queue;
+
+/**
+ * Priority of a {@link QueueCoordinator} in the {@link BlockQueueScheduler}. Chunks of all active queues share the
+ * time the scheduler may spend per tick; a queue with a higher priority gets more chunks per turn, but queues with a
+ * lower priority still make progress.
+ *
+ * @since TODO
+ */
+public enum QueuePriority {
+
+    /**
+     * Changes a player is waiting for, such as claiming a plot.
+     */
+    HIGH(4),
+    /**
+     * The default priority.
+     */
+    NORMAL(2),
+    /**
+     * Background work, such as road regeneration, trimming and the deletion of expired plots.
+     */
+    LOW(1);
+
+    private final int weight;
+
+    QueuePriority(final int weight) {
+        this.weight = weight;
+    }
+
+    /**
+     * Get the number of chunks a queue with this priority may process per turn.
+     *
+     * @return chunks per turn
+     */
+    public int getWeight() {
+        return this.weight;
+    }
+
+}
@@ -101,6 +101,41 @@ public class ZeroedDelegateScopedQueueCoordinator extends DelegateQueueCoordinat
         return x >= 0 && x <= dx && z >= 0 && z <= dz && super.setBlock(x + minX, y, z + minZ, pattern);
     }
 
+    @Override
+    public void setCuboid(@NonNull Location pos1, @NonNull Location pos2, @NonNull BlockState block) {
+        final Location[] bounds = this.translate(pos1, pos2);
+        if (bounds != null) {
+            super.setCuboid(bounds[0], bounds[1], block);
+        }
+    }
+
+    @Override
+    public void setCuboid(@NonNull Location pos1, @NonNull Location pos2, @NonNull Pattern blocks) {
+        final Location[] bounds = this.translate(pos1, pos2);
+        if (bounds != null) {
+            super.setCuboid(bounds[0], bounds[1], blocks);
+        }
+    }
+
+    /**
+     * Clamp a zeroed cuboid to the area of this queue and offset it to the parent's coordinates.
+     *
+     * @return the minimum and maximum corner, or null if the cuboid lies outside of the area
+     */
+    private Location @Nullable [] translate(@NonNull Location pos1, @NonNull Location pos2) {
+        int xMin = Math.max(0, Math.min(pos1.getX(), pos2.getX()));
+        int zMin = Math.max(0, Math.min(pos1.getZ(), pos2.getZ()));
+        int xMax = Math.min(dx, Math.max(pos1.getX(), pos2.getX()));
+        int zMax = Math.min(dz, Math.max(pos1.getZ(), pos2.getZ()));
+        if (xMin > xMax || zMin > zMax) {
+            return null;
+        }
+        return new Location[]{
+                Location.at(min.getWorldName(), xMin + minX, Math.min(pos1.getY(), pos2.getY()), zMin + minZ),
+                Location.at(min.getWorldName(), xMax + minX, Math.max(pos1.getY(), pos2.getY()), zMax + minZ)
+        };
+    }
+
     @Override
     public boolean setTile(int x, int y, int z, @NonNull CompoundTag tag) {
         return x >= 0 && x <= dx && z >= 0 && z <= dz && super.setTile(x + minX, y, z + minZ, tag);
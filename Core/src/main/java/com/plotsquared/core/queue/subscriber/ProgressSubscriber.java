@@ -36,4 +36,14 @@ public interface ProgressSubscriber {
      */
     void notifyEnd();
 
+    /**
+     * Notify about a change of the number of chunks the coordinator keeps loading at once
+     *
+     * @param coordinator Coordinator instance that triggered the notification
+     * @param window      Number of chunks that may be loading, or loaded but not yet processed
+     * @since TODO
+     */
+    default void notifyLoadWindow(final @NonNull ChunkCoordinator coordinator, final int window) {
+    }
+
 }
@@ -22,6 +22,7 @@ import com.plotsquared.core.configuration.Settings;
 import com.plotsquared.core.plot.Plot;
 import com.plotsquared.core.plot.flag.PlotFlag;
 import com.plotsquared.core.plot.flag.implementations.DoneFlag;
+import com.plotsquared.core.plot.flag.types.IntegerFlag;
 import org.checkerframework.checker.nullness.qual.NonNull;
 
 import static com.plotsquared.core.util.entity.EntityCategories.CAP_ANIMAL;
@@ -60,7 +61,9 @@ public class EntityUtil {
         int[] mobs = null;
         for (PlotFlag<Integer, ?> flag : flags) {
             final int i = capNumeral(flag.getName());
-            int cap = plot.getFlag(flag);
+            int cap = flag instanceof IntegerFlag<?>
+                    ? plot.getIntFlag((Class<? extends IntegerFlag<?>>) flag.getClass())
+                    : plot.getFlag(flag);
             if (cap == Integer.MAX_VALUE) {
                 continue;
             }
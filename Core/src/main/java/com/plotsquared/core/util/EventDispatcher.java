@@ -424,7 +424,7 @@ public class EventDispatcher {
                 // we check for the EditSignFlag in the PlayerSignOpenEvent again, but we must not cancel the interact event
                 // or send a message if the flag is true
                 if (BlockCategories.ALL_SIGNS != null && BlockCategories.ALL_SIGNS.contains(blockType)
-                        && plot.getFlag(EditSignFlag.class)) {
+                        && plot.getBooleanFlag(EditSignFlag.class)) {
                     return true;
                 }
                 if (notifyPerms) {
@@ -448,7 +448,7 @@ public class EventDispatcher {
                 if (!plot.hasOwner()) {
                     return player.hasPermission(Permission.PERMISSION_ADMIN_INTERACT_UNOWNED, false);
                 }
-                if (plot.getFlag(DeviceInteractFlag.class)) {
+                if (plot.getBooleanFlag(DeviceInteractFlag.class)) {
                     return true;
                 }
                 List<BlockTypeWrapper> use = plot.getFlag(UseFlag.class);
@@ -467,7 +467,7 @@ public class EventDispatcher {
                 if (!plot.hasOwner()) {
                     return player.hasPermission(Permission.PERMISSION_ADMIN_INTERACT_UNOWNED, notifyPerms);
                 }
-                if (plot.getFlag(MobPlaceFlag.class)) {
+                if (plot.getBooleanFlag(MobPlaceFlag.class)) {
                     return true;
                 }
                 List<BlockTypeWrapper> place = plot.getFlag(PlaceFlag.class);
@@ -502,7 +502,7 @@ public class EventDispatcher {
                 if (!plot.hasOwner()) {
                     return player.hasPermission(Permission.PERMISSION_ADMIN_INTERACT_UNOWNED, notifyPerms);
                 }
-                if (plot.getFlag(MiscPlaceFlag.class)) {
+                if (plot.getBooleanFlag(MiscPlaceFlag.class)) {
                     return true;
                 }
                 List<BlockTypeWrapper> place = plot.getFlag(PlaceFlag.class);
@@ -537,7 +537,7 @@ public class EventDispatcher {
                 if (!plot.hasOwner()) {
                     return player.hasPermission(Permission.PERMISSION_ADMIN_PLACE_VEHICLE_UNOWNED, notifyPerms);
                 }
-                if (plot.getFlag(VehiclePlaceFlag.class)) {
+                if (plot.getBooleanFlag(VehiclePlaceFlag.class)) {
                     return true;
                 }
                 if (player.hasPermission(Permission.PERMISSION_ADMIN_PLACE_VEHICLE_OTHER, false)) {
@@ -37,6 +37,7 @@ import net.kyori.adventure.text.Component;
 import net.kyori.adventure.text.minimessage.tag.Tag;
 import net.kyori.adventure.text.minimessage.tag.resolver.TagResolver;
 import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -53,6 +54,22 @@ public class PatternUtil {
         return pattern.applyBlock(BlockVector3.at(x, y, z));
     }
 
+    /**
+     * Get the block a pattern places at every position, if it is a single block pattern.
+     *
+     * @param pattern pattern to check
+     * @return the block placed by the pattern, or null if the pattern may place different blocks
+     * @since TODO
+     */
+    public static @Nullable BaseBlock getUniformBlock(@NonNull Pattern pattern) {
+        if (pattern instanceof BlockPattern
+                || pattern instanceof BlockState || pattern instanceof BlockType
+                || pattern instanceof BaseBlock) {
+            return pattern.applyBlock(BlockVector3.ZERO);
+        }
+        return null;
+    }
+
     public static Pattern parse(PlotPlayer<?> plotPlayer, String input) {
         return parse(plotPlayer, input, true);
     }
@@ -22,6 +22,7 @@ import com.google.gson.Gson;
 import com.google.gson.JsonArray;
 import com.google.gson.JsonParseException;
 import com.google.inject.Inject;
+import com.intellectualsites.annotations.NotPublic;
 import com.plotsquared.core.PlotSquared;
 import com.plotsquared.core.configuration.Settings;
 import com.plotsquared.core.configuration.caption.TranslatableCaption;
@@ -572,6 +573,47 @@ public abstract class SchematicHandler {
         return true;
     }
 
+    /**
+     * Get the index of a key in a Sponge schematic palette. Keys that are not part of the
+     * palette yet are appended to it.
+     * <p>
+     * Internal use only. Subject to change at any time.
+     *
+     * @param palette palette to look the key up in
+     * @param key     block state or biome key
+     * @return the palette index of the key
+     * @since TODO
+     */
+    @NotPublic
+    public static int getPaletteIndex(final @NonNull Map<String, Integer> palette, final @NonNull String key) {
+        final Integer index = palette.get(key);
+        if (index != null) {
+            return index;
+        }
+        final int newIndex = palette.size();
+        palette.put(key, newIndex);
+        return newIndex;
+    }
+
+    /**
+     * Write a palette index as a variable length integer, as used by the block and biome
+     * data of Sponge schematics.
+     * <p>
+     * Internal use only. Subject to change at any time.
+     *
+     * @param buffer buffer to write to
+     * @param value  palette index
+     * @since TODO
+     */
+    @NotPublic
+    public static void writeVarInt(final @NonNull ByteArrayOutputStream buffer, int value) {
+        while ((value & -128) != 0) {
+            buffer.write(value & 127 | 128);
+            value >>>= 7;
+        }
+        buffer.write(value);
+    }
+
     private void writeSchematicData(
             final @NonNull Map<String, Tag> schematic,
             final @NonNull Map<String, Integer> palette,
@@ -713,30 +755,14 @@ public abstract class SchematicHandler {
                                     BlockVector3 point = BlockVector3.at(currentX, currentY, currentZ);
                                     if (multipleRegions && !intersection.contains(point)) {
                                         String blockKey = BlockTypes.AIR.getDefaultState().getAsString();
-                                        int blockId;
-                                        if (palette.containsKey(blockKey)) {
-                                            blockId = palette.get(blockKey);
-                                        } else {
-                                            blockId = palette.size();
-                                            palette.put(blockKey, palette.size());
-                                        }
-                                        while ((blockId & -128) != 0) {
-                                            buffer.write(blockId & 127 | 128);
-                                            blockId >>>= 7;
-                                        }
-                                        buffer.write(blockId);
+                                        writeVarInt(buffer, getPaletteIndex(palette, blockKey));
 
                                         if (relativeY > 0) {
                                             continue;
                                         }
 
                                         // Write the last biome if we're not getting it from the plot;
-                                        int biomeId = lastBiome;
-                                        while ((biomeId & -128) != 0) {
-                                            biomeBuffer.write(biomeId & 127 | 128);
-                                            biomeId >>>= 7;
-                                        }
-                                        biomeBuffer.write(biomeId);
+                                        writeVarInt(biomeBuffer, lastBiome);
                                         continue;
                                     }
                                     BaseBlock block = aabb.getWorld().getFullBlock(point);
@@ -759,19 +785,7 @@ public abstract class SchematicHandler {
                                         tileEntities.add(new CompoundTag(values));
                                     }
                                     String blockKey = block.toImmutableState().getAsString();
-                                    int blockId;
-                                    if (palette.containsKey(blockKey)) {
-                                        blockId = palette.get(blockKey);
-                                    } else {
-                                        blockId = palette.size();
-                                        palette.put(blockKey, palette.size());
-                                    }
-
-                                    while ((blockId & -128) != 0) {
-                                        buffer.write(blockId & 127 | 128);
-                                        blockId >>>= 7;
-                                    }
-                                    buffer.write(blockId);
+                                    writeVarInt(buffer, getPaletteIndex(palette, blockKey));
 
                                     if (relativeY > 0) {
                                         continue;
@@ -779,18 +793,8 @@ public abstract class SchematicHandler {
                                     BlockVector2 pt = BlockVector2.at(currentX, currentZ);
                                     BiomeType biome = aabb.getWorld().getBiome(pt);
                                     String biomeStr = biome.getId();
-                                    int biomeId;
-                                    if (biomePalette.containsKey(biomeStr)) {
-                                        biomeId = lastBiome = biomePalette.get(biomeStr);
-                                    } else {
-                                        biomeId = lastBiome = biomePalette.size();
-                                        biomePalette.put(biomeStr, biomeId);
-                                    }
-                                    while ((biomeId & -128) != 0) {
-                                        biomeBuffer.write(biomeId & 127 | 128);
-                                        biomeId >>>= 7;
-                                    }
-                                    biomeBuffer.write(biomeId);
+                                    lastBiome = getPaletteIndex(biomePalette, biomeStr);
+                                    writeVarInt(biomeBuffer, lastBiome);
                                 }
                                 currentX = minX; // reset manually as not using local variable
                             }
@@ -80,7 +80,7 @@ public class WEManager {
             }
             if (plot != null && (!Settings.Done.RESTRICT_BUILDING || !DoneFlag.isDone(plot)) && (
                     (allowMember && plot.isAdded(uuid)) || (!allowMember && plot.isOwner(uuid) || plot
-                            .getTrusted().contains(uuid))) && !plot.getFlag(NoWorldeditFlag.class)) {
+                            .getTrusted().contains(uuid))) && !plot.getBooleanFlag(NoWorldeditFlag.class)) {
                 for (CuboidRegion region : plot.getRegions()) {
                     BlockVector3 pos1 = region.getMinimumPoint().withY(area.getMinBuildHeight());
                     BlockVector3 pos2 = region.getMaximumPoint().withY(area.getMaxBuildHeight() - 1);
@@ -19,6 +19,8 @@
 package com.plotsquared.core.util.entity;
 
 import com.plotsquared.core.PlotSquared;
+import com.sk89q.worldedit.world.entity.EntityType;
+import org.checkerframework.checker.nullness.qual.NonNull;
 
 /**
  * A collection of {@link EntityCategory entity categories}
@@ -52,4 +54,29 @@ public class EntityCategories {
     public static void init() {
     }
 
+    /**
+     * Get the cap slots an entity type counts towards, as a bit mask of {@code 1 << CAP_*}. Players do not count
+     * towards any cap, every other entity counts towards {@link #CAP_ENTITY}.
+     *
+     * @param entityType entity type
+     * @return bit mask of cap slots
+     * @since TODO
+     */
+    public static int getCapCategories(final @NonNull EntityType entityType) {
+        if (PLAYER.contains(entityType)) {
+            return 0;
+        }
+        int categories = 1 << CAP_ENTITY;
+        if (PROJECTILE.contains(entityType) || OTHER.contains(entityType) || HANGING.contains(entityType)) {
+            categories |= 1 << CAP_MISC;
+        } else if (ANIMAL.contains(entityType) || VILLAGER.contains(entityType) || TAMEABLE.contains(entityType)) {
+            categories |= 1 << CAP_MOB | 1 << CAP_ANIMAL;
+        } else if (VEHICLE.contains(entityType)) {
+            categories |= 1 << CAP_VEHICLE;
+        } else if (HOSTILE.contains(entityType)) {
+            categories |= 1 << CAP_MOB | 1 << CAP_MONSTER;
+        }
+        return categories;
+    }
+
 }
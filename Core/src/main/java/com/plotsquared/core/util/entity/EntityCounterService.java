@@ -0,0 +1,72 @@
+/*
+ * PlotSquared, a land and world management plugin for Minecraft.
+ * Copyright (C) IntellectualSites <https://intellectualsites.com>
+ * Copyright (C) IntellectualSites team and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.plotsquared.core.util.entity;
+
+import com.google.inject.Inject;
+import com.google.inject.Singleton;
+import com.plotsquared.core.plot.Plot;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * Tells whether the {@link com.plotsquared.core.plot.PlotEntityCounter entity counters} of the plot areas are kept
+ * up to date by the platform. Platforms that cannot observe entities entering and leaving the world never start it,
+ * in which case entity caps have to count the entities of a plot themselves.
+ *
+ * @since TODO
+ */
+@Singleton
+public class EntityCounterService {
+
+    private volatile boolean running;
+
+    @Inject
+    public EntityCounterService() {
+    }
+
+    /**
+     * Mark the entity counters as maintained by the platform.
+     */
+    public void start() {
+        this.running = true;
+    }
+
+    /**
+     * Get whether the entity counters of the plot areas are being maintained.
+     *
+     * @return {@code true} if the counters are live
+     */
+    public boolean isRunning() {
+        return this.running;
+    }
+
+    /**
+     * Get the live entity counts of a single plot, not including the plots it is merged with.
+     *
+     * @param plot plot
+     * @return the count of every cap slot, or {@code null} if the counters are not maintained
+     */
+    public int @Nullable [] getCounts(final @NonNull Plot plot) {
+        if (!this.running || plot.getArea() == null) {
+            return null;
+        }
+        return plot.getArea().getEntityCounter().getCounts(plot.getId());
+    }
+
+}
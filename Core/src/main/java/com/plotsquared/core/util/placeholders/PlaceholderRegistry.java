@@ -115,7 +115,7 @@ public final class PlaceholderRegistry {
             return plot.getAlias();
         });
         this.createPlaceholder("currentplot_owner", (player, plot) -> {
-            if (plot.getFlag(ServerPlotFlag.class)) {
+            if (plot.getBooleanFlag(ServerPlotFlag.class)) {
                 return legacyComponent(TranslatableCaption.of("info.server"), player);
             }
             final UUID plotOwner = plot.getOwnerAbs();
@@ -130,7 +130,7 @@ public final class PlaceholderRegistry {
             return legacyComponent(TranslatableCaption.of("info.unknown"), player);
         });
         this.createPlaceholder("currentplot_owners", (player, plot) -> {
-            if (plot.getFlag(ServerPlotFlag.class)) {
+            if (plot.getBooleanFlag(ServerPlotFlag.class)) {
                 return legacyComponent(TranslatableCaption.of("info.server"), player);
             }
             final Set<UUID> plotOwners = plot.getOwners();
@@ -24,6 +24,7 @@ import com.plotsquared.core.plot.world.PlotAreaManager;
 import org.checkerframework.checker.nullness.qual.NonNull;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
 
@@ -35,6 +36,10 @@ class GlobalPlotProvider implements PlotProvider {
         this.plotAreaManager = plotAreaManager;
     }
 
+    @NonNull Collection<PlotArea> getAreas() {
+        return Arrays.asList(this.plotAreaManager.getAllPlotAreas());
+    }
+
     @Override
     public Collection<Plot> getPlots() {
         final List<Plot> plots = new ArrayList<>();
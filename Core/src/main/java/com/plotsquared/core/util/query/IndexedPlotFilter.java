@@ -0,0 +1,41 @@
+/*
+ * PlotSquared, a land and world management plugin for Minecraft.
+ * Copyright (C) IntellectualSites <https://intellectualsites.com>
+ * Copyright (C) IntellectualSites team and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.plotsquared.core.util.query;
+
+import com.plotsquared.core.plot.Plot;
+import com.plotsquared.core.plot.PlotArea;
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+import java.util.Collection;
+
+/**
+ * A filter whose matches can be looked up through the plot indexes of an area.
+ */
+interface IndexedPlotFilter extends PlotFilter {
+
+    /**
+     * Get the plots in the area that may be accepted by this filter. This must include every plot
+     * in the area the filter accepts, and may include plots it rejects.
+     *
+     * @param area the area to look up plots in
+     * @return candidate plots
+     */
+    @NonNull Collection<Plot> getCandidates(final @NonNull PlotArea area);
+
+}
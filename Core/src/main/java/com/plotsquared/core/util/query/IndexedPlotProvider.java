@@ -0,0 +1,52 @@
+/*
+ * PlotSquared, a land and world management plugin for Minecraft.
+ * Copyright (C) IntellectualSites <https://intellectualsites.com>
+ * Copyright (C) IntellectualSites team and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.plotsquared.core.util.query;
+
+import com.plotsquared.core.plot.Plot;
+import com.plotsquared.core.plot.PlotArea;
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * Provides the candidates of an {@link IndexedPlotFilter} in a set of areas, so that only those plots
+ * have to be filtered instead of every plot in the areas.
+ */
+class IndexedPlotProvider implements PlotProvider {
+
+    private final Collection<PlotArea> areas;
+    private final IndexedPlotFilter filter;
+
+    IndexedPlotProvider(final @NonNull Collection<PlotArea> areas, final @NonNull IndexedPlotFilter filter) {
+        this.areas = areas;
+        this.filter = filter;
+    }
+
+    @Override
+    public Collection<Plot> getPlots() {
+        final Set<Plot> plots = new LinkedHashSet<>();
+        for (final PlotArea area : this.areas) {
+            plots.addAll(this.filter.getCandidates(area));
+        }
+        return plots;
+    }
+
+}
@@ -18,12 +18,17 @@
  */
 package com.plotsquared.core.util.query;
 
+import com.plotsquared.core.database.DBFunc;
 import com.plotsquared.core.plot.Plot;
+import com.plotsquared.core.plot.PlotArea;
 import org.checkerframework.checker.nullness.qual.NonNull;
 
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
 import java.util.UUID;
 
-class MemberFilter implements PlotFilter {
+class MemberFilter implements IndexedPlotFilter {
 
     @NonNull
     private final UUID uuid;
@@ -32,6 +37,32 @@ class MemberFilter implements PlotFilter {
         this.uuid = uuid;
     }
 
+    /**
+     * Collect the plots in an area the player may be added to: the plots owned by the player and the plots
+     * merged with them, and the plots the player or everyone is trusted, added as a member or denied on.
+     */
+    static void collectCandidates(
+            final @NonNull PlotArea area, final @NonNull UUID uuid,
+            final @NonNull Collection<Plot> candidates
+    ) {
+        for (final Plot plot : area.getPlotsAbs(uuid)) {
+            if (plot.isMerged()) {
+                candidates.addAll(plot.getConnectedPlots());
+            } else {
+                candidates.add(plot);
+            }
+        }
+        candidates.addAll(area.getAddedPlotsAbs(uuid));
+        candidates.addAll(area.getAddedPlotsAbs(DBFunc.EVERYONE));
+    }
+
+    @Override
+    public @NonNull Collection<Plot> getCandidates(final @NonNull PlotArea area) {
+        final Set<Plot> candidates = new HashSet<>();
+        collectCandidates(area, this.uuid, candidates);
+        return candidates;
+    }
+
     @Override
     public boolean accepts(final @NonNull Plot plot) {
         return plot.isAdded(uuid);
@@ -19,12 +19,14 @@
 package com.plotsquared.core.util.query;
 
 import com.plotsquared.core.plot.Plot;
+import com.plotsquared.core.plot.PlotArea;
 import org.checkerframework.checker.nullness.qual.NonNull;
 
+import java.util.Collection;
 import java.util.Objects;
 import java.util.UUID;
 
-class OwnerFilter implements PlotFilter {
+class OwnerFilter implements IndexedPlotFilter {
 
     private final UUID owner;
 
@@ -32,6 +34,11 @@ class OwnerFilter implements PlotFilter {
         this.owner = owner;
     }
 
+    @Override
+    public @NonNull Collection<Plot> getCandidates(final @NonNull PlotArea area) {
+        return area.getPlotsAbs(this.owner);
+    }
+
     @Override
     public boolean accepts(final @NonNull Plot plot) {
         return plot.hasOwner() && Objects.equals(plot.getOwnerAbs(), this.owner);
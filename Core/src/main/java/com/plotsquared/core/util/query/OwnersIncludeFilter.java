@@ -19,11 +19,13 @@
 package com.plotsquared.core.util.query;
 
 import com.plotsquared.core.plot.Plot;
+import com.plotsquared.core.plot.PlotArea;
 import org.checkerframework.checker.nullness.qual.NonNull;
 
+import java.util.Collection;
 import java.util.UUID;
 
-class OwnersIncludeFilter implements PlotFilter {
+class OwnersIncludeFilter implements IndexedPlotFilter {
 
     private final UUID owner;
 
@@ -31,6 +33,11 @@ class OwnersIncludeFilter implements PlotFilter {
         this.owner = owner;
     }
 
+    @Override
+    public @NonNull Collection<Plot> getCandidates(final @NonNull PlotArea area) {
+        return area.getPlots(this.owner);
+    }
+
     @Override
     public boolean accepts(final @NonNull Plot plot) {
         return plot.isBasePlot() && plot.getOwners().size() > 0 && plot.getOwners().contains(owner);
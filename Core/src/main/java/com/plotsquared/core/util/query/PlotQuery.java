@@ -320,7 +320,7 @@ public final class PlotQuery implements Iterable<Plot> {
         if (this.filters.isEmpty()) {
             result = new ArrayList<>(this.plotProvider.getPlots());
         } else {
-            final Collection<Plot> plots = this.plotProvider.getPlots();
+            final Collection<Plot> plots = this.getFilteredProvider().getPlots();
             result = new ArrayList<>(plots.size());
             outer:
             for (final Plot plot : plots) {
@@ -430,7 +430,7 @@ public final class PlotQuery implements Iterable<Plot> {
         if (this.filters.isEmpty()) {
             return !this.plotProvider.getPlots().isEmpty();
         } else {
-            final Collection<Plot> plots = this.plotProvider.getPlots();
+            final Collection<Plot> plots = this.getFilteredProvider().getPlots();
             outer:
             for (final Plot plot : plots) {
                 // a plot must pass all filters to match the criteria
@@ -445,6 +445,28 @@ public final class PlotQuery implements Iterable<Plot> {
         }
     }
 
+    /**
+     * Get the provider to read plots from before the filters are applied. Player filters on area
+     * based providers are answered through the plot indexes of the areas, so only the plots of
+     * that player have to be filtered.
+     */
+    private @NonNull PlotProvider getFilteredProvider() {
+        final Collection<PlotArea> areas;
+        if (this.plotProvider instanceof GlobalPlotProvider) {
+            areas = ((GlobalPlotProvider) this.plotProvider).getAreas();
+        } else if (this.plotProvider instanceof AreaLimitedPlotProvider) {
+            areas = ((AreaLimitedPlotProvider) this.plotProvider).getAreas();
+        } else {
+            return this.plotProvider;
+        }
+        for (final PlotFilter filter : this.filters) {
+            if (filter instanceof IndexedPlotFilter) {
+                return new IndexedPlotProvider(areas, (IndexedPlotFilter) filter);
+            }
+        }
+        return this.plotProvider;
+    }
+
     @NonNull
     private PlotQuery addFilter(final @NonNull PlotFilter filter) {
         this.filters.add(filter);
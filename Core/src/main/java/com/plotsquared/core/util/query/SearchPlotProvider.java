@@ -27,7 +27,9 @@ import org.checkerframework.checker.nullness.qual.NonNull;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
@@ -74,7 +76,20 @@ class SearchPlotProvider implements PlotProvider {
 
         PlotArea area = null;
         String alias = null;
-        for (Plot plot : PlotQuery.newQuery().allPlots()) {
+        // Only plots matching a player or the id can be scored, so look them up instead of visiting every plot
+        Set<Plot> candidates = new LinkedHashSet<>();
+        for (PlotArea plotArea : PlotSquared.get().getPlotAreaManager().getAllPlotAreas()) {
+            for (UUID uuid : uuids) {
+                MemberFilter.collectCandidates(plotArea, uuid, candidates);
+            }
+            if (id != null) {
+                Plot plot = plotArea.getOwnedPlotAbs(id);
+                if (plot != null) {
+                    candidates.add(plot);
+                }
+            }
+        }
+        for (Plot plot : candidates) {
             int count = 0;
             if (!uuids.isEmpty()) {
                 for (UUID uuid : uuids) {
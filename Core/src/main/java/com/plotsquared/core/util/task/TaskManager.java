@@ -300,4 +300,14 @@ public abstract class TaskManager {
      */
     public abstract void taskLaterAsync(@NonNull Runnable runnable, @NonNull TaskTime taskTime);
 
+    /**
+     * Get the average time the server spends on a tick, if the platform measures it.
+     *
+     * @return milliseconds per tick, or {@code -1} if unknown
+     * @since TODO
+     */
+    public double getAverageTickTime() {
+        return -1;
+    }
+
 }
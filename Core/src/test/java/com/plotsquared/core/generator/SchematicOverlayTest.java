@@ -0,0 +1,184 @@
+/*
+ * PlotSquared, a land and world management plugin for Minecraft.
+ * Copyright (C) IntellectualSites <https://intellectualsites.com>
+ * Copyright (C) IntellectualSites team and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.plotsquared.core.generator;
+
+import com.plotsquared.core.util.MathMan;
+import com.sk89q.worldedit.world.block.BaseBlock;
+import com.sk89q.worldedit.world.block.BlockState;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+public class SchematicOverlayTest {
+
+    private static final int SIZE = 8;
+    private static final int HEIGHT = 128;
+
+    @Test
+    public void emptyOverlay() {
+        SchematicOverlay overlay = new SchematicOverlay(SIZE, HEIGHT);
+        Assertions.assertFalse(overlay.hasColumn(0, 0));
+        Assertions.assertNull(overlay.getBlock(0, 0, 0));
+        Assertions.assertEquals(HEIGHT, overlay.getMinY(0, 0));
+        Assertions.assertEquals(-1, overlay.getMaxY(0, 0));
+        Assertions.assertEquals(-1, overlay.nextTile(0, 0, 0));
+        Assertions.assertTrue(overlay.asColumnMap().isEmpty());
+    }
+
+    @Test
+    public void growingPalette() {
+        // 300 distinct blocks take the index width through 1, 2, 4, 8 and 16 bits
+        SchematicOverlay overlay = new SchematicOverlay(SIZE, HEIGHT);
+        List<TestBlock> blocks = new ArrayList<>();
+        for (int i = 0; i < 300; i++) {
+            TestBlock block = new TestBlock(i, false);
+            blocks.add(block);
+            Assertions.assertTrue(overlay.setBlock(x(i), y(i), z(i), block));
+            for (int j = 0; j <= i; j++) {
+                Assertions.assertSame(blocks.get(j), overlay.getBlock(x(j), y(j), z(j)), "block " + j + " after " + i);
+            }
+        }
+        // positions next to the ones that were set must still be empty
+        Assertions.assertNull(overlay.getBlock(0, 3, 0));
+        // setting a block that is already in the palette must not change the others
+        overlay.setBlock(x(0), y(0), z(0), blocks.get(299));
+        Assertions.assertSame(blocks.get(299), overlay.getBlock(x(0), y(0), z(0)));
+        Assertions.assertSame(blocks.get(1), overlay.getBlock(x(1), y(1), z(1)));
+    }
+
+    @Test
+    public void heightRange() {
+        SchematicOverlay overlay = new SchematicOverlay(SIZE, HEIGHT);
+        TestBlock block = new TestBlock(0, false);
+        overlay.setBlock(1, 20, 2, block);
+        overlay.setBlock(1, 5, 2, block);
+        overlay.setBlock(1, 12, 2, block);
+        Assertions.assertEquals(5, overlay.getMinY(1, 2));
+        Assertions.assertEquals(20, overlay.getMaxY(1, 2));
+        // heights outside of the overlay only mark the column as covered
+        Assertions.assertFalse(overlay.setBlock(3, HEIGHT, 3, block));
+        Assertions.assertTrue(overlay.hasColumn(3, 3));
+        Assertions.assertEquals(HEIGHT, overlay.getMinY(3, 3));
+        Assertions.assertEquals(-1, overlay.getMaxY(3, 3));
+        // columns outside of the square are ignored
+        Assertions.assertTrue(overlay.setBlock(SIZE, 0, 0, block));
+        Assertions.assertFalse(overlay.hasColumn(SIZE, 0));
+        Assertions.assertEquals(HEIGHT, overlay.getMinY(SIZE, 0));
+        Assertions.assertEquals(-1, overlay.getMaxY(-1, 0));
+    }
+
+    @Test
+    public void tiles() {
+        SchematicOverlay overlay = new SchematicOverlay(SIZE, HEIGHT);
+        TestBlock tile = new TestBlock(0, true);
+        TestBlock plain = new TestBlock(1, false);
+        overlay.setBlock(4, 3, 4, tile);
+        overlay.setBlock(4, 100, 4, tile);
+        overlay.setBlock(4, 50, 4, plain);
+        Assertions.assertEquals(3, overlay.nextTile(4, 4, 0));
+        Assertions.assertEquals(3, overlay.nextTile(4, 4, 3));
+        Assertions.assertEquals(100, overlay.nextTile(4, 4, 4));
+        Assertions.assertEquals(-1, overlay.nextTile(4, 4, 101));
+        Assertions.assertEquals(-1, overlay.nextTile(4, 5, 0));
+        // overwriting a tile with a block without NBT data must clear it
+        overlay.setBlock(4, 3, 4, plain);
+        Assertions.assertEquals(100, overlay.nextTile(4, 4, 0));
+        overlay.setBlock(4, 100, 4, plain);
+        Assertions.assertEquals(-1, overlay.nextTile(4, 4, 0));
+        Assertions.assertSame(plain, overlay.getBlock(4, 100, 4));
+    }
+
+    @Test
+    public void columnMap() {
+        SchematicOverlay overlay = new SchematicOverlay(SIZE, HEIGHT);
+        TestBlock block = new TestBlock(0, false);
+        overlay.setBlock(2, 7, 5, block);
+        overlay.setBlock(6, HEIGHT, 1, block);
+        Map<Integer, BaseBlock[]> columns = overlay.asColumnMap();
+        Assertions.assertEquals(2, columns.size());
+        int key = MathMan.pair((short) 2, (short) 5);
+        Assertions.assertTrue(columns.containsKey(key));
+        BaseBlock[] column = columns.get(key);
+        Assertions.assertEquals(HEIGHT, column.length);
+        for (int y = 0; y < HEIGHT; y++) {
+            Assertions.assertSame(y == 7 ? block : null, column[y]);
+        }
+        // covered columns without any block in range are still part of the view
+        BaseBlock[] covered = columns.get(MathMan.pair((short) 6, (short) 1));
+        Assertions.assertNotNull(covered);
+        for (BaseBlock value : covered) {
+            Assertions.assertNull(value);
+        }
+        Assertions.assertFalse(columns.containsKey(MathMan.pair((short) 0, (short) 0)));
+        Assertions.assertNull(columns.get(MathMan.pair((short) 0, (short) 0)));
+        Assertions.assertThrows(UnsupportedOperationException.class, () -> columns.put(0, column));
+    }
+
+    private static int x(int i) {
+        return i % SIZE;
+    }
+
+    private static int y(int i) {
+        return i / (SIZE * SIZE) * 2;
+    }
+
+    private static int z(int i) {
+        return i / SIZE % SIZE;
+    }
+
+    /**
+     * Block that does not need a WorldEdit platform, compared by identity.
+     */
+    private static final class TestBlock extends BaseBlock {
+
+        private final int id;
+        private final boolean nbt;
+
+        private TestBlock(int id, boolean nbt) {
+            super((BlockState) null);
+            this.id = id;
+            this.nbt = nbt;
+        }
+
+        @Override
+        public boolean hasNbtData() {
+            return this.nbt;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return this == o;
+        }
+
+        @Override
+        public int hashCode() {
+            return this.id;
+        }
+
+        @Override
+        public String toString() {
+            return "block_" + this.id;
+        }
+
+    }
+
+}
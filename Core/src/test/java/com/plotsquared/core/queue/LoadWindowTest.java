@@ -0,0 +1,67 @@
+/*
+ * PlotSquared, a land and world management plugin for Minecraft.
+ * Copyright (C) IntellectualSites <https://intellectualsites.com>
+ * Copyright (C) IntellectualSites team and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.plotsquared.core.queue;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+public class LoadWindowTest {
+
+    private static final long FAST = TimeUnit.MILLISECONDS.toNanos(5);
+
+    @Test
+    public void growsWhileLoadsAreFast() {
+        LoadWindow window = new LoadWindow(4, 1, 16);
+        for (int i = 0; i < 200; i++) {
+            window.onLoad(FAST, 0);
+        }
+        Assertions.assertEquals(16, window.getWindow());
+    }
+
+    @Test
+    public void doesNotGrowWithBacklog() {
+        LoadWindow window = new LoadWindow(4, 1, 16);
+        for (int i = 0; i < 200; i++) {
+            window.onLoad(FAST, 4);
+        }
+        Assertions.assertEquals(4, window.getWindow());
+    }
+
+    @Test
+    public void shrinksOnceOnCongestion() {
+        LoadWindow window = new LoadWindow(16, 1, 16);
+        window.onTimeout();
+        Assertions.assertEquals(8, window.getWindow());
+        // further signals within the cooldown belong to the same congestion
+        window.onTick(100, 45);
+        window.onTimeout();
+        Assertions.assertEquals(8, window.getWindow());
+    }
+
+    @Test
+    public void timeoutFollowsLatency() {
+        LoadWindow window = new LoadWindow(4, 1, 16);
+        Assertions.assertEquals(TimeUnit.SECONDS.toNanos(10), window.getTimeout());
+        window.onLoad(FAST, 0);
+        Assertions.assertEquals(TimeUnit.SECONDS.toNanos(2), window.getTimeout());
+    }
+
+}
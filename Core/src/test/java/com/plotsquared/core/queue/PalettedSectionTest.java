@@ -0,0 +1,75 @@
+/*
+ * PlotSquared, a land and world management plugin for Minecraft.
+ * Copyright (C) IntellectualSites <https://intellectualsites.com>
+ * Copyright (C) IntellectualSites team and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.plotsquared.core.queue;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+public class PalettedSectionTest {
+
+    @Test
+    public void emptySection() {
+        PalettedSection<String> section = new PalettedSection<>();
+        Assertions.assertTrue(section.isUniform());
+        for (int i = 0; i < PalettedSection.SIZE; i++) {
+            Assertions.assertNull(section.get(i));
+        }
+    }
+
+    @Test
+    public void filledSection() {
+        PalettedSection<String> section = new PalettedSection<>();
+        section.set(7, "dirt");
+        section.fill("stone");
+        Assertions.assertTrue(section.isUniform());
+        for (int i = 0; i < PalettedSection.SIZE; i++) {
+            Assertions.assertEquals("stone", section.get(i));
+        }
+        // setting the value the section is filled with must not expand it
+        section.set(7, "stone");
+        Assertions.assertTrue(section.isUniform());
+        section.set(7, "dirt");
+        Assertions.assertFalse(section.isUniform());
+        Assertions.assertEquals("dirt", section.get(7));
+        Assertions.assertEquals("stone", section.get(6));
+        Assertions.assertEquals("stone", section.get(8));
+    }
+
+    @Test
+    public void growingPalette() {
+        // enough distinct values to go through every index width
+        PalettedSection<String> section = new PalettedSection<>();
+        String[] expected = new String[PalettedSection.SIZE];
+        Random random = new Random(1);
+        for (int round = 0; round < 3; round++) {
+            for (int i = 0; i < PalettedSection.SIZE; i++) {
+                if (random.nextInt(4) == 0) {
+                    continue;
+                }
+                String value = "block_" + random.nextInt(round == 0 ? 3 : 2000);
+                section.set(i, value);
+                expected[i] = value;
+            }
+            Assertions.assertArrayEquals(expected, section.toArray(new String[PalettedSection.SIZE]));
+        }
+    }
+
+}